@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.action.execution.internal.service.impl;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -54,6 +52,7 @@ import org.wso2.carbon.identity.action.execution.api.service.ActionExecutorServi
 import org.wso2.carbon.identity.action.execution.internal.component.ActionExecutionServiceComponentHolder;
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionJsonMapper;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
 import org.wso2.carbon.identity.action.execution.internal.util.OperationComparator;
@@ -63,16 +62,12 @@ import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.action.management.api.model.AuthProperty;
 import org.wso2.carbon.identity.action.management.api.model.Authentication;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -84,11 +79,9 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
-    private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private final APIClient apiClient;
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
 
     private ActionExecutorServiceImpl() {
 
@@ -258,7 +251,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
             logActionRequest(action, payload);
 
             ActionInvocationResponse actionInvocationResponse =
-                    executeActionAsynchronously(action, authenticationMethod, payload);
+                    invokeAction(action, authenticationMethod, payload);
             return processActionResponse(action, actionInvocationResponse, flowContext, actionRequest,
                     actionExecutionResponseProcessor);
         } catch (ActionMgtException | JsonProcessingException | ActionExecutionResponseProcessorException e) {
@@ -291,19 +284,16 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
-    private ActionInvocationResponse executeActionAsynchronously(Action action,
-                                                                 AuthMethods.AuthMethod authenticationMethod,
-                                                                 String payload) throws ActionExecutionException {
+    private ActionInvocationResponse invokeAction(Action action, AuthMethods.AuthMethod authenticationMethod,
+                                                  String payload) throws ActionExecutionException {
 
-        String apiEndpoint = action.getEndpoint().getUri();
-        CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
-                        apiEndpoint, authenticationMethod, payload), executorService);
+        // The action endpoint is invoked in the calling thread, as the flow waits for the response in any case.
+        // The API client bounds the concurrent requests per endpoint and fails fast when an endpoint is unavailable.
         try {
-            return actionExecutor.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(),
-                    e);
+            return apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
+                    action.getEndpoint().getUri(), authenticationMethod, payload);
+        } catch (RuntimeException e) {
+            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(), e);
         }
     }
 
@@ -529,35 +519,28 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
 
-        ObjectMapper requestObjectmapper = new ObjectMapper();
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(request);
+        return ActionExecutionJsonMapper.serializeRequest(request);
     }
 
     private String serializeSuccessResponse(ActionInvocationSuccessResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonMapper.serializeResponse(response);
     }
 
     private String serializeIncompleteResponse(ActionInvocationIncompleteResponse response)
             throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonMapper.serializeResponse(response);
     }
 
     private String serializeErrorResponse(ActionInvocationErrorResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonMapper.serializeResponse(response);
     }
 
     private String serializeFailureResponse(ActionInvocationFailureResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonMapper.serializeResponse(response);
     }
 
     private List<PerformableOperation> validatePerformableOperations(
@@ -22,7 +22,6 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
 import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
 
@@ -41,8 +40,8 @@ public class ResponseDataDeserializer extends JsonDeserializer<ResponseData> {
 
         ActionType actionType = (ActionType) ctxt.getAttribute(ACTION_TYPE_ATTR_NAME);
         JsonNode node = p.getCodec().readTree(p);
-        ObjectMapper mapper = (ObjectMapper) p.getCodec();
-        return mapper.treeToValue(node,
+        // The codec is either an object mapper or an object reader, depending on how the response is read.
+        return p.getCodec().treeToValue(node,
                 ActionInvocationResponseClassFactory.getInvocationSuccessResponseDataClass(actionType));
     }
 }
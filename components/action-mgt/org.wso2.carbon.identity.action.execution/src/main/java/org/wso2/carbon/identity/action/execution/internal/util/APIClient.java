@@ -19,8 +19,6 @@
 package org.wso2.carbon.identity.action.execution.internal.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
@@ -41,14 +39,16 @@ import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationError
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
-import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
-import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class is responsible for making API calls to the external services.
@@ -58,7 +58,14 @@ public class APIClient {
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    private static final String REQUEST_FAILED_ERROR_LOG =
+            "Failed to execute the action request or maximum retry attempts reached.";
     private final CloseableHttpClient httpClient;
+    private final EndpointCircuitBreaker circuitBreaker;
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+    private final int maxConcurrentRequestsPerEndpoint;
+    private final int retryBackoffInitialInterval;
+    private final int retryBackoffMaxInterval;
 
     public APIClient() {
 
@@ -76,8 +83,21 @@ public class APIClient {
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        // Without an explicit limit, the connection manager allows only two connections per endpoint.
+        int maxConnectionsPerRoute = ActionExecutorConfig.getInstance().getHttpMaxConnectionsPerRoute();
+        if (maxConnectionsPerRoute > 0) {
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        }
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
+
+        this.maxConcurrentRequestsPerEndpoint =
+                ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint();
+        this.retryBackoffInitialInterval = ActionExecutorConfig.getInstance().getRetryBackoffInitialIntervalInMillis();
+        this.retryBackoffMaxInterval = ActionExecutorConfig.getInstance().getRetryBackoffMaxIntervalInMillis();
+        this.circuitBreaker = new EndpointCircuitBreaker(
+                ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold(),
+                ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis());
     }
 
     public ActionInvocationResponse callAPI(ActionType actionType, String url, AuthMethods.AuthMethod authMethod,
@@ -86,7 +106,54 @@ public class APIClient {
         HttpPost httpPost = new HttpPost(url);
         setRequestEntity(httpPost, payload, authMethod, actionType);
 
-        return executeRequest(actionType, httpPost);
+        String endpoint = getEndpointKey(httpPost.getURI());
+        Semaphore permits = getEndpointPermits(endpoint);
+        // The permit is not waited for, as the connection pool already waits for a connection up to the connection
+        // request timeout.
+        if (permits != null && !permits.tryAcquire()) {
+            LOG.warn("Maximum concurrent requests reached for the API endpoint: " + endpoint);
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request as the maximum concurrent requests to the " +
+                            "endpoint is reached.").build();
+        }
+        try {
+            if (!circuitBreaker.allowInvocation(endpoint)) {
+                LOG.debug("Circuit of the API endpoint: " + endpoint + " is open. Skipping the request.");
+                return new ActionInvocationResponse.Builder()
+                        .errorLog("Failed to execute the action request as the endpoint is unavailable.").build();
+            }
+
+            // The outcome is recorded in a finally block, so that a trial invocation of a half open circuit is
+            // always concluded.
+            InvocationResult invocationResult = null;
+            try {
+                invocationResult = executeRequest(actionType, httpPost);
+                return invocationResult.getResponse();
+            } finally {
+                if (invocationResult == null || invocationResult.isEndpointFailure()) {
+                    circuitBreaker.recordFailure(endpoint);
+                } else {
+                    circuitBreaker.recordSuccess(endpoint);
+                }
+            }
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private String getEndpointKey(URI uri) {
+
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private Semaphore getEndpointPermits(String endpoint) {
+
+        if (maxConcurrentRequestsPerEndpoint <= 0) {
+            return null;
+        }
+        return endpointPermits.computeIfAbsent(endpoint, key -> new Semaphore(maxConcurrentRequestsPerEndpoint));
     }
 
     private void setRequestEntity(HttpPost httpPost, String jsonRequest, AuthMethods.AuthMethod authMethod,
@@ -103,17 +170,20 @@ public class APIClient {
                 ActionAPIVersionResolver.resolveAPIVersion(actionType));
     }
 
-    private ActionInvocationResponse executeRequest(ActionType actionType, HttpPost request) {
+    private InvocationResult executeRequest(ActionType actionType, HttpPost request) {
 
         int attempts = 0;
         int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
         ActionInvocationResponse actionInvocationResponse = null;
+        int statusCode = InvocationResult.NO_STATUS_CODE;
 
         while (attempts < retryCount) {
+            statusCode = InvocationResult.NO_STATUS_CODE;
             try (CloseableHttpResponse response = httpClient.execute(request)) {
+                statusCode = response.getStatusLine().getStatusCode();
                 actionInvocationResponse = handleResponse(actionType, response);
                 if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
-                    return actionInvocationResponse;
+                    return new InvocationResult(actionInvocationResponse, statusCode);
                 }
                 DIAGNOSTIC_LOGGER.logAPICallRetry(request, attempts + 1, retryCount);
                 LOG.debug("API: " + request.getURI() + " seems to be unavailable. Retrying the request. Attempt " +
@@ -130,11 +200,37 @@ public class APIClient {
                 request.releaseConnection();
             }
             attempts++;
+            if (attempts < retryCount && !waitBeforeRetry(attempts)) {
+                break;
+            }
         }
 
         LOG.warn("Maximum retry attempts reached for API: " + request.getURI());
-        return actionInvocationResponse != null ? actionInvocationResponse : new ActionInvocationResponse.Builder()
-                .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
+        return new InvocationResult(actionInvocationResponse != null ? actionInvocationResponse :
+                new ActionInvocationResponse.Builder().errorLog(REQUEST_FAILED_ERROR_LOG).build(), statusCode);
+    }
+
+    /**
+     * Wait for an exponentially increasing, randomized interval before retrying a request, so that the retries from
+     * concurrent requests are spread out instead of hitting a recovering endpoint at the same time.
+     *
+     * @param attempts Number of attempts made so far.
+     * @return False if interrupted while waiting.
+     */
+    private boolean waitBeforeRetry(int attempts) {
+
+        if (retryBackoffInitialInterval <= 0) {
+            return true;
+        }
+        long maxInterval = Math.max(retryBackoffMaxInterval, retryBackoffInitialInterval);
+        long interval = Math.min(maxInterval, (long) retryBackoffInitialInterval << Math.min(attempts - 1, 30));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(interval + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
@@ -252,24 +348,20 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            JsonNode rootNode = ActionExecutionJsonMapper.readTree(jsonResponse);
             String actionStatus = rootNode.path(ACTION_STATUS).asText();
             if (actionStatus.isEmpty()) {
                 throw new ActionInvocationException("Reading JSON response failed.");
             }
             if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                // Configure dynamic deserializer for the extended ResponseData class based on the action type.
-                SimpleModule module = new SimpleModule();
-                module.addDeserializer(ResponseData.class, new ResponseDataDeserializer());
-                objectMapper.setConfig(objectMapper.getDeserializationConfig()
-                        .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
-                objectMapper.registerModule(module);
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+                // The response data is deserialized to the class registered for the action type.
+                return ActionExecutionJsonMapper.deserializeSuccessResponse(jsonResponse, actionType);
             } else if (actionStatus.equals(ActionExecutionStatus.Status.INCOMPLETE.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationIncompleteResponse.class);
+                return ActionExecutionJsonMapper.deserializeResponse(jsonResponse,
+                        ActionInvocationIncompleteResponse.class);
             } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+                return ActionExecutionJsonMapper.deserializeResponse(jsonResponse,
+                        ActionInvocationFailureResponse.class);
             }
         } catch (IOException e) {
             throw new ActionInvocationException("Reading JSON response failed.", e);
@@ -280,8 +372,7 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
+            return ActionExecutionJsonMapper.deserializeResponse(jsonResponse, returnType);
         } catch (IOException e) {
             throw new ActionInvocationException("Parsing JSON response failed.", e);
         }
@@ -292,4 +383,45 @@ public class APIClient {
         return responseEntity != null && responseEntity.getContentType() != null &&
                 responseEntity.getContentType().getValue().contains("application/json");
     }
+
+    /**
+     * Result of an invocation, which holds the response and the status code of the last attempt.
+     */
+    private static class InvocationResult {
+
+        private static final int NO_STATUS_CODE = -1;
+
+        private final ActionInvocationResponse response;
+        private final int statusCode;
+
+        InvocationResult(ActionInvocationResponse response, int statusCode) {
+
+            this.response = response;
+            this.statusCode = statusCode;
+        }
+
+        ActionInvocationResponse getResponse() {
+
+            return response;
+        }
+
+        /**
+         * Check whether the last attempt failed due to the unavailability of the endpoint. An attempt which did not
+         * receive a response, such as a connection failure or a timeout, and a server error are considered as
+         * endpoint failures. An internal server error which carries an error response of the action is a response
+         * from an available endpoint.
+         *
+         * @return True if the endpoint failed.
+         */
+        boolean isEndpointFailure() {
+
+            if (statusCode == NO_STATUS_CODE) {
+                return true;
+            }
+            if (statusCode == HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                return response.getResponse() == null;
+            }
+            return statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionRequest;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
+import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the preconfigured JSON writers and readers used to serialize action requests and to deserialize action
+ * responses. Jackson object mappers, writers and readers are thread safe once configured, hence the instances are
+ * shared instead of building a new object mapper and warming up its serializer caches for each action invocation.
+ */
+public final class ActionExecutionJsonMapper {
+
+    private static final ObjectWriter REQUEST_WRITER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+            .writer();
+    private static final ObjectMapper RESPONSE_MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(ResponseData.class, new ResponseDataDeserializer()));
+    private static final ObjectWriter RESPONSE_WRITER = RESPONSE_MAPPER.writer();
+    private static final Map<Class<?>, ObjectReader> RESPONSE_READERS = new ConcurrentHashMap<>();
+    private static final Map<ActionType, ObjectReader> SUCCESS_RESPONSE_READERS = new EnumMap<>(ActionType.class);
+
+    static {
+        // The action type is passed to the response data deserializer, which resolves the response data class
+        // registered for the action type at the time of deserialization.
+        ObjectReader successResponseReader = RESPONSE_MAPPER.readerFor(ActionInvocationSuccessResponse.class);
+        for (ActionType actionType : ActionType.values()) {
+            SUCCESS_RESPONSE_READERS.put(actionType,
+                    successResponseReader.withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
+        }
+    }
+
+    private ActionExecutionJsonMapper() {
+
+    }
+
+    /**
+     * Serialize the action execution request, omitting the null and empty values.
+     *
+     * @param request Action execution request.
+     * @return JSON payload.
+     * @throws JsonProcessingException If an error occurs while serializing the request.
+     */
+    public static String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
+
+        return REQUEST_WRITER.writeValueAsString(request);
+    }
+
+    /**
+     * Serialize an action invocation response.
+     *
+     * @param response Action invocation response.
+     * @return JSON string.
+     * @throws JsonProcessingException If an error occurs while serializing the response.
+     */
+    public static String serializeResponse(Object response) throws JsonProcessingException {
+
+        return RESPONSE_WRITER.writeValueAsString(response);
+    }
+
+    /**
+     * Read the given JSON response as a tree.
+     *
+     * @param json JSON response.
+     * @return Root node.
+     * @throws JsonProcessingException If the response is not valid JSON.
+     */
+    public static JsonNode readTree(String json) throws JsonProcessingException {
+
+        return RESPONSE_MAPPER.readTree(json);
+    }
+
+    /**
+     * Deserialize an action invocation response to the given type.
+     *
+     * @param json       JSON response.
+     * @param returnType Type of the response.
+     * @param <T>        Type of the response.
+     * @return Deserialized response.
+     * @throws JsonProcessingException If an error occurs while deserializing the response.
+     */
+    public static <T> T deserializeResponse(String json, Class<T> returnType) throws JsonProcessingException {
+
+        return RESPONSE_READERS.computeIfAbsent(returnType, RESPONSE_MAPPER::readerFor).readValue(json);
+    }
+
+    /**
+     * Deserialize a success response of the given action type, including the response data class registered for the
+     * action type.
+     *
+     * @param json       JSON response.
+     * @param actionType Action type.
+     * @return Deserialized success response.
+     * @throws JsonProcessingException If an error occurs while deserializing the response.
+     */
+    public static ActionInvocationSuccessResponse deserializeSuccessResponse(String json, ActionType actionType)
+            throws JsonProcessingException {
+
+        return SUCCESS_RESPONSE_READERS.get(actionType).readValue(json);
+    }
+}
@@ -50,11 +50,26 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_MAX_CONNECTIONS_PER_ROUTE_PROPERTY =
+            "Actions.HTTPClient.HTTPMaxConnectionsPerRoute";
+    private static final String MAX_CONCURRENT_REQUESTS_PER_ENDPOINT_PROPERTY =
+            "Actions.HTTPClient.MaxConcurrentRequestsPerEndpoint";
+    private static final String RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY =
+            "Actions.HTTPClient.RetryBackoff.InitialInterval";
+    private static final String RETRY_BACKOFF_MAX_INTERVAL_PROPERTY = "Actions.HTTPClient.RetryBackoff.MaxInterval";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.OpenDuration";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS = 100;
+    private static final int DEFAULT_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS = 1000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
 
     private ActionExecutorConfig() {
 
@@ -166,19 +181,94 @@ public class ActionExecutorConfig {
         return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Retrieves the maximum number of pooled HTTP connections per route, i.e. per action endpoint.
+     * If the configuration value is invalid or missing, the HTTP connection pool size is used.
+     *
+     * @return The maximum number of connections per route.
+     */
+    public int getHttpMaxConnectionsPerRoute() {
+
+        return parseIntConfig(HTTP_MAX_CONNECTIONS_PER_ROUTE_PROPERTY, getHttpConnectionPoolSize());
+    }
+
+    /**
+     * Retrieves the maximum number of concurrent requests allowed to a single action endpoint.
+     * If the configuration value is invalid or missing, the maximum number of connections per route is used.
+     * A value less than or equal to zero removes the limit.
+     *
+     * @return The maximum number of concurrent requests per endpoint.
+     */
+    public int getMaxConcurrentRequestsPerEndpoint() {
+
+        return parseIntConfig(MAX_CONCURRENT_REQUESTS_PER_ENDPOINT_PROPERTY, getHttpMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Retrieves the initial backoff interval between the retries of an HTTP request.
+     * If the configuration value is invalid or missing, the default interval is used.
+     *
+     * @return The initial retry backoff interval in milliseconds.
+     */
+    public int getRetryBackoffInitialIntervalInMillis() {
+
+        return parseIntConfig(RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY,
+                DEFAULT_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum backoff interval between the retries of an HTTP request.
+     * If the configuration value is invalid or missing, the default interval is used.
+     *
+     * @return The maximum retry backoff interval in milliseconds.
+     */
+    public int getRetryBackoffMaxIntervalInMillis() {
+
+        return parseIntConfig(RETRY_BACKOFF_MAX_INTERVAL_PROPERTY, DEFAULT_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the number of consecutive failed invocations which opens the circuit of an action endpoint.
+     * If the configuration value is invalid or missing, the default threshold is used.
+     * A value less than or equal to zero disables the circuit breaker.
+     *
+     * @return The circuit breaker failure threshold.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY, DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the time the circuit of an action endpoint is kept open before a trial invocation is allowed.
+     * If the configuration value is invalid or missing, the default duration is used.
+     *
+     * @return The circuit breaker open duration in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
     private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
 
-        int timeoutPropertyValue = defaultTimeout;
-        String timeoutValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(timeoutTypeName);
-        if (StringUtils.isNotBlank(timeoutValue)) {
+        return parseIntConfig(timeoutTypeName, defaultTimeout);
+    }
+
+    private int parseIntConfig(String propertyName, int defaultValue) {
+
+        int propertyValue = defaultValue;
+        String value = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isNotBlank(value)) {
             try {
-                timeoutPropertyValue = Integer.parseInt(timeoutValue);
+                propertyValue = Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                LOG.debug("Failed to read " + timeoutTypeName + " property in identity.xml." +
-                        " Expects a number. Using the default value: " + defaultTimeout, e);
+                LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                        " Expects a number. Using the default value: " + defaultValue, e);
             }
         }
-        return timeoutPropertyValue;
+        return propertyValue;
     }
 
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker for the external endpoints invoked by actions.
+ * An endpoint circuit is opened after a configured number of consecutive failed invocations. While the circuit is
+ * open, invocations to the endpoint are rejected without calling it. Once the open duration is elapsed, a single trial
+ * invocation is allowed and the circuit is closed again if it succeeds.
+ */
+public class EndpointCircuitBreaker {
+
+    private static final Log LOG = LogFactory.getLog(EndpointCircuitBreaker.class);
+
+    /**
+     * State of an endpoint circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Map<String, EndpointCircuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Create a circuit breaker.
+     *
+     * @param failureThreshold     Number of consecutive failures which opens a circuit. A value less than or equal to
+     *                             zero disables the circuit breaker.
+     * @param openDurationInMillis Time a circuit is kept open before a trial invocation is allowed.
+     */
+    public EndpointCircuitBreaker(int failureThreshold, long openDurationInMillis) {
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(openDurationInMillis, 0));
+    }
+
+    public boolean isEnabled() {
+
+        return failureThreshold > 0;
+    }
+
+    /**
+     * Check whether an invocation to the given endpoint is allowed.
+     *
+     * @param endpoint Endpoint identifier.
+     * @return True if the endpoint can be invoked.
+     */
+    public boolean allowInvocation(String endpoint) {
+
+        if (!isEnabled()) {
+            return true;
+        }
+        EndpointCircuit circuit = circuits.get(endpoint);
+        if (circuit == null) {
+            return true;
+        }
+        synchronized (circuit) {
+            if (circuit.state == State.CLOSED) {
+                return true;
+            }
+            if (circuit.state == State.OPEN && System.nanoTime() - circuit.openedAt >= openDurationNanos) {
+                circuit.state = State.HALF_OPEN;
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Circuit of the endpoint: " + endpoint + " is half open. Allowing a trial invocation.");
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record a successful invocation of the given endpoint.
+     *
+     * @param endpoint Endpoint identifier.
+     */
+    public void recordSuccess(String endpoint) {
+
+        if (!isEnabled()) {
+            return;
+        }
+        EndpointCircuit circuit = circuits.get(endpoint);
+        if (circuit == null) {
+            return;
+        }
+        synchronized (circuit) {
+            if (circuit.state != State.CLOSED) {
+                LOG.info("Closing the circuit of the endpoint: " + endpoint + " after a successful invocation.");
+            }
+            circuit.state = State.CLOSED;
+            circuit.consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Record a failed invocation of the given endpoint.
+     *
+     * @param endpoint Endpoint identifier.
+     */
+    public void recordFailure(String endpoint) {
+
+        if (!isEnabled()) {
+            return;
+        }
+        EndpointCircuit circuit = circuits.computeIfAbsent(endpoint, key -> new EndpointCircuit());
+        synchronized (circuit) {
+            circuit.consecutiveFailures++;
+            if (circuit.state == State.HALF_OPEN ||
+                    (circuit.state == State.CLOSED && circuit.consecutiveFailures >= failureThreshold)) {
+                LOG.warn("Opening the circuit of the endpoint: " + endpoint + " after " +
+                        circuit.consecutiveFailures + " consecutive failed invocations.");
+                circuit.state = State.OPEN;
+                circuit.openedAt = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Get the state of the circuit of the given endpoint.
+     *
+     * @param endpoint Endpoint identifier.
+     * @return State of the circuit.
+     */
+    public State getState(String endpoint) {
+
+        EndpointCircuit circuit = circuits.get(endpoint);
+        if (circuit == null) {
+            return State.CLOSED;
+        }
+        synchronized (circuit) {
+            return circuit.state;
+        }
+    }
+
+    private static class EndpointCircuit {
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+    }
+}
@@ -430,6 +430,30 @@ public class ActionExecutorServiceImplTest {
         verify(apiClient).callAPI(any(), any(), any(), eq(payload));
     }
 
+    @Test(expectedExceptions = ActionExecutionException.class,
+            expectedExceptionsMessageRegExp = "Error occurred while executing action: actionId")
+    public void testActionExecuteFailureAtRuntimeExceptionFromAPIClient() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Action action = createAction();
+
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(action));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(any(), any())).thenReturn(
+                createActionExecutionRequest(actionType));
+        when(apiClient.callAPI(any(), any(), any(), any())).thenThrow(new IllegalStateException("Unexpected error"));
+
+        actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+    }
+
     @Test
     public void testActionExecuteSuccessWhenNoRuleConfiguredInAction() throws Exception {
 
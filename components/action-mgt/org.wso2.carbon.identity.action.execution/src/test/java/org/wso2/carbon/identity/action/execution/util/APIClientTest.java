@@ -48,6 +48,7 @@ import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionInv
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointCircuitBreaker;
 import org.wso2.carbon.identity.action.management.api.model.AuthProperty;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 
@@ -58,6 +59,11 @@ import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -69,6 +75,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 public class APIClientTest {
@@ -525,6 +532,129 @@ public class APIClientTest {
                 "Failed to execute the action request or maximum retry attempts reached.");
     }
 
+    @Test
+    public void testCallAPIFailsFastWhenCircuitIsOpen() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        APIClient circuitBreakingApiClient = new APIClient();
+        setField(circuitBreakingApiClient, "httpClient", httpClient);
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected exception"));
+
+        ActionInvocationResponse apiResponse = circuitBreakingApiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, "{}");
+        assertTrue(apiResponse.isError());
+
+        apiResponse = circuitBreakingApiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, "{}");
+        assertTrue(apiResponse.isError());
+        assertEquals(apiResponse.getErrorLog(),
+                "Failed to execute the action request as the endpoint is unavailable.");
+        verify(httpClient, times(1)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testCallAPIFailsFastWhenMaxConcurrentRequestsReached() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getHttpConnectionRequestTimeoutInMillis()).thenReturn(60000);
+        APIClient limitedApiClient = new APIClient();
+        setField(limitedApiClient, "httpClient", httpClient);
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        when(httpClient.execute(any(HttpPost.class))).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseRequest.await();
+            throw new ClientProtocolException("Unexpected exception");
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<ActionInvocationResponse> firstResponse = executorService.submit(() -> limitedApiClient.callAPI(
+                    ActionType.PRE_ISSUE_ACCESS_TOKEN, "http://example.com", null, "{}"));
+            assertTrue(requestStarted.await(10, TimeUnit.SECONDS));
+
+            // The permit of the endpoint is not waited for up to the connection request timeout.
+            long startTime = System.nanoTime();
+            ActionInvocationResponse apiResponse = limitedApiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                    "http://example.com", null, "{}");
+            assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(10));
+            assertTrue(apiResponse.isError());
+            assertEquals(apiResponse.getErrorLog(), "Failed to execute the action request as the maximum " +
+                    "concurrent requests to the endpoint is reached.");
+
+            releaseRequest.countDown();
+            assertTrue(firstResponse.get(10, TimeUnit.SECONDS).isError());
+        } finally {
+            releaseRequest.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCircuitIsConcludedWhenTrialInvocationThrowsAnException() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(0);
+        APIClient circuitBreakingApiClient = new APIClient();
+        setField(circuitBreakingApiClient, "httpClient", httpClient);
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected exception"));
+
+        circuitBreakingApiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, "http://example.com", null, "{}");
+        assertEquals(getCircuitState(circuitBreakingApiClient), EndpointCircuitBreaker.State.OPEN);
+
+        // The open duration is elapsed, hence the next invocation is a trial invocation of the half open circuit.
+        when(ActionExecutorConfig.getInstance().getHttpRequestRetryCount())
+                .thenThrow(new IllegalStateException("Unexpected error"));
+        assertThrows(IllegalStateException.class, () -> circuitBreakingApiClient.callAPI(
+                ActionType.PRE_ISSUE_ACCESS_TOKEN, "http://example.com", null, "{}"));
+        assertEquals(getCircuitState(circuitBreakingApiClient), EndpointCircuitBreaker.State.OPEN);
+    }
+
+    @DataProvider(name = "circuitStatesForResponses")
+    public Object[][] circuitStatesForResponses() {
+
+        return new Object[][]{
+                {HttpStatus.SC_INTERNAL_SERVER_ERROR, ContentType.APPLICATION_JSON.getMimeType(),
+                        "{\"actionStatus\":\"ERROR\",\"errorMessage\":\"server_error\"," +
+                                "\"errorDescription\":\"internal server error\"}", EndpointCircuitBreaker.State.CLOSED},
+                {HttpStatus.SC_INTERNAL_SERVER_ERROR, ContentType.DEFAULT_TEXT.getMimeType(), "",
+                        EndpointCircuitBreaker.State.OPEN},
+                {HttpStatus.SC_SERVICE_UNAVAILABLE, ContentType.DEFAULT_TEXT.getMimeType(), "",
+                        EndpointCircuitBreaker.State.OPEN},
+                {HttpStatus.SC_CONFLICT, ContentType.DEFAULT_TEXT.getMimeType(), "",
+                        EndpointCircuitBreaker.State.CLOSED}
+        };
+    }
+
+    @Test(dataProvider = "circuitStatesForResponses")
+    public void testCircuitStateForResponseStatusCodes(int statusCode, String contentType, String payload,
+                                                       EndpointCircuitBreaker.State expectedState) throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        APIClient circuitBreakingApiClient = new APIClient();
+        setField(circuitBreakingApiClient, "httpClient", httpClient);
+        when(httpClient.execute(any(HttpPost.class))).thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(statusCode);
+        InputStreamEntity entity =
+                new InputStreamEntity(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+        entity.setContentType(contentType);
+        when(httpResponse.getEntity()).thenReturn(entity);
+
+        circuitBreakingApiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, "http://example.com", null, "{}");
+        assertEquals(getCircuitState(circuitBreakingApiClient), expectedState);
+    }
+
+    private EndpointCircuitBreaker.State getCircuitState(APIClient client) throws Exception {
+
+        Field field = APIClient.class.getDeclaredField("circuitBreaker");
+        field.setAccessible(true);
+        // The circuits are keyed by the scheme, host and port of the endpoint, where the port is not given.
+        return ((EndpointCircuitBreaker) field.get(client)).getState("http://example.com:-1");
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field = target.getClass().getDeclaredField(fieldName);
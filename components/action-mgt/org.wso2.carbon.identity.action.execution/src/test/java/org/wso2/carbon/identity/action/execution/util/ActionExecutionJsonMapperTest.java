@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionInvocationResponseClassFactory;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionJsonMapper;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ActionExecutionJsonMapper}.
+ */
+public class ActionExecutionJsonMapperTest {
+
+    @Test
+    public void testDeserializeSuccessResponseWithExtendedResponseData() throws Exception {
+
+        ActionInvocationResponseClassFactory.registerActionInvocationResponseClassProvider(
+                new TestActionInvocationResponseClassProvider());
+        String json = "{\"actionStatus\":\"SUCCESS\", \"data\": {\"id\":\"test-123-id\"}}";
+
+        // Deserialize twice to verify that the shared reader can be reused.
+        for (int i = 0; i < 2; i++) {
+            ActionInvocationSuccessResponse response =
+                    ActionExecutionJsonMapper.deserializeSuccessResponse(json, ActionType.AUTHENTICATION);
+            assertEquals(response.getActionStatus(), ActionInvocationResponse.Status.SUCCESS);
+            assertTrue(response.getData() instanceof UserData);
+            assertEquals(((UserData) response.getData()).getId(), "test-123-id");
+        }
+    }
+
+    @Test
+    public void testSerializeAndDeserializeErrorResponse() throws Exception {
+
+        ActionInvocationErrorResponse errorResponse = new ActionInvocationErrorResponse.Builder()
+                .actionStatus(ActionInvocationResponse.Status.ERROR)
+                .errorMessage("invalid_request")
+                .errorDescription("Invalid request.")
+                .build();
+
+        String json = ActionExecutionJsonMapper.serializeResponse(errorResponse);
+        ActionInvocationErrorResponse deserialized =
+                ActionExecutionJsonMapper.deserializeResponse(json, ActionInvocationErrorResponse.class);
+
+        assertEquals(deserialized.getActionStatus(), ActionInvocationResponse.Status.ERROR);
+        assertEquals(deserialized.getErrorMessage(), "invalid_request");
+        assertEquals(deserialized.getErrorDescription(), "Invalid request.");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointCircuitBreaker;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EndpointCircuitBreaker}.
+ */
+public class EndpointCircuitBreakerTest {
+
+    private static final String ENDPOINT = "https://example.com:443";
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(3, 60000);
+
+        circuitBreaker.recordFailure(ENDPOINT);
+        circuitBreaker.recordFailure(ENDPOINT);
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowInvocation(ENDPOINT));
+
+        circuitBreaker.recordFailure(ENDPOINT);
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowInvocation(ENDPOINT));
+        assertTrue(circuitBreaker.allowInvocation("https://other.example.com:443"));
+        assertEquals(circuitBreaker.getState("https://other.example.com:443"), EndpointCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testSuccessResetsConsecutiveFailures() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(2, 60000);
+
+        circuitBreaker.recordFailure(ENDPOINT);
+        circuitBreaker.recordSuccess(ENDPOINT);
+        circuitBreaker.recordFailure(ENDPOINT);
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testHalfOpenCircuitAllowsSingleTrialInvocation() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(1, 0);
+
+        circuitBreaker.recordFailure(ENDPOINT);
+        assertTrue(circuitBreaker.allowInvocation(ENDPOINT));
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.HALF_OPEN);
+        assertFalse(circuitBreaker.allowInvocation(ENDPOINT));
+
+        circuitBreaker.recordFailure(ENDPOINT);
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.OPEN);
+        assertTrue(circuitBreaker.allowInvocation(ENDPOINT));
+
+        circuitBreaker.recordSuccess(ENDPOINT);
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowInvocation(ENDPOINT));
+    }
+
+    @Test
+    public void testDisabledCircuitBreaker() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(0, 60000);
+
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.recordFailure(ENDPOINT);
+        }
+        assertFalse(circuitBreaker.isEnabled());
+        assertTrue(circuitBreaker.allowInvocation(ENDPOINT));
+        assertEquals(circuitBreaker.getState(ENDPOINT), EndpointCircuitBreaker.State.CLOSED);
+    }
+}
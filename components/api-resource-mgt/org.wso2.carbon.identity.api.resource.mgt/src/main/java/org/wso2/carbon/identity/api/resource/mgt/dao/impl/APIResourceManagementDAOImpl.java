@@ -38,9 +38,10 @@ import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.AuthorizationDetailsType;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
-import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 
@@ -784,15 +785,15 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
 
         try (Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false)) {
 
-            String databaseName = dbConnection.getMetaData().getDatabaseProductName();
-            String sqlStmt = buildGetAPIResourcesSqlStatement(databaseName, tenantId,
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(dbConnection);
+            String sqlStmt = buildGetAPIResourcesSqlStatement(dialect, tenantId,
                     filterQueryBuilder.getFilterQuery(), sortOrder, limit);
             PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt);
 
             if (filterAttributeValue != null) {
                 for (Map.Entry<Integer, String> entry : filterAttributeValue.entrySet()) {
                     // PostgreSQL requires the value to be sent as integer for SERIAL datatype columns.
-                    if (databaseName.contains(IdentityCoreConstants.POSTGRE_SQL)
+                    if (dialect == Dialect.POSTGRESQL
                             && isValueOfCursorKey(entry.getKey(), filterQueryBuilder)) {
                         prepStmt.setInt(entry.getKey(), Integer.parseInt(entry.getValue()));
                         continue;
@@ -853,8 +854,8 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
         Map<String, APIResource> apiResourceMap = new LinkedHashMap<>();
         try (Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false)) {
 
-            String databaseName = dbConnection.getMetaData().getDatabaseProductName();
-            String sqlStmt = buildGetAPIResourcesWithPropertiesSqlStatement(databaseName, tenantId,
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(dbConnection);
+            String sqlStmt = buildGetAPIResourcesWithPropertiesSqlStatement(dialect, tenantId,
                     filterQueryBuilder.getFilterQuery(), sortOrder, limit);
             PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt);
 
@@ -941,14 +942,14 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
     /**
      * Build the SQL statement to retrieve API resources.
      *
-     * @param databaseName Database name.
+     * @param dialect      SQL dialect of the database.
      * @param tenantId     Tenant ID.
      * @param filterQuery  Filter query.
      * @param sortOrder    Sort order.
      * @param limit        Limit.
      * @return SQL statement to retrieve API resources.
      */
-    private String buildGetAPIResourcesSqlStatement(String databaseName, Integer tenantId, String filterQuery,
+    private String buildGetAPIResourcesSqlStatement(Dialect dialect, Integer tenantId, String filterQuery,
                                                     String sortOrder, Integer limit) throws APIResourceMgtException {
 
         String sqlStmtHead = SQLConstants.GET_API_RESOURCES;
@@ -967,7 +968,7 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
                     IdentityTenantUtil.getTenantDomain(tenantId));
         }
 
-        if (databaseName.contains(SQLConstants.MICROSOFT)) {
+        if (dialect == Dialect.MSSQL) {
             sqlStmtHead = SQLConstants.GET_API_RESOURCES_MSSQL;
             sqlStmtTail = SQLConstants.GET_API_RESOURCES_TAIL_MSSQL;
 
@@ -982,21 +983,21 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
             }
 
             return String.format(sqlStmtHead, limit) + filterQuery + String.format(sqlStmtTail, tenantId, sortOrder);
-        } else if (databaseName.contains(SQLConstants.ORACLE)) {
+        } else if (dialect == Dialect.ORACLE) {
             sqlStmtTail = SQLConstants.GET_API_RESOURCES_TAIL_ORACLE;
         }
 
         return sqlStmtHead + filterQuery + String.format(sqlStmtTail, tenantId, sortOrder, limit);
     }
 
-    private String buildGetAPIResourcesWithPropertiesSqlStatement(String databaseName, Integer tenantId,
+    private String buildGetAPIResourcesWithPropertiesSqlStatement(Dialect dialect, Integer tenantId,
                                                                   String filterQuery, String sortOrder, Integer limit)
             throws APIResourceMgtException {
 
-        String selectionQuery = databaseName.contains(SQLConstants.H2)
+        String selectionQuery = dialect == Dialect.H2
                 ? SQLConstants.GET_API_RESOURCES_WITH_PROPERTIES_SELECTION_H2
                 : SQLConstants.GET_API_RESOURCES_WITH_PROPERTIES_SELECTION;
-        String getAPIResourcesSqlStmt = buildGetAPIResourcesSqlStatement(databaseName, tenantId, filterQuery, sortOrder,
+        String getAPIResourcesSqlStmt = buildGetAPIResourcesSqlStatement(dialect, tenantId, filterQuery, sortOrder,
                 limit);
         String joinQuery = SQLConstants.GET_API_RESOURCES_WITH_PROPERTIES_JOIN;
 
@@ -1130,8 +1131,8 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
 
         List<APIResourceProperty> properties = new ArrayList<>();
         try {
-            String databaseName = dbConnection.getMetaData().getDatabaseProductName();
-            PreparedStatement prepStmt = databaseName.contains(SQLConstants.H2) ?
+            boolean isH2 = SqlDialectRegistry.getInstance().getDialect(dbConnection) == Dialect.H2;
+            PreparedStatement prepStmt = isH2 ?
                     dbConnection.prepareStatement(SQLConstants.GET_API_RESOURCE_PROPERTIES_BY_API_ID_H2) :
                     dbConnection.prepareStatement(SQLConstants.GET_API_RESOURCE_PROPERTIES_BY_API_ID);
             prepStmt.setString(1, apiId);
@@ -1164,8 +1165,8 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
 
         List<APIResourceProperty> properties = new ArrayList<>();
         try {
-            String databaseName = dbConnection.getMetaData().getDatabaseProductName();
-            PreparedStatement prepStmt = databaseName.contains(SQLConstants.H2) ?
+            boolean isH2 = SqlDialectRegistry.getInstance().getDialect(dbConnection) == Dialect.H2;
+            PreparedStatement prepStmt = isH2 ?
                     dbConnection.prepareStatement(SQLConstants.GET_API_RESOURCE_PROPERTIES_BY_API_IDENTIFIER_H2) :
                     dbConnection.prepareStatement(SQLConstants.GET_API_RESOURCE_PROPERTIES_BY_API_IDENTIFIER);
             prepStmt.setString(1, apiIdentifier);
@@ -1202,8 +1203,8 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
         }
 
         try {
-            String databaseName = dbConnection.getMetaData().getDatabaseProductName();
-            String query = databaseName.contains(SQLConstants.H2) ? SQLConstants.ADD_API_RESOURCE_PROPERTY_H2 :
+            boolean isH2 = SqlDialectRegistry.getInstance().getDialect(dbConnection) == Dialect.H2;
+            String query = isH2 ? SQLConstants.ADD_API_RESOURCE_PROPERTY_H2 :
                     SQLConstants.ADD_API_RESOURCE_PROPERTY;
             PreparedStatement prepStmt = dbConnection.prepareStatement(query);
             for (APIResourceProperty property : properties) {
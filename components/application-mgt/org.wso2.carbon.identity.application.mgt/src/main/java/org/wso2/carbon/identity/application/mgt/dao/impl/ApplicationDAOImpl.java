@@ -97,6 +97,8 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
@@ -183,7 +185,6 @@ import static org.wso2.carbon.identity.application.common.util.IdentityApplicati
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.TRUSTED_APP_CONSENT_GRANTED_SP_PROPERTY_NAME;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.LOCAL_SP;
-import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.ORACLE;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.PORTAL_NAMES_CONFIG_ELEMENT;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.UNION_SEPARATOR;
 import static org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil.addDiscoverableGroup;
@@ -234,6 +235,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final int BULK_LOAD_CHUNK_SIZE = 100;
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -301,6 +303,56 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    /**
+     * Get Service provider properties of several service providers with a single query.
+     *
+     * @param dbConnection database connection
+     * @param spIds        SP Ids
+     * @return service provider properties keyed by SP Id
+     */
+    private Map<Integer, List<ServiceProviderProperty>> getServicePropertiesBySpIds(Connection dbConnection,
+                                                                                   List<Integer> spIds)
+            throws SQLException {
+
+        Map<Integer, List<ServiceProviderProperty>> spProperties = new HashMap<>();
+        try {
+            String query = isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                    ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+            try (PreparedStatement prepStmt = prepareStatementForIds(dbConnection, query, spIds);
+                 ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProviderProperty property = new ServiceProviderProperty();
+                    property.setName(rs.getString("NAME"));
+                    property.setValue(rs.getString("VALUE"));
+                    property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    spProperties.computeIfAbsent(rs.getInt("SP_ID"), key -> new ArrayList<>()).add(property);
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + spIds, e);
+        }
+        return spProperties;
+    }
+
+    /**
+     * Prepare a statement whose query template has a single IN clause placeholder, and bind the given IDs to it.
+     *
+     * @param dbConnection  database connection
+     * @param queryTemplate query with a %s placeholder for the IN clause
+     * @param ids           IDs to bind
+     * @return prepared statement
+     */
+    private PreparedStatement prepareStatementForIds(Connection dbConnection, String queryTemplate, List<Integer> ids)
+            throws SQLException {
+
+        PreparedStatement prepStmt = dbConnection.prepareStatement(
+                String.format(queryTemplate, String.join(", ", Collections.nCopies(ids.size(), "?"))));
+        for (int i = 0; i < ids.size(); i++) {
+            prepStmt.setInt(i + 1, ids.get(i));
+        }
+        return prepStmt;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -439,7 +491,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 templatedAccessUrl = ApplicationMgtUtil.replaceUrlOriginWithPlaceholders(templatedAccessUrl);
             }
             String resourceId = generateApplicationResourceId(application);
-            String dbProductName = connection.getMetaData().getDatabaseProductName();
+            String dbProductName = SqlDialectRegistry.getInstance().getDatabaseProductName(connection);
             storeAppPrepStmt = connection.prepareStatement(
                     ApplicationMgtDBQueries.STORE_BASIC_APPINFO,
                     new String[] {DBUtils.getConvertedAutoGeneratedColumnName(dbProductName, "ID")});
@@ -538,12 +590,12 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
         // Build SQL query to insert multiple values to the table based on the roles.size.
         try {
-            String dbProductName = connection.getMetaData().getDatabaseProductName();
-            StringBuilder queryBuilder = new StringBuilder(ORACLE.equals(dbProductName) ?
+            boolean isOracle = SqlDialectRegistry.getInstance().getDialect(connection) == Dialect.ORACLE;
+            StringBuilder queryBuilder = new StringBuilder(isOracle ?
                     ApplicationMgtDBQueries.ADD_APPLICATION_ASSOC_ROLES_HEAD_ORACLE :
                     ApplicationMgtDBQueries.ADD_APPLICATION_ASSOC_ROLES_HEAD);
             for (int i = 0; i < roles.size(); i++) {
-                if (ORACLE.equals(dbProductName)) {
+                if (isOracle) {
                     queryBuilder.append(String.format(
                             ApplicationMgtDBQueries.ADD_APPLICATION_ASSOC_ROLES_VALUES_ORACLE, i));
                     if (i != roles.size() - 1) {
@@ -557,7 +609,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 }
 
             }
-            if (ORACLE.equals(dbProductName)) {
+            if (isOracle) {
                 queryBuilder.append(ADD_APPLICATION_ASSOC_ROLES_TAIL_ORACLE);
             }
             NamedPreparedStatement statement = new NamedPreparedStatement(connection, queryBuilder.toString());
@@ -1554,7 +1606,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                     ResultSet result = null;
 
                     try {
-                        String dbProductName = connection.getMetaData().getDatabaseProductName();
+                        String dbProductName = SqlDialectRegistry.getInstance().getDatabaseProductName(connection);
                         storeStepPrepStmtz = connection.prepareStatement(
                                 ApplicationMgtDBQueries.STORE_STEP_INFO, new String[] {
                                         DBUtils.getConvertedAutoGeneratedColumnName(dbProductName, "ID")});
@@ -2113,39 +2165,37 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             String filterString = filterData.getFilterString();
             String excludeSystemPortalsQueryString = populateSystemPortalsExcludeQuery(excludeSystemPortals, true);
 
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
-            if (databaseProductName.contains("MySQL")
-                    || databaseProductName.contains("MariaDB")
-                    || databaseProductName.contains("H2")) {
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
+            if (dialect.isMySQLCompatible()) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_MYSQL,
                         excludeSystemPortalsQueryString , filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, limit);
-            } else if (databaseProductName.contains("Oracle")) {
+            } else if (dialect == Dialect.ORACLE) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_ORACLE,
                         excludeSystemPortalsQueryString, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset + limit, offset);
-            } else if (databaseProductName.contains("Microsoft")) {
+            } else if (dialect == Dialect.MSSQL) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_MSSQL,
                         excludeSystemPortalsQueryString, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, limit);
-            } else if (databaseProductName.contains("PostgreSQL")) {
+            } else if (dialect == Dialect.POSTGRESQL) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_POSTGRESQL,
                         excludeSystemPortalsQueryString, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, limit, offset);
-            } else if (databaseProductName.contains("DB2")) {
+            } else if (dialect == Dialect.DB2) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_DB2SQL,
                         excludeSystemPortalsQueryString, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, offset + limit);
-            } else if (databaseProductName.contains("INFORMIX")) {
+            } else if (dialect == Dialect.INFORMIX) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_INFORMIX,
                         excludeSystemPortalsQueryString, filterString);
@@ -2244,7 +2294,80 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 return null;
             }
             int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
+            return getApplication(serviceProvider, connection, getServicePropertiesBySpId(connection, applicationId),
+                    getInboundAuthenticationConfig(applicationId, connection, tenantID));
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
+
+    /**
+     * Load several applications over a single database connection. The basic application data, the service provider
+     * properties and the inbound authentication configurations are read in chunks, with a single query per chunk for
+     * each of them. The remaining sections are read per application over the same connection. Useful to warm up the
+     * application caches after a cache flush or a restart.
+     *
+     * @param applicationIds Internal IDs of the applications.
+     * @return Loaded applications, in the order of the given IDs. Applications which are not found are skipped.
+     * @throws IdentityApplicationManagementException Error while loading the applications.
+     */
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int start = 0; start < applicationIds.size(); start += BULK_LOAD_CHUNK_SIZE) {
+                List<Integer> chunk = applicationIds.subList(start,
+                        Math.min(start + BULK_LOAD_CHUNK_SIZE, applicationIds.size()));
+                Map<Integer, ServiceProvider> basicApplicationData = getBasicApplicationData(chunk, connection);
+                if (basicApplicationData.isEmpty()) {
+                    continue;
+                }
+                List<Integer> foundApplicationIds = new ArrayList<>(basicApplicationData.keySet());
+                Map<Integer, List<ServiceProviderProperty>> spProperties =
+                        getServicePropertiesBySpIds(connection, foundApplicationIds);
+                Map<Integer, InboundAuthenticationConfig> inboundAuthenticationConfigs =
+                        getInboundAuthenticationConfigs(foundApplicationIds, connection);
+                for (Integer applicationId : chunk) {
+                    ServiceProvider serviceProvider = basicApplicationData.get(applicationId);
+                    if (serviceProvider != null) {
+                        serviceProviders.add(getApplication(serviceProvider, connection,
+                                spProperties.getOrDefault(applicationId, new ArrayList<>()),
+                                inboundAuthenticationConfigs.get(applicationId)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    applicationIds, e);
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Assemble an application on top of its already loaded basic data, properties and inbound authentication
+     * configuration, reading the remaining sections over the given connection.
+     *
+     * @param serviceProvider             Application with its basic data.
+     * @param connection                  Database connection.
+     * @param propertyList                Service provider properties of the application.
+     * @param inboundAuthenticationConfig Inbound authentication configuration of the application.
+     * @return Assembled application.
+     * @throws IdentityApplicationManagementException Error while loading the application.
+     */
+    private ServiceProvider getApplication(ServiceProvider serviceProvider, Connection connection,
+                                           List<ServiceProviderProperty> propertyList,
+                                           InboundAuthenticationConfig inboundAuthenticationConfig)
+            throws IdentityApplicationManagementException {
+
+        int applicationId = serviceProvider.getApplicationID();
+        try {
+            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
 
             serviceProvider.setJwksUri(getJwksUri(propertyList));
             serviceProvider.setTemplateId(getTemplateId(propertyList));
@@ -2265,8 +2388,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
             serviceProvider.setTrustedAppMetadata(
                     getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
+            serviceProvider.setInboundAuthenticationConfig(inboundAuthenticationConfig);
             serviceProvider
                     .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
                             applicationId, connection, tenantID, propertyList));
@@ -2295,9 +2417,14 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
             serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
 
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+            // Set role associations. The allowed audience is resolved from the already loaded properties.
+            String allowedAudience = propertyList.stream()
+                    .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                    .findFirst()
+                    .map(ServiceProviderProperty::getValue)
+                    .orElse(StringUtils.EMPTY);
+            serviceProvider.setAssociatedRolesConfig(getAssociatedRoles(serviceProvider.getApplicationResourceId(),
+                    allowedAudience, connection, tenantID));
             // Will be supported with 'Advance Consent Management Feature'.
             /*
             ConsentConfig consentConfig = serviceProvider.getConsentConfig();
@@ -2320,11 +2447,18 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, allowedAudience, connection, tenantID);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, String allowedAudience,
+                                                     Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -2656,89 +2790,135 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
+                serviceProvider = buildBasicApplicationData(rs, connection);
+            }
 
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+            return serviceProvider;
+        } finally {
+            IdentityApplicationManagementUtil.closeResultSet(rs);
+            IdentityApplicationManagementUtil.closeStatement(prepStmt);
+        }
+    }
 
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
+    /**
+     * Load the basic application data of several applications with a single query.
+     *
+     * @param appIds     Internal IDs of the applications.
+     * @param connection Database connection.
+     * @return Applications with their basic data, keyed by the internal ID. Applications which are not found are
+     * not included.
+     * @throws SQLException Error while reading the applications.
+     */
+    private Map<Integer, ServiceProvider> getBasicApplicationData(List<Integer> appIds, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
 
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+        if (log.isDebugEnabled()) {
+            log.debug("Loading Basic Application Data of application IDs: " + appIds);
+        }
 
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        try (PreparedStatement prepStmt = prepareStatementForIds(connection,
+                ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS, appIds);
+             ResultSet rs = prepStmt.executeQuery()) {
+            while (rs.next()) {
+                ServiceProvider serviceProvider = buildBasicApplicationData(rs, connection);
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
 
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
+    /**
+     * Build an application with its basic data from the current row of the given result set.
+     *
+     * @param rs         Result set positioned on a SP_APP row.
+     * @param connection Database connection.
+     * @return Application with its basic data.
+     * @throws SQLException Error while reading the row.
+     */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
 
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        try {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+            serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+            serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+            serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+            serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+            serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+            serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+            if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+                serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                        rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+            }
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+            if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+                String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                    serviceProvider.setAccessUrl(consoleAccessUrl);
+                }
+            }
+            if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+                String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                    serviceProvider.setAccessUrl(myAccountAccessUrl);
                 }
             }
 
+            serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+            serviceProvider.setDiscoverableGroups(
+                    getDiscoverableGroups(serviceProvider.getApplicationID(), connection, tenantDomain));
+
+            User owner = new User();
+            owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+            owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+            owner.setTenantDomain(getUserTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                    rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                            rs.getString(ApplicationTableColumns.USERNAME)));
+            serviceProvider.setOwner(owner);
+            serviceProvider.setTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+            claimConfig.setLocalClaimDialect(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+            claimConfig.setAlwaysSendMappedLocalSubjectId(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+            serviceProvider.setClaimConfig(claimConfig);
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    new LocalAndOutboundAuthenticationConfig();
+            localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+            localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+            localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                    rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+            serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+            serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+            // Will be supported with 'Advance Consent Management Feature'.
+            /*
+            ConsentConfig consentConfig = new ConsentConfig();
+            consentConfig.setEnabled("1".equals(rs.getString(18)));
+            serviceProvider.setConsentConfig(consentConfig);
+            */
+
+            if (log.isDebugEnabled()) {
+                log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                        + " ApplicationName: " + serviceProvider.getApplicationName()
+                        + " UserName: " + serviceProvider.getOwner().getUserName()
+                        + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+            }
             return serviceProvider;
         } catch (URLBuilderException e) {
             throw new IdentityApplicationManagementException(
                     "Error occurred when resolving origin of the access URL with placeholders", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(rs);
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
     }
 
@@ -2990,51 +3170,107 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
-
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
-                    if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
-                        }
-                    }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
-                            inboundAuthRequest.getProperties())));
-                }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+                addInboundAuthenticationRequestConfig(resultSet, inboundAuthenticationRequestConfigMap);
             }
         } finally {
             IdentityApplicationManagementUtil.closeStatement(getClientInfo);
             IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+        return buildInboundAuthenticationConfig(inboundAuthenticationRequestConfigMap);
+    }
+
+    /**
+     * Get the inbound authentication configurations of several applications with a single query.
+     *
+     * @param applicationIds Internal IDs of the applications.
+     * @param connection     Database connection.
+     * @return Inbound authentication configurations keyed by the internal application ID.
+     * @throws SQLException Error while reading the configurations.
+     */
+    private Map<Integer, InboundAuthenticationConfig> getInboundAuthenticationConfigs(List<Integer> applicationIds,
+                                                                                     Connection connection)
+            throws SQLException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Reading Clients of Applications " + applicationIds);
+        }
+        Map<Integer, Map<String, InboundAuthenticationRequestConfig>> inboundAuthenticationRequestConfigMaps =
+                new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            inboundAuthenticationRequestConfigMaps.put(applicationId, new HashMap<>());
+        }
+        try (PreparedStatement getClientInfo = prepareStatementForIds(connection,
+                ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS, applicationIds);
+             ResultSet resultSet = getClientInfo.executeQuery()) {
+            while (resultSet.next()) {
+                addInboundAuthenticationRequestConfig(resultSet,
+                        inboundAuthenticationRequestConfigMaps.get(resultSet.getInt(6)));
+            }
+        }
+        Map<Integer, InboundAuthenticationConfig> inboundAuthenticationConfigs = new HashMap<>();
+        for (Map.Entry<Integer, Map<String, InboundAuthenticationRequestConfig>> entry :
+                inboundAuthenticationRequestConfigMaps.entrySet()) {
+            inboundAuthenticationConfigs.put(entry.getKey(), buildInboundAuthenticationConfig(entry.getValue()));
+        }
+        return inboundAuthenticationConfigs;
+    }
+
+    /**
+     * Read an inbound authentication property row into the inbound authentication request configuration it belongs
+     * to.
+     *
+     * @param resultSet                             Result set positioned on a SP_INBOUND_AUTH row.
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configurations of the application.
+     * @throws SQLException Error while reading the row.
+     */
+    private void addInboundAuthenticationRequestConfig(ResultSet resultSet, Map<String,
+            InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) throws SQLException {
+
+        String authKey = resultSet.getString(1);
+        //this is done to handle empty string added to oracle database as null.
+        if (authKey == null) {
+            authKey = new String();
+        }
+        String authType = resultSet.getString(2);
+        String propName = resultSet.getString(3);
+        String propValue = resultSet.getString(4);
+        String configType = resultSet.getString(5);
+
+        String mapKey = authType + ":" + authKey;
+
+        InboundAuthenticationRequestConfig inboundAuthRequest = null;
+        if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
+            inboundAuthRequest = new InboundAuthenticationRequestConfig();
+        }
+        inboundAuthRequest.setInboundAuthKey(authKey);
+        inboundAuthRequest.setInboundAuthType(authType);
+        inboundAuthRequest.setInboundConfigType(configType);
+
+        boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+        AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                .getInboundAuthenticatorConfig(authType + ":" + configType);
+        if (isCustomAuthenticator && customAuthenticator != null) {
+            inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+        }
+        if (propName != null) {
+            Property prop = new Property();
+            prop.setName(propName);
+            prop.setValue(propValue);
+            if (isCustomAuthenticator && customAuthenticator != null) {
+                Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                if (mappedProperty != null) {
+                    prop.setDisplayName(mappedProperty.getDisplayName());
+                }
+            }
+            inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
+                    inboundAuthRequest.getProperties())));
+        }
+        inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+    }
+
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(Map<String,
+            InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -4204,35 +4440,33 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         String excludeSystemPortalsQueryString = populateSystemPortalsExcludeQuery(excludeSystemPortals, false);
 
         try {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
-            if (databaseProductName.contains("MySQL")
-                    || databaseProductName.contains("MariaDB")
-                    || databaseProductName.contains("H2")) {
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
+            if (dialect.isMySQLCompatible()) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_MYSQL,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, limit, getAppNamesStmt);
-            } else if (databaseProductName.contains("Oracle")) {
+            } else if (dialect == Dialect.ORACLE) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_ORACLE,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset + limit, offset, getAppNamesStmt);
-            } else if (databaseProductName.contains("Microsoft")) {
+            } else if (dialect == Dialect.MSSQL) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_MSSQL,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, limit, getAppNamesStmt);
-            } else if (databaseProductName.contains("PostgreSQL")) {
+            } else if (dialect == Dialect.POSTGRESQL) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_POSTGRESQL,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, limit, offset, getAppNamesStmt);
-            } else if (databaseProductName.contains("DB2")) {
+            } else if (dialect == Dialect.DB2) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_DB2SQL,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, offset + limit, getAppNamesStmt);
-            } else if (databaseProductName.contains("INFORMIX")) {
+            } else if (dialect == Dialect.INFORMIX) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_INFORMIX,
                         excludeSystemPortalsQueryString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
@@ -5106,7 +5340,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         ResultSet rs = null;
         String sqlStmt = ApplicationMgtDBQueries.STORE_LOCAL_AUTHENTICATOR;
         try {
-            String dbProductName = conn.getMetaData().getDatabaseProductName();
+            String dbProductName = SqlDialectRegistry.getInstance().getDatabaseProductName(conn);
             prepStmt = conn.prepareStatement(sqlStmt, new String[] {
                     DBUtils.getConvertedAutoGeneratedColumnName(dbProductName, "ID")});
             prepStmt.setInt(1, tenantId);
@@ -5948,10 +6182,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         List<ApplicationBasicInfo> applicationBasicInfoList = new ArrayList<>();
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
-            String databaseVendorType = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
             String[] loggedInUserGroupIDs = ApplicationMgtUtil.getLoggedInUserGroupIDList();
             String sqlStatement = buildDiscoverableGroupSQLCondition(
-                    getDBVendorSpecificDiscoverableAppRetrievalQueryByAppName(databaseVendorType),
+                    getDBVendorSpecificDiscoverableAppRetrievalQueryByAppName(dialect),
                     loggedInUserGroupIDs.length);
 
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, sqlStatement)) {
@@ -6297,10 +6531,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         List<ApplicationBasicInfo> applicationBasicInfoList = new ArrayList<>();
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
-            String databaseVendorType = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
             String[] loggedInUserGroupIDs = ApplicationMgtUtil.getLoggedInUserGroupIDList();
             String sqlStatement = buildDiscoverableGroupSQLCondition(
-                    getDBVendorSpecificDiscoverableAppRetrievalQuery(databaseVendorType), loggedInUserGroupIDs.length);
+                    getDBVendorSpecificDiscoverableAppRetrievalQuery(dialect), loggedInUserGroupIDs.length);
 
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, sqlStatement)) {
                 statement.setInt(ApplicationTableColumns.TENANT_ID, IdentityTenantUtil.getTenantId(tenantDomain));
@@ -6385,50 +6619,52 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return count;
     }
 
-    private String getDBVendorSpecificDiscoverableAppRetrievalQueryByAppName(String dbVendorType) throws
+    private String getDBVendorSpecificDiscoverableAppRetrievalQueryByAppName(Dialect dialect) throws
             IdentityApplicationManagementException {
 
-        if ("MySQL".equals(dbVendorType)
-                || "MariaDB".equals(dbVendorType)
-                || "H2".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_MYSQL;
-        } else if ("Oracle".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_ORACLE;
-        } else if ("Microsoft SQL Server".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_MSSQL;
-        } else if ("PostgreSQL".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_POSTGRESQL;
-        } else if (dbVendorType != null && dbVendorType.contains("DB2")) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_DB2;
-        } else if ("INFORMIX".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_INFORMIX;
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_MYSQL;
+            case ORACLE:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_ORACLE;
+            case MSSQL:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_MSSQL;
+            case POSTGRESQL:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_POSTGRESQL;
+            case DB2:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_DB2;
+            case INFORMIX:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_AND_APP_NAME_INFORMIX;
+            default:
+                throw new IdentityApplicationManagementException("Error while loading discoverable applications " +
+                        "from DB. Database dialect " + dialect + " could not be identified or not supported.");
         }
-
-        throw new IdentityApplicationManagementException("Error while loading discoverable applications from " +
-                "DB. Database driver for " + dbVendorType + "could not be identified or not supported.");
     }
 
-    private String getDBVendorSpecificDiscoverableAppRetrievalQuery(String dbVendorType) throws
+    private String getDBVendorSpecificDiscoverableAppRetrievalQuery(Dialect dialect) throws
             IdentityApplicationManagementException {
 
-        if ("MySQL".equals(dbVendorType)
-                || "MariaDB".equals(dbVendorType)
-                || "H2".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_MYSQL;
-        } else if ("Oracle".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_ORACLE;
-        } else if ("Microsoft SQL Server".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_MSSQL;
-        } else if ("PostgreSQL".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_POSTGRESQL;
-        } else if (dbVendorType != null && dbVendorType.contains("DB2")) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_DB2SQL;
-        } else if ("INFORMIX".equals(dbVendorType)) {
-            return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_INFORMIX;
-        }
-
-        throw new IdentityApplicationManagementException("Error while loading discoverable applications from " +
-                "DB. Database driver for " + dbVendorType + "could not be identified or not supported.");
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_MYSQL;
+            case ORACLE:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_ORACLE;
+            case MSSQL:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_MSSQL;
+            case POSTGRESQL:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_POSTGRESQL;
+            case DB2:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_DB2SQL;
+            case INFORMIX:
+                return ApplicationMgtDBQueries.LOAD_DISCOVERABLE_APPS_BY_TENANT_INFORMIX;
+            default:
+                throw new IdentityApplicationManagementException("Error while loading discoverable applications " +
+                        "from DB. Database dialect " + dialect + " could not be identified or not supported.");
+        }
     }
 
     private ApplicationBasicInfo buildApplicationBasicInfo(ResultSet appNameResultSet)
@@ -132,6 +132,45 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    /**
+     * Get several applications, loading the applications which are not cached in bulk and adding them to the cache.
+     *
+     * @param applicationIds Internal IDs of the applications.
+     * @return Applications which are found, in the order of the given IDs.
+     * @throws IdentityApplicationManagementException Error while loading the applications.
+     */
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        List<Integer> uncachedApplicationIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            } else {
+                uncachedApplicationIds.add(applicationId);
+            }
+        }
+        if (!uncachedApplicationIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(uncachedApplicationIds)) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+
+        List<ServiceProvider> orderedServiceProviders = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+            if (serviceProvider != null) {
+                orderedServiceProviders.add(serviceProvider);
+            }
+        }
+        return orderedServiceProviders;
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
 import org.wso2.carbon.identity.application.common.model.DiscoverableGroup;
 import org.wso2.carbon.identity.application.common.model.GroupBasicInfo;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
 import org.wso2.carbon.identity.application.common.model.RoleV2;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
@@ -419,6 +421,58 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Load several applications at once")
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        List<Integer> applicationIds = new ArrayList<>();
+        for (String applicationName : Arrays.asList("bulk-load-app-1", "bulk-load-app-2")) {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationName(applicationName);
+            serviceProvider.setApplicationVersion("v1.0.0");
+            serviceProvider.setApplicationID(applicationDAO.createApplication(serviceProvider,
+                    SUPER_TENANT_DOMAIN_NAME));
+            ServiceProviderProperty spProperty = new ServiceProviderProperty();
+            spProperty.setName(IS_FRAGMENT_APP);
+            spProperty.setValue("true");
+            serviceProvider.setSpProperties(new ServiceProviderProperty[] {spProperty});
+            InboundAuthenticationRequestConfig inboundAuthRequestConfig = new InboundAuthenticationRequestConfig();
+            inboundAuthRequestConfig.setInboundAuthKey(applicationName + "-client");
+            inboundAuthRequestConfig.setInboundAuthType("oauth2");
+            InboundAuthenticationConfig inboundAuthConfig = new InboundAuthenticationConfig();
+            inboundAuthConfig.setInboundAuthenticationRequestConfigs(
+                    new InboundAuthenticationRequestConfig[] {inboundAuthRequestConfig});
+            serviceProvider.setInboundAuthenticationConfig(inboundAuthConfig);
+            applicationDAO.updateApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+            applicationIds.add(serviceProvider.getApplicationID());
+        }
+        // A non-existing application should be skipped.
+        applicationIds.add(Integer.MAX_VALUE);
+
+        List<ServiceProvider> serviceProviders = applicationDAO.getApplications(applicationIds);
+        assertEquals(serviceProviders.size(), 2);
+        for (int i = 0; i < serviceProviders.size(); i++) {
+            ServiceProvider expected = applicationDAO.getApplication(applicationIds.get(i));
+            ServiceProvider actual = serviceProviders.get(i);
+            assertEquals(actual.getApplicationID(), expected.getApplicationID());
+            assertEquals(actual.getApplicationName(), expected.getApplicationName());
+            assertEquals(actual.getApplicationResourceId(), expected.getApplicationResourceId());
+            assertEquals(actual.getOwner().getUserName(), expected.getOwner().getUserName());
+            assertEquals(actual.getSpProperties().length, expected.getSpProperties().length);
+            assertEquals(actual.getAssociatedRolesConfig().getAllowedAudience(),
+                    expected.getAssociatedRolesConfig().getAllowedAudience());
+            InboundAuthenticationRequestConfig[] actualInboundConfigs =
+                    actual.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs();
+            InboundAuthenticationRequestConfig[] expectedInboundConfigs =
+                    expected.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs();
+            assertEquals(actualInboundConfigs.length, 1);
+            assertEquals(actualInboundConfigs.length, expectedInboundConfigs.length);
+            assertEquals(actualInboundConfigs[0].getInboundAuthKey(), expectedInboundConfigs[0].getInboundAuthKey());
+            assertEquals(actualInboundConfigs[0].getInboundAuthType(),
+                    expectedInboundConfigs[0].getInboundAuthType());
+        }
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
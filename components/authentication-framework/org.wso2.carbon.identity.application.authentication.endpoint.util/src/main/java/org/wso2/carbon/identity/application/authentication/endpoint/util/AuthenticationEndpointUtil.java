@@ -27,12 +27,21 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.HttpsSupport;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.apache.hc.core5.net.URLEncodedUtils;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
 import org.owasp.encoder.Encode;
+import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.authentication.endpoint.util.bean.UserDTO;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
@@ -41,6 +50,7 @@ import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
+import org.wso2.carbon.utils.CustomHostNameVerifier;
 import org.wso2.carbon.utils.httpclient5.HTTPClientUtils;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
@@ -57,6 +67,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import javax.net.ssl.HostnameVerifier;
 
 import static org.wso2.carbon.identity.application.authentication.endpoint.util.Constants.ErrorToi18nMappingConstants.ERROR_TO_I18N_MAP;
 
@@ -77,6 +88,9 @@ public class AuthenticationEndpointUtil {
     private static final String UNDERSCORE = "_";
     private static final String TENANT_DOMAIN_PLACEHOLDER = "${tenantDomain}";
     private static final String SUPER_TENANT = "carbon.super";
+    private static final long HTTP_CLIENT_MAX_IDLE_TIME = 30;
+
+    private static volatile CloseableHttpClient httpClient;
 
     private AuthenticationEndpointUtil() {
     }
@@ -375,12 +389,11 @@ public class AuthenticationEndpointUtil {
      */
     public static String sendGetRequest(String backendURL) {
 
-        try (CloseableHttpClient httpclient = HTTPClientUtils.createClientWithCustomHostnameVerifier().build()) {
-
+        try {
             HttpGet httpGet = new HttpGet(backendURL);
             setAuthorizationHeader(httpGet);
 
-            return httpclient.execute(httpGet, response -> {
+            return getHttpClient().execute(httpGet, response -> {
                 if (log.isDebugEnabled()) {
                     log.debug("HTTP status " + response.getCode() +
                             " when invoking " + HTTP_METHOD_GET + " for URL: " + backendURL);
@@ -394,6 +407,78 @@ public class AuthenticationEndpointUtil {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Returns the HTTP client shared by the authentication endpoint. The connections of the client are pooled and kept
+     * alive, hence the client should not be closed by the callers.
+     *
+     * @return Shared HTTP client.
+     */
+    public static CloseableHttpClient getHttpClient() {
+
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (AuthenticationEndpointUtil.class) {
+                client = httpClient;
+                if (client == null) {
+                    HttpClientBuilder httpClientBuilder = HTTPClientUtils.createClientWithCustomHostnameVerifier();
+                    // The client is shared across the users. Hence, the cookies must not be carried between requests.
+                    httpClientBuilder.disableCookieManagement();
+                    httpClientBuilder.evictExpiredConnections();
+                    httpClientBuilder.evictIdleConnections(TimeValue.ofSeconds(HTTP_CLIENT_MAX_IDLE_TIME));
+                    httpClientBuilder.setConnectionManager(buildConnectionManager());
+                    client = httpClientBuilder.build();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Builds the connection manager of the shared HTTP client. The connection manager replaces the one configured by
+     * {@link HTTPClientUtils}, hence the hostname verifier selected by the carbon hostname verifier system property
+     * is applied here as well.
+     *
+     * @return Pooling connection manager with the configured connection limits.
+     */
+    static PoolingHttpClientConnectionManager buildConnectionManager() {
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setTlsSocketStrategy(new DefaultClientTlsStrategy(SSLContexts.createSystemDefault(),
+                        getHostnameVerifier()))
+                .setMaxConnTotal(EndpointConfigManager.getHttpClientMaxConnections())
+                .setMaxConnPerRoute(EndpointConfigManager.getHttpClientMaxConnectionsPerRoute())
+                .build();
+    }
+
+    private static HostnameVerifier getHostnameVerifier() {
+
+        String hostnameVerifier = System.getProperty(CarbonConstants.HOST_NAME_VERIFIER);
+        if (CarbonConstants.DEFAULT_AND_LOCALHOST.equals(hostnameVerifier)) {
+            return new CustomHostNameVerifier();
+        } else if (CarbonConstants.ALLOW_ALL.equals(hostnameVerifier)) {
+            return NoopHostnameVerifier.INSTANCE;
+        }
+        return HttpsSupport.getDefaultHostnameVerifier();
+    }
+
+    /**
+     * Closes the shared HTTP client along with its pooled connections.
+     */
+    public static void closeHttpClient() {
+
+        synchronized (AuthenticationEndpointUtil.class) {
+            if (httpClient != null) {
+                try {
+                    httpClient.close();
+                } catch (IOException e) {
+                    log.error("Error while closing the shared HTTP client.", e);
+                }
+                httpClient = null;
+            }
+        }
+    }
+
     /**
      * Extracts the response content from the http response provided to the method.
      *
@@ -71,6 +71,10 @@ public class Constants {
     public static final String CONFIG_SERVER_ORIGIN = "identity.server.origin";
     public static final String CONFIG_GOOGLE_ONETAP_RESTRICTED_BROWSERS = "google.social.onetap.restricted_browsers";
     public static final String CONFIG_HOSTNAME_VERIFICATION_ENABLED = "hostname.verification.enabled";
+    public static final String CONFIG_HTTP_CLIENT_MAX_CONNECTIONS = "http.client.max.connections";
+    public static final String CONFIG_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = "http.client.max.connections.per.route";
+    public static final int DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS = 100;
+    public static final int DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = 50;
     public static final String SERVICE_CONTEXT_PATH = "/services";
 
     private Constants() {
@@ -53,6 +53,8 @@ public class EndpointConfigManager {
     private static boolean isHostnameVerificationEnabled = true;
     private static boolean initialized = false;
     private static String googleOneTapRestrictedBrowsers = StringUtils.EMPTY;
+    private static int httpClientMaxConnections = Constants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS;
+    private static int httpClientMaxConnectionsPerRoute = Constants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE;
 
     /**
      * Initialize Tenant data manager
@@ -101,6 +103,11 @@ public class EndpointConfigManager {
                 if (StringUtils.isNotBlank(serverOrigin)) {
                     serverOrigin = IdentityUtil.fillURLPlaceholders(serverOrigin);
                 }
+                httpClientMaxConnections = getPositiveIntPropertyValue(Constants.CONFIG_HTTP_CLIENT_MAX_CONNECTIONS,
+                        Constants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS);
+                httpClientMaxConnectionsPerRoute = getPositiveIntPropertyValue(
+                        Constants.CONFIG_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE,
+                        Constants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE);
                 initialized = true;
                 String browserString = prop.getProperty(Constants.CONFIG_GOOGLE_ONETAP_RESTRICTED_BROWSERS);
                 if (StringUtils.isNotBlank(browserString)) {
@@ -173,6 +180,26 @@ public class EndpointConfigManager {
         return isHostnameVerificationEnabled;
     }
 
+    /**
+     * Get the maximum number of connections pooled by the shared HTTP client.
+     *
+     * @return Maximum number of pooled connections.
+     */
+    public static int getHttpClientMaxConnections() {
+
+        return httpClientMaxConnections;
+    }
+
+    /**
+     * Get the maximum number of connections pooled by the shared HTTP client for a single route.
+     *
+     * @return Maximum number of pooled connections per route.
+     */
+    public static int getHttpClientMaxConnectionsPerRoute() {
+
+        return httpClientMaxConnectionsPerRoute;
+    }
+
     /**
      * Build the absolute path of a give file path
      *
@@ -210,6 +237,32 @@ public class EndpointConfigManager {
         return prop.getProperty(key);
     }
 
+    /**
+     * Get a positive integer property value by key
+     *
+     * @param key          Property key
+     * @param defaultValue Value used when the property is not configured or is invalid
+     * @return Property value
+     */
+    private static int getPositiveIntPropertyValue(String key, int defaultValue) {
+
+        String value = getPropertyValue(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Falls back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " configured for: " + key + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Get status of the availability of secured (with secure vault) properties
      *
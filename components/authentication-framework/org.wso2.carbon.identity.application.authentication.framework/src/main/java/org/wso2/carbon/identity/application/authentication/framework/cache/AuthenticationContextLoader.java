@@ -50,7 +50,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.createSPClone;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.createSPSnapshot;
 
 /**
  * This class is used to optimize the Authentication Context before storing it and again loaded it with objects.
@@ -263,7 +263,7 @@ public class AuthenticationContextLoader {
                                         "Service Provider by the resource ID: %s tenant domain: %s",
                                 optimizedApplicationConfig.getServiceProviderResourceId(), tenantDomain));
             }
-            clonedSP = createSPClone(serviceProvider);
+            clonedSP = createSPSnapshot(serviceProvider);
             clonedSP.getLocalAndOutBoundAuthenticationConfig().setAuthenticationSteps(
                     optimizedApplicationConfig.getAuthenticationSteps(tenantDomain));
         } catch (IdentityApplicationManagementClientException e) {
@@ -21,10 +21,12 @@ package org.wso2.carbon.identity.application.authentication.framework.cache;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationClientException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationServerException;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.store.SerializedSessionData;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionContextDO;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
@@ -32,7 +34,11 @@ import org.wso2.carbon.identity.application.authentication.framework.util.Framew
 import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.getLoginTenantDomainFromContext;
@@ -44,6 +50,7 @@ import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENA
 public class SessionContextCache extends BaseCache<SessionContextCacheKey, SessionContextCacheEntry> {
 
     private static final String SESSION_CONTEXT_CACHE_NAME = "AppAuthFrameworkSessionContextCache";
+    private static final String CONTENT_DIGEST_ALGORITHM = "SHA-256";
     private static final Log log = LogFactory.getLog(SessionContextCache.class);
 
     private static volatile SessionContextCache instance;
@@ -77,7 +84,9 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
                 " with accessed time " + entry.getAccessedTime() + " and validity time " + entry.getValidityPeriod());
         }
         entry.setAccessedTime();
+        byte[] previousContentDigest = getCachedContentDigest(key, loginTenantDomain);
         super.addToCache(key, entry, resolveLoginTenantDomain(loginTenantDomain));
+        SessionContextCacheEntry cachedEntry = entry;
         Object authUser = entry.getContext().getProperty(FrameworkConstants.AUTHENTICATED_USER);
         try {
             entry = SessionContextLoader.getInstance().optimizeSessionContextCacheEntry(entry);
@@ -96,14 +105,69 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
                     "context id: " + entry.getContext(), e);
             return;
         }
-        if (authUser != null && authUser instanceof AuthenticatedUser) {
-            String tenantDomain = ((AuthenticatedUser) authUser).getTenantDomain();
-            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-            SessionDataStore.getInstance()
-                    .storeSessionData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME, entry, tenantId);
-        } else {
-            SessionDataStore.getInstance().storeSessionData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME, entry);
+        int tenantId = MultitenantConstants.INVALID_TENANT_ID;
+        if (authUser instanceof AuthenticatedUser) {
+            tenantId = IdentityTenantUtil.getTenantId(((AuthenticatedUser) authUser).getTenantDomain());
+        }
+        Object sessionData = entry;
+        if (SessionDataStore.isTouchOperationEnabled()) {
+            // The stored accessed time is taken from the session data store when the session context is read, hence
+            // it is cleared so that the serialized bytes change only when the session context is modified.
+            entry.resetAccessedTime();
+            SerializedSessionData serializedSessionData = serializeSessionData(entry);
+            byte[] contentDigest = getContentDigest(serializedSessionData, entry);
+            cachedEntry.setContentDigest(contentDigest);
+            if (contentDigest != null && Arrays.equals(contentDigest, previousContentDigest)) {
+                // The session context is not modified since it was last stored, hence only the accessed time is
+                // persisted.
+                if (log.isDebugEnabled()) {
+                    log.debug("Session context corresponding to the key : " + key.getContextId() +
+                            " is not modified. Touching the stored session context.");
+                }
+                SessionDataStore.getInstance().touchSessionData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME,
+                        entry.getValidityPeriod(), tenantId);
+                return;
+            }
+            if (serializedSessionData != null) {
+                // Store the bytes the digest is computed over, instead of serializing the session context again.
+                sessionData = serializedSessionData;
+            }
+        }
+        SessionDataStore.getInstance()
+                .storeSessionData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME, sessionData, tenantId);
+    }
+
+    /**
+     * Refresh the accessed time of a session whose context is not modified since it was added to the cache. Unlike
+     * {@link #addToCache(SessionContextCacheKey, SessionContextCacheEntry, String)}, the session context is not
+     * serialized and written to the session data store again. Only the accessed time is persisted. If TOUCH
+     * operations are not enabled in the session data store, the entry is added to the cache as usual.
+     *
+     * @param key               Session context cache key.
+     * @param entry             Session context cache entry.
+     * @param loginTenantDomain Login tenant domain.
+     */
+    public void touchCacheEntry(SessionContextCacheKey key, SessionContextCacheEntry entry, String loginTenantDomain) {
+
+        if (!SessionDataStore.isTouchOperationEnabled()) {
+            addToCache(key, entry, loginTenantDomain);
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Touching session context corresponding to the key : " + key.getContextId() +
+                    " with validity time " + entry.getValidityPeriod());
+        }
+        entry.setAccessedTime();
+        // The session context is not modified, hence it still matches the content digest of the cached entry.
+        entry.setContentDigest(getCachedContentDigest(key, loginTenantDomain));
+        super.addToCache(key, entry, resolveLoginTenantDomain(loginTenantDomain));
+        int tenantId = MultitenantConstants.INVALID_TENANT_ID;
+        Object authUser = entry.getContext().getProperty(FrameworkConstants.AUTHENTICATED_USER);
+        if (authUser instanceof AuthenticatedUser) {
+            tenantId = IdentityTenantUtil.getTenantId(((AuthenticatedUser) authUser).getTenantDomain());
         }
+        SessionDataStore.getInstance().touchSessionData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME,
+                entry.getValidityPeriod(), tenantId);
     }
 
     @Deprecated
@@ -122,7 +186,8 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
                 log.debug("Session corresponding to the key : " + key.getContextId() + " cannot be found in the" +
                         " cache. Trying to get from db.");
             }
-            cacheEntry = getSessionFromDB(key);
+            cacheEntry = getSessionFromDB(key, SessionDataStore.getInstance().getSessionContextData(
+                    key.getContextId(), SESSION_CONTEXT_CACHE_NAME, getMinValidAccessedNanoTime()));
         }
 
         if (cacheEntry == null) {
@@ -153,10 +218,21 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
      */
     private SessionContextCacheEntry getSessionFromDB(SessionContextCacheKey key) {
 
-        SessionContextCacheEntry cacheEntry = null;
-        SessionContextDO sessionContextDO = SessionDataStore.getInstance().
-                getSessionContextData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME);
+        return getSessionFromDB(key, SessionDataStore.getInstance().
+                getSessionContextData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME));
+    }
+
+    /**
+     * Build the session context cache entry from the session data retrieved from the database.
+     *
+     * @param key              Session context cache key.
+     * @param sessionContextDO Session data retrieved from the database.
+     * @return Session context cache entry.
+     */
+    private SessionContextCacheEntry getSessionFromDB(SessionContextCacheKey key,
+                                                      SessionContextDO sessionContextDO) {
 
+        SessionContextCacheEntry cacheEntry = null;
         if (sessionContextDO != null) {
             cacheEntry = new SessionContextCacheEntry(sessionContextDO);
             if (cacheEntry.getOptimizedSessionContext() != null) {
@@ -376,6 +452,82 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
         return true;
     }
 
+    /**
+     * Get the earliest accessed time of a session which can still be valid. A session accessed before this time has
+     * exceeded both the idle and the remember me session timeouts, since a session cannot be created after it was
+     * last accessed. Hence, such a session is not read from the database.
+     *
+     * @return Earliest valid accessed time in nano seconds.
+     */
+    private long getMinValidAccessedNanoTime() {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        long maxSessionTimeOut = Math.max(IdPManagementUtil.getIdleSessionTimeOut(tenantDomain),
+                IdPManagementUtil.getRememberMeTimeout(tenantDomain));
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(maxSessionTimeOut));
+    }
+
+    /**
+     * Get the content digest of the session context currently held in the local cache, without falling back to the
+     * database. The digest is only available for a session context stored or touched by this node.
+     *
+     * @param key               Session context cache key.
+     * @param loginTenantDomain Login tenant domain.
+     * @return Content digest, or null if it is not available.
+     */
+    private byte[] getCachedContentDigest(SessionContextCacheKey key, String loginTenantDomain) {
+
+        if (!SessionDataStore.isTouchOperationEnabled()) {
+            return null;
+        }
+        SessionContextCacheEntry cacheEntry = super.getValueFromCache(key, resolveLoginTenantDomain(loginTenantDomain));
+        return cacheEntry != null ? cacheEntry.getContentDigest() : null;
+    }
+
+    /**
+     * Serialize the optimized session context cache entry which is persisted.
+     *
+     * @param entry Optimized session context cache entry.
+     * @return Serialized session data, or null if the entry cannot be serialized.
+     */
+    private SerializedSessionData serializeSessionData(SessionContextCacheEntry entry) {
+
+        try {
+            return SessionDataStore.getInstance().serializeSessionData(entry);
+        } catch (SessionSerializerException | IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while serializing the session context with context id: " +
+                        entry.getContextIdentifier(), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Compute a digest over the serialized bytes of the optimized session context cache entry. The accessed time of
+     * the entry is cleared before it is serialized, hence the digest changes only when the session context is
+     * modified.
+     *
+     * @param serializedSessionData Serialized optimized session context cache entry.
+     * @param entry                 Optimized session context cache entry.
+     * @return SHA-256 digest, or null if the digest cannot be computed.
+     */
+    private byte[] getContentDigest(SerializedSessionData serializedSessionData, SessionContextCacheEntry entry) {
+
+        if (serializedSessionData == null) {
+            return null;
+        }
+        try {
+            return serializedSessionData.getContentDigest(CONTENT_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while computing the content digest of the session context with context id: " +
+                        entry.getContextIdentifier(), e);
+            }
+            return null;
+        }
+    }
+
     private String resolveLoginTenantDomain(String loginTenantDomain) {
 
         // We use the login tenant domain to maintain cache only in tenanted session enabled.
@@ -37,6 +37,7 @@ public class SessionContextCacheEntry extends CacheEntry {
     private OptimizedSessionContext optimizedSessionContext;
     String loggedInUser;
     private long accessedTime;
+    private transient byte[] contentDigest;
 
     public SessionContextCacheEntry() {
         setAccessedTime();
@@ -85,6 +86,11 @@ public class SessionContextCacheEntry extends CacheEntry {
         this.accessedTime = accessedTime;
     }
 
+    void resetAccessedTime() {
+
+        this.accessedTime = 0L;
+    }
+
     public long getAccessedTime() {
         return this.accessedTime;
     }
@@ -99,6 +105,16 @@ public class SessionContextCacheEntry extends CacheEntry {
         this.optimizedSessionContext = null;
     }
 
+    byte[] getContentDigest() {
+
+        return contentDigest;
+    }
+
+    void setContentDigest(byte[] contentDigest) {
+
+        this.contentDigest = contentDigest;
+    }
+
     public String getContextIdentifier() {
 
         return this.contextIdentifier;
@@ -43,7 +43,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.createIdPClone;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.createIdPSnapshot;
 
 /**
  * This class is used to have the mandatory attributes of the application config class.
@@ -395,7 +395,7 @@ public class OptimizedApplicationConfig implements Serializable {
                      * of the authenticators available in the custom connector IDP, other than the default authenticator
                      * of the IDP. So need to find the exact authenticator configured in the SP.
                      */
-                    IdentityProvider clonedIdP = createIdPClone(idPByResourceId);
+                    IdentityProvider clonedIdP = createIdPSnapshot(idPByResourceId);
                     for (FederatedAuthenticatorConfig fedAuthConfig :
                             idPByResourceId.getFederatedAuthenticatorConfigs()) {
                         if (StringUtils.equals(fedAuthConfig.getName(),
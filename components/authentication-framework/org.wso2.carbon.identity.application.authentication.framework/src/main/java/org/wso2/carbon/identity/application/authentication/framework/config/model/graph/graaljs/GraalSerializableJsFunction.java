@@ -75,7 +75,8 @@ public class GraalSerializableJsFunction implements GenericSerializableJsFunctio
     public Object apply(Context polyglotContext, Object... params) {
 
         if (isPolyglotFunction) {
-            Value jsFunction = polyglotContext.eval("js", "(" + getSource() + ")");
+            Value jsFunction = polyglotContext.eval(
+                    JsGraalScriptSourceCache.getInstance().getCodeSource("(" + getSource() + ")"));
             return jsFunction.execute(params);
         }
 
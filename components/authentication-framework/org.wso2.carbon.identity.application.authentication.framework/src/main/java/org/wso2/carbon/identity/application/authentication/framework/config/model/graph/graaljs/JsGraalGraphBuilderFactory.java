@@ -18,9 +18,11 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -47,6 +49,7 @@ import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -61,11 +64,20 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static volatile Engine sharedEngine;
     private int javascriptResourceLimit = 0;
+    private boolean sharedEngineEnabled = true;
+    private volatile HostAccess hostAccess;
+    private volatile ResourceLimits resourceLimits;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        resourceLimits = null;
+        String sharedEngineEnabledValue = IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE);
+        if (StringUtils.isNotBlank(sharedEngineEnabledValue)) {
+            sharedEngineEnabled = Boolean.parseBoolean(sharedEngineEnabledValue.trim());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +118,16 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        if (sharedEngineEnabled) {
+            // Contexts sharing an engine reuse the parsed and compiled code of equal sources.
+            contextBuilder.engine(getSharedEngine());
+        } else {
+            contextBuilder.option("engine.WarnInterpreterOnly", "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -118,15 +135,66 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
         return context;
     }
 
+    /**
+     * Get the polyglot engine shared by all the contexts created in this node.
+     *
+     * @return Shared polyglot engine.
+     */
+    private static Engine getSharedEngine() {
+
+        if (sharedEngine == null) {
+            synchronized (JsGraalGraphBuilderFactory.class) {
+                if (sharedEngine == null) {
+                    sharedEngine = Engine.newBuilder()
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
+                }
+            }
+        }
+        return sharedEngine;
+    }
+
+    /**
+     * Close the polyglot engine shared by the contexts, if it is created. The contexts which are still executing are
+     * cancelled. A new engine is created if a context is requested afterwards.
+     */
+    public static void closeSharedEngine() {
+
+        Engine engine;
+        synchronized (JsGraalGraphBuilderFactory.class) {
+            engine = sharedEngine;
+            sharedEngine = null;
+        }
+        if (engine == null) {
+            return;
+        }
+        try {
+            engine.close(true);
+        } catch (RuntimeException e) {
+            LOG.warn("Error while closing the shared GraalJS engine.", e);
+        }
+    }
+
     public ResourceLimits getResourceLimits() {
 
-        ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
-        resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
-        return resourceLimitsBuilder.build();
+        if (resourceLimits == null) {
+            ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
+            resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
+            resourceLimits = resourceLimitsBuilder.build();
+        }
+        return resourceLimits;
     }
 
     public HostAccess getHostAccess() {
 
+        if (hostAccess == null) {
+            hostAccess = buildHostAccess();
+        }
+        return hostAccess;
+    }
+
+    private HostAccess buildHostAccess() {
+
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
          * functional interfaces we have for existing conditional authentication functions.
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Source;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Bounded cache of GraalJS {@link Source} objects.
+ * When the polyglot contexts share an engine, evaluating an equal source object lets the engine reuse the already
+ * parsed and compiled code instead of parsing the script again for each authentication request.
+ * The scripts of the applications and the shared code fragments are held in separate caches with separate size
+ * limits, so that a large number of distinct code fragments does not evict the application scripts.
+ */
+public class JsGraalScriptSourceCache {
+
+    private static final Log LOG = LogFactory.getLog(JsGraalScriptSourceCache.class);
+    private static final JsGraalScriptSourceCache INSTANCE = new JsGraalScriptSourceCache(
+            readMaxSize(GRAALJS_SOURCE_CACHE_MAX_SIZE, DEFAULT_GRAALJS_SOURCE_CACHE_MAX_SIZE),
+            readMaxSize(GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE, DEFAULT_GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE));
+
+    private final Map<String, Source> scriptSources;
+    private final Map<String, Source> codeSources;
+
+    JsGraalScriptSourceCache(int maxScriptSources, int maxCodeSources) {
+
+        this.scriptSources = createBoundedMap(maxScriptSources);
+        this.codeSources = createBoundedMap(maxCodeSources);
+    }
+
+    public static JsGraalScriptSourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the source of an adaptive authentication script of an application.
+     *
+     * @param tenantDomain  Tenant domain of the application.
+     * @param applicationId Identifier of the application.
+     * @param script        Adaptive authentication script.
+     * @return Source of the script.
+     */
+    public Source getScriptSource(String tenantDomain, String applicationId, String script) {
+
+        return getSource(scriptSources, tenantDomain + ":" + applicationId + ":" + script.hashCode(), script);
+    }
+
+    /**
+     * Get the source of a code fragment which is shared across applications, such as the helper functions and the
+     * serialized javascript functions.
+     *
+     * @param code Javascript code.
+     * @return Source of the code.
+     */
+    public Source getCodeSource(String code) {
+
+        return getSource(codeSources, String.valueOf(code.hashCode()), code);
+    }
+
+    /**
+     * Remove all the cached sources.
+     */
+    public void clear() {
+
+        scriptSources.clear();
+        codeSources.clear();
+    }
+
+    int getScriptSourceCount() {
+
+        return scriptSources.size();
+    }
+
+    int getCodeSourceCount() {
+
+        return codeSources.size();
+    }
+
+    private static Map<String, Source> createBoundedMap(int maxSize) {
+
+        return Collections.synchronizedMap(new LinkedHashMap<String, Source>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private static Source getSource(Map<String, Source> sources, String cacheKey, String code) {
+
+        Source source = sources.get(cacheKey);
+        // The key holds only the hash of the code. Hence, the content is compared to rule out collisions and updates.
+        if (source != null && code.contentEquals(source.getCharacters())) {
+            return source;
+        }
+        source = Source.newBuilder(POLYGLOT_LANGUAGE, code, POLYGLOT_SOURCE).cached(true).buildLiteral();
+        sources.put(cacheKey, source);
+        return source;
+    }
+
+    private static int readMaxSize(String property, int defaultValue) {
+
+        String maxSize = IdentityUtil.getProperty(property);
+        if (maxSize != null) {
+            try {
+                return Integer.parseInt(maxSize.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the value of " + property + ". Defaulting to " + defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -656,9 +656,7 @@ public class DefaultClaimHandler implements ClaimHandler {
             Map<String, String> localToIdpClaimMappingWithStandardDialect =
                     getClaimMappings(idPStandardDialect, remoteClaims.keySet(),
                             tenantDomain, true);
-            localToIdPClaimMap.putAll(localToIdpClaimMappingWithStandardDialect.entrySet().stream()
-                    .filter(x -> !localToIdPClaimMap.containsKey(x.getKey()))
-                    .collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
+            localToIdpClaimMappingWithStandardDialect.forEach(localToIdPClaimMap::putIfAbsent);
 
             return localToIdPClaimMap;
         } catch (FrameworkException e) {
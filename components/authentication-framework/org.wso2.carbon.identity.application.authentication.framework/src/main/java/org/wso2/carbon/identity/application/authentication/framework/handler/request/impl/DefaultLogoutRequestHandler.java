@@ -55,6 +55,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
@@ -88,6 +89,10 @@ public class DefaultLogoutRequestHandler implements LogoutRequestHandler {
     private static final String ENABLE_FALLBACK_TO_DEFAULT_LOGOUT_URL_CONFIG =
             "CommonAuthCallerPath.EnableFallbackToDefaultOnNoReturnUrl";
     private static final String DEFAULT_LOGOUT_URL_CONFIG = "CommonAuthCallerPath.DefaultUrl";
+    private static final IdentityConfigSnapshot.BooleanProperty VALIDATE_LOGOUT_RETURN_URL =
+            IdentityConfigSnapshot.booleanProperty(ENABLE_VALIDATING_LOGOUT_RETURN_URL_CONFIG, false);
+    private static final IdentityConfigSnapshot.BooleanProperty FALLBACK_TO_DEFAULT_LOGOUT_URL =
+            IdentityConfigSnapshot.booleanProperty(ENABLE_FALLBACK_TO_DEFAULT_LOGOUT_URL_CONFIG, false);
     private static final String CONFIGURED_RETURN_URL = ".*";
 
     public static DefaultLogoutRequestHandler getInstance() {
@@ -420,7 +425,7 @@ public class DefaultLogoutRequestHandler implements LogoutRequestHandler {
         // attributes
         request.setAttribute(FrameworkConstants.ResponseParams.LOGGED_OUT, isLoggedOut);
 
-        if (Boolean.valueOf(IdentityUtil.getProperty(ENABLE_VALIDATING_LOGOUT_RETURN_URL_CONFIG))) {
+        if (VALIDATE_LOGOUT_RETURN_URL.get()) {
             if (isLoggedOut && !isValidCallerPath(context)) {
                 log.debug("The commonAuthCallerPath param specified in the request does not satisfy the logout" +
                         " return url specified. Therefore directing to the default logout return url.");
@@ -561,7 +566,7 @@ public class DefaultLogoutRequestHandler implements LogoutRequestHandler {
                 // If the config to fall back to default logout url when the logout return url is not set at the
                 // application level is enabled, then the validation should return false when the configured Return Url
                 // is set to .*. This will set the logout return url to default logout url after this method execution.
-                if (Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_FALLBACK_TO_DEFAULT_LOGOUT_URL_CONFIG))
+                if (FALLBACK_TO_DEFAULT_LOGOUT_URL.get()
                         && CONFIGURED_RETURN_URL.equals(configuredReturnUrl)) {
                     log.debug("The configured return url is set to .*. Logout return url validation will be failed " +
                             "to fallback to default logout url.");
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.handler.AbstractIdentityHandler;
 import org.wso2.carbon.identity.core.handler.InitConfig;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
@@ -231,7 +232,7 @@ public abstract class IdentityProcessor extends AbstractIdentityHandler {
 
         AuthenticationRequestCacheEntry authRequest = new AuthenticationRequestCacheEntry(authenticationRequest);
         String sessionDataKey = UUID.randomUUID().toString();
-        authRequest.setValidityPeriod(TimeUnit.MINUTES.toNanos(IdentityUtil.getOperationCleanUpTimeout()));
+        authRequest.setValidityPeriod(IdentityConfigSnapshot.OPERATION_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS));
         FrameworkUtils.addAuthenticationRequestToCache(sessionDataKey, authRequest);
 
         InboundUtil.addContextToCache(sessionDataKey, context);
@@ -281,7 +282,7 @@ public abstract class IdentityProcessor extends AbstractIdentityHandler {
 
         AuthenticationRequestCacheEntry authRequest = new AuthenticationRequestCacheEntry(authenticationRequest);
         String sessionDataKey = UUID.randomUUID().toString();
-        authRequest.setValidityPeriod(TimeUnit.MINUTES.toNanos(IdentityUtil.getOperationCleanUpTimeout()));
+        authRequest.setValidityPeriod(IdentityConfigSnapshot.OPERATION_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS));
         FrameworkUtils.addAuthenticationRequestToCache(sessionDataKey, authRequest);
 
         InboundUtil.addContextToCache(sessionDataKey, context);
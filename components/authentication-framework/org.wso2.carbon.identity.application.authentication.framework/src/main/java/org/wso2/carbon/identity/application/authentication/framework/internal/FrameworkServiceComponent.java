@@ -52,6 +52,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -88,6 +89,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -151,6 +153,9 @@ public class FrameworkServiceComponent {
     private static final String LONGWAITSTATUS_SERVLET_URL = "/longwaitstatus";
     private static final Log log = LogFactory.getLog(FrameworkServiceComponent.class);
     private static final String API_AUTH = "APIAuth";
+    private static final String SESSION_SERIALIZER_TYPE_PROPERTY =
+            "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+    private static final String COMPACT_SESSION_SERIALIZER_TYPE = "compact";
 
     private HttpService httpService;
     private ConsentMgtPostAuthnHandler consentMgtPostAuthnHandler = new ConsentMgtPostAuthnHandler();
@@ -361,7 +366,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -437,6 +442,7 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        JsGraalGraphBuilderFactory.closeSharedEngine();
     }
 
     @Reference(
@@ -579,7 +585,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -587,6 +593,21 @@ public class FrameworkServiceComponent {
 
     }
 
+    /**
+     * Get the built-in session serializer selected by the
+     * "JDBCPersistenceManager.SessionDataPersist.Serializer.Type" configuration.
+     *
+     * @return Compact session serializer if configured, Java session serializer otherwise.
+     */
+    private SessionSerializer getDefaultSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(SESSION_SERIALIZER_TYPE_PROPERTY);
+        if (COMPACT_SESSION_SERIALIZER_TYPE.equalsIgnoreCase(StringUtils.trim(serializerType))) {
+            return new CompactSessionSerializer();
+        }
+        return new JavaSessionSerializer();
+    }
+
     protected void unsetAuthenticator(ApplicationAuthenticator authenticator) {
 
         ApplicationAuthenticatorManager.getInstance().removeSystemDefinedAuthenticator(authenticator);
@@ -98,7 +98,8 @@ public class SessionExtenderProcessor extends IdentityProcessor {
 
         long currentTime = System.currentTimeMillis();
         FrameworkUtils.updateSessionLastAccessTimeMetadata(sessionKey, currentTime);
-        FrameworkUtils.addSessionContextToCache(sessionKey, sessionContext, tenantDomain, tenantDomain);
+        // The session context is not modified here. Hence, only the accessed time of the session is persisted.
+        FrameworkUtils.touchSessionContextInCache(sessionKey, sessionContext, tenantDomain, tenantDomain);
 
         String traceId = FrameworkUtils.getCorrelation();
         fireEvent(sessionKey, sessionContext, tenantDomain, traceId);
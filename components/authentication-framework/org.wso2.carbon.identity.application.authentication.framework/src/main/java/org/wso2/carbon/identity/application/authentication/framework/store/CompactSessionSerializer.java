@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationErrorCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationRequestCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationResultCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedSequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedStepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.OptimizedSessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionAuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationRequest;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationResult;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedIdPData;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact implementation of the Session Serializer.
+ * <p>
+ * The session object graph is written with Java serialization, but the class descriptors of the frequently
+ * persisted session classes are replaced with a short class ID from a static class table. Payloads larger than the
+ * configured threshold are deflate compressed. Every serialized object starts with a version header, so the
+ * objects written by the {@link JavaSessionSerializer} can still be read.
+ * <p>
+ * The class table is append only. Changing the position of an existing class makes the already persisted sessions
+ * unreadable. Each class in the table is pinned to the fingerprint of the serializable fields it had when it was
+ * added, and the fingerprint is written next to the class ID. A class whose field layout no longer matches its pin is
+ * written with its full class descriptor instead, so that the nodes still running the old layout during a rolling
+ * upgrade can read it. A class ID whose fingerprint does not match the local field layout is rejected on read, so
+ * the session is treated as missing instead of being read with the wrong layout. Never update a pin of an existing
+ * class.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    private static final Log log = LogFactory.getLog(CompactSessionSerializer.class);
+
+    private static final String COMPRESSION_THRESHOLD_PROPERTY =
+            "JDBCPersistenceManager.SessionDataPersist.Serializer.CompressionThreshold";
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    static final byte MAGIC_0 = (byte) 0x57;
+    static final byte MAGIC_1 = (byte) 0x53;
+    static final byte FORMAT_VERSION = 1;
+    static final byte FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_LENGTH = 4;
+
+    private static final byte KNOWN_CLASS = 0;
+    private static final byte UNKNOWN_CLASS = 1;
+
+    private static final List<KnownClass> CLASS_TABLE = Collections.unmodifiableList(Arrays.asList(
+            new KnownClass(SessionContextCacheEntry.class, 202975691),
+            new KnownClass(SessionContext.class, -1585267395),
+            new KnownClass(OptimizedSessionContext.class, -1906904524),
+            new KnownClass(AuthenticationContextCacheEntry.class, 2129305333),
+            new KnownClass(AuthenticationResultCacheEntry.class, 2091343721),
+            new KnownClass(AuthenticationRequestCacheEntry.class, 467523627),
+            new KnownClass(AuthenticationErrorCacheEntry.class, -2086168750),
+            new KnownClass(AuthenticatedUser.class, -699807631),
+            new KnownClass(AuthenticatedIdPData.class, 85872164),
+            new KnownClass(OptimizedAuthenticatedIdPData.class, -611320482),
+            new KnownClass(AuthHistory.class, -663807126),
+            new KnownClass(SessionAuthHistory.class, 2088609247),
+            new KnownClass(OptimizedApplicationConfig.class, 1049959167),
+            new KnownClass(OptimizedSequenceConfig.class, 306514031),
+            new KnownClass(OptimizedStepConfig.class, -1430518501),
+            new KnownClass(OptimizedAuthenticatorConfig.class, -1978805510),
+            new KnownClass(AuthenticationRequest.class, -1263342699),
+            new KnownClass(AuthenticationResult.class, -114338167),
+            new KnownClass(HashMap.class, -1712424461),
+            new KnownClass(LinkedHashMap.class, 1980285872),
+            new KnownClass(ConcurrentHashMap.class, -766452399),
+            new KnownClass(ArrayList.class, 70947786),
+            new KnownClass(HashSet.class, 0),
+            new KnownClass(LinkedHashSet.class, 0)
+    ));
+    private static final Map<Class<?>, Integer> CLASS_IDS = getCompactClassIds(CLASS_TABLE);
+
+    private final int compressionThreshold;
+    private final JavaSessionSerializer javaSessionSerializer = new JavaSessionSerializer();
+
+    public CompactSessionSerializer() {
+
+        this(readCompressionThreshold());
+    }
+
+    /**
+     * @param compressionThreshold Payload size in bytes above which the payload is compressed. A negative value
+     *                             disables compression.
+     */
+    public CompactSessionSerializer(int compressionThreshold) {
+
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        SessionDataOutputStream buffer = new SessionDataOutputStream(INITIAL_BUFFER_SIZE);
+        try {
+            writeHeader(buffer, (byte) 0);
+            try (ObjectOutputStream oos = new CompactObjectOutputStream(buffer)) {
+                oos.writeObject(value);
+            }
+            int payloadLength = buffer.size() - HEADER_LENGTH;
+            if (compressionThreshold < 0 || payloadLength <= compressionThreshold) {
+                return buffer.toInputStream();
+            }
+            SessionDataOutputStream compressedBuffer = new SessionDataOutputStream(payloadLength / 2);
+            writeHeader(compressedBuffer, FLAG_COMPRESSED);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream dos = new DeflaterOutputStream(compressedBuffer, deflater)) {
+                buffer.writeTo(dos, HEADER_LENGTH);
+            } finally {
+                deflater.end();
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Compressed session object of type: " + value.getClass().getName() + " from " +
+                        payloadLength + " bytes to " + (compressedBuffer.size() - HEADER_LENGTH) + " bytes.");
+            }
+            return compressedBuffer.toInputStream();
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        InputStream markableStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        try {
+            markableStream.mark(HEADER_LENGTH);
+            int first = markableStream.read();
+            int second = markableStream.read();
+            if (first != (MAGIC_0 & 0xFF) || second != (MAGIC_1 & 0xFF)) {
+                // Not written by this serializer. Fall back to plain Java serialization.
+                markableStream.reset();
+                return javaSessionSerializer.deSerializeSessionObject(markableStream);
+            }
+            int version = markableStream.read();
+            int flags = markableStream.read();
+            if (version != FORMAT_VERSION || flags < 0) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version, null);
+            }
+            InputStream payloadStream = markableStream;
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                payloadStream = new InflaterInputStream(markableStream);
+            }
+            try (ObjectInputStream ois = new CompactObjectInputStream(payloadStream)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    private static void writeHeader(OutputStream outputStream, byte flags) throws IOException {
+
+        outputStream.write(MAGIC_0);
+        outputStream.write(MAGIC_1);
+        outputStream.write(FORMAT_VERSION);
+        outputStream.write(flags);
+    }
+
+    /**
+     * Get the IDs of the classes in the given class table which can be written with a class ID. A class whose
+     * current field layout does not match its pinned fingerprint is left out, so that it is written with its full
+     * class descriptor.
+     *
+     * @param classTable Class table.
+     * @return Class IDs keyed by the class.
+     */
+    static Map<Class<?>, Integer> getCompactClassIds(List<KnownClass> classTable) {
+
+        Map<Class<?>, Integer> classIds = new IdentityHashMap<>();
+        for (int i = 0; i < classTable.size(); i++) {
+            KnownClass knownClass = classTable.get(i);
+            if (getFieldFingerprint(ObjectStreamClass.lookup(knownClass.type)) == knownClass.fieldFingerprint) {
+                classIds.put(knownClass.type, i);
+            } else {
+                log.warn("Serializable fields of " + knownClass.type.getName() + " do not match the layout pinned " +
+                        "in the session class table. The class will be persisted with its full class descriptor.");
+            }
+        }
+        return Collections.unmodifiableMap(classIds);
+    }
+
+    /**
+     * Get a fingerprint of the names and type codes of the serializable fields of a class.
+     *
+     * @param desc Class descriptor.
+     * @return Field fingerprint.
+     */
+    static int getFieldFingerprint(ObjectStreamClass desc) {
+
+        List<String> fieldSignatures = new ArrayList<>();
+        for (ObjectStreamField field : desc.getFields()) {
+            fieldSignatures.add(field.getTypeCode() + field.getName());
+        }
+        Collections.sort(fieldSignatures);
+        return String.join(",", fieldSignatures).hashCode();
+    }
+
+    private static int readCompressionThreshold() {
+
+        String compressionThreshold = IdentityUtil.getProperty(COMPRESSION_THRESHOLD_PROPERTY);
+        if (StringUtils.isNotBlank(compressionThreshold)) {
+            try {
+                return Integer.parseInt(compressionThreshold.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + compressionThreshold + " configured for " +
+                        COMPRESSION_THRESHOLD_PROPERTY + ". Default value: " + DEFAULT_COMPRESSION_THRESHOLD +
+                        " would be used.");
+            }
+        }
+        return DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    /**
+     * Object output stream which writes a class ID instead of the full class descriptor for the known classes.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream outputStream) throws IOException {
+
+            super(outputStream);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            Integer classId = CLASS_IDS.get(desc.forClass());
+            if (classId == null) {
+                writeByte(UNKNOWN_CLASS);
+                super.writeClassDescriptor(desc);
+                return;
+            }
+            writeByte(KNOWN_CLASS);
+            writeShort(classId);
+            // Written to detect incompatible class changes across versions.
+            writeLong(desc.getSerialVersionUID());
+            writeInt(CLASS_TABLE.get(classId).fieldFingerprint);
+        }
+    }
+
+    /**
+     * Object input stream which resolves the class IDs written by the {@link CompactObjectOutputStream}.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream inputStream) throws IOException {
+
+            super(inputStream);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            byte type = readByte();
+            if (type == UNKNOWN_CLASS) {
+                return super.readClassDescriptor();
+            }
+            if (type != KNOWN_CLASS) {
+                throw new InvalidClassException("Unknown class descriptor type: " + type);
+            }
+            int classId = readUnsignedShort();
+            long serialVersionUID = readLong();
+            int fieldFingerprint = readInt();
+            if (classId >= CLASS_TABLE.size()) {
+                throw new InvalidClassException("Unknown class ID: " + classId);
+            }
+            Class<?> knownClass = CLASS_TABLE.get(classId).type;
+            ObjectStreamClass desc = ObjectStreamClass.lookup(knownClass);
+            if (desc == null || desc.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(knownClass.getName(),
+                        "Incompatible serialVersionUID of the persisted session object");
+            }
+            if (getFieldFingerprint(desc) != fieldFingerprint) {
+                // The field layout of the writer is not known here, so the object cannot be read safely.
+                throw new InvalidClassException(knownClass.getName(),
+                        "Incompatible serializable fields of the persisted session object");
+            }
+            return desc;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            Class<?> localClass = desc.forClass();
+            if (localClass != null && CLASS_IDS.containsKey(localClass)) {
+                return localClass;
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    /**
+     * Class in the class table, with the fingerprint of the serializable fields it had when it was added.
+     */
+    static final class KnownClass {
+
+        private final Class<?> type;
+        private final int fieldFingerprint;
+
+        KnownClass(Class<?> type, int fieldFingerprint) {
+
+            this.type = type;
+            this.fieldFingerprint = fieldFingerprint;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -52,14 +53,6 @@ public class PushedAuthDataStore {
     private static final String SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL =
             "DELETE FROM IDN_OAUTH_PAR WHERE REQ_URI_REF IN " +
                     "(SELECT REQ_URI_REF FROM IDN_OAUTH_PAR WHERE SCHEDULED_EXPIRY < ? FETCH FIRST %d ROWS ONLY)";
-    private static final String MYSQL_DATABASE = "MySQL";
-    private static final String MARIA_DATABASE = "MariaDB";
-    private static final String H2_DATABASE = "H2";
-    private static final String DB2_DATABASE = "DB2";
-    private static final String MS_SQL_DATABASE = "MS SQL";
-    private static final String MICROSOFT_DATABASE = "Microsoft";
-    private static final String POSTGRESQL_DATABASE = "PostgreSQL";
-    private static final String INFORMIX_DATABASE = "Informix";
     private static final int DEFAULT_DELETE_LIMIT = 50000;
     private static final int EXPIRATION_GRACE_PERIOD_IN_MINUTES = 10;
     private static final int DELETE_CHUNK_SIZE = DEFAULT_DELETE_LIMIT;
@@ -115,21 +108,26 @@ public class PushedAuthDataStore {
         try {
             connection = IdentityDatabaseUtil.getDBConnection(true);
             String nonFormattedQuery;
-            String driverName = connection.getMetaData().getDriverName();
-            if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                    || driverName.contains(H2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MYSQL;
-            } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL;
-            } else if (driverName.contains(MS_SQL_DATABASE)
-                    || driverName.contains(MICROSOFT_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MSSQL;
-            } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL;
-            } else if (driverName.contains(INFORMIX_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL;
-            } else {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_ORACLE;
+            switch (SqlDialectRegistry.getInstance().getDialect(connection)) {
+                case MYSQL:
+                case MARIADB:
+                case H2:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MYSQL;
+                    break;
+                case DB2:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL;
+                    break;
+                case MSSQL:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MSSQL;
+                    break;
+                case POSTGRESQL:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL;
+                    break;
+                case INFORMIX:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL;
+                    break;
+                default:
+                    nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_ORACLE;
             }
             IdentityDatabaseUtil.commitTransaction(connection);
             return String.format(nonFormattedQuery, DELETE_CHUNK_SIZE);
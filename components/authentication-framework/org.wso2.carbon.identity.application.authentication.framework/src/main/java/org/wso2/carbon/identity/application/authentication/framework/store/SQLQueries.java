@@ -63,6 +63,18 @@ public class SQLQueries {
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
 
+    /**
+     * Queries to retrieve the terminated session IDs ordered by the session ID, from the first one or after a given
+     * session ID. The number of returned rows is limited with the max rows of the statement.
+     */
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_ORDERED =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? ORDER BY SESSION_ID";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_AFTER =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID";
+
     /**
      * Query to retrieve user session mapping.
      */
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Session object which is already serialized with the configured session serializer. The serialized bytes are written
+ * to the session data store as they are, hence the session object is not serialized again when it is stored.
+ */
+public class SerializedSessionData {
+
+    private final byte[] data;
+    private final long validityPeriod;
+
+    SerializedSessionData(byte[] data, long validityPeriod) {
+
+        this.data = data;
+        this.validityPeriod = validityPeriod;
+    }
+
+    /**
+     * Get a digest over the serialized bytes of the session object.
+     *
+     * @param algorithm Digest algorithm.
+     * @return Digest of the serialized bytes.
+     * @throws NoSuchAlgorithmException If the digest algorithm is not available.
+     */
+    public byte[] getContentDigest(String algorithm) throws NoSuchAlgorithmException {
+
+        return MessageDigest.getInstance(algorithm).digest(data);
+    }
+
+    byte[] getData() {
+
+        return data;
+    }
+
+    long getValidityPeriod() {
+
+        return validityPeriod;
+    }
+}
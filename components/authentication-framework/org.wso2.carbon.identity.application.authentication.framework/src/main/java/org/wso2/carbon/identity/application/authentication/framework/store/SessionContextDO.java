@@ -33,6 +33,10 @@ public class SessionContextDO {
 
     private int tenantId;
 
+    private boolean touch;
+
+    private long validityPeriod;
+
     public SessionContextDO(String key, String type, Object entry, long nanoTime) {
         this.type = type;
         this.key = key;
@@ -48,6 +52,26 @@ public class SessionContextDO {
         this.tenantId = tenantId;
     }
 
+    /**
+     * Create a TOUCH operation, which only refreshes the accessed time of the stored session data without rewriting
+     * the session object.
+     *
+     * @param key            Session data key.
+     * @param type           Session data type.
+     * @param nanoTime       Accessed time in nano seconds.
+     * @param validityPeriod Validity period of the session data in nano seconds.
+     * @param tenantId       Tenant id.
+     * @return TOUCH operation.
+     */
+    public static SessionContextDO createTouchOperation(String key, String type, long nanoTime, long validityPeriod,
+                                                        int tenantId) {
+
+        SessionContextDO sessionContextDO = new SessionContextDO(key, type, null, nanoTime, tenantId);
+        sessionContextDO.touch = true;
+        sessionContextDO.validityPeriod = validityPeriod;
+        return sessionContextDO;
+    }
+
     public String getKey() {
         return key;
     }
@@ -87,4 +111,18 @@ public class SessionContextDO {
     public void setTenantId(int tenantId) {
         this.tenantId = tenantId;
     }
+
+    /**
+     * Check whether this is a TOUCH operation. A TOUCH operation does not carry an entry, but it must not be treated
+     * as a DELETE operation.
+     *
+     * @return True if this is a TOUCH operation.
+     */
+    public boolean isTouch() {
+        return touch;
+    }
+
+    public long getValidityPeriod() {
+        return validityPeriod;
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task to persist and remove session data in batches.
+ * Drains up to a configured number of operations (or waits up to a configured time) from the session context queue,
+ * coalesces the operations targeting the same SESSION_ID and SESSION_TYPE so that only the latest one is written, and
+ * hands the result over to the {@link SessionDataStore} to be written in a single transaction.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long maxWaitTimeNanos;
+    private static volatile boolean running;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long maxWaitTimeMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.maxWaitTimeNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitTimeMillis);
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        List<SessionContextDO> drainedOperations = new ArrayList<>(batchSize);
+        while (running) {
+
+            try {
+                drainedOperations.add(sessionContextQueue.take());
+                drainBatch(drainedOperations);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.debug("Session Context batch persist consumer is interrupted. Persisting the drained " +
+                        drainedOperations.size() + " operations and stopping the consumer.");
+                persistBatch(drainedOperations);
+                return;
+            }
+            persistBatch(drainedOperations);
+        }
+    }
+
+    private void persistBatch(List<SessionContextDO> drainedOperations) {
+
+        if (drainedOperations.isEmpty()) {
+            return;
+        }
+        try {
+            List<SessionContextDO> coalescedOperations = coalesce(drainedOperations);
+            if (log.isDebugEnabled()) {
+                log.debug("Session Data batch persisting Task is started to run. Drained operations: " +
+                        drainedOperations.size() + ", coalesced operations: " + coalescedOperations.size());
+            }
+            SessionDataStore.getInstance().persistSessionDataBatch(coalescedOperations);
+        } finally {
+            drainedOperations.clear();
+        }
+    }
+
+    /**
+     * Fill the given list until either the batch size is reached or the max wait time is elapsed.
+     *
+     * @param drainedOperations List holding the operations drained so far.
+     * @throws InterruptedException If interrupted while waiting for more operations.
+     */
+    private void drainBatch(List<SessionContextDO> drainedOperations) throws InterruptedException {
+
+        long deadline = System.nanoTime() + maxWaitTimeNanos;
+        while (drainedOperations.size() < batchSize) {
+            sessionContextQueue.drainTo(drainedOperations, batchSize - drainedOperations.size());
+            if (drainedOperations.size() >= batchSize) {
+                return;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            SessionContextDO sessionContextDO = sessionContextQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (sessionContextDO == null) {
+                return;
+            }
+            drainedOperations.add(sessionContextDO);
+        }
+    }
+
+    /**
+     * Keep only the latest operation for each SESSION_ID and SESSION_TYPE pair. Since the session store resolves the
+     * state of a session from the latest operation, the earlier operations do not need to be written. A TOUCH
+     * operation does not carry the session object, hence a STORE operation followed by a TOUCH operation is written
+     * as a STORE operation with the time of the TOUCH operation.
+     *
+     * @param operations Drained operations.
+     * @return Latest operation per session, ordered by the operation time.
+     */
+    static List<SessionContextDO> coalesce(List<SessionContextDO> operations) {
+
+        Map<Map.Entry<String, String>, SessionContextDO> latestOperations = new HashMap<>(operations.size());
+        for (SessionContextDO operation : operations) {
+            Map.Entry<String, String> sessionKey =
+                    new AbstractMap.SimpleImmutableEntry<>(operation.getKey(), operation.getType());
+            SessionContextDO existingOperation = latestOperations.get(sessionKey);
+            if (existingOperation == null) {
+                latestOperations.put(sessionKey, operation);
+            } else if (existingOperation.getNanoTime() <= operation.getNanoTime()) {
+                latestOperations.put(sessionKey, merge(existingOperation, operation));
+            } else {
+                latestOperations.put(sessionKey, merge(operation, existingOperation));
+            }
+        }
+        List<SessionContextDO> coalescedOperations = new ArrayList<>(latestOperations.values());
+        coalescedOperations.sort(Comparator.comparingLong(SessionContextDO::getNanoTime));
+        return coalescedOperations;
+    }
+
+    private static SessionContextDO merge(SessionContextDO earlierOperation, SessionContextDO laterOperation) {
+
+        if (!laterOperation.isTouch() || earlierOperation.isTouch()) {
+            return laterOperation;
+        }
+        if (earlierOperation.getEntry() == null) {
+            // A TOUCH operation does not bring back a deleted session.
+            return earlierOperation;
+        }
+        return new SessionContextDO(earlierOperation.getKey(), earlierOperation.getType(),
+                earlierOperation.getEntry(), laterOperation.getNanoTime(), earlierOperation.getTenantId());
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+}
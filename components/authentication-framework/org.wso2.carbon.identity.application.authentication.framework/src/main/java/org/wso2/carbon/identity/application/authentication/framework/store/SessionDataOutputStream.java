@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Byte array output stream used by the session serializers, which hands over its internal buffer instead of copying
+ * it.
+ */
+class SessionDataOutputStream extends ByteArrayOutputStream {
+
+    SessionDataOutputStream(int size) {
+
+        super(size);
+    }
+
+    /**
+     * Get an input stream over the written bytes, backed by the internal buffer.
+     *
+     * @return Input stream over the written bytes.
+     */
+    InputStream toInputStream() {
+
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    /**
+     * Write the bytes written to this stream, starting from the given offset, to the given output stream.
+     *
+     * @param outputStream Output stream to write to.
+     * @param offset       Number of leading bytes to skip.
+     * @throws IOException If an error occurs while writing.
+     */
+    void writeTo(OutputStream outputStream, int offset) throws IOException {
+
+        outputStream.write(buf, offset, count - offset);
+    }
+}
@@ -47,7 +47,12 @@ public class SessionDataPersistTask implements Runnable {
             try {
                 SessionContextDO sessionContextDO = sessionContextQueue.take();
                 if (sessionContextDO != null) {
-                    if (sessionContextDO.getEntry() == null) {
+                    if (sessionContextDO.isTouch()) {
+                        log.debug("Session Data touching Task is started to run");
+                        SessionDataStore.getInstance().persistSessionDataTouch(sessionContextDO.getKey(),
+                                sessionContextDO.getType(), sessionContextDO.getNanoTime(),
+                                sessionContextDO.getValidityPeriod(), sessionContextDO.getTenantId());
+                    } else if (sessionContextDO.getEntry() == null) {
                         log.debug("Session Data removing Task is started to run");
                         SessionDataStore.getInstance().removeSessionData(
                                 sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
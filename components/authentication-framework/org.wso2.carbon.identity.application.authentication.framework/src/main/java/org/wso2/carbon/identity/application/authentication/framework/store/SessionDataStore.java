@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
@@ -30,11 +31,17 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.cache.CacheEntry;
 import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.JdbcUtils;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
@@ -42,6 +49,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -54,18 +66,28 @@ import java.util.concurrent.TimeUnit;
  * And these events are stored with unique sessionId, operation type and operation initiated timestamp.
  * Expired DELETE operations and related STORE operations will be deleted by a OperationCleanUpService task.
  * All expired operations will be deleted by SessionCleanUpService task.
+ * When TOUCH operations are enabled and only the accessed time of a session changes, a TOUCH operation is stored
+ * instead of a STORE operation. A TOUCH operation does not carry the session object. The session object is read from
+ * the latest STORE operation, while the accessed time is resolved from the latest operation.
  */
 public class SessionDataStore {
     private static final Log log = LogFactory.getLog(SessionDataStore.class);
 
     private static final String OPERATION_DELETE = "DELETE";
     private static final String OPERATION_STORE = "STORE";
+    private static final String OPERATION_TOUCH = "TOUCH";
     private static final String SQL_INSERT_STORE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, SESSION_OBJECT, TIME_CREATED, " +
                     "EXPIRY_TIME, TENANT_ID) VALUES (?,?,?,?,?,?,?)";
     private static final String SQL_INSERT_DELETE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE,OPERATION, TIME_CREATED, EXPIRY_TIME) " +
                     "VALUES (?,?,?,?,?)";
+    private static final String SQL_INSERT_TOUCH_OPERATION =
+            "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME, " +
+                    "TENANT_ID) VALUES (?,?,?,?,?,?)";
+    private static final String SQL_EXTEND_STORE_OPERATION_EXPIRY =
+            "UPDATE IDN_AUTH_SESSION_STORE SET EXPIRY_TIME = ? WHERE SESSION_ID = ? AND SESSION_TYPE = ? AND " +
+                    "OPERATION = '" + OPERATION_STORE + "' AND EXPIRY_TIME < ?";
     private static final String SQL_DELETE_STORE_OPERATIONS_TASK =
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_STORE +
                     "' AND EXISTS (" +
@@ -91,78 +113,47 @@ public class SessionDataStore {
     private static final String SQL_DELETE_TEMP_RECORDS =
             "DELETE FROM IDN_AUTH_TEMP_SESSION_STORE WHERE SESSION_ID = ? AND  SESSION_TYPE = ?";
 
-    private static final String SQL_DESERIALIZE_OBJECT_MYSQL =
+    private static final String SQL_DESERIALIZE_OBJECT =
             "SELECT OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_DESERIALIZE_OBJECT_DB2SQL =
-            "SELECT OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC FETCH FIRST 1 ROWS ONLY";
-    private static final String SQL_DESERIALIZE_OBJECT_MSSQL =
-            "SELECT TOP 1 OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
                     " SESSION_TYPE=? ORDER BY TIME_CREATED DESC";
-    private static final String SQL_DESERIALIZE_OBJECT_POSTGRESQL =
-            "SELECT OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_DESERIALIZE_OBJECT_INFORMIX =
-            "SELECT FIRST 1 OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE " +
-                    "WHERE SESSION_ID =? AND " +
-                    "SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_DESERIALIZE_OBJECT_ORACLE =
-            "SELECT * FROM (SELECT OPERATION, SESSION_OBJECT, TIME_CREATED " +
-                    "FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND " +
-                    "SESSION_TYPE=? ORDER BY TIME_CREATED DESC) WHERE ROWNUM < 2";
-
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MYSQL =
-            "SELECT OPERATION FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_DB2SQL =
+    private static final Map<Dialect, String> SQL_DESERIALIZE_OBJECT_STATEMENTS =
+            SqlDialectRegistry.renderStatements(dialect -> dialect.applyLimit(SQL_DESERIALIZE_OBJECT, 1));
+
+    private static final String SQL_DESERIALIZE_STORED_OBJECT =
+            "SELECT OPERATION, SESSION_OBJECT FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND SESSION_TYPE=? AND " +
+                    "OPERATION IN ('" + OPERATION_STORE + "', '" + OPERATION_DELETE + "') ORDER BY TIME_CREATED DESC";
+    private static final Map<Dialect, String> SQL_DESERIALIZE_STORED_OBJECT_STATEMENTS =
+            SqlDialectRegistry.renderStatements(dialect -> dialect.applyLimit(SQL_DESERIALIZE_STORED_OBJECT, 1));
+
+    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION =
             "SELECT OPERATION FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC FETCH FIRST 1 ROWS ONLY";
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MSSQL =
-            "SELECT TOP 1 OPERATION FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
                     " SESSION_TYPE=? ORDER BY TIME_CREATED DESC";
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_POSTGRESQL =
-            "SELECT OPERATION FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
-                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_INFORMIX =
-            "SELECT FIRST 1 OPERATION FROM IDN_AUTH_SESSION_STORE " +
-                    "WHERE SESSION_ID =? AND " +
-                    "SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
-    private static final String SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_ORACLE =
-            "SELECT * FROM (SELECT OPERATION " +
-                    "FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND " +
-                    "SESSION_TYPE=? ORDER BY TIME_CREATED DESC) WHERE ROWNUM < 2";
-
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_MYSQL =
-            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? LIMIT %d";
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_MSSQL =
-            "DELETE TOP (%d) FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ?";
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL = "DELETE FROM IDN_AUTH_SESSION_STORE WHERE " +
-            "CTID IN (SELECT CTID FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? LIMIT %d)";
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_ORACLE = "DELETE FROM IDN_AUTH_SESSION_STORE WHERE ROWID" +
-            " IN (SELECT ROWID FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? AND ROWNUM <= %d)";
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL = "DELETE FROM (SELECT SESSION_ID, " +
-            "SESSION_TYPE, OPERATION, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? LIMIT %d) ";
-    private static final String SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL =
-            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED) IN " +
-                    "(SELECT SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE " +
-                    "EXPIRY_TIME < ? FETCH FIRST %d ROWS ONLY)";
-    private static final String MYSQL_DATABASE = "MySQL";
-    private static final String MARIA_DATABASE = "MariaDB";
-    private static final String H2_DATABASE = "H2";
-    private static final String DB2_DATABASE = "DB2";
-    private static final String MS_SQL_DATABASE = "MS SQL";
-    private static final String MICROSOFT_DATABASE = "Microsoft";
-    private static final String POSTGRESQL_DATABASE = "PostgreSQL";
-    private static final String INFORMIX_DATABASE = "Informix";
+    private static final Map<Dialect, String> SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_STATEMENTS =
+            SqlDialectRegistry.renderStatements(dialect -> dialect.applyLimit(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION,
+                    1));
+
+    private static final Map<Dialect, String> SQL_DELETE_STORE_OPERATIONS_TASK_STATEMENTS =
+            SqlDialectRegistry.renderStatements(dialect -> dialect == Dialect.MYSQL || dialect == Dialect.MARIADB ?
+                    SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL : SQL_DELETE_STORE_OPERATIONS_TASK);
+
+    private static final String SQL_DELETE_EXPIRED_DATA_CONDITION = "EXPIRY_TIME < ?";
+    private static final List<String> SESSION_STORE_KEY_COLUMNS =
+            Arrays.asList("SESSION_ID", "SESSION_TYPE", "OPERATION", "TIME_CREATED");
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_BATCH_PERSIST_SIZE = 100;
+    private static final long DEFAULT_BATCH_PERSIST_MAX_WAIT_TIME = 50L;
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
-    private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
+    private static int sessionDataQueueCapacity = Integer.MAX_VALUE;
+    private static QueueOverflowPolicy queueOverflowPolicy = QueueOverflowPolicy.CALLER_RUNS;
+    private static boolean batchPersistEnabled = false;
+    private static int batchPersistSize = DEFAULT_BATCH_PERSIST_SIZE;
+    private static long batchPersistMaxWaitTime = DEFAULT_BATCH_PERSIST_MAX_WAIT_TIME;
+    private static BlockingDeque<SessionContextDO> sessionContextQueue;
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
@@ -173,7 +164,7 @@ public class SessionDataStore {
     private String sqlDeleteDELETETask;
     private String sqlSelect;
     private String sqlDeleteExpiredDataTask;
-    private String sqlGetLastOperation;
+    private final Map<Dialect, String> sqlDeleteExpiredDataTaskStatements;
     private int deleteChunkSize = DEFAULT_DELETE_LIMIT;
     private boolean sessionDataCleanupEnabled = true;
     private boolean operationDataCleanupEnabled = false;
@@ -181,6 +172,7 @@ public class SessionDataStore {
     private static boolean periodicTempDataCleanupEnabled = true;
     private static boolean sessionAndTempDataSeparationEnabled = false;
     private static boolean checkExistingEntryForDeleteOperationInsert = false;
+    private static boolean touchOperationEnabled = false;
 
     static {
         try {
@@ -216,17 +208,63 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            String queueCapacityValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueCapacity");
+            if (StringUtils.isNotBlank(queueCapacityValue) && Integer.parseInt(queueCapacityValue) > 0) {
+                sessionDataQueueCapacity = Integer.parseInt(queueCapacityValue);
+            }
+
+            String queueOverflowPolicyValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueOverflowPolicy");
+            if (StringUtils.isNotBlank(queueOverflowPolicyValue)) {
+                try {
+                    queueOverflowPolicy = QueueOverflowPolicy.valueOf(queueOverflowPolicyValue.trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    log.warn("Invalid session data queue overflow policy: " + queueOverflowPolicyValue + ". Default " +
+                            "policy: " + queueOverflowPolicy + " would be used.");
+                }
+            }
+
+            batchPersistEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Enable"));
+
+            String batchPersistSizeValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size");
+            if (StringUtils.isNotBlank(batchPersistSizeValue) && Integer.parseInt(batchPersistSizeValue) > 0) {
+                batchPersistSize = Integer.parseInt(batchPersistSizeValue);
+            }
+
+            String batchPersistMaxWaitTimeValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.MaxWaitTime");
+            if (StringUtils.isNotBlank(batchPersistMaxWaitTimeValue) &&
+                    Long.parseLong(batchPersistMaxWaitTimeValue) >= 0) {
+                batchPersistMaxWaitTime = Long.parseLong(batchPersistMaxWaitTimeValue);
+            }
+
+            touchOperationEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Touch.Enable"));
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
+        sessionContextQueue = new LinkedBlockingDeque<>(sessionDataQueueCapacity);
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
+            if (batchPersistEnabled) {
+                log.info("Session data batch persistence is enabled with batch size : " + batchPersistSize +
+                        " and max wait time : " + batchPersistMaxWaitTime + "ms");
+            }
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                if (batchPersistEnabled) {
+                    threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, batchPersistSize,
+                            batchPersistMaxWaitTime));
+                } else {
+                    threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                }
             }
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
@@ -295,6 +333,9 @@ public class SessionDataStore {
         if (StringUtils.isNotBlank(deleteExpiredDataTaskSQL)) {
             sqlDeleteExpiredDataTask = String.format(deleteExpiredDataTaskSQL, deleteChunkSize);
         }
+        sqlDeleteExpiredDataTaskStatements = SqlDialectRegistry.renderStatements(dialect ->
+                dialect.getBatchDeleteStatement(DEFAULT_SESSION_STORE_TABLE_NAME, SESSION_STORE_KEY_COLUMNS,
+                        SQL_DELETE_EXPIRED_DATA_CONDITION, deleteChunkSize));
 
         if (!enablePersist) {
             log.info("Session Data Persistence of Authentication framework is not enabled.");
@@ -351,6 +392,21 @@ public class SessionDataStore {
 
     public SessionContextDO getSessionContextData(String key, String type) {
 
+        return getSessionContextData(key, type, Long.MIN_VALUE);
+    }
+
+    /**
+     * Get the session data, if it was accessed at or after the given time. The latest operation gives the accessed
+     * time. If it is a STORE operation, it also holds the session object. Otherwise, the session object is read from
+     * the latest STORE operation, only if the session is not expired or deleted.
+     *
+     * @param key                 Session data key.
+     * @param type                Session data type.
+     * @param minAccessedNanoTime Session data accessed before this time is considered as expired.
+     * @return Session data with the last accessed time as the nano time, or null if there is no valid session data.
+     */
+    public SessionContextDO getSessionContextData(String key, String type, long minAccessedNanoTime) {
+
         if (log.isDebugEnabled()) {
             log.debug("Getting SessionContextData from DB. key : " + key + " type : " + type);
         }
@@ -367,35 +423,37 @@ public class SessionDataStore {
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
         try {
-            if (StringUtils.isBlank(sqlSelect)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                        || driverName.contains(H2_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_MYSQL;
-                } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_DB2SQL;
-                } else if (driverName.contains(MS_SQL_DATABASE)
-                        || driverName.contains(MICROSOFT_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_MSSQL;
-                } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_POSTGRESQL;
-                } else if (driverName.contains(INFORMIX_DATABASE)) {
-                    // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_INFORMIX;
-                } else {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_ORACLE;
-                }
+            String sqlSelectQuery = sqlSelect;
+            if (StringUtils.isBlank(sqlSelectQuery)) {
+                sqlSelectQuery = SQL_DESERIALIZE_OBJECT_STATEMENTS.get(getSessionDialect(connection));
             }
-            preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlSelect, type));
+            preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlSelectQuery, type));
             preparedStatement.setString(1, key);
             preparedStatement.setString(2, type);
             resultSet = preparedStatement.executeQuery();
-            if (resultSet.next()) {
-                String operation = resultSet.getString(1);
-                long nanoTime = resultSet.getLong(3);
-                if (StringUtils.equalsIgnoreCase(OPERATION_STORE, operation)) {
-                    return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
+            if (!resultSet.next()) {
+                return null;
+            }
+            String operation = resultSet.getString(1);
+            long nanoTime = resultSet.getLong(3);
+            boolean isStored = StringUtils.equalsIgnoreCase(OPERATION_STORE, operation);
+            if (!isStored && !StringUtils.equalsIgnoreCase(OPERATION_TOUCH, operation)) {
+                return null;
+            }
+            if (nanoTime < minAccessedNanoTime) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Session data of key : " + key + " type : " + type + " was last accessed at : " +
+                            nanoTime + ". Skipped reading the expired session object.");
                 }
+                return null;
+            }
+            if (isStored) {
+                return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
+            }
+            // The session object of a touched session is held by an earlier STORE operation.
+            Object entry = getStoredSessionObject(connection, key, type);
+            if (entry != null) {
+                return new SessionContextDO(key, type, entry, nanoTime);
             }
         } catch (ClassNotFoundException | IOException | SQLException | SessionSerializerException |
                 IdentityApplicationManagementException e) {
@@ -408,6 +466,33 @@ public class SessionDataStore {
         return null;
     }
 
+    /**
+     * Get the session object of the latest STORE operation, unless the session is deleted after it was stored.
+     *
+     * @return Session object, or null if the session data is not stored or deleted.
+     */
+    private Object getStoredSessionObject(Connection connection, String key, String type)
+            throws SQLException, IOException, ClassNotFoundException, SessionSerializerException,
+            IdentityApplicationManagementException {
+
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        try {
+            preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(
+                    SQL_DESERIALIZE_STORED_OBJECT_STATEMENTS.get(getSessionDialect(connection)), type));
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, type);
+            resultSet = preparedStatement.executeQuery();
+            if (resultSet.next() && StringUtils.equalsIgnoreCase(OPERATION_STORE, resultSet.getString(1))) {
+                return getBlobObject(resultSet.getBinaryStream(2));
+            }
+            return null;
+        } finally {
+            IdentityDatabaseUtil.closeResultSet(resultSet);
+            IdentityDatabaseUtil.closeStatement(preparedStatement);
+        }
+    }
+
     /**
      * Validate last operation performed on the session data with given key and type.
      *
@@ -431,9 +516,8 @@ public class SessionDataStore {
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
         try {
-            if (StringUtils.isBlank(sqlGetLastOperation)) {
-                sqlGetLastOperation = getSqlGetLastOperation(connection);
-            }
+            String sqlGetLastOperation = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_STATEMENTS.get(
+                    getSessionDialect(connection));
             preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlGetLastOperation, type));
             preparedStatement.setString(1, key);
             preparedStatement.setString(2, type);
@@ -454,27 +538,20 @@ public class SessionDataStore {
         return false;
     }
 
-    private String getSqlGetLastOperation(Connection connection) throws SQLException {
-
-        String sqlGetLastOperationQuery;
-        String driverName = connection.getMetaData().getDriverName();
-        if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                || driverName.contains(H2_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MYSQL;
-        } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_DB2SQL;
-        } else if (driverName.contains(MS_SQL_DATABASE)
-                || driverName.contains(MICROSOFT_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MSSQL;
-        } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_POSTGRESQL;
-        } else if (driverName.contains(INFORMIX_DATABASE)) {
-            // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_INFORMIX;
-        } else {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_ORACLE;
-        }
-        return sqlGetLastOperationQuery;
+    private Dialect getSessionDialect(Connection connection) throws SQLException {
+
+        return toSessionDialect(SqlDialectRegistry.getInstance().getDialect(JdbcUtils.Database.SESSION, connection));
+    }
+
+    /**
+     * Unrecognised databases fall back to the Oracle statements of the session data store.
+     *
+     * @param dialect Dialect resolved by the registry.
+     * @return Dialect of the session data store statements.
+     */
+    private static Dialect toSessionDialect(Dialect dialect) {
+
+        return dialect == Dialect.UNKNOWN ? Dialect.ORACLE : dialect;
     }
 
     public void storeSessionData(String key, String type, Object entry) {
@@ -488,24 +565,141 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+            enqueueSessionData(new SessionContextDO(key, type, entry, nanoTime, tenantId));
         } else {
             persistSessionData(key, type, entry, nanoTime, tenantId);
         }
     }
 
+    /**
+     * Serialize a session object with the configured session serializer. The returned session data can be passed to
+     * {@link #storeSessionData(String, String, Object, int)} in place of the session object, so that the session
+     * object is serialized only once when the serialized bytes are needed before it is stored.
+     *
+     * @param entry Session object.
+     * @return Serialized session data.
+     * @throws SessionSerializerException If an error occurs while serializing the session object.
+     * @throws IOException                If an error occurs while reading the serialized bytes.
+     */
+    public SerializedSessionData serializeSessionData(Object entry) throws SessionSerializerException, IOException {
+
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        try (InputStream inputStream = FrameworkServiceDataHolder.getInstance().getSessionSerializer()
+                .serializeSessionObject(entry)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(inputStream.available(), 32));
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new SerializedSessionData(outputStream.toByteArray(), validityPeriodNano);
+        }
+    }
+
+    /**
+     * Check whether TOUCH operations are enabled. Nodes which do not read TOUCH operations treat a touched session
+     * as missing, hence this should be enabled only after every node of the cluster supports TOUCH operations.
+     *
+     * @return True if TOUCH operations are enabled.
+     */
+    public static boolean isTouchOperationEnabled() {
+
+        return touchOperationEnabled;
+    }
+
+    /**
+     * Refresh the accessed time of the stored session data without serializing and writing the session object again.
+     * This should be used only when the session object is not modified since it was stored, and only when
+     * {@link #isTouchOperationEnabled()} is true.
+     *
+     * @param key                Session data key.
+     * @param type               Session data type.
+     * @param validityPeriodNano Validity period of the session data in nano seconds.
+     * @param tenantId           Tenant id.
+     */
+    public void touchSessionData(String key, String type, long validityPeriodNano, int tenantId) {
+
+        if (!enablePersist) {
+            return;
+        }
+        long nanoTime = FrameworkUtils.getCurrentStandardNano();
+        if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
+            enqueueSessionData(SessionContextDO.createTouchOperation(key, type, nanoTime, validityPeriodNano,
+                    tenantId));
+        } else {
+            persistSessionDataTouch(key, type, nanoTime, validityPeriodNano, tenantId);
+        }
+    }
+
     public void clearSessionData(String key, String type) {
         if (!enablePersist) {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+            enqueueSessionData(new SessionContextDO(key, type, null, nanoTime));
         } else {
             removeSessionData(key, type, nanoTime);
         }
     }
 
+    /**
+     * Add the given operation to the session data persistence queue. If the queue is full, the configured
+     * {@link QueueOverflowPolicy} is applied. DELETE operations are never discarded, since losing them would keep a
+     * terminated session alive in the store.
+     *
+     * @param sessionContextDO Session data operation.
+     */
+    private void enqueueSessionData(SessionContextDO sessionContextDO) {
+
+        if (sessionContextQueue.offerFirst(sessionContextDO)) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Session data persistence queue is full. Applying the overflow policy: " + queueOverflowPolicy +
+                    " for key : " + sessionContextDO.getKey() + " type : " + sessionContextDO.getType());
+        }
+        switch (queueOverflowPolicy) {
+            case BLOCK:
+                try {
+                    sessionContextQueue.putFirst(sessionContextDO);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while waiting for space in the session data persistence queue. " +
+                            "Persisting the session data in the caller thread.");
+                }
+                break;
+            case DISCARD:
+                if (sessionContextDO.getEntry() != null || sessionContextDO.isTouch()) {
+                    log.warn("Session data persistence queue is full. Discarding the STORE operation for type : " +
+                            sessionContextDO.getType());
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        writeSessionData(sessionContextDO);
+    }
+
+    private void writeSessionData(SessionContextDO sessionContextDO) {
+
+        if (sessionContextDO.isTouch()) {
+            persistSessionDataTouch(sessionContextDO.getKey(), sessionContextDO.getType(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getValidityPeriod(),
+                    sessionContextDO.getTenantId());
+        } else if (sessionContextDO.getEntry() == null) {
+            removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
+        } else {
+            persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+        }
+    }
+
     /**
      * Method to stop running tasks, when the component is deactivated.
      */
@@ -513,6 +707,7 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
     }
 
     /**
@@ -524,33 +719,11 @@ public class SessionDataStore {
      */
     private String getDBSpecificSessionDataRemovalQuery() throws IdentityApplicationManagementException {
 
-        Connection connection = null;
         try {
-            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
-            String nonFormattedQuery;
-            String driverName = connection.getMetaData().getDriverName();
-            if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                    || driverName.contains(H2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MYSQL;
-            } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL;
-            } else if (driverName.contains(MS_SQL_DATABASE)
-                    || driverName.contains(MICROSOFT_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MSSQL;
-            } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL;
-            } else if (driverName.contains(INFORMIX_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL;
-            } else {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_ORACLE;
-            }
-            IdentityDatabaseUtil.commitTransaction(connection);
-            return String.format(nonFormattedQuery, deleteChunkSize);
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
+            return sqlDeleteExpiredDataTaskStatements.get(
+                    toSessionDialect(SqlDialectRegistry.getInstance().getDialect(JdbcUtils.Database.SESSION)));
+        } catch (DataAccessException e) {
             throw new IdentityApplicationManagementException("Error while retrieving DB connection meta-data", e);
-        } finally {
-            IdentityDatabaseUtil.closeAllConnections(connection, null, null);
         }
     }
 
@@ -592,18 +765,19 @@ public class SessionDataStore {
      */
     public void removeExpiredSessionData() {
 
-        if (StringUtils.isBlank(sqlDeleteExpiredDataTask)) {
+        String deleteExpiredDataQuery = sqlDeleteExpiredDataTask;
+        if (StringUtils.isBlank(deleteExpiredDataQuery)) {
             try {
-                sqlDeleteExpiredDataTask = getDBSpecificSessionDataRemovalQuery();
+                deleteExpiredDataQuery = getDBSpecificSessionDataRemovalQuery();
             } catch (IdentityApplicationManagementException e) {
                 log.error("Error when initializing the db specific cleanup query.", e);
             }
         }
         if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            removeExpiredSessionData(deleteExpiredDataQuery);
         }
         if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+            removeExpiredSessionData(replaceTableName(deleteExpiredDataQuery));
         }
         if (operationDataCleanupEnabled) {
             removeInvalidatedSTOREOperations();
@@ -631,27 +805,11 @@ public class SessionDataStore {
             return;
         }
 
-        long validityPeriodNano = 0L;
-
-        if (entry instanceof CacheEntry) {
-            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
-        }
-
-        if (validityPeriodNano == 0L) {
-            validityPeriodNano = getCleanupTimeout(type, tenantId);
-        }
-
         PreparedStatement preparedStatement = null;
         try {
             String sqlQuery = getSessionStoreDBQuery(sqlInsertSTORE, type);
             preparedStatement = connection.prepareStatement(sqlQuery);
-            preparedStatement.setString(1, key);
-            preparedStatement.setString(2, type);
-            preparedStatement.setString(3, OPERATION_STORE);
-            setBlobObject(preparedStatement, entry, 4);
-            preparedStatement.setLong(5, nanoTime);
-            preparedStatement.setLong(6, nanoTime + validityPeriodNano);
-            preparedStatement.setInt(7, tenantId);
+            setStoreOperationParameters(preparedStatement, key, type, entry, nanoTime, tenantId);
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException | IOException | SessionSerializerException e) {
@@ -666,6 +824,68 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Store a TOUCH operation for the session data and extend the expiry time of the STORE operations holding the
+     * session object, so that the session object is not cleaned up while the session is being accessed.
+     *
+     * @param key                Session data key.
+     * @param type               Session data type.
+     * @param nanoTime           Accessed time in nano seconds.
+     * @param validityPeriodNano Validity period of the session data in nano seconds.
+     * @param tenantId           Tenant id.
+     */
+    public void persistSessionDataTouch(String key, String type, long nanoTime, long validityPeriodNano,
+                                        int tenantId) {
+
+        if (!enablePersist) {
+            return;
+        }
+        Connection connection = null;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(type, tenantId);
+        }
+        long expiryTime = nanoTime + validityPeriodNano;
+        PreparedStatement extendExpiryStatement = null;
+        PreparedStatement touchStatement = null;
+        try {
+            // A TOUCH operation of a deleted session is ignored when reading, hence the session is not looked up here.
+            extendExpiryStatement =
+                    connection.prepareStatement(getSessionStoreDBQuery(SQL_EXTEND_STORE_OPERATION_EXPIRY, type));
+            extendExpiryStatement.setLong(1, expiryTime);
+            extendExpiryStatement.setString(2, key);
+            extendExpiryStatement.setString(3, type);
+            extendExpiryStatement.setLong(4, expiryTime);
+            extendExpiryStatement.executeUpdate();
+
+            touchStatement = connection.prepareStatement(getSessionStoreDBQuery(SQL_INSERT_TOUCH_OPERATION, type));
+            touchStatement.setString(1, key);
+            touchStatement.setString(2, type);
+            touchStatement.setString(3, OPERATION_TOUCH);
+            touchStatement.setLong(4, nanoTime);
+            touchStatement.setLong(5, expiryTime);
+            touchStatement.setInt(6, tenantId);
+            touchStatement.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while storing TOUCH operation session data", e);
+        } finally {
+            IdentityDatabaseUtil.closeStatement(extendExpiryStatement);
+            IdentityDatabaseUtil.closeStatement(touchStatement);
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Touched SessionContextData in DB. key : " + key + " type : " + type);
+        }
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
@@ -688,15 +908,9 @@ public class SessionDataStore {
             return;
         }
         PreparedStatement preparedStatement = null;
-
-        long timeoutNano = nanoTime + getCleanupTimeout(type, MultitenantConstants.INVALID_TENANT_ID);
         try {
             preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlInsertDELETE, type));
-            preparedStatement.setString(1, key);
-            preparedStatement.setString(2, type);
-            preparedStatement.setString(3, OPERATION_DELETE);
-            preparedStatement.setLong(4, nanoTime);
-            preparedStatement.setLong(5, timeoutNano);
+            setDeleteOperationParameters(preparedStatement, key, type, nanoTime);
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (Exception e) {
@@ -711,6 +925,137 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Writes the given STORE and DELETE operations using JDBC batches over a single connection and commits them in a
+     * single transaction. If the batch fails, the operations are written one by one so that a single failing
+     * operation does not drop the rest of the batch. TOUCH operations are written one by one after the batch.
+     *
+     * @param sessionContextDOs Session data operations. Operations with a null entry, which are not TOUCH
+     *                          operations, are considered as DELETE operations.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+        List<SessionContextDO> batchableOperations = new ArrayList<>(sessionContextDOs.size());
+        List<SessionContextDO> touchOperations = new ArrayList<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            if (sessionContextDO.isTouch()) {
+                // TOUCH operations extend the expiry of the STORE operations, hence written after the batch.
+                touchOperations.add(sessionContextDO);
+            } else if (sessionContextDO.getEntry() == null && checkExistingEntryForDeleteOperationInsert) {
+                // These DELETE operations need per session handling.
+                writeSessionData(sessionContextDO);
+            } else {
+                batchableOperations.add(sessionContextDO);
+            }
+        }
+        if (!batchableOperations.isEmpty()) {
+            persistSessionDataOperations(batchableOperations);
+        }
+        for (SessionContextDO touchOperation : touchOperations) {
+            writeSessionData(touchOperation);
+        }
+    }
+
+    private void persistSessionDataOperations(List<SessionContextDO> batchableOperations) {
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+        try {
+            for (SessionContextDO sessionContextDO : batchableOperations) {
+                String key = sessionContextDO.getKey();
+                String type = sessionContextDO.getType();
+                if (sessionContextDO.getEntry() == null) {
+                    PreparedStatement preparedStatement = getBatchStatement(connection, preparedStatements,
+                            getSessionStoreDBQuery(sqlInsertDELETE, type));
+                    setDeleteOperationParameters(preparedStatement, key, type, sessionContextDO.getNanoTime());
+                    preparedStatement.addBatch();
+                } else {
+                    PreparedStatement preparedStatement = getBatchStatement(connection, preparedStatements,
+                            getSessionStoreDBQuery(sqlInsertSTORE, type));
+                    setStoreOperationParameters(preparedStatement, key, type, sessionContextDO.getEntry(),
+                            sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+                    preparedStatement.addBatch();
+                }
+            }
+            for (PreparedStatement preparedStatement : preparedStatements.values()) {
+                preparedStatement.executeBatch();
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted a batch of " + batchableOperations.size() + " session data operations to DB.");
+            }
+            return;
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while storing a batch of " + batchableOperations.size() + " session data operations. " +
+                    "Retrying the operations individually.", e);
+        } finally {
+            for (PreparedStatement preparedStatement : preparedStatements.values()) {
+                IdentityDatabaseUtil.closeStatement(preparedStatement);
+            }
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        for (SessionContextDO sessionContextDO : batchableOperations) {
+            writeSessionData(sessionContextDO);
+        }
+    }
+
+    private PreparedStatement getBatchStatement(Connection connection, Map<String, PreparedStatement> statements,
+                                                String sqlQuery) throws SQLException {
+
+        PreparedStatement preparedStatement = statements.get(sqlQuery);
+        if (preparedStatement == null) {
+            preparedStatement = connection.prepareStatement(sqlQuery);
+            statements.put(sqlQuery, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
+    private void setStoreOperationParameters(PreparedStatement preparedStatement, String key, String type,
+                                             Object entry, long nanoTime, int tenantId)
+            throws SQLException, IOException, SessionSerializerException {
+
+        long validityPeriodNano = 0L;
+
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        } else if (entry instanceof SerializedSessionData) {
+            validityPeriodNano = ((SerializedSessionData) entry).getValidityPeriod();
+        }
+
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(type, tenantId);
+        }
+
+        preparedStatement.setString(1, key);
+        preparedStatement.setString(2, type);
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, entry, 4);
+        preparedStatement.setLong(5, nanoTime);
+        preparedStatement.setLong(6, nanoTime + validityPeriodNano);
+        preparedStatement.setInt(7, tenantId);
+    }
+
+    private void setDeleteOperationParameters(PreparedStatement preparedStatement, String key, String type,
+                                              long nanoTime) throws SQLException {
+
+        long timeoutNano = nanoTime + getCleanupTimeout(type, MultitenantConstants.INVALID_TENANT_ID);
+        preparedStatement.setString(1, key);
+        preparedStatement.setString(2, type);
+        preparedStatement.setString(3, OPERATION_DELETE);
+        preparedStatement.setLong(4, nanoTime);
+        preparedStatement.setLong(5, timeoutNano);
+    }
+
     /**
      * Removes temporary authn context data from the table if temporary data cleanup is enabled.
      *
@@ -751,7 +1096,10 @@ public class SessionDataStore {
 
     private void setBlobObject(PreparedStatement prepStmt, Object value, int index)
             throws SQLException, IOException, SessionSerializerException {
-        if (value != null) {
+        if (value instanceof SerializedSessionData) {
+            byte[] data = ((SerializedSessionData) value).getData();
+            prepStmt.setBinaryStream(index, new ByteArrayInputStream(data), data.length);
+        } else if (value != null) {
             InputStream inputStream = FrameworkServiceDataHolder.getInstance().
                     getSessionSerializer().serializeSessionObject(value);
             prepStmt.setBinaryStream(index, inputStream, inputStream.available());
@@ -794,15 +1142,11 @@ public class SessionDataStore {
         }
 
         try {
-            if (StringUtils.isBlank(sqlDeleteSTORETask)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)) {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL;
-                } else {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK;
-                }
+            String deleteSTORETaskQuery = sqlDeleteSTORETask;
+            if (StringUtils.isBlank(deleteSTORETaskQuery)) {
+                deleteSTORETaskQuery = SQL_DELETE_STORE_OPERATIONS_TASK_STATEMENTS.get(getSessionDialect(connection));
             }
-            statement = connection.prepareStatement(sqlDeleteSTORETask);
+            statement = connection.prepareStatement(deleteSTORETaskQuery);
             statement.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
             return;
@@ -840,14 +1184,33 @@ public class SessionDataStore {
         return query;
     }
 
+    /**
+     * Policies applied when the bounded session data persistence queue is full.
+     */
+    public enum QueueOverflowPolicy {
+
+        /**
+         * Wait until space becomes available in the queue.
+         */
+        BLOCK,
+        /**
+         * Persist the operation synchronously in the caller thread.
+         */
+        CALLER_RUNS,
+        /**
+         * Discard STORE operations. DELETE operations are persisted synchronously in the caller thread.
+         */
+        DISCARD
+    }
+
     private long getCleanupTimeout(String type, int tenantId) {
         if (isTempCache(type)) {
-            return TimeUnit.MINUTES.toNanos(IdentityUtil.getTempDataCleanUpTimeout());
+            return IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS);
         } else if (tenantId != MultitenantConstants.INVALID_TENANT_ID) {
             String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
             return TimeUnit.SECONDS.toNanos(IdPManagementUtil.getRememberMeTimeout(tenantDomain));
         } else {
-            return TimeUnit.MINUTES.toNanos(IdentityUtil.getCleanUpTimeout());
+            return IdentityConfigSnapshot.CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS);
         }
     }
 
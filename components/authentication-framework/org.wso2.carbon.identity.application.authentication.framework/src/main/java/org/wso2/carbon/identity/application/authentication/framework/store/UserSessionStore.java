@@ -60,11 +60,20 @@ public class UserSessionStore {
     private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
     private static final String DELETE_CHUNK_SIZE_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
             ".UserSessionMapping.DeleteChunkSize";
+    private static final String MAX_DELETE_RATE_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.MaxDeleteRate";
     private static final String IDN_AUTH_USER_SESSION_MAPPING_TABLE = "IDN_AUTH_USER_SESSION_MAPPING";
     private static final String IDN_AUTH_SESSION_APP_INFO_TABLE = "IDN_AUTH_SESSION_APP_INFO_TABLE";
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
 
     private int deleteChunkSize = 10000;
+    // Maximum number of rows deleted per second by the expired session cleanup. Not limited if not positive.
+    private int maxDeleteRate = -1;
+
+    // Expiry cutoff and the last removed session ID of a cleanup pass which did not complete.
+    private boolean expiredSessionCleanupPending;
+    private long expiredSessionCleanupCutoff;
+    private String expiredSessionCleanupCheckpoint;
 
     private UserSessionStore() {
 
@@ -72,6 +81,10 @@ public class UserSessionStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        String maxDeleteRateString = IdentityUtil.getProperty(MAX_DELETE_RATE_PROPERTY);
+        if (StringUtils.isNotBlank(maxDeleteRateString)) {
+            maxDeleteRate = Integer.parseInt(maxDeleteRateString.trim());
+        }
     }
 
     public static UserSessionStore getInstance() {
@@ -427,40 +440,101 @@ public class UserSessionStore {
 
     /**
      * Removes all the expired session records from relevant tables.
+     * The expired session IDs are read in chunks ordered by the session ID, so that only one chunk is held in the
+     * memory, and the records of each chunk are removed in a separate transaction. If the cleanup stops before all the
+     * chunks are removed, the next run resumes after the last removed session ID with the same expiry cutoff.
      */
-    public void removeExpiredSessionRecords() {
+    public synchronized void removeExpiredSessionRecords() {
 
         if (log.isDebugEnabled()) {
             log.debug("Removing information of expired and deleted sessions.");
         }
 
-        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
-            String[] sessionsToRemove = new String[terminatedAuthSessionIds.size()];
-            terminatedAuthSessionIds.toArray(sessionsToRemove);
-
-            if (!terminatedAuthSessionIds.isEmpty()) {
+        long startTime = System.currentTimeMillis();
+        if (!expiredSessionCleanupPending) {
+            expiredSessionCleanupCutoff = FrameworkUtils.getCurrentStandardNano();
+            expiredSessionCleanupCheckpoint = null;
+        } else if (log.isDebugEnabled()) {
+            log.debug("Resuming the expired session cleanup after the session: " + expiredSessionCleanupCheckpoint);
+        }
 
-                if (log.isDebugEnabled()) {
-                    log.debug(terminatedAuthSessionIds.size() + " number of sessions should be removed from the " +
-                            "database. Removing in " + deleteChunkSize + " size batches.");
+        boolean completed = false;
+        long deletedRows = 0;
+        long throttleStartTime = System.nanoTime();
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            while (true) {
+                List<String> terminatedSessionIds = getSessionsTerminated(connection, expiredSessionCleanupCutoff,
+                        expiredSessionCleanupCheckpoint);
+                if (terminatedSessionIds.isEmpty()) {
+                    completed = true;
+                    break;
                 }
-
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
-
-                IdentityDatabaseUtil.commitTransaction(connection);
-            } else {
+                String[] sessionsToRemove = terminatedSessionIds.toArray(new String[0]);
+                long chunkDeletedRows;
+                try {
+                    chunkDeletedRows = deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_USER_SESSION_MAPPING_TABLE, SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
+                    chunkDeletedRows += deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_SESSION_APP_INFO_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
+                    chunkDeletedRows += deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_SESSION_META_DATA_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    throw e;
+                }
+                expiredSessionCleanupCheckpoint = sessionsToRemove[sessionsToRemove.length - 1];
+                deletedRows += chunkDeletedRows;
                 if (log.isDebugEnabled()) {
-                    log.debug("No expired sessions found to remove.");
+                    log.debug("Removed the records of " + sessionsToRemove.length + " expired sessions. Deleted " +
+                            chunkDeletedRows + " rows.");
+                }
+                if (sessionsToRemove.length < deleteChunkSize) {
+                    completed = true;
+                    break;
+                }
+                if (!throttleExpiredSessionCleanup(deletedRows, throttleStartTime)) {
+                    break;
                 }
             }
         } catch (SQLException e) {
-            log.error("Error while removing expired session information from the database.", e);
+            log.error("Error while removing expired session information from the database. The cleanup will be " +
+                    "resumed in the next run.", e);
+        } finally {
+            expiredSessionCleanupPending = !completed;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + deletedRows + " rows of expired sessions in " +
+                    (System.currentTimeMillis() - startTime) + " ms. Cleanup completed: " + completed);
+        }
+    }
+
+    /**
+     * Wait until the deleted rows are within the configured delete rate.
+     *
+     * @param deletedRows Number of rows deleted in this run.
+     * @param startTime   Start time of the run in nanoseconds.
+     * @return False if interrupted while waiting.
+     */
+    private boolean throttleExpiredSessionCleanup(long deletedRows, long startTime) {
+
+        if (maxDeleteRate <= 0) {
+            return true;
+        }
+        long minElapsedNanos = TimeUnit.SECONDS.toNanos(deletedRows) / maxDeleteRate;
+        long waitNanos = minElapsedNanos - (System.nanoTime() - startTime);
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while throttling the expired session cleanup. The cleanup will be resumed in the " +
+                    "next run.");
+            return false;
         }
     }
 
@@ -495,9 +569,10 @@ public class UserSessionStore {
         }
     }
 
-    private Set<String> getSessionsTerminated(Connection connection) throws SQLException {
+    private List<String> getSessionsTerminated(Connection connection, long expiryTime, String lastSessionId)
+            throws SQLException {
 
-        Set<String> terminatedSessionIds = new HashSet<>();
+        List<String> terminatedSessionIds = new ArrayList<>();
 
         /**
          * Retrieve only sessions which have an expiry time less than the current time.
@@ -507,9 +582,15 @@ public class UserSessionStore {
          * execution, and there after every time the loop will be executed and the table will be scanned for a non
          * existing entry.
          */
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQLQueries
-                .SQL_SELECT_TERMINATED_SESSION_IDS)) {
-            preparedStatement.setLong(1, FrameworkUtils.getCurrentStandardNano());
+        String query = lastSessionId == null ? SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_ORDERED :
+                SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_AFTER;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setMaxRows(deleteChunkSize);
+            preparedStatement.setFetchSize(deleteChunkSize);
+            preparedStatement.setLong(1, expiryTime);
+            if (lastSessionId != null) {
+                preparedStatement.setString(2, lastSessionId);
+            }
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     terminatedSessionIds.add(resultSet.getString(1));
@@ -527,11 +608,13 @@ public class UserSessionStore {
      * @param connection       db connection
      * @param tableName        table name from which the records are removed
      * @param deleteQuery      delete query for the relevant table
+     * @return number of deleted records, if reported by the driver
      * @throws SQLException if the DB execution fails
      */
-    private void deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
+    private long deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
                                             String deleteQuery) throws SQLException {
 
+        long deletedRecords = 0;
         int totalSessionsToRemove = sessionsToRemove.length;
         int iterations = (totalSessionsToRemove / deleteChunkSize) + 1;
         int startCount = 0;
@@ -548,7 +631,11 @@ public class UserSessionStore {
                     preparedStatementForDelete.setString(1, sessionsToRemove[j]);
                     preparedStatementForDelete.addBatch();
                 }
-                preparedStatementForDelete.executeBatch();
+                for (int updateCount : preparedStatementForDelete.executeBatch()) {
+                    if (updateCount > 0) {
+                        deletedRecords += updateCount;
+                    }
+                }
 
                 if (log.isDebugEnabled()) {
                     log.debug("Removed  " + (endCount - startCount) + " records from " + tableName + ".");
@@ -560,6 +647,7 @@ public class UserSessionStore {
         if (log.isDebugEnabled()) {
             log.debug("Removed total " + totalSessionsToRemove + " records from " + tableName + ".");
         }
+        return deletedRecords;
     }
 
     /**
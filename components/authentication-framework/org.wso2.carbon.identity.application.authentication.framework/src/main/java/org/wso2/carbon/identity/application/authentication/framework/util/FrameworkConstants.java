@@ -693,6 +693,14 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE
+                = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_MAX_SIZE
+                = "AdaptiveAuth.GraalJS.SourceCache.MaxSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_MAX_SIZE = 1000;
+        public static final String GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE
+                = "AdaptiveAuth.GraalJS.CodeSourceCache.MaxSize";
+        public static final int DEFAULT_GRAALJS_CODE_SOURCE_CACHE_MAX_SIZE = 1000;
     }
 
     /**
@@ -130,6 +130,7 @@ import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.model.CookieBuilder;
 import org.wso2.carbon.identity.core.model.IdentityCookieConfig;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -247,6 +248,20 @@ public class FrameworkUtils {
     private static final String ALREADY_WRITTEN_PROPERTY = "AlreadyWritten";
 
     private static final String CONTINUE_ON_CLAIM_HANDLING_ERROR = "ContinueOnClaimHandlingError";
+    private static final IdentityConfigSnapshot.BooleanProperty CONTINUE_ON_CLAIM_HANDLING_ERROR_ALLOWED =
+            IdentityConfigSnapshot.booleanProperty(CONTINUE_ON_CLAIM_HANDLING_ERROR, true);
+    private static final IdentityConfigSnapshot.BooleanProperty CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION =
+            IdentityConfigSnapshot.booleanProperty(ENABLE_CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION, false);
+    private static final IdentityConfigSnapshot.BooleanProperty ORG_WISE_MULTI_ATTRIBUTE_SEPARATOR =
+            IdentityConfigSnapshot.booleanProperty(ORG_WISE_MULTI_ATTRIBUTE_SEPARATOR_ENABLED, false);
+    private static final IdentityConfigSnapshot.BooleanProperty PUBLISH_ACTIVE_SESSION_COUNT =
+            IdentityConfigSnapshot.booleanProperty(FrameworkConstants.Config.PUBLISH_ACTIVE_SESSION_COUNT, false);
+    private static final IdentityConfigSnapshot.BooleanProperty USER_SESSION_MAPPING =
+            IdentityConfigSnapshot.booleanProperty(USER_SESSION_MAPPING_ENABLED, false);
+    private static final IdentityConfigSnapshot.BooleanProperty SKIP_LOCAL_USER_SEARCH =
+            IdentityConfigSnapshot.booleanProperty(SKIP_LOCAL_USER_SEARCH_FOR_AUTHENTICATION_FLOW_HANDLERS, false);
+    private static final IdentityConfigSnapshot.BooleanProperty AUTHENTICATION_CONTEXT_EXPIRY =
+            IdentityConfigSnapshot.booleanProperty(AUTHENTICATION_CONTEXT_EXPIRY_VALIDATION, false);
     public static final String CORRELATION_ID_MDC = "Correlation-ID";
 
     private static boolean isTenantIdColumnAvailableInFedAuthTable = false;
@@ -906,7 +921,7 @@ public class FrameworkUtils {
      */
     public static boolean isConfiguredIdpSubForFederatedUserAssociationEnabled() {
 
-        return Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION));
+        return CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION.get();
     }
 
     private static String getServiceProviderNameByReferer(HttpServletRequest request) {
@@ -1206,7 +1221,7 @@ public class FrameworkUtils {
 
         AuthenticationContextCacheKey cacheKey = new AuthenticationContextCacheKey(contextId);
         AuthenticationContextCacheEntry cacheEntry = new AuthenticationContextCacheEntry(context);
-        cacheEntry.setValidityPeriod(TimeUnit.MINUTES.toNanos(IdentityUtil.getTempDataCleanUpTimeout()));
+        cacheEntry.setValidityPeriod(IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS));
         AuthenticationContextCache.getInstance().addToCache(cacheKey, cacheEntry);
     }
 
@@ -1219,7 +1234,7 @@ public class FrameworkUtils {
         AuthenticationResultCacheKey cacheKey = new AuthenticationResultCacheKey(key);
         AuthenticationResultCacheEntry cacheEntry = new AuthenticationResultCacheEntry();
         cacheEntry.setResult(authenticationResult);
-        cacheEntry.setValidityPeriod(TimeUnit.MINUTES.toNanos(IdentityUtil.getTempDataCleanUpTimeout()));
+        cacheEntry.setValidityPeriod(IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS));
         AuthenticationResultCache.getInstance().addToCache(cacheKey, cacheEntry);
     }
 
@@ -1284,7 +1299,30 @@ public class FrameworkUtils {
     public static void addSessionContextToCache(String key, SessionContext sessionContext, String tenantDomain,
                                                 String loginTenantDomain) {
 
-        SessionContextCacheKey cacheKey = new SessionContextCacheKey(key);
+        SessionContextCache.getInstance().addToCache(new SessionContextCacheKey(key),
+                buildSessionContextCacheEntry(key, sessionContext, tenantDomain), loginTenantDomain);
+    }
+
+    /**
+     * Refresh the accessed time of a session context which is not modified since it was added to the cache. The
+     * session context is not written to the session data store again, hence this must not be used after modifying
+     * the session context.
+     *
+     * @param key               Session context key.
+     * @param sessionContext    Session context.
+     * @param tenantDomain      Tenant domain of the application.
+     * @param loginTenantDomain Login tenant domain.
+     */
+    public static void touchSessionContextInCache(String key, SessionContext sessionContext, String tenantDomain,
+                                                  String loginTenantDomain) {
+
+        SessionContextCache.getInstance().touchCacheEntry(new SessionContextCacheKey(key),
+                buildSessionContextCacheEntry(key, sessionContext, tenantDomain), loginTenantDomain);
+    }
+
+    private static SessionContextCacheEntry buildSessionContextCacheEntry(String key, SessionContext sessionContext,
+                                                                          String tenantDomain) {
+
         SessionContextCacheEntry cacheEntry = new SessionContextCacheEntry();
         cacheEntry.setContextIdentifier(key);
 
@@ -1317,7 +1355,7 @@ public class FrameworkUtils {
 
         cacheEntry.setContext(sessionContext);
         cacheEntry.setValidityPeriod(timeoutPeriod);
-        SessionContextCache.getInstance().addToCache(cacheKey, cacheEntry, loginTenantDomain);
+        return cacheEntry;
     }
 
     /**
@@ -2288,11 +2326,7 @@ public class FrameworkUtils {
             paramMap.put(FrameworkConstants.AnalyticsAttributes.USER, user);
             paramMap.put(FrameworkConstants.AnalyticsAttributes.SESSION_ID, sessionId);
 
-            String isPublishingSessionCountEnabledValue = IdentityUtil.getProperty(FrameworkConstants.Config
-                    .PUBLISH_ACTIVE_SESSION_COUNT);
-            boolean isPublishingSessionCountEnabled = Boolean.parseBoolean(isPublishingSessionCountEnabledValue);
-
-            if (isPublishingSessionCountEnabled) {
+            if (PUBLISH_ACTIVE_SESSION_COUNT.get()) {
                 paramMap.put(FrameworkConstants.AnalyticsAttributes.ACTIVE_SESSION_COUNT, getActiveSessionCount(user
                         .getTenantDomain()));
             }
@@ -2364,7 +2398,7 @@ public class FrameworkUtils {
     public static String getMultiAttributeSeparator() {
 
         String multiAttributeSeparator = null;
-        if (Boolean.parseBoolean(IdentityUtil.getProperty(ORG_WISE_MULTI_ATTRIBUTE_SEPARATOR_ENABLED))) {
+        if (ORG_WISE_MULTI_ATTRIBUTE_SEPARATOR.get()) {
             try {
                 Attribute configAttribute = FrameworkServiceDataHolder.getInstance().getConfigurationManager()
                         .getAttribute(ORG_WISE_MULTI_ATTRIBUTE_SEPARATOR_RESOURCE_TYPE,
@@ -3439,8 +3473,8 @@ public class FrameworkUtils {
      */
     public static boolean isUserSessionMappingEnabled() {
 
-        return Boolean.parseBoolean(IdentityUtil.getProperty(USER_SESSION_MAPPING_ENABLED)) && isTableExistsInSessionDB(
-                "IDN_AUTH_USER") && isTableExistsInSessionDB("IDN_AUTH_USER_SESSION_MAPPING");
+        return USER_SESSION_MAPPING.get() && isTableExistsInSessionDB("IDN_AUTH_USER") &&
+                isTableExistsInSessionDB("IDN_AUTH_USER_SESSION_MAPPING");
     }
 
     /**
@@ -3450,7 +3484,7 @@ public class FrameworkUtils {
      */
     public static boolean isSkipLocalUserSearchForAuthenticationFlowHandlersEnabled() {
 
-        return Boolean.parseBoolean(IdentityUtil.getProperty(SKIP_LOCAL_USER_SEARCH_FOR_AUTHENTICATION_FLOW_HANDLERS));
+        return SKIP_LOCAL_USER_SEARCH.get();
     }
 
     /**
@@ -4001,10 +4035,8 @@ public class FrameworkUtils {
      */
     public static boolean isContinueOnClaimHandlingErrorAllowed() {
 
-        String continueOnClaimHandlingErrorValue = IdentityUtil.getProperty(CONTINUE_ON_CLAIM_HANDLING_ERROR);
-
         // If config is empty or not a boolean value, the property must be set to the default value which is true.
-        return !Boolean.FALSE.toString().equalsIgnoreCase(continueOnClaimHandlingErrorValue);
+        return CONTINUE_ON_CLAIM_HANDLING_ERROR_ALLOWED.get();
     }
 
     /**
@@ -4295,7 +4327,7 @@ public class FrameworkUtils {
      */
     public static boolean isAuthenticationContextExpiryEnabled() {
 
-        return Boolean.parseBoolean(IdentityUtil.getProperty(AUTHENTICATION_CONTEXT_EXPIRY_VALIDATION));
+        return AUTHENTICATION_CONTEXT_EXPIRY.get();
     }
 
     /**
@@ -4446,6 +4478,48 @@ public class FrameworkUtils {
         return newObject;
     }
 
+    /**
+     * Create a copy of the input Identity Provider which shares the sub-objects with the input. Unlike
+     * {@link #createIdPClone(IdentityProvider)}, this does not serialize the Identity Provider, hence it can be used on
+     * the authentication path to change the top level properties of a cached Identity Provider.
+     *
+     * @param idP Identity Provider.
+     * @return Copy of the IDP.
+     * @throws FrameworkException If the IDP cannot be copied.
+     */
+    public static IdentityProvider createIdPSnapshot(IdentityProvider idP) throws FrameworkException {
+
+        try {
+            return ModelCopier.copy(idP);
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException("Error copying IDP object.", e);
+        }
+    }
+
+    /**
+     * Create a copy of the input Service Provider which shares the sub-objects with the input, except the local and
+     * outbound authentication config which is copied since the framework updates it. Unlike
+     * {@link #createSPClone(ServiceProvider)}, this does not serialize the Service Provider, hence it can be used on
+     * the authentication path to change a cached Service Provider.
+     *
+     * @param serviceProvider Service Provider.
+     * @return Copy of the application.
+     * @throws FrameworkException If the application cannot be copied.
+     */
+    public static ServiceProvider createSPSnapshot(ServiceProvider serviceProvider) throws FrameworkException {
+
+        try {
+            ServiceProvider copiedSP = ModelCopier.copy(serviceProvider);
+            if (copiedSP != null) {
+                copiedSP.setLocalAndOutBoundAuthenticationConfig(
+                        ModelCopier.copy(serviceProvider.getLocalAndOutBoundAuthenticationConfig()));
+            }
+            return copiedSP;
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException("Error copying application object.", e);
+        }
+    }
+
     /**
      * Get claim properties of a claim in a given tenant.
      *
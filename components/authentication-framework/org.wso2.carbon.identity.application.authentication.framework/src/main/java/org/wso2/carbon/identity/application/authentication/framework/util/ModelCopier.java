@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates structural copies of the configuration models such as the service provider and the identity provider.
+ * A copy has its own top level instance while sharing the referenced sub-objects with the original, hence it is a
+ * cheap alternative to the deep clone through serialization when only a few properties of the copy are changed.
+ * The shared sub-objects must be treated as read-only. Copy a sub-object as well before changing it.
+ */
+public final class ModelCopier {
+
+    private static final Map<Class<?>, CopyPlan> COPY_PLANS = new ConcurrentHashMap<>();
+
+    private ModelCopier() {
+
+    }
+
+    /**
+     * Create a copy of the given object which shares the referenced sub-objects with the given object.
+     *
+     * @param original Object to be copied. The class of the object should have a no-arg constructor.
+     * @param <T>      Type of the object.
+     * @return Copy of the object, or null if the given object is null.
+     * @throws ReflectiveOperationException If the object cannot be instantiated or the fields cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T original) throws ReflectiveOperationException {
+
+        if (original == null) {
+            return null;
+        }
+        CopyPlan copyPlan = COPY_PLANS.get(original.getClass());
+        if (copyPlan == null) {
+            copyPlan = COPY_PLANS.computeIfAbsent(original.getClass(), CopyPlan::new);
+        }
+        return (T) copyPlan.copy(original);
+    }
+
+    /**
+     * Resolved constructor and instance fields of a class, so that the reflective lookups are done only once for a
+     * class.
+     */
+    private static final class CopyPlan {
+
+        private final Class<?> type;
+        private final Field[] fields;
+        private volatile Constructor<?> constructor;
+
+        CopyPlan(Class<?> type) {
+
+            this.type = type;
+            List<Field> instanceFields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        instanceFields.add(field);
+                    }
+                }
+            }
+            this.fields = instanceFields.toArray(new Field[0]);
+        }
+
+        Object copy(Object original) throws ReflectiveOperationException {
+
+            Object copy = newInstance();
+            for (Field field : fields) {
+                field.set(copy, field.get(original));
+            }
+            return copy;
+        }
+
+        private Object newInstance() throws ReflectiveOperationException {
+
+            if (constructor == null) {
+                Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+                noArgConstructor.setAccessible(true);
+                constructor = noArgConstructor;
+            }
+            try {
+                return constructor.newInstance();
+            } catch (InvocationTargetException e) {
+                throw new InstantiationException("Error while instantiating " + type.getName() + ": " +
+                        e.getTargetException().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link JsGraalScriptSourceCache}.
+ */
+public class JsGraalScriptSourceCacheTest {
+
+    private static final String SCRIPT_1 = "var onLoginRequest = function(context) { executeStep(1); };";
+    private static final String SCRIPT_2 = "var onLoginRequest = function(context) { executeStep(2); };";
+
+    @Test
+    public void testSameScriptReturnsCachedSource() {
+
+        JsGraalScriptSourceCache sourceCache = new JsGraalScriptSourceCache(10, 10);
+        Source source = sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1);
+
+        assertSame(sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1), source);
+        assertEquals(source.getCharacters().toString(), SCRIPT_1);
+    }
+
+    @Test
+    public void testUpdatedScriptReturnsNewSource() {
+
+        JsGraalScriptSourceCache sourceCache = new JsGraalScriptSourceCache(10, 10);
+        Source source = sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1);
+        Source updatedSource = sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_2);
+
+        assertNotSame(updatedSource, source);
+        assertEquals(updatedSource.getCharacters().toString(), SCRIPT_2);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        JsGraalScriptSourceCache sourceCache = new JsGraalScriptSourceCache(2, 1);
+        sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1);
+        sourceCache.getScriptSource("carbon.super", "app2", SCRIPT_1);
+        sourceCache.getScriptSource("wso2.com", "app1", SCRIPT_1);
+        sourceCache.getCodeSource(SCRIPT_1);
+        sourceCache.getCodeSource(SCRIPT_2);
+
+        assertEquals(sourceCache.getScriptSourceCount(), 2);
+        assertEquals(sourceCache.getCodeSourceCount(), 1);
+        sourceCache.clear();
+        assertEquals(sourceCache.getScriptSourceCount(), 0);
+        assertEquals(sourceCache.getCodeSourceCount(), 0);
+    }
+
+    @Test
+    public void testCodeSourcesDoNotEvictScriptSources() {
+
+        JsGraalScriptSourceCache sourceCache = new JsGraalScriptSourceCache(1, 1);
+        Source scriptSource = sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1);
+        for (int i = 0; i < 10; i++) {
+            sourceCache.getCodeSource("function fn" + i + "() { return " + i + "; }");
+        }
+
+        assertSame(sourceCache.getScriptSource("carbon.super", "app1", SCRIPT_1), scriptSource);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    @Test
+    public void testSerializeAndDeserializeUncompressed() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(-1);
+        HashMap<String, Object> sessionObject = buildSessionObject(10);
+
+        byte[] serialized = IOUtils.toByteArray(serializer.serializeSessionObject(sessionObject));
+        assertEquals(serialized[0], CompactSessionSerializer.MAGIC_0);
+        assertEquals(serialized[1], CompactSessionSerializer.MAGIC_1);
+        assertEquals(serialized[2], CompactSessionSerializer.FORMAT_VERSION);
+        assertEquals(serialized[3] & CompactSessionSerializer.FLAG_COMPRESSED, 0);
+        assertEquals(serializer.deSerializeSessionObject(new ByteArrayInputStream(serialized)), sessionObject);
+    }
+
+    @Test
+    public void testSerializeAndDeserializeCompressed() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(128);
+        HashMap<String, Object> sessionObject = buildSessionObject(200);
+
+        byte[] serialized = IOUtils.toByteArray(serializer.serializeSessionObject(sessionObject));
+        assertEquals(serialized[3] & CompactSessionSerializer.FLAG_COMPRESSED,
+                CompactSessionSerializer.FLAG_COMPRESSED);
+        assertEquals(serializer.deSerializeSessionObject(new ByteArrayInputStream(serialized)), sessionObject);
+    }
+
+    @Test
+    public void testSerializedObjectIsSmallerThanJavaSerialization() throws Exception {
+
+        HashMap<String, Object> sessionObject = buildSessionObject(10);
+        int compactSize = IOUtils.toByteArray(new CompactSessionSerializer(-1)
+                .serializeSessionObject(sessionObject)).length;
+        int javaSize = IOUtils.toByteArray(new JavaSessionSerializer().serializeSessionObject(sessionObject)).length;
+        assertTrue(compactSize < javaSize, "Compact size: " + compactSize + ", Java size: " + javaSize);
+    }
+
+    @Test
+    public void testDeserializeJavaSerializedObject() throws Exception {
+
+        HashMap<String, Object> sessionObject = buildSessionObject(10);
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(sessionObject);
+        assertEquals(new CompactSessionSerializer(-1).deSerializeSessionObject(javaSerialized), sessionObject);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeUnsupportedVersion() throws Exception {
+
+        byte[] serialized = IOUtils.toByteArray(new CompactSessionSerializer(-1)
+                .serializeSessionObject(buildSessionObject(1)));
+        serialized[2] = (byte) (CompactSessionSerializer.FORMAT_VERSION + 1);
+        new CompactSessionSerializer(-1).deSerializeSessionObject(new ByteArrayInputStream(serialized));
+    }
+
+    @Test
+    public void testClassWithChangedFieldLayoutIsNotCompacted() {
+
+        int arrayListFingerprint = CompactSessionSerializer.getFieldFingerprint(
+                ObjectStreamClass.lookup(ArrayList.class));
+        Map<Class<?>, Integer> classIds = CompactSessionSerializer.getCompactClassIds(Arrays.asList(
+                new CompactSessionSerializer.KnownClass(HashMap.class, arrayListFingerprint),
+                new CompactSessionSerializer.KnownClass(ArrayList.class, arrayListFingerprint)));
+        assertFalse(classIds.containsKey(HashMap.class));
+        assertEquals(classIds.get(ArrayList.class), Integer.valueOf(1));
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeChangedFieldLayout() throws Exception {
+
+        byte[] serialized = IOUtils.toByteArray(new CompactSessionSerializer(-1)
+                .serializeSessionObject(buildSessionObject(1)));
+        // The field fingerprint is written right after the serialVersionUID of the compact class reference.
+        byte[] serialVersionUID = ByteBuffer.allocate(Long.BYTES)
+                .putLong(ObjectStreamClass.lookup(HashMap.class).getSerialVersionUID()).array();
+        int fingerprintIndex = indexOf(serialized, serialVersionUID) + serialVersionUID.length;
+        assertTrue(fingerprintIndex > serialVersionUID.length);
+        serialized[fingerprintIndex] = (byte) ~serialized[fingerprintIndex];
+        new CompactSessionSerializer(-1).deSerializeSessionObject(new ByteArrayInputStream(serialized));
+    }
+
+    private int indexOf(byte[] array, byte[] target) {
+
+        for (int i = 0; i <= array.length - target.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(array, i, i + target.length), target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private HashMap<String, Object> buildSessionObject(int historySize) {
+
+        List<String> history = new ArrayList<>();
+        for (int i = 0; i < historySize; i++) {
+            history.add(new AuthHistory("BasicAuthenticator", "LOCAL").toTranslatableString());
+        }
+        HashMap<String, Object> sessionObject = new HashMap<>();
+        sessionObject.put("sessionId", "d1b4a3a6-5d3f-4f5c-9a8a-7f7b3c5e2a11");
+        sessionObject.put("history", history);
+        return sessionObject;
+    }
+}
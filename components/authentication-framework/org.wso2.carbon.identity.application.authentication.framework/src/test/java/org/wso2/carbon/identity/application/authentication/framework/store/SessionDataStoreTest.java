@@ -33,7 +33,13 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -45,6 +51,9 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -93,8 +102,8 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
              MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
              MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
                      mockStatic(FrameworkServiceDataHolder.class);
-             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
-            Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
             mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
             mockCarbonContext(carbonContext);
             mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
@@ -120,8 +129,8 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
              MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
              MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
                      mockStatic(FrameworkServiceDataHolder.class);
-             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
-            Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
             mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
             mockCarbonContext(carbonContext);
             mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
@@ -151,9 +160,8 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
              MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
              MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
                      mockStatic(FrameworkServiceDataHolder.class);
-             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
-
-            Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
 
             mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
             mockCarbonContext(carbonContext);
@@ -172,8 +180,8 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
              MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
              MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
-             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
-            Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
             mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
             mockCarbonContext(carbonContext);
             mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
@@ -181,6 +189,217 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        Object obj = mock(Object.class, withSettings().serializable());
+        List<SessionContextDO> operations = new ArrayList<>();
+        operations.add(new SessionContextDO("00000003", "sessionType", obj, 40000, 1));
+        operations.add(new SessionContextDO("00000004", "sessionType", obj, 40001, 1));
+        operations.add(new SessionContextDO("00000004", "sessionType", null, 40002));
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            SessionDataStore.getInstance().persistSessionDataBatch(operations);
+            assertTrue(SessionDataStore.getInstance()
+                    .validateLastOperationOnSessionData("00000003", "sessionType", OPERATION_STORE));
+            assertTrue(SessionDataStore.getInstance()
+                    .validateLastOperationOnSessionData("00000004", "sessionType", OPERATION_DELETE));
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatch")
+    public void testTouchSessionDataWithoutRewritingSessionObject() throws Exception {
+
+        String key = "00000005";
+        String type = "sessionType";
+        // Longer than the remember me timeout used for the STORE operation, so that the touch extends its expiry.
+        long touchValidityPeriod = TimeUnit.SECONDS.toNanos(22222222);
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("authenticatedUser", "admin@carbon.super");
+        sessionObject.put("authenticatedIdPs", "LOCAL");
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            // The first request stores the session object, while the subsequent requests only touch the session.
+            SessionDataStore.getInstance().persistSessionData(key, type, sessionObject, 50000, 1);
+            for (int i = 1; i <= 5; i++) {
+                SessionDataStore.getInstance().persistSessionDataTouch(key, type, 50000 + i, touchValidityPeriod, 1);
+            }
+
+            long storedBytes = getSessionObjectBytesWritten(connection, key, OPERATION_STORE);
+            assertTrue(storedBytes > 0);
+            assertEquals(getSessionObjectBytesWritten(connection, key, "TOUCH"), 0L,
+                    "Touching the session must not write the session object.");
+            assertEquals(getStoreOperationExpiryTime(connection, key), 50005 + touchValidityPeriod);
+
+            SessionContextDO sessionContextDO =
+                    SessionDataStore.getInstance().getSessionContextData(key, type, 50005);
+            assertNotNull(sessionContextDO);
+            assertEquals(sessionContextDO.getNanoTime(), 50005);
+            assertEquals(sessionContextDO.getEntry(), sessionObject);
+            assertEquals(SessionDataStore.getInstance().getSessionContextData(key, type).getNanoTime(), 50005);
+            assertNull(SessionDataStore.getInstance().getSessionContextData(key, type, 50006),
+                    "Idle expired session must not be read.");
+
+            // A modified session object is stored again, while the later touches only update the accessed time.
+            HashMap<String, String> modifiedSessionObject = new HashMap<>(sessionObject);
+            modifiedSessionObject.put("authenticatedIdPs", "LOCAL,Google");
+            SessionDataStore.getInstance().persistSessionData(key, type, modifiedSessionObject, 50006, 1);
+            SessionDataStore.getInstance().persistSessionDataTouch(key, type, 50007, touchValidityPeriod, 1);
+            sessionContextDO = SessionDataStore.getInstance().getSessionContextData(key, type, 50007);
+            assertNotNull(sessionContextDO);
+            assertEquals(sessionContextDO.getNanoTime(), 50007);
+            assertEquals(sessionContextDO.getEntry(), modifiedSessionObject);
+
+            // A touch after the session is deleted must not bring the session back.
+            SessionDataStore.getInstance().removeSessionData(key, type, 50010);
+            SessionDataStore.getInstance().persistSessionDataTouch(key, type, 50011, touchValidityPeriod, 1);
+            assertEquals(getSessionObjectBytesWritten(connection, key, "TOUCH"), 0L);
+            assertNull(SessionDataStore.getInstance().getSessionContextData(key, type, Long.MIN_VALUE));
+            assertNull(SessionDataStore.getInstance().getSessionContextData(key, type));
+        }
+    }
+
+    @Test(dependsOnMethods = "testTouchSessionDataWithoutRewritingSessionObject")
+    public void testStoreSerializedSessionData() throws Exception {
+
+        String key = "00000006";
+        String type = "sessionType";
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("authenticatedUser", "admin@carbon.super");
+        HashMap<String, String> sameSessionObject = new HashMap<>();
+        sameSessionObject.put("authenticatedUser", "admin@carbon.super");
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            SerializedSessionData serializedSessionData =
+                    SessionDataStore.getInstance().serializeSessionData(sessionObject);
+            assertEquals(serializedSessionData.getContentDigest("SHA-256"), SessionDataStore.getInstance()
+                    .serializeSessionData(sameSessionObject).getContentDigest("SHA-256"));
+
+            // The serialized bytes are stored as they are, and are read back as the session object.
+            SessionDataStore.getInstance().persistSessionData(key, type, serializedSessionData, 60000, 1);
+            assertEquals(getSessionObjectBytesWritten(connection, key, OPERATION_STORE),
+                    serializedSessionData.getData().length);
+            SessionContextDO sessionContextDO = SessionDataStore.getInstance().getSessionContextData(key, type);
+            assertNotNull(sessionContextDO);
+            assertEquals(sessionContextDO.getEntry(), sessionObject);
+        }
+    }
+
+    @Test
+    public void testCoalesceTouchOperations() {
+
+        Object obj = new Object();
+        List<SessionContextDO> operations = new ArrayList<>();
+        operations.add(new SessionContextDO("key1", "type1", obj, 1, 1));
+        operations.add(SessionContextDO.createTouchOperation("key1", "type1", 2, 10, 1));
+        operations.add(new SessionContextDO("key2", "type1", null, 3));
+        operations.add(SessionContextDO.createTouchOperation("key2", "type1", 4, 10, 1));
+        operations.add(SessionContextDO.createTouchOperation("key3", "type1", 6, 10, 1));
+        operations.add(SessionContextDO.createTouchOperation("key3", "type1", 5, 10, 1));
+
+        List<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(operations);
+        assertEquals(coalesced.size(), 3);
+        // A STORE operation followed by a TOUCH operation is stored with the time of the TOUCH operation.
+        assertEquals(coalesced.get(0).getKey(), "key1");
+        assertEquals(coalesced.get(0).getEntry(), obj);
+        assertEquals(coalesced.get(0).getNanoTime(), 2);
+        assertTrue(!coalesced.get(0).isTouch());
+        // A TOUCH operation does not override a DELETE operation.
+        assertEquals(coalesced.get(1).getKey(), "key2");
+        assertNull(coalesced.get(1).getEntry());
+        assertTrue(!coalesced.get(1).isTouch());
+        assertEquals(coalesced.get(2).getKey(), "key3");
+        assertTrue(coalesced.get(2).isTouch());
+        assertEquals(coalesced.get(2).getNanoTime(), 6);
+    }
+
+    @Test
+    public void testCoalesceSessionDataOperations() {
+
+        Object obj1 = new Object();
+        Object obj2 = new Object();
+        List<SessionContextDO> operations = new ArrayList<>();
+        operations.add(new SessionContextDO("key1", "type1", obj1, 3, 1));
+        operations.add(new SessionContextDO("key1", "type1", obj2, 1, 1));
+        operations.add(new SessionContextDO("key1", "type2", obj1, 2, 1));
+        operations.add(new SessionContextDO("key2", "type1", obj1, 4, 1));
+        operations.add(new SessionContextDO("key2", "type1", null, 5));
+
+        List<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(operations);
+        assertEquals(coalesced.size(), 3);
+        assertEquals(coalesced.get(0).getType(), "type2");
+        assertEquals(coalesced.get(1).getKey(), "key1");
+        assertEquals(coalesced.get(1).getEntry(), obj1);
+        assertEquals(coalesced.get(2).getKey(), "key2");
+        assertNull(coalesced.get(2).getEntry());
+    }
+
+    private long getSessionObjectBytesWritten(Connection connection, String key, String operation)
+            throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT " +
+                "COALESCE(SUM(OCTET_LENGTH(SESSION_OBJECT)), 0) FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? " +
+                "AND OPERATION = ?")) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, operation);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private long getStoreOperationExpiryTime(Connection connection, String key) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT EXPIRY_TIME FROM " +
+                "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = '" + OPERATION_STORE + "'")) {
+            preparedStatement.setString(1, key);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
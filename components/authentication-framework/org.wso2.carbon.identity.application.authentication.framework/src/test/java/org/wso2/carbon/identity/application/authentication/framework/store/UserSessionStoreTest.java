@@ -320,6 +320,38 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         cleanupTestData();
     }
 
+    @Test
+    public void testRemoveExpiredSessionRecords() throws Exception {
+
+        createUserSessionMapping("expiredUser1", "expiredSession1");
+        createUserSessionMapping("expiredUser2", "expiredSession2");
+        createUserSessionMapping("activeUser", "activeSession");
+        createSessionWithExpiryTime("expiredSession1", -Long.MAX_VALUE);
+        createSessionWithExpiryTime("expiredSession2", -Long.MAX_VALUE);
+        createSessionWithExpiryTime("activeSession", Long.MAX_VALUE);
+        addSessionMetadata("expiredSession1", String.valueOf(System.currentTimeMillis()));
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            mockIdentityDataBaseUtilConnection(connection, true, mockedIdentityDatabaseUtil);
+            UserSessionStore.getInstance().removeExpiredSessionRecords();
+
+            Assert.assertEquals(countRows(connection, "IDN_AUTH_USER_SESSION_MAPPING", "expiredSession1"), 0);
+            Assert.assertEquals(countRows(connection, "IDN_AUTH_USER_SESSION_MAPPING", "expiredSession2"), 0);
+            Assert.assertEquals(countRows(connection, "IDN_AUTH_SESSION_META_DATA", "expiredSession1"), 0);
+            Assert.assertEquals(countRows(connection, "IDN_AUTH_USER_SESSION_MAPPING", "activeSession"), 1);
+
+            try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM IDN_AUTH_SESSION_STORE WHERE " +
+                    "SESSION_ID IN ('expiredSession1', 'expiredSession2', 'activeSession')")) {
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "DELETE FROM IDN_AUTH_USER_SESSION_MAPPING WHERE SESSION_ID = 'activeSession'")) {
+                stmt.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+
     private void mockIdentityDataBaseUtilConnection(Connection connection, Boolean shouldApplyTransaction,
                                                     MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil)
             throws SQLException {
@@ -398,6 +430,36 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    private void createSessionWithExpiryTime(String sessionId, long expiryTime) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            String sql = "INSERT INTO IDN_AUTH_SESSION_STORE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, " +
+                    "TENANT_ID, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sessionId);
+                stmt.setString(2, "AppAuthFrameworkSessionContextCache");
+                stmt.setString(3, "STORE");
+                stmt.setLong(4, System.currentTimeMillis());
+                stmt.setInt(5, TENANT_ID);
+                stmt.setLong(6, expiryTime);
+                stmt.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+
+    private int countRows(Connection connection, String tableName, String sessionId) throws SQLException {
+
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM " + tableName +
+                " WHERE SESSION_ID = ?")) {
+            stmt.setString(1, sessionId);
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private void addSessionMetadata(String sessionId, String value) throws SQLException {
 
         try (Connection connection = getConnection(DB_NAME)) {
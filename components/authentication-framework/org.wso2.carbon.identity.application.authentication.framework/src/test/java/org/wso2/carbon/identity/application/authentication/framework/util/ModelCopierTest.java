@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link ModelCopier} and the snapshot methods of {@link FrameworkUtils}.
+ */
+public class ModelCopierTest {
+
+    @Test
+    public void testCopySharesSubObjects() throws Exception {
+
+        ServiceProvider serviceProvider = buildServiceProvider();
+
+        ServiceProvider copiedSP = ModelCopier.copy(serviceProvider);
+
+        assertNotSame(copiedSP, serviceProvider);
+        assertEquals(copiedSP.getApplicationName(), "app1");
+        assertEquals(copiedSP.getApplicationID(), 10);
+        assertSame(copiedSP.getClaimConfig(), serviceProvider.getClaimConfig());
+
+        copiedSP.setApplicationName("app2");
+        assertEquals(serviceProvider.getApplicationName(), "app1");
+    }
+
+    @Test
+    public void testCopyNull() throws Exception {
+
+        assertNull(ModelCopier.copy(null));
+    }
+
+    @Test
+    public void testCreateSPSnapshot() throws Exception {
+
+        ServiceProvider serviceProvider = buildServiceProvider();
+        AuthenticationStep[] originalSteps = serviceProvider.getLocalAndOutBoundAuthenticationConfig()
+                .getAuthenticationSteps();
+
+        ServiceProvider snapshot = FrameworkUtils.createSPSnapshot(serviceProvider);
+        snapshot.getLocalAndOutBoundAuthenticationConfig().setAuthenticationSteps(
+                new AuthenticationStep[]{new AuthenticationStep(), new AuthenticationStep()});
+
+        assertNotSame(snapshot.getLocalAndOutBoundAuthenticationConfig(),
+                serviceProvider.getLocalAndOutBoundAuthenticationConfig());
+        assertSame(serviceProvider.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps(),
+                originalSteps);
+        assertEquals(snapshot.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps().length, 2);
+        assertEquals(snapshot.getLocalAndOutBoundAuthenticationConfig().getAuthenticationType(), "flow");
+        assertSame(snapshot.getClaimConfig(), serviceProvider.getClaimConfig());
+    }
+
+    @Test
+    public void testCreateIdPSnapshot() throws Exception {
+
+        FederatedAuthenticatorConfig defaultAuthenticator = new FederatedAuthenticatorConfig();
+        defaultAuthenticator.setName("authenticator1");
+        FederatedAuthenticatorConfig otherAuthenticator = new FederatedAuthenticatorConfig();
+        otherAuthenticator.setName("authenticator2");
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("idp1");
+        identityProvider.setDefaultAuthenticatorConfig(defaultAuthenticator);
+        identityProvider.setFederatedAuthenticatorConfigs(
+                new FederatedAuthenticatorConfig[]{defaultAuthenticator, otherAuthenticator});
+
+        IdentityProvider snapshot = FrameworkUtils.createIdPSnapshot(identityProvider);
+        snapshot.setDefaultAuthenticatorConfig(otherAuthenticator);
+
+        assertEquals(snapshot.getIdentityProviderName(), "idp1");
+        assertSame(snapshot.getDefaultAuthenticatorConfig(), otherAuthenticator);
+        assertSame(identityProvider.getDefaultAuthenticatorConfig(), defaultAuthenticator);
+    }
+
+    private ServiceProvider buildServiceProvider() {
+
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setAuthenticationType("flow");
+        authenticationConfig.setAuthenticationSteps(new AuthenticationStep[]{new AuthenticationStep()});
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("app1");
+        serviceProvider.setApplicationID(10);
+        serviceProvider.setClaimConfig(new ClaimConfig());
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+        return serviceProvider;
+    }
+}
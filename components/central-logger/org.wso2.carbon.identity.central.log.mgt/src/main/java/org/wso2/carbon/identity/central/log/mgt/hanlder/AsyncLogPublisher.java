@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.hanlder;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHER_AUDIT_LOGS_ENABLED;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHER_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHER_ENABLED;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHER_QUEUE_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_PUBLISHER_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_PUBLISHER_QUEUE_SIZE;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_AUDIT_LOG;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_DIAGNOSTIC_LOG;
+
+/**
+ * Publishes the audit and diagnostic logs on a dedicated thread so that the request threads only pay for handing over
+ * the log record.
+ * The records are handed over through a bounded lock-free ring buffer and the publisher thread drains them in batches.
+ * When the buffer is full, diagnostic logs are dropped and the number of dropped logs is logged by the publisher
+ * thread, while audit logs are published on the calling thread so that they are never lost. Audit logs are handed over
+ * only if it is explicitly enabled, otherwise they are published on the calling thread. The MDC and the tenant of the
+ * calling thread are restored on the publisher thread before a record is published.
+ * A record handed over after the publisher is stopped is published by the calling thread itself, hence no record is
+ * left behind in the buffer.
+ * Asynchronous publishing is disabled unless it is explicitly enabled in the configuration.
+ */
+public class AsyncLogPublisher {
+
+    private static final Log LOG = LogFactory.getLog(AsyncLogPublisher.class);
+    private static final AsyncLogPublisher instance = new AsyncLogPublisher();
+    private static final String PUBLISHER_THREAD_NAME = "CentralLogPublisher";
+    private static final long SHUTDOWN_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    // Diagnostic logs dropped since the last report, which is logged by the publisher thread.
+    private final LongAdder droppedDiagnosticLogs = new LongAdder();
+    // Serializes the consumers of the buffer, i.e. the publisher thread and the threads draining it after a stop.
+    private final Object drainLock = new Object();
+    private volatile LogRecordRingBuffer<LogRecord> buffer;
+    private volatile Thread publisherThread;
+    private volatile boolean running;
+    // Set by the publisher thread before it parks on an empty buffer, so that the calling threads unpark it only then.
+    private volatile boolean publisherWaiting;
+    private volatile boolean asyncAuditLogs;
+    private volatile int batchSize;
+
+    private AsyncLogPublisher() {
+
+    }
+
+    public static AsyncLogPublisher getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Start the publisher thread if asynchronous publishing is enabled. Otherwise, the logs are published on the
+     * calling thread.
+     */
+    public synchronized void start() {
+
+        if (running) {
+            return;
+        }
+        if (!Boolean.parseBoolean(StringUtils.trim(IdentityUtil.getProperty(ASYNC_PUBLISHER_ENABLED)))) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Asynchronous publishing of audit and diagnostic logs is disabled.");
+            }
+            return;
+        }
+        batchSize = readPositiveInt(ASYNC_PUBLISHER_BATCH_SIZE, DEFAULT_ASYNC_PUBLISHER_BATCH_SIZE);
+        asyncAuditLogs = Boolean.parseBoolean(StringUtils.trim(IdentityUtil.getProperty(
+                ASYNC_PUBLISHER_AUDIT_LOGS_ENABLED)));
+        LogRecordRingBuffer<LogRecord> currentBuffer = new LogRecordRingBuffer<>(readPositiveInt(
+                ASYNC_PUBLISHER_QUEUE_SIZE, DEFAULT_ASYNC_PUBLISHER_QUEUE_SIZE));
+        buffer = currentBuffer;
+        running = true;
+        Thread thread = new Thread(() -> drain(currentBuffer), PUBLISHER_THREAD_NAME);
+        thread.setDaemon(true);
+        publisherThread = thread;
+        thread.start();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Started the asynchronous log publisher with a queue of " + currentBuffer.capacity() +
+                    " records and batches of " + batchSize + " records. Asynchronous publishing of audit logs is " +
+                    (asyncAuditLogs ? "enabled." : "disabled."));
+        }
+    }
+
+    /**
+     * Stop the publisher thread after publishing the records which are already handed over. The records handed over
+     * while stopping are published by the publisher thread before it exits, or by the calling threads of the records.
+     */
+    public synchronized void shutdown() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = publisherThread;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOG.warn("Asynchronous log publisher did not stop within " + SHUTDOWN_WAIT_MILLIS + " ms. The remaining " +
+                    buffer.size() + " log records will be published once the current batch is published.");
+        }
+        publisherThread = null;
+    }
+
+    /**
+     * Publish an audit or a diagnostic log.
+     *
+     * @param eventName       Name of the log event.
+     * @param eventProperties Properties of the log event.
+     */
+    public void publish(String eventName, Map<String, Object> eventProperties) {
+
+        boolean auditLog = PUBLISH_AUDIT_LOG.equals(eventName);
+        if (!running || (auditLog && !asyncAuditLogs)) {
+            publishNow(eventName, eventProperties);
+            return;
+        }
+        // Read after the running flag, since the buffer is assigned before the publisher is marked as running.
+        LogRecordRingBuffer<LogRecord> currentBuffer = buffer;
+        LogRecord record = new LogRecord(eventName, eventProperties, MDC.getCopyOfContextMap(),
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        if (currentBuffer.offer(record)) {
+            if (publisherWaiting) {
+                LockSupport.unpark(publisherThread);
+            }
+            if (!running || currentBuffer != buffer) {
+                // The publisher may have been stopped, and drained the buffer for the last time, before the record
+                // was handed over.
+                drainRemaining(currentBuffer);
+            }
+            return;
+        }
+        if (auditLog) {
+            publishNow(eventName, eventProperties);
+        } else {
+            droppedDiagnosticLogs.increment();
+        }
+    }
+
+    private void drain(LogRecordRingBuffer<LogRecord> currentBuffer) {
+
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            int drained;
+            synchronized (drainLock) {
+                drained = currentBuffer.drainTo(batch, batchSize);
+                if (drained > 0) {
+                    publishBatch(batch);
+                    batch.clear();
+                }
+            }
+            reportDroppedDiagnosticLogs();
+            if (drained == 0) {
+                // The buffer is checked again after announcing the wait, since a record handed over before that
+                // would not unpark this thread.
+                publisherWaiting = true;
+                if (running && currentBuffer.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                publisherWaiting = false;
+            }
+        }
+        // Publish the records handed over while the publisher was stopping.
+        drainRemaining(currentBuffer);
+        reportDroppedDiagnosticLogs();
+    }
+
+    private void reportDroppedDiagnosticLogs() {
+
+        long dropped = droppedDiagnosticLogs.sumThenReset();
+        if (dropped > 0) {
+            LOG.warn("Asynchronous log publisher queue was full. Dropped " + dropped + " diagnostic logs.");
+        }
+    }
+
+    private void drainRemaining(LogRecordRingBuffer<LogRecord> currentBuffer) {
+
+        // The MDC of the calling thread is replaced while publishing the records, hence restored afterwards.
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        List<LogRecord> batch = new ArrayList<>();
+        try {
+            synchronized (drainLock) {
+                while (currentBuffer.drainTo(batch, batchSize) > 0) {
+                    publishBatch(batch);
+                    batch.clear();
+                }
+            }
+        } finally {
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+        }
+    }
+
+    private void publishBatch(List<LogRecord> batch) {
+
+        for (LogRecord record : batch) {
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                if (record.mdcContext != null) {
+                    MDC.setContextMap(record.mdcContext);
+                }
+                if (record.tenantDomain != null) {
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(record.tenantDomain, true);
+                }
+                publishNow(record.eventName, record.eventProperties);
+            } catch (RuntimeException e) {
+                LOG.error("Error while publishing the log event: " + record.eventName, e);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+                MDC.clear();
+            }
+        }
+    }
+
+    private static void publishNow(String eventName, Map<String, Object> eventProperties) {
+
+        if (PUBLISH_AUDIT_LOG.equals(eventName)) {
+            CarbonUtils.publishAuditLogs(eventProperties);
+        } else if (PUBLISH_DIAGNOSTIC_LOG.equals(eventName)) {
+            CarbonUtils.publishDiagnosticLog(eventProperties);
+        }
+    }
+
+    private static int readPositiveInt(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int parsedValue = Integer.parseInt(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                // Falls back to the default value below.
+            }
+            LOG.warn("Invalid value: " + value + " configured for " + property + ". Defaulting to " + defaultValue);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Log event captured together with the context of the calling thread.
+     */
+    private static final class LogRecord {
+
+        private final String eventName;
+        private final Map<String, Object> eventProperties;
+        private final Map<String, String> mdcContext;
+        private final String tenantDomain;
+
+        private LogRecord(String eventName, Map<String, Object> eventProperties, Map<String, String> mdcContext,
+                          String tenantDomain) {
+
+            this.eventName = eventName;
+            this.eventProperties = eventProperties;
+            this.mdcContext = mdcContext;
+            this.tenantDomain = tenantDomain;
+        }
+    }
+}
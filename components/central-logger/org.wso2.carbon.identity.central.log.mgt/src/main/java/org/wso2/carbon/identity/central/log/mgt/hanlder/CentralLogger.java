@@ -20,7 +20,6 @@ package org.wso2.carbon.identity.central.log.mgt.hanlder;
 
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
-import org.wso2.carbon.utils.CarbonUtils;
 
 import java.util.Map;
 
@@ -41,10 +40,8 @@ public class CentralLogger extends AbstractEventHandler {
         // This central log event handler handles only audit logs and diagnostic logs.
         switch (eventName) {
             case PUBLISH_AUDIT_LOG:
-                CarbonUtils.publishAuditLogs(eventProperties);
-                break;
             case PUBLISH_DIAGNOSTIC_LOG:
-                CarbonUtils.publishDiagnosticLog(eventProperties);
+                AsyncLogPublisher.getInstance().publish(eventName, eventProperties);
                 break;
             default:
                 break;
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.hanlder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer which accepts elements from many producer threads and hands them over in batches to
+ * a single consumer thread.
+ * Each slot carries a sequence number. A producer claims a slot by advancing the tail with a CAS and publishes the
+ * element by moving the slot sequence forward. Hence, a full buffer is detected without taking a lock and the producer
+ * can decide what to do with the element.
+ *
+ * @param <E> Type of the elements.
+ */
+class LogRecordRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    LogRecordRingBuffer(int requestedCapacity) {
+
+        int size = 2;
+        while (size < requestedCapacity && size < (1 << 30)) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element to the buffer. Safe to be called by multiple threads concurrently.
+     *
+     * @param element Element to be added.
+     * @return False if the buffer is full.
+     */
+    boolean offer(E element) {
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds an element of the previous round which is not consumed yet.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Move the published elements to the given batch. Must be called only by the consumer thread.
+     *
+     * @param batch        List to which the elements are added.
+     * @param maxBatchSize Maximum number of elements to move.
+     * @return Number of elements moved.
+     */
+    int drainTo(List<E> batch, int maxBatchSize) {
+
+        long position = head.get();
+        int count = 0;
+        while (count < maxBatchSize) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // Either the buffer is empty or the producer of this slot has not published the element yet.
+                break;
+            }
+            batch.add(elements.get(index));
+            elements.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            count++;
+        }
+        head.set(position);
+        return count;
+    }
+
+    /**
+     * Check whether the next element to be consumed is not published yet. Must be called only by the consumer thread.
+     *
+     * @return True if there is no element to be drained.
+     */
+    boolean isEmpty() {
+
+        long position = head.get();
+        return sequences.get((int) (position & mask)) != position + 1;
+    }
+
+    /**
+     * Get the approximate number of elements in the buffer.
+     *
+     * @return Number of elements.
+     */
+    int size() {
+
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+
+        return capacity;
+    }
+}
@@ -29,6 +29,7 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.central.log.mgt.hanlder.AsyncLogPublisher;
 import org.wso2.carbon.identity.central.log.mgt.hanlder.CentralLogger;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -50,6 +51,7 @@ public class CentralLogMgtServiceComponent {
     protected void activate(ComponentContext context) {
 
         BundleContext bundleContext = context.getBundleContext();
+        AsyncLogPublisher.getInstance().start();
         // Registering central logger event handler as an OSGIService.
         serviceRegistration =
                 bundleContext.registerService(AbstractEventHandler.class.getName(), new CentralLogger(), null);
@@ -69,6 +71,7 @@ public class CentralLogMgtServiceComponent {
         if (serviceRegistration != null) {
             serviceRegistration.unregister();
         }
+        AsyncLogPublisher.getInstance().shutdown();
     }
 
     @Reference(
@@ -37,6 +37,16 @@ public class LogConstants {
     public static final Pattern LOG_MASKING_PATTERN = Pattern.compile("(?<=.).(?=.)");
     public static final String LOGGABLE_USER_CLAIMS = "LoggableUserClaims.LoggableUserClaim";
 
+    /**
+     * Constants related to the asynchronous publishing of audit and diagnostic logs.
+     */
+    public static final String ASYNC_PUBLISHER_ENABLED = "CentralLogger.AsyncPublisher.Enabled";
+    public static final String ASYNC_PUBLISHER_QUEUE_SIZE = "CentralLogger.AsyncPublisher.QueueSize";
+    public static final String ASYNC_PUBLISHER_BATCH_SIZE = "CentralLogger.AsyncPublisher.BatchSize";
+    public static final String ASYNC_PUBLISHER_AUDIT_LOGS_ENABLED = "CentralLogger.AsyncPublisher.AuditLogsEnabled";
+    public static final int DEFAULT_ASYNC_PUBLISHER_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_ASYNC_PUBLISHER_BATCH_SIZE = 256;
+
 
     /**
      * Define common and reusable Input keys for diagnostic logs.
@@ -40,16 +40,13 @@ import org.wso2.carbon.utils.AuditLog;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.DiagnosticLog;
 
-import java.time.DateTimeException;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ApplicationManagement.CONSOLE_APP_NAME;
 import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ApplicationManagement.CONSOLE_CLIENT_ID;
@@ -141,8 +138,8 @@ public class LoggerUtils {
 
         try {
             Map<String, Object> diagnosticLogProperties = new HashMap<>();
-            String id = UUID.randomUUID().toString();
-            Instant recordedAt = parseDateTime(Instant.now().toString());
+            String id = randomLogId();
+            Instant recordedAt = Instant.now();
             String requestId = MDC.get(CORRELATION_ID_MDC);
             String flowId = MDC.get(FLOW_ID_MDC);
             DiagnosticLog diagnosticLog = new DiagnosticLog(id, recordedAt, requestId, flowId, resultStatus,
@@ -215,27 +212,17 @@ public class LoggerUtils {
     }
 
     /**
-     * Parse Date Time into UTC format.
+     * Generate a random (version 4) UUID for a log record. Unlike {@link UUID#randomUUID()}, this does not contend on
+     * the shared secure random generator, which is not required for log record identifiers.
      *
-     * @param dateTimeString Date time.
-     * @return Date time in ISO_OFFSET_DATE_TIME format.
+     * @return Random UUID string.
      */
-    private static Instant parseDateTime(String dateTimeString) {
+    private static String randomLogId() {
 
-        Instant localDateTime = null;
-        if (StringUtils.isEmpty(dateTimeString)) {
-            return null;
-        }
-        try {
-            localDateTime = LocalDateTime.parse(dateTimeString).toInstant(ZoneOffset.UTC);
-        } catch (DateTimeException e) {
-            try {
-                return OffsetDateTime.parse(dateTimeString).toInstant();
-            } catch (DateTimeException dte) {
-                log.error("Error in parsing date time. Date time should adhere to ISO_OFFSET_DATE_TIME format", e);
-            }
-        }
-        return localDateTime;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
     }
 
     /**
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.hanlder;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LogRecordRingBuffer}.
+ */
+public class LogRecordRingBufferTest {
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+
+        assertEquals(new LogRecordRingBuffer<String>(5).capacity(), 8);
+        assertEquals(new LogRecordRingBuffer<String>(8).capacity(), 8);
+        assertEquals(new LogRecordRingBuffer<String>(1).capacity(), 2);
+    }
+
+    @Test
+    public void testOfferFailsWhenBufferIsFull() {
+
+        LogRecordRingBuffer<String> buffer = new LogRecordRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer("record-" + i));
+        }
+
+        assertFalse(buffer.offer("record-4"));
+        assertEquals(buffer.size(), 4);
+
+        List<String> batch = new ArrayList<>();
+        assertEquals(buffer.drainTo(batch, 1), 1);
+        assertEquals(batch.get(0), "record-0");
+        assertTrue(buffer.offer("record-4"));
+        assertFalse(buffer.offer("record-5"));
+    }
+
+    @Test
+    public void testIsEmpty() {
+
+        LogRecordRingBuffer<String> buffer = new LogRecordRingBuffer<>(2);
+        assertTrue(buffer.isEmpty());
+
+        assertTrue(buffer.offer("record-0"));
+        assertFalse(buffer.isEmpty());
+
+        assertEquals(buffer.drainTo(new ArrayList<>(), 2), 1);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testDrainPreservesOrderAcrossWrapAround() {
+
+        LogRecordRingBuffer<Integer> buffer = new LogRecordRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        List<Integer> batch = new ArrayList<>();
+        int next = 0;
+        // Every round leaves one record behind, so that the positions wrap around the end of the buffer.
+        for (int round = 0; round < 10; round++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            assertEquals(buffer.drainTo(batch, 3), 3);
+            drained.addAll(batch);
+            batch.clear();
+        }
+        buffer.drainTo(batch, Integer.MAX_VALUE);
+        drained.addAll(batch);
+
+        assertEquals(drained.size(), next);
+        for (int i = 0; i < next; i++) {
+            assertEquals(drained.get(i).intValue(), i);
+        }
+        assertEquals(buffer.size(), 0);
+    }
+
+    @Test
+    public void testDrainIsLimitedByBatchSize() {
+
+        LogRecordRingBuffer<String> buffer = new LogRecordRingBuffer<>(8);
+        for (String record : Arrays.asList("a", "b", "c", "d", "e")) {
+            buffer.offer(record);
+        }
+        List<String> batch = new ArrayList<>();
+
+        assertEquals(buffer.drainTo(batch, 2), 2);
+        assertEquals(batch, Arrays.asList("a", "b"));
+        assertEquals(buffer.size(), 3);
+        assertEquals(new LogRecordRingBuffer<String>(8).drainTo(batch, 2), 0);
+    }
+
+    @Test
+    public void testConcurrentProducersWithSingleConsumer() throws Exception {
+
+        int producerCount = 8;
+        int recordsPerProducer = 20000;
+        LogRecordRingBuffer<String> buffer = new LogRecordRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch producersDone = new CountDownLatch(producerCount);
+        for (int producer = 0; producer < producerCount; producer++) {
+            int producerId = producer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < recordsPerProducer; i++) {
+                        // Retry until the consumer frees a slot, so that every record is handed over.
+                        while (!buffer.offer(producerId + "-" + i)) {
+                            Thread.yield();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    producersDone.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Set<String> consumed = new HashSet<>();
+        int[] lastSequence = new int[producerCount];
+        Arrays.fill(lastSequence, -1);
+        boolean orderPreserved = true;
+        List<String> batch = new ArrayList<>();
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (consumed.size() < producerCount * recordsPerProducer && System.nanoTime() < deadline) {
+            if (buffer.drainTo(batch, 16) == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (String record : batch) {
+                String[] parts = record.split("-");
+                int producerId = Integer.parseInt(parts[0]);
+                int sequence = Integer.parseInt(parts[1]);
+                if (sequence <= lastSequence[producerId]) {
+                    orderPreserved = false;
+                }
+                lastSequence[producerId] = sequence;
+                consumed.add(record);
+            }
+            batch.clear();
+        }
+
+        assertTrue(producersDone.await(10, TimeUnit.SECONDS));
+        assertEquals(consumed.size(), producerCount * recordsPerProducer);
+        assertTrue(orderPreserved, "Records of a producer must be consumed in the order they were offered.");
+        assertEquals(buffer.size(), 0);
+    }
+}
@@ -16,23 +16,27 @@
 
 package org.wso2.carbon.identity.claim.metadata.mgt;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.AssociatedClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMappingIndexCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimMappingIndex;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadataManager {
 
@@ -41,7 +45,9 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
     LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
     ExternalClaimCache externalClaimCache = ExternalClaimCache.getInstance();
-    AssociatedClaimCache associatedClaimCache = AssociatedClaimCache.getInstance();
+    ClaimMappingIndexCache claimMappingIndexCache = ClaimMappingIndexCache.getInstance();
+
+    private static final Object CLAIM_MAPPING_INDEX_LOCK = new Object();
 
     @Override
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
@@ -78,6 +84,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.addClaimDialect(claimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
+        refreshClaimDialectInIndex(claimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is added for tenant: " + tenantId +
                     ". Invalidated ClaimDialectCache.");
@@ -91,6 +98,9 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.renameClaimDialect(oldClaimDialect, newClaimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
         removeExternalClaimCache(oldClaimDialect.getClaimDialectURI(), tenantId);
+        removeExternalClaimCache(newClaimDialect.getClaimDialectURI(), tenantId);
+        removeClaimDialectFromIndex(oldClaimDialect.getClaimDialectURI(), tenantId);
+        refreshClaimDialectInIndex(newClaimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + oldClaimDialect.getClaimDialectURI() + " is renamed to new claim dialect: "
                     + newClaimDialect.getClaimDialectURI() + " for tenant: " + tenantId + ". Invalidated " +
@@ -105,6 +115,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.removeClaimDialect(claimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
         removeExternalClaimCache(claimDialect.getClaimDialectURI(), tenantId);
+        removeClaimDialectFromIndex(claimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is removed for tenant: " + tenantId +
                     ". Invalidated ClaimDialectCache.");
@@ -144,6 +155,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.addLocalClaim(localClaim, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
+        refreshLocalClaimsInIndex(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is added for tenant: " + tenantId +
                     ". Invalidated LocalClaimCache.");
@@ -155,7 +167,6 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.updateLocalClaim(localClaim, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
-        associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
                     ". Invalidated LocalClaimCache.");
@@ -179,7 +190,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.removeLocalClaim(localClaimURI, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
-        associatedClaimCache.clearCacheEntry(localClaimURI, tenantId);
+        refreshLocalClaimsInIndex(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
                     ". Invalidated LocalClaimCache.");
@@ -226,7 +237,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.addExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
-        associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
+        refreshClaimDialectInIndex(externalClaim.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
                     " is added for tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -240,7 +251,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.updateExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
-        associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
+        refreshClaimDialectInIndex(externalClaim.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
                     " is updated in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -251,21 +262,9 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeExternalClaim(String externalClaimDialectURI, String externalClaimURI, int tenantId)
             throws ClaimMetadataException {
 
-        List<ExternalClaim> externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantId);
-        String mappedLocalClaim = null;
-        if (externalClaimsList != null) {
-            for (ExternalClaim externalClaim : externalClaimsList) {
-                if (externalClaim.getClaimURI().equals(externalClaimURI)) {
-                    mappedLocalClaim = externalClaim.getMappedLocalClaim();
-                }
-            }
-        }
         super.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
-        if (StringUtils.isNotBlank(mappedLocalClaim)) {
-            associatedClaimCache.clearCacheEntry(mappedLocalClaim, tenantId);
-        }
+        removeExternalClaimCache(externalClaimDialectURI, tenantId);
+        refreshClaimDialectInIndex(externalClaimDialectURI, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaimDialectURI + ":" + externalClaimURI +
                     " is deleted in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -290,47 +289,98 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         claimDialectCache.clearClaimDialects(tenantId);
         localClaimCache.clear(tenantId);
         externalClaimCache.clear(tenantId);
-        associatedClaimCache.clear(tenantId);
+        claimMappingIndexCache.clearCacheEntry(tenantId, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("All claim dialects are removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache, LocalClaimCache and ExternalClaimCache.");
+                    ". Invalidated ClaimDialectCache, LocalClaimCache, ExternalClaimCache and " +
+                    "ClaimMappingIndexCache.");
         }
     }
 
     @Override
     public List<Claim> getMappedExternalClaims(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        List<Claim> associatedLocalClaims = associatedClaimCache.getValueFromCache(localClaimURI, tenantId);
-        if (associatedLocalClaims == null) {
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache miss for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+        return new ArrayList<>(getClaimMappingIndex(tenantId).getMappedExternalClaims(localClaimURI));
+    }
+
+    /**
+     * Get the claim mapping index of a tenant. The index is built from the cached claims on a cache miss.
+     *
+     * @param tenantId Tenant ID.
+     * @return Claim mapping index of the tenant.
+     * @throws ClaimMetadataException If an error occurs while building the index.
+     */
+    public ClaimMappingIndex getClaimMappingIndex(int tenantId) throws ClaimMetadataException {
+
+        ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+        if (claimMappingIndex != null) {
+            return claimMappingIndex;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim mapping index for tenant: " + tenantId);
+        }
+        Map<String, List<ExternalClaim>> externalClaims = new HashMap<>();
+        for (ClaimDialect claimDialect : getClaimDialects(tenantId)) {
+            String claimDialectURI = claimDialect.getClaimDialectURI();
+            if (!ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialectURI)) {
+                externalClaims.put(claimDialectURI, getExternalClaims(claimDialectURI, tenantId));
             }
-            associatedLocalClaims = super.getMappedExternalClaims(localClaimURI, tenantId);
-            associatedClaimCache.addToCache(localClaimURI, new ArrayList<>(associatedLocalClaims), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache hit for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+        }
+        claimMappingIndex = new ClaimMappingIndex(getLocalClaimURIs(tenantId), externalClaims);
+        claimMappingIndexCache.addToCache(tenantId, claimMappingIndex, tenantId);
+        return claimMappingIndex;
+    }
+
+    private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) {
+
+        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
+        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+    }
+
+    private List<String> getLocalClaimURIs(int tenantId) throws ClaimMetadataException {
+
+        return getLocalClaims(tenantId).stream().map(LocalClaim::getClaimURI).collect(Collectors.toList());
+    }
+
+    /*
+     * The claim mapping index is updated in place of invalidating it, so that only the changed dialect is loaded
+     * again. The updates are serialized to avoid losing a concurrent update of another dialect of the same tenant.
+     * If the index is not in the cache, it is built with the latest claims on the next read.
+     */
+
+    private void refreshClaimDialectInIndex(String claimDialectURI, int tenantId) throws ClaimMetadataException {
+
+        if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialectURI)) {
+            return;
+        }
+        synchronized (CLAIM_MAPPING_INDEX_LOCK) {
+            ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+            if (claimMappingIndex != null) {
+                claimMappingIndexCache.addToCache(tenantId, claimMappingIndex.withClaimDialect(claimDialectURI,
+                        getExternalClaims(claimDialectURI, tenantId)), tenantId);
             }
         }
-        return associatedLocalClaims;
     }
 
-    private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) throws ClaimMetadataException {
+    private void removeClaimDialectFromIndex(String claimDialectURI, int tenantId) {
 
-        List<ExternalClaim> externalClaimsList;
-        List<String> mappedLocalClaim = new ArrayList<>();
-        externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantId);
-        if (externalClaimsList != null) {
-            for (ExternalClaim externalClaim : externalClaimsList) {
-                mappedLocalClaim.add(externalClaim.getMappedLocalClaim());
+        synchronized (CLAIM_MAPPING_INDEX_LOCK) {
+            ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+            if (claimMappingIndex != null) {
+                claimMappingIndexCache.addToCache(tenantId, claimMappingIndex.withoutClaimDialect(claimDialectURI),
+                        tenantId);
             }
         }
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
-        for (String localClaim : mappedLocalClaim) {
-            associatedClaimCache.clearCacheEntry(localClaim, tenantId);
+    }
+
+    private void refreshLocalClaimsInIndex(int tenantId) throws ClaimMetadataException {
+
+        synchronized (CLAIM_MAPPING_INDEX_LOCK) {
+            ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+            if (claimMappingIndex != null) {
+                claimMappingIndexCache.addToCache(tenantId,
+                        claimMappingIndex.withLocalClaimURIs(getLocalClaimURIs(tenantId)), tenantId);
+            }
         }
     }
 }
@@ -19,8 +19,11 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimMappingIndex;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.util.HashMap;
@@ -125,16 +128,32 @@ public class ClaimMetadataHandler {
     }
 
     /**
-     * @param otherDialectURI
-     * @param otherClaimURIs
-     * @param tenantDomain
-     * @param useCarbonDialectAsKey
-     * @return
-     * @throws ClaimMetadataException
+     * Get the mappings between the claims of the given dialect and the local claims. The mappings are resolved from
+     * the claim mapping index of the tenant, hence this does not scan the claims of the dialect.
+     *
+     * @param otherDialectURI       Claim dialect URI.
+     * @param otherClaimURIs        Claim URIs of the dialect to be mapped. All the claims are mapped if empty.
+     * @param tenantDomain          Tenant domain.
+     * @param useCarbonDialectAsKey Whether the local claim URI is the key of the returned map.
+     * @return Modifiable map of the claim mappings.
+     * @throws ClaimMetadataException If an error occurs while resolving the claim mappings.
      */
     public Map<String, String> getMappingsMapFromOtherDialectToCarbon(String otherDialectURI, Set<String>
             otherClaimURIs, String tenantDomain, boolean useCarbonDialectAsKey) throws ClaimMetadataException {
 
+        if (otherDialectURI != null) {
+            ClaimMappingIndex claimMappingIndex = new CacheBackedUnifiedClaimMetadataManager()
+                    .getClaimMappingIndex(IdentityTenantUtil.getTenantId(tenantDomain));
+            if (otherDialectURI.equals(UserCoreConstants.DEFAULT_CARBON_DIALECT)) {
+                return getLocalClaimMappings(claimMappingIndex, otherClaimURIs);
+            }
+            if (claimMappingIndex.containsClaimDialect(otherDialectURI)) {
+                return getExternalClaimMappings(claimMappingIndex, otherDialectURI, otherClaimURIs,
+                        useCarbonDialectAsKey);
+            }
+        }
+
+        // Unknown dialects are resolved through the claim management service to keep the validation errors.
         Map<String, String> returnMap = new HashMap<>();
         Set<ExternalClaim> mappings = getMappingsFromOtherDialectToCarbon(
                 otherDialectURI, otherClaimURIs, tenantDomain);
@@ -147,4 +166,46 @@ public class ClaimMetadataHandler {
         }
         return returnMap;
     }
+
+    private Map<String, String> getLocalClaimMappings(ClaimMappingIndex claimMappingIndex,
+                                                      Set<String> localClaimURIs) {
+
+        boolean isRoleClaimHidden = IdentityUtil.isGroupsVsRolesSeparationImprovementsEnabled() &&
+                !IdentityUtil.isShowLegacyRoleClaimOnGroupRoleSeparationEnabled();
+        Map<String, String> returnMap = new HashMap<>();
+        for (String localClaimURI : claimMappingIndex.getLocalClaimURIs()) {
+            if (isRoleClaimHidden && UserCoreConstants.ROLE_CLAIM.equals(localClaimURI)) {
+                continue;
+            }
+            if (localClaimURIs == null || localClaimURIs.isEmpty() || localClaimURIs.contains(localClaimURI)) {
+                returnMap.put(localClaimURI, localClaimURI);
+            }
+        }
+        return returnMap;
+    }
+
+    private Map<String, String> getExternalClaimMappings(ClaimMappingIndex claimMappingIndex, String otherDialectURI,
+                                                         Set<String> otherClaimURIs, boolean useCarbonDialectAsKey) {
+
+        if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
+            return new HashMap<>(useCarbonDialectAsKey ?
+                    claimMappingIndex.getLocalToExternalClaimMappings(otherDialectURI) :
+                    claimMappingIndex.getExternalToLocalClaimMappings(otherDialectURI));
+        }
+        Map<String, String> externalToLocalClaimMappings =
+                claimMappingIndex.getExternalToLocalClaimMappings(otherDialectURI);
+        Map<String, String> returnMap = new HashMap<>();
+        for (String otherClaimURI : otherClaimURIs) {
+            String localClaimURI = externalToLocalClaimMappings.get(otherClaimURI);
+            if (localClaimURI == null) {
+                continue;
+            }
+            if (useCarbonDialectAsKey) {
+                returnMap.put(localClaimURI, otherClaimURI);
+            } else {
+                returnMap.put(otherClaimURI, localClaimURI);
+            }
+        }
+        return returnMap;
+    }
 }
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataExcept
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.SQLConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
 import org.wso2.carbon.utils.DBUtils;
 
 import java.sql.Connection;
@@ -91,7 +92,7 @@ public class ClaimDAO {
         int claimId = 0;
         String query = SQLConstants.ADD_CLAIM;
         try {
-            String dbProductName = connection.getMetaData().getDatabaseProductName();
+            String dbProductName = SqlDialectRegistry.getInstance().getDatabaseProductName(connection);
             prepStmt = connection.prepareStatement(query, new String[]{DBUtils.getConvertedAutoGeneratedColumnName
                     (dbProductName, SQLConstants.ID_COLUMN)});
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the claim mappings of a tenant.
+ * Holds the external to local and local to external claim mappings of each external claim dialect, so that the claim
+ * conversions done at each login are map lookups instead of scans over the claim lists. The index is built from the
+ * unified view of the claims, hence the system default claims and the claim property defaults are already applied.
+ * Updates create a new index which reuses the mappings of the dialects that are not changed.
+ */
+public class ClaimMappingIndex implements Serializable {
+
+    private static final long serialVersionUID = -1948520127465019824L;
+
+    private final Set<String> localClaimURIs;
+    private final Map<String, DialectMappings> dialectMappings;
+    private final Map<String, List<Claim>> mappedExternalClaims;
+
+    public ClaimMappingIndex(Collection<String> localClaimURIs, Map<String, List<ExternalClaim>> externalClaims) {
+
+        Map<String, DialectMappings> mappings = new HashMap<>();
+        for (Map.Entry<String, List<ExternalClaim>> entry : externalClaims.entrySet()) {
+            mappings.put(entry.getKey(), new DialectMappings(entry.getValue()));
+        }
+        this.localClaimURIs = Collections.unmodifiableSet(new HashSet<>(localClaimURIs));
+        this.dialectMappings = Collections.unmodifiableMap(mappings);
+        this.mappedExternalClaims = buildMappedExternalClaims(mappings);
+    }
+
+    private ClaimMappingIndex(Set<String> localClaimURIs, Map<String, DialectMappings> dialectMappings) {
+
+        this.localClaimURIs = localClaimURIs;
+        this.dialectMappings = Collections.unmodifiableMap(dialectMappings);
+        this.mappedExternalClaims = buildMappedExternalClaims(dialectMappings);
+    }
+
+    /**
+     * Get the URIs of the local claims of the tenant.
+     *
+     * @return Local claim URIs.
+     */
+    public Set<String> getLocalClaimURIs() {
+
+        return localClaimURIs;
+    }
+
+    /**
+     * Check whether the index holds the mappings of the given external claim dialect.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return True if the dialect is indexed.
+     */
+    public boolean containsClaimDialect(String externalClaimDialectURI) {
+
+        return dialectMappings.containsKey(externalClaimDialectURI);
+    }
+
+    /**
+     * Get the external claim URI to mapped local claim URI map of an external claim dialect.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return Unmodifiable map of the mappings. Empty if the dialect is not indexed.
+     */
+    public Map<String, String> getExternalToLocalClaimMappings(String externalClaimDialectURI) {
+
+        DialectMappings mappings = dialectMappings.get(externalClaimDialectURI);
+        return mappings == null ? Collections.emptyMap() : mappings.externalToLocal;
+    }
+
+    /**
+     * Get the local claim URI to external claim URI map of an external claim dialect.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return Unmodifiable map of the mappings. Empty if the dialect is not indexed.
+     */
+    public Map<String, String> getLocalToExternalClaimMappings(String externalClaimDialectURI) {
+
+        DialectMappings mappings = dialectMappings.get(externalClaimDialectURI);
+        return mappings == null ? Collections.emptyMap() : mappings.localToExternal;
+    }
+
+    /**
+     * Get the external claims of all the dialects which are mapped to a local claim.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return Unmodifiable list of the mapped external claims.
+     */
+    public List<Claim> getMappedExternalClaims(String localClaimURI) {
+
+        List<Claim> claims = mappedExternalClaims.get(localClaimURI);
+        return claims == null ? Collections.emptyList() : claims;
+    }
+
+    /**
+     * Create a new index with the given external claims as the claims of the dialect.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @param externalClaims          External claims of the dialect.
+     * @return Updated index.
+     */
+    public ClaimMappingIndex withClaimDialect(String externalClaimDialectURI, List<ExternalClaim> externalClaims) {
+
+        Map<String, DialectMappings> mappings = new HashMap<>(dialectMappings);
+        mappings.put(externalClaimDialectURI, new DialectMappings(externalClaims));
+        return new ClaimMappingIndex(localClaimURIs, mappings);
+    }
+
+    /**
+     * Create a new index without the mappings of the given dialect.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return Updated index.
+     */
+    public ClaimMappingIndex withoutClaimDialect(String externalClaimDialectURI) {
+
+        if (!dialectMappings.containsKey(externalClaimDialectURI)) {
+            return this;
+        }
+        Map<String, DialectMappings> mappings = new HashMap<>(dialectMappings);
+        mappings.remove(externalClaimDialectURI);
+        return new ClaimMappingIndex(localClaimURIs, mappings);
+    }
+
+    /**
+     * Create a new index with the given local claim URIs.
+     *
+     * @param localClaimURIs Local claim URIs.
+     * @return Updated index.
+     */
+    public ClaimMappingIndex withLocalClaimURIs(Collection<String> localClaimURIs) {
+
+        return new ClaimMappingIndex(Collections.unmodifiableSet(new HashSet<>(localClaimURIs)),
+                new HashMap<>(dialectMappings));
+    }
+
+    private static Map<String, List<Claim>> buildMappedExternalClaims(Map<String, DialectMappings> mappings) {
+
+        Map<String, List<Claim>> claimsByLocalClaim = new HashMap<>();
+        for (DialectMappings dialect : mappings.values()) {
+            for (ExternalClaim externalClaim : dialect.externalClaims) {
+                claimsByLocalClaim.computeIfAbsent(externalClaim.getMappedLocalClaim(), k -> new ArrayList<>())
+                        .add(externalClaim);
+            }
+        }
+        claimsByLocalClaim.replaceAll((localClaimURI, claims) -> Collections.unmodifiableList(claims));
+        return Collections.unmodifiableMap(claimsByLocalClaim);
+    }
+
+    /**
+     * Mappings of a single external claim dialect.
+     */
+    private static class DialectMappings implements Serializable {
+
+        private static final long serialVersionUID = 5390268123371542976L;
+
+        private final List<ExternalClaim> externalClaims;
+        private final Map<String, String> externalToLocal;
+        private final Map<String, String> localToExternal;
+
+        DialectMappings(List<ExternalClaim> externalClaims) {
+
+            Map<String, String> externalToLocalMap = new HashMap<>(externalClaims.size());
+            Map<String, String> localToExternalMap = new HashMap<>(externalClaims.size());
+            for (ExternalClaim externalClaim : externalClaims) {
+                externalToLocalMap.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+                localToExternalMap.put(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
+            }
+            this.externalClaims = Collections.unmodifiableList(new ArrayList<>(externalClaims));
+            this.externalToLocal = Collections.unmodifiableMap(externalToLocalMap);
+            this.localToExternal = Collections.unmodifiableMap(localToExternalMap);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.model;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimMappingIndex.
+ */
+public class ClaimMappingIndexTest {
+
+    private static final String LOCAL_EMAIL = "http://wso2.org/claims/emailaddress";
+    private static final String LOCAL_USERNAME = "http://wso2.org/claims/username";
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    private static final String SCIM_DIALECT = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String OIDC_EMAIL = "email";
+    private static final String SCIM_EMAIL = "urn:ietf:params:scim:schemas:core:2.0:User:emails";
+
+    private ClaimMappingIndex claimMappingIndex;
+
+    @BeforeMethod
+    public void setUp() {
+
+        Map<String, List<ExternalClaim>> externalClaims = new HashMap<>();
+        externalClaims.put(OIDC_DIALECT, Collections.singletonList(
+                new ExternalClaim(OIDC_DIALECT, OIDC_EMAIL, LOCAL_EMAIL)));
+        externalClaims.put(SCIM_DIALECT, Collections.singletonList(
+                new ExternalClaim(SCIM_DIALECT, SCIM_EMAIL, LOCAL_EMAIL)));
+        claimMappingIndex = new ClaimMappingIndex(Arrays.asList(LOCAL_EMAIL, LOCAL_USERNAME), externalClaims);
+    }
+
+    @Test
+    public void testClaimMappingsOfDialect() {
+
+        assertTrue(claimMappingIndex.containsClaimDialect(OIDC_DIALECT));
+        assertEquals(claimMappingIndex.getExternalToLocalClaimMappings(OIDC_DIALECT),
+                Collections.singletonMap(OIDC_EMAIL, LOCAL_EMAIL));
+        assertEquals(claimMappingIndex.getLocalToExternalClaimMappings(OIDC_DIALECT),
+                Collections.singletonMap(LOCAL_EMAIL, OIDC_EMAIL));
+        assertTrue(claimMappingIndex.getExternalToLocalClaimMappings("http://unknown.org/claims").isEmpty());
+        assertEquals(claimMappingIndex.getLocalClaimURIs().size(), 2);
+    }
+
+    @Test
+    public void testMappedExternalClaims() {
+
+        List<Claim> mappedExternalClaims = claimMappingIndex.getMappedExternalClaims(LOCAL_EMAIL);
+        assertEquals(mappedExternalClaims.size(), 2);
+        assertTrue(mappedExternalClaims.contains(new ExternalClaim(OIDC_DIALECT, OIDC_EMAIL, LOCAL_EMAIL)));
+        assertTrue(mappedExternalClaims.contains(new ExternalClaim(SCIM_DIALECT, SCIM_EMAIL, LOCAL_EMAIL)));
+        assertTrue(claimMappingIndex.getMappedExternalClaims(LOCAL_USERNAME).isEmpty());
+    }
+
+    @Test
+    public void testWithClaimDialect() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withClaimDialect(OIDC_DIALECT, Collections.singletonList(
+                new ExternalClaim(OIDC_DIALECT, "username", LOCAL_USERNAME)));
+
+        assertEquals(updatedIndex.getExternalToLocalClaimMappings(OIDC_DIALECT),
+                Collections.singletonMap("username", LOCAL_USERNAME));
+        assertSame(updatedIndex.getExternalToLocalClaimMappings(SCIM_DIALECT),
+                claimMappingIndex.getExternalToLocalClaimMappings(SCIM_DIALECT));
+        assertEquals(updatedIndex.getMappedExternalClaims(LOCAL_EMAIL).size(), 1);
+        assertEquals(updatedIndex.getMappedExternalClaims(LOCAL_USERNAME).size(), 1);
+        // The original index is not modified.
+        assertEquals(claimMappingIndex.getExternalToLocalClaimMappings(OIDC_DIALECT),
+                Collections.singletonMap(OIDC_EMAIL, LOCAL_EMAIL));
+    }
+
+    @Test
+    public void testWithoutClaimDialect() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withoutClaimDialect(SCIM_DIALECT);
+
+        assertFalse(updatedIndex.containsClaimDialect(SCIM_DIALECT));
+        assertEquals(updatedIndex.getMappedExternalClaims(LOCAL_EMAIL).size(), 1);
+        assertSame(updatedIndex.withoutClaimDialect(SCIM_DIALECT), updatedIndex);
+    }
+
+    @Test
+    public void testWithLocalClaimURIs() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withLocalClaimURIs(Collections.singletonList(LOCAL_EMAIL));
+
+        assertEquals(updatedIndex.getLocalClaimURIs(), Collections.singleton(LOCAL_EMAIL));
+        assertTrue(updatedIndex.containsClaimDialect(OIDC_DIALECT));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testMappingsAreUnmodifiable() {
+
+        claimMappingIndex.getExternalToLocalClaimMappings(OIDC_DIALECT).put("phone", LOCAL_USERNAME);
+    }
+}
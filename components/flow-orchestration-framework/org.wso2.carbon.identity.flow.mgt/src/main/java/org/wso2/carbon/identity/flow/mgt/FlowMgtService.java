@@ -24,6 +24,7 @@ import static org.wso2.carbon.identity.flow.mgt.utils.FlowMgtUtils.getInitiatorI
 import static org.wso2.carbon.identity.flow.mgt.utils.FlowMgtUtils.isEnableV2AuditLogs;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.flow.mgt.dao.CacheBackedFlowDAO;
 import org.wso2.carbon.identity.flow.mgt.dao.FlowDAO;
 import org.wso2.carbon.identity.flow.mgt.dao.FlowDAOImpl;
 import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtFrameworkException;
@@ -38,7 +39,7 @@ import org.wso2.carbon.utils.AuditLog;
 public class FlowMgtService {
 
     private static final FlowMgtService instance = new FlowMgtService();
-    private static final FlowDAO flowDAO = new FlowDAOImpl();
+    private static final FlowDAO flowDAO = new CacheBackedFlowDAO(new FlowDAOImpl());
 
     private FlowMgtService() {
 
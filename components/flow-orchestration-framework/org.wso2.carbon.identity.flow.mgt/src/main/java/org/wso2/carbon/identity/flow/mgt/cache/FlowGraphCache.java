@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the graphs of the flows, maintained per tenant and flow type.
+ */
+public class FlowGraphCache extends BaseCache<FlowGraphCacheKey, FlowGraphCacheEntry> {
+
+    private static final String FLOW_GRAPH_CACHE_NAME = "FlowGraphCache";
+
+    private static volatile FlowGraphCache instance;
+
+    private FlowGraphCache() {
+
+        super(FLOW_GRAPH_CACHE_NAME);
+    }
+
+    public static FlowGraphCache getInstance() {
+
+        if (instance == null) {
+            synchronized (FlowGraphCache.class) {
+                if (instance == null) {
+                    instance = new FlowGraphCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
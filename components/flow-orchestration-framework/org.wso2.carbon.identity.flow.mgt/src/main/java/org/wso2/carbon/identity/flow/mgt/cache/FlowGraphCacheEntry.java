@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.flow.mgt.model.GraphConfig;
+
+/**
+ * Cache entry of the flow graph cache. The cached graph is shared across the flow executions and hence must not be
+ * modified. Use {@link org.wso2.carbon.identity.flow.mgt.utils.FlowMgtUtils#copyGraphConfig(GraphConfig)} to get a
+ * copy which can be used by a single flow execution.
+ */
+public class FlowGraphCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3274096188465430131L;
+
+    private final GraphConfig graphConfig;
+
+    public FlowGraphCacheEntry(GraphConfig graphConfig) {
+
+        this.graphConfig = graphConfig;
+    }
+
+    public GraphConfig getGraphConfig() {
+
+        return graphConfig;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key of the flow graph cache. The graphs are cached per tenant, hence the key holds only the flow type.
+ */
+public class FlowGraphCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4106153894325498512L;
+
+    private final String flowType;
+
+    public FlowGraphCacheKey(String flowType) {
+
+        this.flowType = flowType;
+    }
+
+    public String getFlowType() {
+
+        return flowType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FlowGraphCacheKey)) {
+            return false;
+        }
+        return flowType.equals(((FlowGraphCacheKey) o).flowType);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return flowType.hashCode();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.mgt.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.flow.mgt.cache.FlowGraphCache;
+import org.wso2.carbon.identity.flow.mgt.cache.FlowGraphCacheEntry;
+import org.wso2.carbon.identity.flow.mgt.cache.FlowGraphCacheKey;
+import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtFrameworkException;
+import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtServerException;
+import org.wso2.carbon.identity.flow.mgt.model.FlowDTO;
+import org.wso2.carbon.identity.flow.mgt.model.GraphConfig;
+
+import static org.wso2.carbon.identity.flow.mgt.utils.FlowMgtUtils.copyGraphConfig;
+
+/**
+ * Cache backed implementation of the {@link FlowDAO}. The graphs are cached per tenant and flow type, and each caller
+ * gets its own copy of the cached graph since the flow execution keeps the traversal state in the graph.
+ */
+public class CacheBackedFlowDAO implements FlowDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedFlowDAO.class);
+
+    private final FlowDAO flowDAO;
+    private final FlowGraphCache flowGraphCache;
+
+    public CacheBackedFlowDAO(FlowDAO flowDAO) {
+
+        this.flowDAO = flowDAO;
+        this.flowGraphCache = FlowGraphCache.getInstance();
+    }
+
+    @Override
+    public void updateFlow(String flowType, GraphConfig graphConfig, int tenantId, String flowName)
+            throws FlowMgtFrameworkException {
+
+        flowGraphCache.clearCacheEntry(new FlowGraphCacheKey(flowType), tenantId);
+        flowDAO.updateFlow(flowType, graphConfig, tenantId, flowName);
+        // Clear again to drop a graph which may have been cached from the old flow during the update.
+        flowGraphCache.clearCacheEntry(new FlowGraphCacheKey(flowType), tenantId);
+    }
+
+    @Override
+    public FlowDTO getFlow(String flowType, int tenantId) throws FlowMgtServerException {
+
+        return flowDAO.getFlow(flowType, tenantId);
+    }
+
+    @Override
+    public GraphConfig getGraphConfig(String flowType, int tenantId) throws FlowMgtFrameworkException {
+
+        FlowGraphCacheKey cacheKey = new FlowGraphCacheKey(flowType);
+        FlowGraphCacheEntry entry = flowGraphCache.getValueFromCache(cacheKey, tenantId);
+        if (entry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Graph of the flow type: " + flowType + " is found in the cache for tenant: " + tenantId);
+            }
+            return copyGraphConfig(entry.getGraphConfig());
+        }
+
+        GraphConfig graphConfig = flowDAO.getGraphConfig(flowType, tenantId);
+        if (graphConfig == null) {
+            return null;
+        }
+        flowGraphCache.addToCache(cacheKey, new FlowGraphCacheEntry(graphConfig), tenantId);
+        return copyGraphConfig(graphConfig);
+    }
+}
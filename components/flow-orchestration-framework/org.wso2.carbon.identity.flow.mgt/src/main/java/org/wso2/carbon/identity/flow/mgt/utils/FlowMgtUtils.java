@@ -28,9 +28,19 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.flow.mgt.Constants.ErrorMessages;
 import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtClientException;
 import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtServerException;
+import org.wso2.carbon.identity.flow.mgt.model.ComponentDTO;
+import org.wso2.carbon.identity.flow.mgt.model.DataDTO;
+import org.wso2.carbon.identity.flow.mgt.model.GraphConfig;
+import org.wso2.carbon.identity.flow.mgt.model.NodeConfig;
+import org.wso2.carbon.identity.flow.mgt.model.StepDTO;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class FlowMgtUtils {
 
     private FlowMgtUtils() {
@@ -152,4 +162,86 @@ public class FlowMgtUtils {
         }
         return user;
     }
+
+    /**
+     * Copy the given graph so that the copy can be used by a single flow execution. The flow execution records the
+     * traversal state in the nodes and decorates the page content of the current node, hence the nodes and the page
+     * content are copied while the immutable parts such as the edges, actions and executors are shared.
+     *
+     * @param graphConfig Graph to be copied.
+     * @return Copy of the graph.
+     */
+    public static GraphConfig copyGraphConfig(GraphConfig graphConfig) {
+
+        GraphConfig copy = new GraphConfig();
+        copy.setId(graphConfig.getId());
+        copy.setFirstNodeId(graphConfig.getFirstNodeId());
+        for (NodeConfig nodeConfig : graphConfig.getNodeConfigs().values()) {
+            copy.addNodeConfig(new NodeConfig.Builder()
+                    .id(nodeConfig.getId())
+                    .type(nodeConfig.getType())
+                    .isFirstNode(nodeConfig.isFirstNode())
+                    .nextNodeId(nodeConfig.getNextNodeId())
+                    .previousNodeId(nodeConfig.getPreviousNodeId())
+                    .executorConfig(nodeConfig.getExecutorConfig())
+                    .edges(nodeConfig.getEdges())
+                    .build());
+        }
+        for (Map.Entry<String, StepDTO> pageMapping : graphConfig.getNodePageMappings().entrySet()) {
+            copy.addNodePageMapping(pageMapping.getKey(), copyStep(pageMapping.getValue()));
+        }
+        return copy;
+    }
+
+    private static StepDTO copyStep(StepDTO step) {
+
+        if (step == null) {
+            return null;
+        }
+        return new StepDTO.Builder()
+                .id(step.getId())
+                .type(step.getType())
+                .coordinateX(step.getCoordinateX())
+                .coordinateY(step.getCoordinateY())
+                .width(step.getWidth())
+                .height(step.getHeight())
+                .data(copyData(step.getData()))
+                .build();
+    }
+
+    private static DataDTO copyData(DataDTO data) {
+
+        if (data == null) {
+            return null;
+        }
+        return new DataDTO.Builder()
+                .components(copyComponents(data.getComponents()))
+                .action(data.getAction())
+                .url(data.getRedirectURL())
+                .requiredParams(data.getRequiredParams() == null ? null : new ArrayList<>(data.getRequiredParams()))
+                .additionalData(data.getAdditionalData() == null ? null : new HashMap<>(data.getAdditionalData()))
+                .webAuthnData(data.getWebAuthnData() == null ? null : new HashMap<>(data.getWebAuthnData()))
+                .build();
+    }
+
+    private static List<ComponentDTO> copyComponents(List<ComponentDTO> components) {
+
+        if (components == null) {
+            return null;
+        }
+        List<ComponentDTO> copies = new ArrayList<>(components.size());
+        for (ComponentDTO component : components) {
+            copies.add(new ComponentDTO.Builder()
+                    .id(component.getId())
+                    .category(component.getCategory())
+                    .type(component.getType())
+                    .identifier(component.getIdentifier())
+                    .variant(component.getVariant())
+                    .action(component.getAction())
+                    .configs(component.getConfigs() == null ? null : new HashMap<>(component.getConfigs()))
+                    .components(copyComponents(component.getComponents()))
+                    .build());
+        }
+        return copies;
+    }
 }
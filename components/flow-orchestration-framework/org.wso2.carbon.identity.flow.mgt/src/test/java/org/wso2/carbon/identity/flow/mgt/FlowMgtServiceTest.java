@@ -26,6 +26,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.flow.mgt.exception.FlowMgtFrameworkException;
 import org.wso2.carbon.identity.flow.mgt.model.ActionDTO;
@@ -40,10 +41,15 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.mockStatic;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import static org.wso2.carbon.identity.flow.mgt.Constants.ActionTypes.EXECUTOR;
 import static org.wso2.carbon.identity.flow.mgt.Constants.ActionTypes.NEXT;
@@ -71,6 +77,7 @@ import static org.wso2.carbon.identity.flow.mgt.TestHelperMethods.getFilePath;
 /**
  * Test class for FlowMgtService.
  */
+@WithCarbonHome
 public class FlowMgtServiceTest {
 
     private static final String DB_NAME = "flow_mgt_dao_db";
@@ -127,6 +134,40 @@ public class FlowMgtServiceTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testUpdateFlow"})
+    public void testGetCachedGraphIsCopiedPerCall() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSource);
+            GraphConfig firstGraph = service.getGraphConfig("SELF_REGISTRATION", TEST_TENANT_ID);
+            String firstNodeId = firstGraph.getFirstNodeId();
+            String pageNodeId = firstGraph.getNodePageMappings().keySet().iterator().next();
+            firstGraph.getNodeConfigs().get(firstNodeId).setPreviousNodeId("modified");
+            firstGraph.getNodePageMappings().get(pageNodeId).getData().addAdditionalData("error", "modified");
+
+            GraphConfig secondGraph = service.getGraphConfig("SELF_REGISTRATION", TEST_TENANT_ID);
+            assertNotSame(secondGraph, firstGraph);
+            assertEquals(secondGraph.getNodeConfigs().size(), firstGraph.getNodeConfigs().size());
+            assertNull(secondGraph.getNodeConfigs().get(firstNodeId).getPreviousNodeId());
+            Map<String, String> additionalData =
+                    secondGraph.getNodePageMappings().get(pageNodeId).getData().getAdditionalData();
+            assertTrue(additionalData == null || !additionalData.containsKey("error"));
+        }
+    }
+
+    @Test(dependsOnMethods = {"testGetCachedGraphIsCopiedPerCall"})
+    public void testUpdateFlowInvalidatesCachedGraph() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSource);
+            String cachedGraphId = service.getGraphConfig("SELF_REGISTRATION", TEST_TENANT_ID).getId();
+            service.updateFlow(createSampleGraphConfig(), TEST_TENANT_ID);
+
+            GraphConfig updatedGraph = service.getGraphConfig("SELF_REGISTRATION", TEST_TENANT_ID);
+            assertNotEquals(updatedGraph.getId(), cachedGraphId);
+        }
+    }
+
     @DataProvider(name = "invalidStepData")
     public Object[][] invalidStepData() {
 
@@ -87,6 +87,9 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
     @Deprecated
     public ServiceURL build() throws URLBuilderException {
 
+        if (isProfileApplicable()) {
+            return buildServiceURL(ServiceURLProfile.getProfile(this).getProxyHostName(this));
+        }
         return buildServiceURL(fetchProxyHostName());
     }
 
@@ -106,6 +109,10 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
 
     private ServiceURL buildServiceURL(String proxyHostName) throws URLBuilderException {
 
+        if (isProfileApplicable()) {
+            return buildServiceURL(proxyHostName, ServiceURLProfile.getProfile(this));
+        }
+
         String protocol = fetchProtocol();
         String internalHostName = fetchInternalHostName();
         String authenticationEndpointHostName = fetchAuthenticationEndpointHostName();
@@ -144,12 +151,85 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
                 absoluteInternalUrl, relativePublicUrl, relativeInternalUrl, absolutePublicUrlWithoutURLPath);
     }
 
-    protected String getResolvedUrlPath(String tenantDomain) {
+    /**
+     * Build the service URL on the precomputed profile of the server configuration. The tenant and organization
+     * qualified paths depend on the thread local context of the request. Hence, only they are resolved here, and
+     * each URL is assembled on a single pre-sized builder.
+     *
+     * @param proxyHostName Proxy host name.
+     * @param profile       Service URL profile of the current configuration.
+     * @return {@link ServiceURL}.
+     * @throws URLBuilderException If error occurred while constructing the URL.
+     */
+    private ServiceURL buildServiceURL(String proxyHostName, ServiceURLProfile profile) throws URLBuilderException {
 
+        String tenantDomain = StringUtils.isNotBlank(tenant) ? tenant : resolveTenantDomain();
+        String tenantDomainForPublicUrl = resolveTenantDomainForUrlBuilder(tenantDomain);
+        String resolvedFragment = buildFragment(fragment, fragmentParams);
         String resolvedUrlContext = buildUrlPath(urlPaths);
+        boolean tenantQualifiedUrls = IdentityTenantUtil.shouldUseTenantQualifiedURLs();
+        String urlPath = getResolvedUrlPath(resolvedUrlContext, tenantDomain, tenantQualifiedUrls);
+        String urlPathForPublicUrl = StringUtils.equals(tenantDomain, tenantDomainForPublicUrl) ? urlPath :
+                getResolvedUrlPath(resolvedUrlContext, tenantDomainForPublicUrl, tenantQualifiedUrls);
+        String resolvedParamsString = getResolvedParamString(parameters);
+
+        String absoluteInternalUrlPrefix = profile.getAbsoluteInternalUrlPrefix();
+        StringBuilder internalUrl = new StringBuilder(absoluteInternalUrlPrefix.length() + urlPath.length() +
+                resolvedParamsString.length() + resolvedFragment.length() + 3);
+        internalUrl.append(absoluteInternalUrlPrefix);
+        int internalUrlPathIndex = internalUrl.length();
+        appendContextToUri(internalUrl, urlPath);
+        appendParamsToUri(internalUrl, internalUrlPathIndex, resolvedParamsString, resolvedFragment);
+        String relativeInternalUrl = internalUrl.substring(internalUrlPathIndex);
+        String absoluteInternalUrl = internalUrl.toString();
+
+        String publicUrlPrefix = profile.getAbsolutePublicUrlPrefix(proxyHostName);
+        if (publicUrlPrefix == null) {
+            publicUrlPrefix = fetchAbsolutePublicUrlWithoutURLPath(profile.getProtocol(), proxyHostName,
+                    profile.getProxyPort());
+            profile.cacheAbsolutePublicUrlPrefix(proxyHostName, publicUrlPrefix);
+        }
+        String endpointUrlPrefix = profile.getEndpointUrlPrefix(urlPathForPublicUrl);
+        String absolutePublicUrlWithoutURLPath = endpointUrlPrefix != null ? endpointUrlPrefix : publicUrlPrefix;
+        String relativePublicUrlPrefix = profile.getRelativePublicUrlPrefix();
+        StringBuilder publicUrl = new StringBuilder(absolutePublicUrlWithoutURLPath.length() +
+                relativePublicUrlPrefix.length() + urlPathForPublicUrl.length() + resolvedParamsString.length() +
+                resolvedFragment.length() + 3);
+        publicUrl.append(absolutePublicUrlWithoutURLPath).append(relativePublicUrlPrefix);
+        appendContextToUri(publicUrl, urlPathForPublicUrl);
+        int publicUrlPathIndex = absolutePublicUrlWithoutURLPath.length();
+        appendParamsToUri(publicUrl, publicUrlPathIndex, resolvedParamsString, resolvedFragment);
+        String relativePublicUrl = publicUrl.substring(publicUrlPathIndex);
+        String absolutePublicURL = publicUrl.toString();
+
+        return new ServiceURLImpl(profile.getProtocol(), proxyHostName, profile.getInternalHostName(),
+                profile.getProxyPort(), profile.getTransportPort(), tenantDomain, profile.getProxyContextPath(),
+                urlPath, parameters, resolvedFragment, absolutePublicURL, absoluteInternalUrl, relativePublicUrl,
+                relativeInternalUrl, absolutePublicUrlWithoutURLPath);
+    }
+
+    /**
+     * The profile holds the values resolved by the fetch methods of this class. Hence, it is used only when those
+     * methods are not overridden by an extended builder.
+     *
+     * @return True if the service URL profile can be used.
+     */
+    private boolean isProfileApplicable() {
+
+        return getClass() == DefaultServiceURLBuilder.class;
+    }
+
+    protected String getResolvedUrlPath(String tenantDomain) {
+
+        return getResolvedUrlPath(buildUrlPath(urlPaths), tenantDomain,
+                IdentityTenantUtil.shouldUseTenantQualifiedURLs());
+    }
+
+    private String getResolvedUrlPath(String resolvedUrlContext, String tenantDomain, boolean tenantQualifiedUrls) {
+
         StringBuilder resolvedUrlStringBuilder = new StringBuilder();
 
-        if (IdentityTenantUtil.shouldUseTenantQualifiedURLs() && !resolvedUrlContext.startsWith("t/") &&
+        if (tenantQualifiedUrls && !resolvedUrlContext.startsWith("t/") &&
                 !resolvedUrlContext.startsWith("o/")) {
             if (mandateTenantedPath || isSuperTenantRequiredInUrl() || isNotSuperTenant(tenantDomain)) {
                 setURL(resolvedUrlStringBuilder, tenantDomain);
@@ -481,6 +561,27 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
         }
     }
 
+    /**
+     * Append the query parameters and the fragment to a URL, without trimming the part of the URL before the given
+     * index.
+     */
+    private void appendParamsToUri(StringBuilder url, int pathIndex, String resolvedParamsString,
+                                   String resolvedFragment) {
+
+        if (url.length() > pathIndex && url.charAt(url.length() - 1) == '/') {
+            url.setLength(url.length() - 1);
+        }
+        if (StringUtils.isNotBlank(resolvedParamsString)) {
+            url.append("?").append(resolvedParamsString);
+        }
+        if (url.length() > pathIndex && url.charAt(url.length() - 1) == '/') {
+            url.setLength(url.length() - 1);
+        }
+        if (StringUtils.isNotBlank(resolvedFragment)) {
+            url.append("#").append(resolvedFragment);
+        }
+    }
+
     protected void appendContextToUri(StringBuilder serverUrl, String contextPath) {
 
         if (StringUtils.isNotBlank(contextPath)) {
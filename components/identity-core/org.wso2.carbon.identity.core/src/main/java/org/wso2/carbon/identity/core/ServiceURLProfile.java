@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.identity.core.internal.IdentityCoreServiceComponent;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.PROXY_CONTEXT_PATH;
+
+/**
+ * Precomputed, server wide parts of the service URLs built by {@link DefaultServiceURLBuilder}.
+ * The protocol, host names, ports, proxy context path and the endpoint host names do not change between requests.
+ * Hence, they are resolved and normalized into absolute and relative URL prefixes once, instead of reading them from
+ * the server configuration on every build. A profile belongs to the configuration it was built from and is rebuilt
+ * when the identity configuration is reloaded or the server configuration or the configuration context is replaced.
+ */
+public final class ServiceURLProfile {
+
+    private static final int MAX_CACHED_PUBLIC_HOST_NAMES = 64;
+    private static final AtomicReference<ServiceURLProfile> PROFILE = new AtomicReference<>();
+
+    private final IdentityConfigSnapshot configSnapshot;
+    private final ServerConfiguration serverConfiguration;
+    private final ConfigurationContextService configurationContextService;
+
+    private final String protocol;
+    private final String internalHostName;
+    private final int proxyPort;
+    private final int transportPort;
+    private final String proxyContextPath;
+    private final String relativePublicUrlPrefix;
+    private final String absoluteInternalUrlPrefix;
+    private final String authenticationEndpointPath;
+    private final String authenticationEndpointUrlPrefix;
+    private final String recoveryEndpointPath;
+    private final String recoveryEndpointUrlPrefix;
+    private final Map<String, String> publicUrlPrefixes = new ConcurrentHashMap<>();
+    private volatile String proxyHostName;
+
+    private ServiceURLProfile(DefaultServiceURLBuilder builder, IdentityConfigSnapshot configSnapshot,
+                              ServerConfiguration serverConfiguration,
+                              ConfigurationContextService configurationContextService) throws URLBuilderException {
+
+        this.configSnapshot = configSnapshot;
+        this.serverConfiguration = serverConfiguration;
+        this.configurationContextService = configurationContextService;
+
+        protocol = builder.fetchProtocol();
+        internalHostName = builder.fetchInternalHostName();
+        proxyPort = builder.fetchPort();
+        transportPort = builder.fetchTransportPort();
+        proxyContextPath = serverConfiguration.getFirstProperty(PROXY_CONTEXT_PATH);
+
+        StringBuilder relativePrefix = new StringBuilder();
+        builder.appendContextToUri(relativePrefix, proxyContextPath);
+        relativePublicUrlPrefix = relativePrefix.toString();
+        absoluteInternalUrlPrefix = builder.fetchAbsoluteInternalUrl(protocol, internalHostName, transportPort, "");
+
+        String authenticationEndpointHostName = builder.fetchAuthenticationEndpointHostName();
+        authenticationEndpointPath = builder.fetchAuthenticationEndpointPath();
+        authenticationEndpointUrlPrefix = authenticationEndpointHostName == null ? null :
+                builder.fetchAbsolutePublicUrlWithoutURLPath(protocol, authenticationEndpointHostName, proxyPort);
+        String recoveryEndpointHostName = builder.fetchRecoveryEndpointHostName();
+        recoveryEndpointPath = builder.fetchRecoveryEndpointPath();
+        recoveryEndpointUrlPrefix = recoveryEndpointHostName == null ? null :
+                builder.fetchAbsolutePublicUrlWithoutURLPath(protocol, recoveryEndpointHostName, proxyPort);
+    }
+
+    /**
+     * Get the profile of the current configuration, building it if the configuration has changed since the last
+     * profile was built.
+     *
+     * @param builder Builder used to resolve the server wide URL parts.
+     * @return Service URL profile.
+     * @throws URLBuilderException If an error occurred while resolving the URL parts.
+     */
+    static ServiceURLProfile getProfile(DefaultServiceURLBuilder builder) throws URLBuilderException {
+
+        IdentityConfigSnapshot configSnapshot = IdentityConfigSnapshot.getInstance();
+        ServerConfiguration serverConfiguration = ServerConfiguration.getInstance();
+        ConfigurationContextService configurationContextService =
+                IdentityCoreServiceComponent.getConfigurationContextService();
+
+        ServiceURLProfile profile = PROFILE.get();
+        if (profile != null && profile.configSnapshot == configSnapshot &&
+                profile.serverConfiguration == serverConfiguration &&
+                profile.configurationContextService == configurationContextService) {
+            return profile;
+        }
+        profile = new ServiceURLProfile(builder, configSnapshot, serverConfiguration, configurationContextService);
+        PROFILE.set(profile);
+        return profile;
+    }
+
+    /**
+     * Discard the current profile, so that the next service URL build resolves the server wide URL parts again.
+     */
+    public static void invalidate() {
+
+        PROFILE.set(null);
+    }
+
+    String getProtocol() {
+
+        return protocol;
+    }
+
+    /**
+     * Get the configured proxy host name. It is resolved on the first use, since the builds which are given a host
+     * name do not need it.
+     *
+     * @param builder Builder used to resolve the host name.
+     * @return Proxy host name.
+     * @throws URLBuilderException If an error occurred while resolving the host name.
+     */
+    String getProxyHostName(DefaultServiceURLBuilder builder) throws URLBuilderException {
+
+        String hostName = proxyHostName;
+        if (hostName == null) {
+            hostName = builder.fetchProxyHostName();
+            proxyHostName = hostName;
+        }
+        return hostName;
+    }
+
+    String getInternalHostName() {
+
+        return internalHostName;
+    }
+
+    int getProxyPort() {
+
+        return proxyPort;
+    }
+
+    int getTransportPort() {
+
+        return transportPort;
+    }
+
+    String getProxyContextPath() {
+
+        return proxyContextPath;
+    }
+
+    /**
+     * Get the normalized proxy context path, which prefixes all the relative public URLs.
+     *
+     * @return Relative public URL prefix.
+     */
+    String getRelativePublicUrlPrefix() {
+
+        return relativePublicUrlPrefix;
+    }
+
+    /**
+     * Get the protocol, internal host name and transport port part of the absolute internal URLs.
+     *
+     * @return Absolute internal URL prefix.
+     */
+    String getAbsoluteInternalUrlPrefix() {
+
+        return absoluteInternalUrlPrefix;
+    }
+
+    /**
+     * Get the absolute public URL prefix of the authentication or the recovery endpoint, if the given URL path
+     * belongs to an endpoint which is served from its own host name.
+     *
+     * @param urlPath Resolved URL path.
+     * @return Absolute public URL prefix of the endpoint, or null if the path does not belong to such an endpoint.
+     */
+    String getEndpointUrlPrefix(String urlPath) {
+
+        if (StringUtils.isBlank(urlPath)) {
+            return null;
+        }
+        if (recoveryEndpointUrlPrefix != null && recoveryEndpointPath != null &&
+                urlPath.contains(recoveryEndpointPath)) {
+            return recoveryEndpointUrlPrefix;
+        }
+        if (authenticationEndpointUrlPrefix != null && authenticationEndpointPath != null &&
+                urlPath.contains(authenticationEndpointPath)) {
+            return authenticationEndpointUrlPrefix;
+        }
+        return null;
+    }
+
+    /**
+     * Get the cached absolute public URL prefix of a host name.
+     *
+     * @param hostName Proxy host name.
+     * @return Absolute public URL prefix, or null if the prefix of the host name is not cached yet.
+     */
+    String getAbsolutePublicUrlPrefix(String hostName) {
+
+        return hostName == null ? null : publicUrlPrefixes.get(hostName);
+    }
+
+    /**
+     * Cache the absolute public URL prefix of a host name. The number of cached host names is bounded, since the
+     * host names may come from the requests.
+     *
+     * @param hostName Proxy host name.
+     * @param prefix   Absolute public URL prefix of the host name.
+     */
+    void cacheAbsolutePublicUrlPrefix(String hostName, String prefix) {
+
+        if (publicUrlPrefixes.size() < MAX_CACHED_PUBLIC_HOST_NAMES) {
+            publicUrlPrefixes.put(hostName, prefix);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.core.cache;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.caching.impl.CacheImpl;
@@ -25,6 +26,7 @@ import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
@@ -53,6 +55,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
     private final IdentityCacheConfig identityCacheConfig;
+    private final LocalCacheTier<K, V> localCacheTier;
 
     public BaseCache(String cacheName) {
 
@@ -85,6 +88,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } else {
             this.cacheListeners = Collections.emptyList();
         }
+        localCacheTier = buildLocalCacheTier();
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
@@ -131,6 +135,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             cache = cacheManager.getCache(cacheName);
             setCapacity((CacheImpl<K, V>) cache);
         }
+        if (localCacheTier != null && cache != null) {
+            localCacheTier.registerInvalidationListener(
+                    CarbonContext.getThreadLocalCarbonContext().getTenantDomain(), cache);
+        }
         return cache;
     }
 
@@ -153,6 +161,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.put(key, entry);
             }
+            invalidateLocalCacheTier(key, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -177,6 +186,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.put(key, entry);
             }
+            invalidateLocalCacheTier(key, tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -200,6 +210,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
+            invalidateLocalCacheTier(key, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -223,6 +234,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
+            invalidateLocalCacheTier(key, tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -245,13 +257,26 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        long localCacheTierGeneration = 0L;
+        if (localCacheTier != null) {
+            V value = localCacheTier.get(tenantDomain, key);
+            if (value != null) {
+                return value;
+            }
+            localCacheTierGeneration = localCacheTier.getGeneration(tenantDomain);
+        }
+
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+            if (cache == null) {
+                return null;
             }
-            return null;
+            V value = cache.get(key);
+            if (value != null && localCacheTier != null) {
+                localCacheTier.put(tenantDomain, key, value, localCacheTierGeneration);
+            }
+            return value;
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -274,13 +299,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        if (localCacheTier != null) {
+            return getValueFromCache(key, IdentityTenantUtil.getTenantDomain(tenantId));
+        }
+
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+            if (cache == null) {
+                return null;
             }
-            return null;
+            return cache.get(key);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -304,6 +333,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.remove(key);
             }
+            invalidateLocalCacheTier(key, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -327,6 +357,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.remove(key);
             }
+            invalidateLocalCacheTier(key, tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -349,6 +380,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.removeAll();
             }
+            clearLocalCacheTier(tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -371,6 +403,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             if (cache != null) {
                 cache.removeAll();
             }
+            clearLocalCacheTier(tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -407,6 +440,81 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    /**
+     * Get the in-process tier which serves the reads of this cache without switching the tenant flow.
+     *
+     * @return Local cache tier or null if the local fast path is not enabled for this cache.
+     */
+    public LocalCacheTier<K, V> getLocalCacheTier() {
+
+        return localCacheTier;
+    }
+
+    /**
+     * Build the local cache tier if the local fast path is enabled. The tier is only used with the local caches which
+     * expire their entries, since the age of a tier entry is capped at the cache timeout.
+     */
+    private LocalCacheTier<K, V> buildLocalCacheTier() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(IdentityCoreConstants.LOCAL_CACHE_FAST_PATH_ENABLE))
+                || !cacheName.startsWith(CachingConstants.LOCAL_CACHE_PREFIX) || getCacheTimeout() <= 0) {
+            return null;
+        }
+        int maxEntries = readPositiveInt(IdentityCoreConstants.LOCAL_CACHE_FAST_PATH_MAX_ENTRIES,
+                IdentityCoreConstants.DEFAULT_LOCAL_CACHE_FAST_PATH_MAX_ENTRIES);
+        int maxEntryAge = Math.min(readPositiveInt(IdentityCoreConstants.LOCAL_CACHE_FAST_PATH_MAX_ENTRY_AGE,
+                getCacheTimeout()), getCacheTimeout());
+        if (log.isDebugEnabled()) {
+            log.debug("Local fast path is enabled for cache : " + cacheName + " with max entries : " + maxEntries +
+                    " and max entry age : " + maxEntryAge);
+        }
+        return new LocalCacheTier<>(cacheName, maxEntries, TimeUnit.SECONDS.toMillis(maxEntryAge));
+    }
+
+    private int readPositiveInt(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int parsedValue = Integer.parseInt(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value : " + value + " for " + propertyName + ". Defaulting to " + defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+
+    private void invalidateLocalCacheTier(K key, String tenantDomain) {
+
+        if (localCacheTier != null) {
+            localCacheTier.invalidate(tenantDomain, key);
+        }
+    }
+
+    private void invalidateLocalCacheTier(K key, int tenantId) {
+
+        if (localCacheTier != null) {
+            localCacheTier.invalidate(IdentityTenantUtil.getTenantDomain(tenantId), key);
+        }
+    }
+
+    private void clearLocalCacheTier(String tenantDomain) {
+
+        if (localCacheTier != null) {
+            localCacheTier.clear(tenantDomain);
+        }
+    }
+
+    private void clearLocalCacheTier(int tenantId) {
+
+        if (localCacheTier != null) {
+            localCacheTier.clear(IdentityTenantUtil.getTenantDomain(tenantId));
+        }
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
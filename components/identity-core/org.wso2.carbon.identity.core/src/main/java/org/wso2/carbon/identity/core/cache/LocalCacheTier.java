@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.cache.Cache;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListenerException;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+/**
+ * In-process tier in front of a local {@link BaseCache}.
+ * Entries are kept in a separate segment per tenant, so a read neither switches the tenant flow nor looks up the
+ * cache manager. When a segment is full, a candidate is admitted only if it has been accessed more often than the
+ * least frequently used entry out of a small sample, as estimated by a frequency sketch (TinyLFU admission). Hence,
+ * a burst of one-off keys does not push out the frequently used entries.
+ * The tier never holds an entry longer than the configured maximum age, and it is invalidated on every write, removal
+ * and expiry of the underlying cache of each tenant.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+public class LocalCacheTier<K, V> {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final String cacheName;
+    private final int maxEntriesPerTenant;
+    private final long maxEntryAgeNanos;
+    private final ConcurrentMap<String, Segment<K, V>> segments = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, WeakReference<Cache<K, V>>> listenedCaches = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectedAdmissionCount = new LongAdder();
+
+    LocalCacheTier(String cacheName, int maxEntriesPerTenant, long maxEntryAgeMillis) {
+
+        this.cacheName = cacheName;
+        this.maxEntriesPerTenant = maxEntriesPerTenant;
+        this.maxEntryAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxEntryAgeMillis);
+    }
+
+    /**
+     * Get a live entry of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param key          Cache key.
+     * @return Cached value or null if the tier does not hold a live entry for the key.
+     */
+    V get(String tenantDomain, K key) {
+
+        Segment<K, V> segment = segments.get(tenantDomain);
+        if (segment == null) {
+            missCount.increment();
+            return null;
+        }
+        segment.sketch.increment(key.hashCode());
+        TierEntry<V> entry = segment.entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            segment.entries.remove(key, entry);
+            evictionCount.increment();
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Get the invalidation generation of the segment of the given tenant. It should be read before reading the
+     * underlying cache and passed to {@link #put(String, Object, Object, long)}, so that a value read before a
+     * concurrent invalidation is not added to the tier afterwards.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Current generation of the tenant segment.
+     */
+    long getGeneration(String tenantDomain) {
+
+        return getSegment(tenantDomain).generation;
+    }
+
+    /**
+     * Add a value read from the underlying cache, unless the tenant segment was invalidated after the read or the
+     * value is rejected by the admission policy.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param key          Cache key.
+     * @param value        Value read from the underlying cache.
+     * @param generation   Generation of the tenant segment at the time the underlying cache was read.
+     */
+    void put(String tenantDomain, K key, V value, long generation) {
+
+        Segment<K, V> segment = getSegment(tenantDomain);
+        synchronized (segment) {
+            if (segment.generation != generation) {
+                return;
+            }
+            if (!segment.entries.containsKey(key) && segment.entries.size() >= maxEntriesPerTenant
+                    && !makeRoom(segment, key)) {
+                rejectedAdmissionCount.increment();
+                return;
+            }
+            segment.entries.put(key, new TierEntry<>(value, System.nanoTime() + maxEntryAgeNanos));
+        }
+    }
+
+    /**
+     * Remove an entry of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param key          Cache key.
+     */
+    void invalidate(String tenantDomain, K key) {
+
+        Segment<K, V> segment = getSegment(tenantDomain);
+        synchronized (segment) {
+            segment.generation++;
+            segment.entries.remove(key);
+        }
+    }
+
+    /**
+     * Remove all the entries of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    void clear(String tenantDomain) {
+
+        Segment<K, V> segment = getSegment(tenantDomain);
+        synchronized (segment) {
+            segment.generation++;
+            segment.entries.clear();
+        }
+    }
+
+    /**
+     * Register a listener on the underlying cache of the given tenant, which invalidates the tenant segment when an
+     * entry is updated, removed or expired there, including the removals triggered by cluster invalidation messages.
+     * Every tenant has its own instance of the underlying cache, which is created again once it is removed from the
+     * cache manager. Hence, this should be called whenever the underlying cache is resolved. Nothing is done if the
+     * listener is already registered on the given cache instance.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param cache        Underlying cache of the tenant.
+     */
+    void registerInvalidationListener(String tenantDomain, Cache<K, V> cache) {
+
+        WeakReference<Cache<K, V>> listenedCache = listenedCaches.get(tenantDomain);
+        if (listenedCache != null && listenedCache.get() == cache) {
+            return;
+        }
+        listenedCaches.compute(tenantDomain, (domain, registeredCache) -> {
+            if (registeredCache != null && registeredCache.get() == cache) {
+                return registeredCache;
+            }
+            if (registeredCache != null) {
+                // The underlying cache was created again, hence the entries taken from the previous one are dropped.
+                clear(domain);
+            }
+            cache.registerCacheEntryListener(new InvalidationListener(domain));
+            return new WeakReference<>(cache);
+        });
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    public long getRejectedAdmissionCount() {
+
+        return rejectedAdmissionCount.sum();
+    }
+
+    /**
+     * Get the number of entries held for the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of entries including the expired entries which are not removed yet.
+     */
+    public int getSize(String tenantDomain) {
+
+        Segment<K, V> segment = segments.get(tenantDomain);
+        return segment == null ? 0 : segment.entries.size();
+    }
+
+    private Segment<K, V> getSegment(String tenantDomain) {
+
+        return segments.computeIfAbsent(tenantDomain, domain -> new Segment<>(maxEntriesPerTenant));
+    }
+
+    /**
+     * Evict an expired entry or the least frequently used entry out of a sample, if the candidate is used more often
+     * than it. Should be called while holding the lock of the segment.
+     */
+    private boolean makeRoom(Segment<K, V> segment, K candidate) {
+
+        long now = System.nanoTime();
+        K victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        Iterator<Map.Entry<K, TierEntry<V>>> iterator = segment.entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<K, TierEntry<V>> entry = iterator.next();
+            if (entry.getValue().isExpired(now)) {
+                victim = entry.getKey();
+                victimFrequency = -1;
+                break;
+            }
+            int frequency = segment.sketch.frequency(entry.getKey().hashCode());
+            if (frequency < victimFrequency) {
+                victim = entry.getKey();
+                victimFrequency = frequency;
+            }
+        }
+        if (victim == null || segment.sketch.frequency(candidate.hashCode()) <= victimFrequency) {
+            return false;
+        }
+        segment.entries.remove(victim);
+        evictionCount.increment();
+        return true;
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ConcurrentMap<K, TierEntry<V>> entries = new ConcurrentHashMap<>();
+        private final FrequencySketch sketch;
+        private volatile long generation;
+
+        private Segment(int maxEntries) {
+
+            this.sketch = new FrequencySketch(maxEntries);
+        }
+    }
+
+    private static final class TierEntry<V> {
+
+        private final V value;
+        private final long expiryTimeNanos;
+
+        private TierEntry(V value, long expiryTimeNanos) {
+
+            this.value = value;
+            this.expiryTimeNanos = expiryTimeNanos;
+        }
+
+        private boolean isExpired(long now) {
+
+            return now - expiryTimeNanos >= 0;
+        }
+    }
+
+    /**
+     * Count-min sketch with four hash functions and counters saturating at 15. All the counters are halved once the
+     * number of increments reaches ten times the segment capacity, so that the past popularity of a key fades away.
+     * The sketch is updated by concurrent readers, hence every counter is updated with a compare and set, and only the
+     * thread which resets the addition count halves the counters.
+     */
+    static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0xc3a5c85c, 0x9e3779b9, 0x85ebca6b};
+        private static final int MAX_FREQUENCY = 15;
+
+        private final AtomicIntegerArray table;
+        private final int mask;
+        private final int resetThreshold;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(int maxEntries) {
+
+            int size = Integer.highestOneBit(Math.max(16, Math.min(maxEntries, 1 << 24) * 4 - 1) << 1);
+            this.table = new AtomicIntegerArray(size);
+            this.mask = size - 1;
+            this.resetThreshold = Math.max(10, maxEntries * 10);
+        }
+
+        void increment(int hash) {
+
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+                int count = table.get(index);
+                while (count < MAX_FREQUENCY && !table.compareAndSet(index, count, count + 1)) {
+                    count = table.get(index);
+                }
+            }
+            int count = additions.incrementAndGet();
+            if (count >= resetThreshold && additions.compareAndSet(count, 0)) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+
+            int frequency = MAX_FREQUENCY;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, table.get(indexOf(hash, seed)));
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+
+            int h = (hash ^ seed) * 0x9e3779b9;
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private void reset() {
+
+            for (int i = 0; i < table.length(); i++) {
+                int count = table.get(i);
+                while (!table.compareAndSet(i, count, count >>> 1)) {
+                    count = table.get(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates the segment of a tenant on the changes of the underlying cache of that tenant.
+     */
+    final class InvalidationListener implements CacheEntryUpdatedListener<K, V>, CacheEntryRemovedListener<K, V>,
+            CacheEntryExpiredListener<K, V> {
+
+        private final String tenantDomain;
+
+        private InvalidationListener(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+        }
+
+        @Override
+        public void entryUpdated(CacheEntryEvent<? extends K, ? extends V> event) throws CacheEntryListenerException {
+
+            invalidate(tenantDomain, event.getKey());
+        }
+
+        @Override
+        public void entryRemoved(CacheEntryEvent<? extends K, ? extends V> event) throws CacheEntryListenerException {
+
+            invalidate(tenantDomain, event.getKey());
+        }
+
+        @Override
+        public void entryExpired(CacheEntryEvent<? extends K, ? extends V> event) throws CacheEntryListenerException {
+
+            invalidate(tenantDomain, event.getKey());
+        }
+    }
+}
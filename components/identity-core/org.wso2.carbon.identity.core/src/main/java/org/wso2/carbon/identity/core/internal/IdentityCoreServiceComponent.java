@@ -50,6 +50,7 @@ import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEventImpl;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
@@ -145,6 +146,9 @@ public class IdentityCoreServiceComponent {
             // initialize um persistence manager and retrieve the user management datasource.
             UmPersistenceManager.getInstance();
 
+            // resolve the SQL dialects of the identity and session data sources once for the DAOs.
+            SqlDialectRegistry.getInstance().resolveDataSources();
+
             String migrate = System.getProperty(IdentityCoreConstants.MIGRATE);
             String component = System.getProperty(IdentityCoreConstants.COMPONENT);
             String dryRun = System.getProperty(IdentityCoreConstants.DRY_RUN);
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable snapshot of the identity.xml configuration.
+ * The snapshot is built once when the configuration is populated, with the URL placeholders of the values already
+ * resolved. Frequently read properties are exposed through typed {@link Property} handles, which parse the value of a
+ * snapshot only once, so that the request paths do not look up, resolve and parse the same string on every call.
+ * A reload builds a new snapshot and swaps it atomically.
+ */
+public final class IdentityConfigSnapshot {
+
+    private static final Log LOG = LogFactory.getLog(IdentityConfigSnapshot.class);
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private static final List<Property<?>> PROPERTIES = new CopyOnWriteArrayList<>();
+    private static final AtomicReference<IdentityConfigSnapshot> SNAPSHOT =
+            new AtomicReference<>(new IdentityConfigSnapshot(Collections.emptyMap()));
+
+    public static final DurationProperty CLEAN_UP_TIMEOUT = durationProperty(
+            IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT,
+            Long.parseLong(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT_DEFAULT), TimeUnit.MINUTES);
+    public static final DurationProperty OPERATION_CLEAN_UP_TIMEOUT = durationProperty(
+            IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT,
+            Long.parseLong(IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT_DEFAULT), TimeUnit.MINUTES);
+    public static final DurationProperty TEMP_DATA_CLEAN_UP_TIMEOUT = durationProperty(
+            IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT,
+            Long.parseLong(IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT_DEFAULT), TimeUnit.MINUTES);
+
+    private final Map<String, String> properties;
+    private final Set<String> unresolvedKeys;
+
+    private IdentityConfigSnapshot(Map<String, Object> configuration) {
+
+        Map<String, String> resolvedProperties = new HashMap<>();
+        Set<String> unresolved = new HashSet<>();
+        for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+            String value = toString(entry.getValue());
+            if (value == null) {
+                continue;
+            }
+            if (value.contains(PLACEHOLDER_PREFIX)) {
+                try {
+                    value = IdentityUtil.fillURLPlaceholders(value);
+                } catch (RuntimeException e) {
+                    // The placeholder cannot be resolved yet. Hence, it is resolved when the property is read.
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Error while resolving the placeholders of the property: " + entry.getKey(), e);
+                    }
+                    unresolved.add(entry.getKey());
+                }
+            }
+            resolvedProperties.put(entry.getKey(), value);
+        }
+        this.properties = Collections.unmodifiableMap(resolvedProperties);
+        this.unresolvedKeys = Collections.unmodifiableSet(unresolved);
+    }
+
+    /**
+     * Get the current configuration snapshot.
+     *
+     * @return Current configuration snapshot.
+     */
+    public static IdentityConfigSnapshot getInstance() {
+
+        return SNAPSHOT.get();
+    }
+
+    /**
+     * Build a snapshot of the given configuration and replace the current snapshot with it. The registered property
+     * handles are parsed against the new snapshot before it is returned.
+     *
+     * @param configuration Configuration read from the identity.xml.
+     * @return New configuration snapshot.
+     */
+    public static IdentityConfigSnapshot reload(Map<String, Object> configuration) {
+
+        IdentityConfigSnapshot snapshot = new IdentityConfigSnapshot(configuration);
+        SNAPSHOT.set(snapshot);
+        for (Property<?> property : PROPERTIES) {
+            property.bind(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the value of a property with the URL placeholders resolved. This is equivalent to
+     * {@link IdentityUtil#getProperty(String)} without the per call placeholder resolution.
+     *
+     * @param key Property key.
+     * @return Value of the property, or null if the property is not configured.
+     */
+    public String getProperty(String key) {
+
+        String value = properties.get(key);
+        if (value != null && unresolvedKeys.contains(key)) {
+            return IdentityUtil.fillURLPlaceholders(value);
+        }
+        return value;
+    }
+
+    /**
+     * Create a handle of a boolean property. A value other than true or false, ignoring the case, is treated as not
+     * configured.
+     *
+     * @param key          Property key.
+     * @param defaultValue Value used when the property is not configured.
+     * @return Boolean property handle.
+     */
+    public static BooleanProperty booleanProperty(String key, boolean defaultValue) {
+
+        return register(new BooleanProperty(key, defaultValue));
+    }
+
+    /**
+     * Create a handle of a duration property. A non numeric value is treated as not configured.
+     *
+     * @param key          Property key.
+     * @param defaultValue Value used when the property is not configured.
+     * @param unit         Unit of the configured value.
+     * @return Duration property handle.
+     */
+    public static DurationProperty durationProperty(String key, long defaultValue, TimeUnit unit) {
+
+        return register(new DurationProperty(key, defaultValue, unit));
+    }
+
+    private static <P extends Property<?>> P register(P property) {
+
+        PROPERTIES.add(property);
+        property.bind(SNAPSHOT.get());
+        return property;
+    }
+
+    private static String toString(Object value) {
+
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            value = values.isEmpty() ? null : values.get(0);
+        }
+        if (value == null) {
+            return null;
+        }
+        return value instanceof String ? (String) value : String.valueOf(value);
+    }
+
+    /**
+     * Typed handle of a configuration property. The value is parsed once per snapshot and reused until the snapshot
+     * is replaced.
+     *
+     * @param <T> Type of the parsed value.
+     */
+    public abstract static class Property<T> {
+
+        private final String key;
+        private volatile Binding<T> binding;
+
+        Property(String key) {
+
+            this.key = key;
+        }
+
+        public String getKey() {
+
+            return key;
+        }
+
+        T getValue() {
+
+            IdentityConfigSnapshot snapshot = SNAPSHOT.get();
+            Binding<T> current = binding;
+            if (current == null || current.snapshot != snapshot) {
+                // The handle is read while a new snapshot is being published.
+                current = bind(snapshot);
+            }
+            return current.value;
+        }
+
+        abstract T parse(String value);
+
+        Binding<T> bind(IdentityConfigSnapshot snapshot) {
+
+            Binding<T> current = new Binding<>(snapshot, parse(snapshot.getProperty(key)));
+            binding = current;
+            return current;
+        }
+    }
+
+    /**
+     * Handle of a boolean property.
+     */
+    public static final class BooleanProperty extends Property<Boolean> {
+
+        private final boolean defaultValue;
+
+        private BooleanProperty(String key, boolean defaultValue) {
+
+            super(key);
+            this.defaultValue = defaultValue;
+        }
+
+        public boolean get() {
+
+            return getValue();
+        }
+
+        @Override
+        Boolean parse(String value) {
+
+            if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+                return Boolean.TRUE;
+            }
+            if (Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+                return Boolean.FALSE;
+            }
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Handle of a duration property.
+     */
+    public static final class DurationProperty extends Property<Long> {
+
+        private final long defaultValue;
+        private final TimeUnit unit;
+
+        private DurationProperty(String key, long defaultValue, TimeUnit unit) {
+
+            super(key);
+            this.defaultValue = defaultValue;
+            this.unit = unit;
+        }
+
+        /**
+         * Get the duration in the given unit.
+         *
+         * @param targetUnit Unit of the returned duration.
+         * @return Duration in the given unit.
+         */
+        public long get(TimeUnit targetUnit) {
+
+            return targetUnit.convert(getValue(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        Long parse(String value) {
+
+            long duration = defaultValue;
+            if (StringUtils.isNotEmpty(value) && StringUtils.isNumeric(value)) {
+                try {
+                    duration = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    LOG.warn("Value of the property: " + getKey() + " is out of range. Using the default value: " +
+                            defaultValue);
+                }
+            }
+            return unit.toNanos(duration);
+        }
+    }
+
+    private static final class Binding<T> {
+
+        private final IdentityConfigSnapshot snapshot;
+        private final T value;
+
+        private Binding(IdentityConfigSnapshot snapshot, T value) {
+
+            this.snapshot = snapshot;
+            this.value = value;
+        }
+    }
+}
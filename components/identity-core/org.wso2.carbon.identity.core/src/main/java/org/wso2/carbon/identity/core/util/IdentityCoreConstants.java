@@ -128,6 +128,12 @@ public class IdentityCoreConstants {
     public static final String DRY_RUN = "dryRun";
     public static final String COMPONENT = "component";
 
+    // Local cache fast path related constants.
+    public static final String LOCAL_CACHE_FAST_PATH_ENABLE = "CacheConfig.LocalFastPath.Enable";
+    public static final String LOCAL_CACHE_FAST_PATH_MAX_ENTRIES = "CacheConfig.LocalFastPath.MaxEntries";
+    public static final String LOCAL_CACHE_FAST_PATH_MAX_ENTRY_AGE = "CacheConfig.LocalFastPath.MaxEntryAge";
+    public static final int DEFAULT_LOCAL_CACHE_FAST_PATH_MAX_ENTRIES = 1000;
+
     public static class Filter {
 
         public static final String AND = "and";
@@ -185,6 +185,16 @@ public class IdentityDatabaseUtil {
         return UmPersistenceManager.getInstance().getDBConnection(shouldApplyTransaction);
     }
 
+    /**
+     * Get user management data source instance from the UM Persistence Manager.
+     *
+     * @return Database Source
+     */
+    public static DataSource getUserDataSource() {
+
+        return UmPersistenceManager.getInstance().getDataSource();
+    }
+
     /**
      * Commit the User DB transaction.
      *
@@ -98,6 +98,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -373,6 +374,7 @@ public class IdentityUtil {
                 IdentityConfigParser.getInstance().getCookiesToInvalidateConfigurationHolder();
         storeProcedureBasedDAOConfigurationHolder =
                 IdentityConfigParser.getInstance().getStoreProcedureBasedDAOConfigurationHolder();
+        IdentityConfigSnapshot.reload(configuration);
     }
 
     public static String getPPIDDisplayValue(String value) throws Exception {
@@ -889,13 +891,7 @@ public class IdentityUtil {
 
     public static long getCleanUpTimeout() {
 
-        String cleanUpTimeout = IdentityUtil.getProperty(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT);
-        if (StringUtils.isBlank(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT_DEFAULT;
-        } else if (!StringUtils.isNumeric(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT_DEFAULT;
-        }
-        return Long.parseLong(cleanUpTimeout);
+        return IdentityConfigSnapshot.CLEAN_UP_TIMEOUT.get(TimeUnit.MINUTES);
     }
 
     public static long getCleanUpPeriod(String tenantDomain) {
@@ -911,24 +907,12 @@ public class IdentityUtil {
 
     public static long getOperationCleanUpTimeout() {
 
-        String cleanUpTimeout = IdentityUtil.getProperty(IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT);
-        if (StringUtils.isBlank(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT_DEFAULT;
-        } else if (!StringUtils.isNumeric(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT_DEFAULT;
-        }
-        return Long.parseLong(cleanUpTimeout);
+        return IdentityConfigSnapshot.OPERATION_CLEAN_UP_TIMEOUT.get(TimeUnit.MINUTES);
     }
 
     public static long getTempDataCleanUpTimeout() {
 
-        String cleanUpTimeout = IdentityUtil.getProperty(IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT);
-        if (StringUtils.isBlank(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT_DEFAULT;
-        } else if (!StringUtils.isNumeric(cleanUpTimeout)) {
-            cleanUpTimeout = IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT_DEFAULT;
-        }
-        return Long.parseLong(cleanUpTimeout);
+        return IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.MINUTES);
     }
 
     public static long getOperationCleanUpPeriod(String tenantDomain) {
@@ -285,7 +285,8 @@ public class JdbcUtils {
     }
 
     /**
-     * Check whether the DB type string contains in the driver name or db product name.
+     * Check whether the DB type string contains in the driver name or db product name. The metadata is resolved once
+     * per data source by the {@link SqlDialectRegistry}.
      *
      * @param dbType database type string.
      * @param database database type from enum.
@@ -294,7 +295,6 @@ public class JdbcUtils {
      */
     private static boolean isDBTypeOf(String dbType, Database database) throws DataAccessException {
 
-        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(database);
-        return jdbcTemplate.getDriverName().contains(dbType) || jdbcTemplate.getDatabaseProductName().contains(dbType);
+        return SqlDialectRegistry.getInstance().getDatabaseInfo(database).isTypeOf(dbType);
     }
 }
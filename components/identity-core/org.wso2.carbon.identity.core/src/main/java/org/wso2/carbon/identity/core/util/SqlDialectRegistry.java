@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+/**
+ * Registry of the SQL dialects of the identity, session and user management data sources.
+ * The database vendor of a data source is resolved from the connection metadata only once and the resolved
+ * {@link Dialect} is reused afterwards, so that the DAOs do not read the metadata and branch on the driver or product
+ * name for every query.
+ */
+public class SqlDialectRegistry {
+
+    private static final Log LOG = LogFactory.getLog(SqlDialectRegistry.class);
+    private static final SqlDialectRegistry INSTANCE = new SqlDialectRegistry();
+
+    private final Map<DataSource, DatabaseInfo> databaseInfoMap = new ConcurrentHashMap<>();
+
+    private SqlDialectRegistry() {
+
+    }
+
+    public static SqlDialectRegistry getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Render a statement for every dialect. The statements are rendered once, when the owning class is loaded during
+     * the component activation, and looked up by the dialect afterwards.
+     *
+     * @param renderer Function which renders the statement of a dialect.
+     * @return Unmodifiable map of the statements by the dialect.
+     */
+    public static Map<Dialect, String> renderStatements(Function<Dialect, String> renderer) {
+
+        Map<Dialect, String> statements = new EnumMap<>(Dialect.class);
+        for (Dialect dialect : Dialect.values()) {
+            statements.put(dialect, renderer.apply(dialect));
+        }
+        return Collections.unmodifiableMap(statements);
+    }
+
+    /**
+     * Resolve the dialects of the identity, session and user management data sources. This is invoked when the
+     * identity core component is activated, and a data source which cannot be resolved at that point is resolved on
+     * its first use.
+     */
+    public void resolveDataSources() {
+
+        for (JdbcUtils.Database database : JdbcUtils.Database.values()) {
+            try {
+                getDatabaseInfo(database);
+            } catch (DataAccessException | RuntimeException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Error while resolving the SQL dialect of the " + database + " data source.", e);
+                }
+            }
+        }
+        DataSource userDataSource = getUserDataSource();
+        if (userDataSource != null && !databaseInfoMap.containsKey(userDataSource)) {
+            try (Connection connection = userDataSource.getConnection()) {
+                register(userDataSource, connection);
+            } catch (SQLException | RuntimeException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Error while resolving the SQL dialect of the user management data source.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the dialect of the given database. A connection is borrowed from the data source only if the dialect has not
+     * been resolved yet.
+     *
+     * @param database Database type.
+     * @return Dialect of the database.
+     * @throws DataAccessException If an error occurred while reading the database metadata.
+     */
+    public Dialect getDialect(JdbcUtils.Database database) throws DataAccessException {
+
+        return getDatabaseInfo(database).getDialect();
+    }
+
+    /**
+     * Get the dialect of the identity database using a connection obtained from it.
+     *
+     * @param connection Connection of the identity database.
+     * @return Dialect of the identity database.
+     * @throws SQLException If an error occurred while reading the database metadata.
+     */
+    public Dialect getDialect(Connection connection) throws SQLException {
+
+        return getDatabaseInfo(JdbcUtils.Database.IDENTITY, connection).getDialect();
+    }
+
+    /**
+     * Get the dialect of the given database using a connection obtained from it.
+     *
+     * @param database   Database type.
+     * @param connection Connection of the database.
+     * @return Dialect of the database.
+     * @throws SQLException If an error occurred while reading the database metadata.
+     */
+    public Dialect getDialect(JdbcUtils.Database database, Connection connection) throws SQLException {
+
+        return getDatabaseInfo(database, connection).getDialect();
+    }
+
+    /**
+     * Get the dialect of the user management database using a connection obtained from it.
+     *
+     * @param connection Connection of the user management database.
+     * @return Dialect of the user management database.
+     * @throws SQLException If an error occurred while reading the database metadata.
+     */
+    public Dialect getUserDBDialect(Connection connection) throws SQLException {
+
+        return getDatabaseInfo(getUserDataSource(), connection).getDialect();
+    }
+
+    /**
+     * Get the database product name of the identity database using a connection obtained from it.
+     *
+     * @param connection Connection of the identity database.
+     * @return Database product name.
+     * @throws SQLException If an error occurred while reading the database metadata.
+     */
+    public String getDatabaseProductName(Connection connection) throws SQLException {
+
+        return getDatabaseInfo(JdbcUtils.Database.IDENTITY, connection).getDatabaseProductName();
+    }
+
+    /**
+     * Get the resolved metadata of the given database. A connection is borrowed from the data source only if the
+     * metadata has not been resolved yet.
+     *
+     * @param database Database type.
+     * @return Resolved metadata of the database.
+     * @throws DataAccessException If an error occurred while reading the database metadata.
+     */
+    public DatabaseInfo getDatabaseInfo(JdbcUtils.Database database) throws DataAccessException {
+
+        DataSource dataSource = getDataSource(database);
+        if (dataSource == null) {
+            throw new DataAccessException("The " + database + " data source is not available.");
+        }
+        DatabaseInfo databaseInfo = databaseInfoMap.get(dataSource);
+        if (databaseInfo != null) {
+            return databaseInfo;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return register(dataSource, connection);
+        } catch (SQLException e) {
+            throw new DataAccessException("Error while reading the metadata of the " + database + " data source.", e);
+        }
+    }
+
+    /**
+     * Get the resolved metadata of the given database using a connection obtained from it. The metadata is read from
+     * the given connection if the data source has not been resolved yet.
+     *
+     * @param database   Database type.
+     * @param connection Connection of the database.
+     * @return Resolved metadata of the database.
+     * @throws SQLException If an error occurred while reading the database metadata.
+     */
+    public DatabaseInfo getDatabaseInfo(JdbcUtils.Database database, Connection connection) throws SQLException {
+
+        return getDatabaseInfo(getDataSource(database), connection);
+    }
+
+    /**
+     * Remove the resolved dialects. The dialects are resolved again on their next use.
+     */
+    public void clear() {
+
+        databaseInfoMap.clear();
+    }
+
+    private DatabaseInfo getDatabaseInfo(DataSource dataSource, Connection connection) throws SQLException {
+
+        if (dataSource == null) {
+            // The data source is not initialized, hence the metadata cannot be bound to it.
+            return DatabaseInfo.of(connection.getMetaData());
+        }
+        DatabaseInfo databaseInfo = databaseInfoMap.get(dataSource);
+        if (databaseInfo != null) {
+            return databaseInfo;
+        }
+        return register(dataSource, connection);
+    }
+
+    private DatabaseInfo register(DataSource dataSource, Connection connection) throws SQLException {
+
+        DatabaseInfo databaseInfo = DatabaseInfo.of(connection.getMetaData());
+        DatabaseInfo existing = databaseInfoMap.putIfAbsent(dataSource, databaseInfo);
+        if (existing != null) {
+            return existing;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Resolved the SQL dialect: " + databaseInfo.getDialect() + " for the database: " +
+                    databaseInfo.getDatabaseProductName() + " with the driver: " + databaseInfo.getDriverName());
+        }
+        return databaseInfo;
+    }
+
+    private static DataSource getDataSource(JdbcUtils.Database database) {
+
+        try {
+            if (JdbcUtils.Database.SESSION.equals(database)) {
+                return IdentityDatabaseUtil.getSessionDataSource();
+            }
+            return IdentityDatabaseUtil.getDataSource();
+        } catch (RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("The " + database + " data source is not initialized.", e);
+            }
+            return null;
+        }
+    }
+
+    private static DataSource getUserDataSource() {
+
+        try {
+            return IdentityDatabaseUtil.getUserDataSource();
+        } catch (RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("The user management data source is not initialized.", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Metadata of a database resolved from its connection.
+     */
+    public static final class DatabaseInfo {
+
+        private final Dialect dialect;
+        private final String databaseProductName;
+        private final String driverName;
+
+        private DatabaseInfo(Dialect dialect, String databaseProductName, String driverName) {
+
+            this.dialect = dialect;
+            this.databaseProductName = databaseProductName;
+            this.driverName = driverName;
+        }
+
+        static DatabaseInfo of(DatabaseMetaData metaData) throws SQLException {
+
+            String databaseProductName = StringUtils.defaultString(metaData.getDatabaseProductName());
+            String driverName = StringUtils.defaultString(metaData.getDriverName());
+            return new DatabaseInfo(Dialect.resolve(databaseProductName, driverName), databaseProductName,
+                    driverName);
+        }
+
+        public Dialect getDialect() {
+
+            return dialect;
+        }
+
+        public String getDatabaseProductName() {
+
+            return databaseProductName;
+        }
+
+        public String getDriverName() {
+
+            return driverName;
+        }
+
+        /**
+         * Check whether the database type string is contained in the driver name or the database product name.
+         *
+         * @param dbType Database type string.
+         * @return True if the database is of the given type.
+         */
+        public boolean isTypeOf(String dbType) {
+
+            return driverName.contains(dbType) || databaseProductName.contains(dbType);
+        }
+    }
+
+    /**
+     * SQL dialects of the supported databases, with the templates of the vendor specific clauses.
+     */
+    public enum Dialect {
+
+        MARIADB(IdentityCoreConstants.MARIADB),
+        MYSQL(IdentityCoreConstants.MY_SQL),
+        H2(IdentityCoreConstants.H2),
+        DB2(IdentityCoreConstants.DB2),
+        MSSQL(IdentityCoreConstants.MICROSOFT, IdentityCoreConstants.S_MICROSOFT, "MS SQL"),
+        POSTGRESQL(IdentityCoreConstants.POSTGRE_SQL),
+        INFORMIX(IdentityCoreConstants.INFORMIX),
+        ORACLE(IdentityCoreConstants.ORACLE),
+        UNKNOWN;
+
+        private static final String SELECT = "SELECT ";
+        private static final String SELECT_DISTINCT = "SELECT DISTINCT ";
+
+        private final String[] markers;
+
+        Dialect(String... markers) {
+
+            this.markers = markers;
+        }
+
+        /**
+         * Resolve the dialect from the database product name and the driver name. The product name takes precedence,
+         * as it names the database rather than the driver used to connect to it.
+         *
+         * @param databaseProductName Database product name.
+         * @param driverName          Driver name.
+         * @return Resolved dialect, or {@link #UNKNOWN} if none of the supported databases matches.
+         */
+        public static Dialect resolve(String databaseProductName, String driverName) {
+
+            for (String name : new String[]{databaseProductName, driverName}) {
+                if (StringUtils.isEmpty(name)) {
+                    continue;
+                }
+                for (Dialect dialect : values()) {
+                    for (String marker : dialect.markers) {
+                        if (name.contains(marker)) {
+                            return dialect;
+                        }
+                    }
+                }
+            }
+            return UNKNOWN;
+        }
+
+        /**
+         * Whether the dialect is MySQL or a MySQL compatible dialect which supports the LIMIT clause.
+         *
+         * @return True if the dialect supports the MySQL syntax.
+         */
+        public boolean isMySQLCompatible() {
+
+            return this == MYSQL || this == MARIADB || this == H2;
+        }
+
+        /**
+         * Limit the number of rows returned by a select query.
+         *
+         * @param selectQuery Select query.
+         * @param limit       Maximum number of rows.
+         * @return Select query with the vendor specific LIMIT, TOP or FETCH FIRST clause.
+         */
+        public String applyLimit(String selectQuery, int limit) {
+
+            switch (this) {
+                case MYSQL:
+                case MARIADB:
+                case H2:
+                case POSTGRESQL:
+                    return selectQuery + " LIMIT " + limit;
+                case MSSQL:
+                    return insertAfterSelect(selectQuery, "TOP (" + limit + ") ", true);
+                case INFORMIX:
+                    return insertAfterSelect(selectQuery, "FIRST " + limit + " ", false);
+                case ORACLE:
+                    return "SELECT * FROM (" + selectQuery + ") WHERE ROWNUM <= " + limit;
+                default:
+                    return selectQuery + " FETCH FIRST " + limit + " ROWS ONLY";
+            }
+        }
+
+        /**
+         * Render a statement which deletes at most the given number of rows matching a condition. The statement is
+         * executed repeatedly until fewer rows than the batch size are deleted, to avoid a long running transaction.
+         *
+         * @param table      Table name.
+         * @param keyColumns Columns identifying a row, used by the dialects which delete through a sub query.
+         * @param condition  Condition of the rows to delete.
+         * @param batchSize  Maximum number of rows deleted by a single execution.
+         * @return Batch delete statement.
+         */
+        public String getBatchDeleteStatement(String table, List<String> keyColumns, String condition,
+                                              int batchSize) {
+
+            switch (this) {
+                case MYSQL:
+                case MARIADB:
+                case H2:
+                    return "DELETE FROM " + table + " WHERE " + condition + " LIMIT " + batchSize;
+                case MSSQL:
+                    return "DELETE TOP (" + batchSize + ") FROM " + table + " WHERE " + condition;
+                case POSTGRESQL:
+                    return "DELETE FROM " + table + " WHERE CTID IN (SELECT CTID FROM " + table + " WHERE " +
+                            condition + " LIMIT " + batchSize + ")";
+                case ORACLE:
+                    return "DELETE FROM " + table + " WHERE ROWID IN (SELECT ROWID FROM " + table + " WHERE " +
+                            condition + " AND ROWNUM <= " + batchSize + ")";
+                case INFORMIX:
+                    return "DELETE FROM (SELECT " + joinWith(keyColumns, "%s", ", ") + " FROM " + table +
+                            " WHERE " + condition + " LIMIT " + batchSize + ")";
+                default:
+                    String columns = joinWith(keyColumns, "%s", ", ");
+                    return "DELETE FROM " + table + " WHERE (" + columns + ") IN (SELECT " + columns + " FROM " +
+                            table + " WHERE " + condition + " FETCH FIRST " + batchSize + " ROWS ONLY)";
+            }
+        }
+
+        private static String insertAfterSelect(String selectQuery, String clause, boolean afterDistinct) {
+
+            String query = selectQuery.trim();
+            String upperCaseQuery = query.toUpperCase(Locale.ENGLISH);
+            if (afterDistinct && upperCaseQuery.startsWith(SELECT_DISTINCT)) {
+                return SELECT_DISTINCT + clause + query.substring(SELECT_DISTINCT.length());
+            }
+            if (upperCaseQuery.startsWith(SELECT)) {
+                return SELECT + clause + query.substring(SELECT.length());
+            }
+            throw new IllegalArgumentException("Not a select query: " + selectQuery);
+        }
+
+        private static String joinWith(List<String> columns, String format, String delimiter) {
+
+            return columns.stream().map(column -> String.format(format, column))
+                    .collect(Collectors.joining(delimiter));
+        }
+    }
+}
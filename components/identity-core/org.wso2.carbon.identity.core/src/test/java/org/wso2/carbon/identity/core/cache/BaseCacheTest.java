@@ -22,15 +22,22 @@ import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.context.internal.OSGiDataHolder;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfigKey;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.io.File;
 import java.net.URL;
+import javax.cache.Caching;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
@@ -42,6 +49,9 @@ import static org.testng.Assert.assertNull;
  */
 public class BaseCacheTest {
 
+    private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
+    private static final String TIERED_CACHE_NAME = "TieredTestCache";
+
     private MockedStatic<IdentityTenantUtil> identityTenantUtil;
 
     @BeforeMethod
@@ -155,4 +165,57 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testLocalCacheTierIsInvalidatedForEveryTenant() {
+
+        TieredTestCache cache = createTieredTestCache();
+        TestCacheKey key = new TestCacheKey("tiered");
+        cache.addToCache(key, new TestCacheEntry("value1"), 1);
+        cache.addToCache(key, new TestCacheEntry("value2"), 2);
+        assertEquals(cache.getValueFromCache(key, "foo.com").getValue(), "value1");
+        assertEquals(cache.getValueFromCache(key, "bar.com").getValue(), "value2");
+        assertEquals(cache.getLocalCacheTier().getSize("bar.com"), 1);
+
+        // Remove the entry of the second tenant from its underlying cache, as a cluster invalidation would do.
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("bar.com");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(2);
+            Caching.getCacheManagerFactory().getCacheManager(CACHE_MANAGER_NAME)
+                    .getCache(CachingConstants.LOCAL_CACHE_PREFIX + TIERED_CACHE_NAME).remove(key);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        assertEquals(cache.getLocalCacheTier().getSize("bar.com"), 0);
+        assertNull(cache.getValueFromCache(key, "bar.com"));
+        assertEquals(cache.getValueFromCache(key, "foo.com").getValue(), "value1");
+    }
+
+    private TieredTestCache createTieredTestCache() {
+
+        IdentityCacheConfig cacheConfig =
+                new IdentityCacheConfig(new IdentityCacheConfigKey(CACHE_MANAGER_NAME, TIERED_CACHE_NAME));
+        cacheConfig.setEnabled(true);
+        cacheConfig.setTimeout(900);
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(CACHE_MANAGER_NAME, TIERED_CACHE_NAME))
+                    .thenReturn(cacheConfig);
+            identityUtil.when(() -> IdentityUtil.getProperty(IdentityCoreConstants.LOCAL_CACHE_FAST_PATH_ENABLE))
+                    .thenReturn("true");
+            return new TieredTestCache();
+        }
+    }
+
+    /**
+     * Test cache with the local cache tier enabled.
+     */
+    private static class TieredTestCache extends BaseCache<TestCacheKey, TestCacheEntry> {
+
+        private TieredTestCache() {
+
+            super(TIERED_CACHE_NAME);
+        }
+    }
 }
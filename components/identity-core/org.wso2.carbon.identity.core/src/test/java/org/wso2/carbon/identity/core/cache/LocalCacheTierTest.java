@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LocalCacheTier}.
+ */
+public class LocalCacheTierTest {
+
+    private static final String TENANT_DOMAIN = "foo.com";
+    private static final String OTHER_TENANT_DOMAIN = "bar.com";
+
+    @Test
+    public void testGetIsScopedToTenant() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 10, 60000);
+        tier.put(TENANT_DOMAIN, "key", "value", tier.getGeneration(TENANT_DOMAIN));
+
+        assertEquals(tier.get(TENANT_DOMAIN, "key"), "value");
+        assertNull(tier.get(OTHER_TENANT_DOMAIN, "key"));
+        assertEquals(tier.getHitCount(), 1);
+        assertEquals(tier.getMissCount(), 1);
+    }
+
+    @Test
+    public void testPutAfterInvalidationIsIgnored() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 10, 60000);
+        long generation = tier.getGeneration(TENANT_DOMAIN);
+        tier.invalidate(TENANT_DOMAIN, "key");
+        tier.put(TENANT_DOMAIN, "key", "staleValue", generation);
+
+        assertNull(tier.get(TENANT_DOMAIN, "key"));
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 10, 60000);
+        tier.put(TENANT_DOMAIN, "key1", "value1", tier.getGeneration(TENANT_DOMAIN));
+        tier.put(TENANT_DOMAIN, "key2", "value2", tier.getGeneration(TENANT_DOMAIN));
+        tier.put(OTHER_TENANT_DOMAIN, "key1", "value1", tier.getGeneration(OTHER_TENANT_DOMAIN));
+
+        tier.invalidate(TENANT_DOMAIN, "key1");
+        assertNull(tier.get(TENANT_DOMAIN, "key1"));
+        assertEquals(tier.get(OTHER_TENANT_DOMAIN, "key1"), "value1");
+        assertEquals(tier.get(TENANT_DOMAIN, "key2"), "value2");
+
+        tier.clear(TENANT_DOMAIN);
+        assertEquals(tier.getSize(TENANT_DOMAIN), 0);
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 10, 0);
+        tier.put(TENANT_DOMAIN, "key", "value", tier.getGeneration(TENANT_DOMAIN));
+
+        assertNull(tier.get(TENANT_DOMAIN, "key"));
+        assertEquals(tier.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testAdmissionKeepsFrequentlyUsedEntries() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 2, 60000);
+        for (String key : new String[]{"hot1", "hot2"}) {
+            tier.put(TENANT_DOMAIN, key, key, tier.getGeneration(TENANT_DOMAIN));
+            for (int i = 0; i < 5; i++) {
+                tier.get(TENANT_DOMAIN, key);
+            }
+        }
+
+        // A key which was never read before is not frequent enough to replace the hot entries.
+        tier.put(TENANT_DOMAIN, "cold", "cold", tier.getGeneration(TENANT_DOMAIN));
+        assertEquals(tier.getRejectedAdmissionCount(), 1);
+        assertEquals(tier.get(TENANT_DOMAIN, "hot1"), "hot1");
+        assertEquals(tier.get(TENANT_DOMAIN, "hot2"), "hot2");
+
+        // Once the key is read more often than the hot entries, it is admitted by evicting one of them.
+        for (int i = 0; i < 10; i++) {
+            tier.get(TENANT_DOMAIN, "cold");
+        }
+        tier.put(TENANT_DOMAIN, "cold", "cold", tier.getGeneration(TENANT_DOMAIN));
+        assertEquals(tier.get(TENANT_DOMAIN, "cold"), "cold");
+        assertEquals(tier.getSize(TENANT_DOMAIN), 2);
+        assertEquals(tier.getEvictionCount(), 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidationListenerIsRegisteredPerTenant() {
+
+        LocalCacheTier<String, String> tier = new LocalCacheTier<>("TestCache", 10, 60000);
+        Cache<String, String> tenantCache = mock(Cache.class);
+        Cache<String, String> otherTenantCache = mock(Cache.class);
+        tier.registerInvalidationListener(TENANT_DOMAIN, tenantCache);
+        tier.registerInvalidationListener(OTHER_TENANT_DOMAIN, otherTenantCache);
+        // Resolving the same cache instance again should not register another listener.
+        tier.registerInvalidationListener(OTHER_TENANT_DOMAIN, otherTenantCache);
+
+        ArgumentCaptor<CacheEntryListener> listenerCaptor = ArgumentCaptor.forClass(CacheEntryListener.class);
+        verify(tenantCache, times(1)).registerCacheEntryListener(any());
+        verify(otherTenantCache, times(1)).registerCacheEntryListener(listenerCaptor.capture());
+
+        tier.put(TENANT_DOMAIN, "key", "value", tier.getGeneration(TENANT_DOMAIN));
+        tier.put(OTHER_TENANT_DOMAIN, "key", "otherValue", tier.getGeneration(OTHER_TENANT_DOMAIN));
+        CacheEntryEvent<String, String> event = mock(CacheEntryEvent.class);
+        when(event.getKey()).thenReturn("key");
+        ((CacheEntryRemovedListener<String, String>) listenerCaptor.getValue()).entryRemoved(event);
+
+        // A removal from the cache of a tenant only invalidates the segment of that tenant.
+        assertNull(tier.get(OTHER_TENANT_DOMAIN, "key"));
+        assertEquals(tier.get(TENANT_DOMAIN, "key"), "value");
+
+        // Once the cache of a tenant is created again, the entries taken from the previous cache are dropped.
+        tier.put(OTHER_TENANT_DOMAIN, "key", "otherValue", tier.getGeneration(OTHER_TENANT_DOMAIN));
+        tier.registerInvalidationListener(OTHER_TENANT_DOMAIN, mock(Cache.class));
+        assertEquals(tier.getSize(OTHER_TENANT_DOMAIN), 0);
+        assertEquals(tier.getSize(TENANT_DOMAIN), 1);
+    }
+
+    @Test
+    public void testFrequencySketchUnderConcurrentIncrements() throws Exception {
+
+        LocalCacheTier.FrequencySketch sketch = new LocalCacheTier.FrequencySketch(1000);
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 5000; j++) {
+                        sketch.increment("hot".hashCode());
+                        sketch.increment(j);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        int frequency = sketch.frequency("hot".hashCode());
+        assertTrue(frequency > 0 && frequency <= 15, "Unexpected frequency: " + frequency);
+    }
+}
@@ -33,7 +33,10 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.base.IdentityConstants;
+import org.wso2.carbon.identity.core.DefaultServiceURLBuilder;
+import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.ServiceURLProfile;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -50,6 +53,7 @@ import java.util.Map;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -77,6 +81,7 @@ public class DefaultServiceURLBuilderTest {
     @BeforeMethod
     public void setUp() throws Exception {
 
+        ServiceURLProfile.invalidate();
         carbonUtils = mockStatic(CarbonUtils.class);
         serverConfiguration = mockStatic(ServerConfiguration.class);
         networkUtils = mockStatic(NetworkUtils.class);
@@ -101,6 +106,7 @@ public class DefaultServiceURLBuilderTest {
     @AfterMethod
     public void tearDown() throws Exception {
 
+        ServiceURLProfile.invalidate();
         System.clearProperty(IdentityConstants.CarbonPlaceholders.CARBON_PORT_HTTP_PROPERTY);
         System.clearProperty(IdentityConstants.CarbonPlaceholders.CARBON_PORT_HTTPS_PROPERTY);
 
@@ -532,4 +538,133 @@ public class DefaultServiceURLBuilderTest {
         }
         assertEquals(relativeInternalUrl, expected);
     }
+
+    @DataProvider
+    public Object[][] getServiceURLProfileData() {
+
+        return new Object[][]{
+                {"abc", false, "https://www.wso2.com:9443/proxyContext/samlsso?key=v",
+                        "https://localhost:9443/samlsso?key=v"},
+                {"abc", true, "https://www.wso2.com:9443/proxyContext/t/abc/samlsso?key=v",
+                        "https://localhost:9443/t/abc/samlsso?key=v"},
+                {"carbon.super", true, "https://www.wso2.com:9443/proxyContext/samlsso?key=v",
+                        "https://localhost:9443/samlsso?key=v"}
+        };
+    }
+
+    @Test(dataProvider = "getServiceURLProfileData")
+    public void testBuildWithServiceURLProfile(String tenantNameFromContext, boolean enableTenantURLSupport,
+                                               String expectedPublicUrl, String expectedInternalUrl)
+            throws URLBuilderException {
+
+        int iterations = 1000;
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(HTTPS);
+        carbonUtils.when(() -> CarbonUtils.getTransportProxyPort(mockAxisConfiguration, HTTPS)).thenReturn(9443);
+        carbonUtils.when(() -> CarbonUtils.getTransportPort(mockAxisConfiguration, HTTPS)).thenReturn(9443);
+        when(ServerConfiguration.getInstance().getFirstProperty(IdentityCoreConstants.PROXY_CONTEXT_PATH))
+                .thenReturn("/proxyContext/");
+        identityTenantUtil.when(IdentityTenantUtil::shouldUseTenantQualifiedURLs).thenReturn(enableTenantURLSupport);
+        identityTenantUtil.when(IdentityTenantUtil::getTenantDomainFromContext).thenReturn(tenantNameFromContext);
+
+        for (int i = 0; i < iterations; i++) {
+            ServiceURL serviceURL = ServiceURLBuilder.create().addPath("samlsso").addParameter("key", "v")
+                    .build("www.wso2.com");
+            assertEquals(serviceURL.getAbsolutePublicURL(), expectedPublicUrl);
+            assertEquals(serviceURL.getAbsoluteInternalURL(), expectedInternalUrl);
+        }
+
+        // The server configuration is resolved only when the profile is built, by the protocol and the port lookups.
+        carbonUtils.verify(CarbonUtils::getManagementTransport, times(3));
+    }
+
+    @Test(dataProvider = "getAbsolutePublicURLData")
+    public void testProfileAndLegacyBuildsAreEqualForPublicURLs(String protocol, String hostName, int port,
+                                                               String proxyContextPath, String tenantNameFromContext,
+                                                               boolean enableTenantURLSupport,
+                                                               Map<String, String> parameters, String fragment,
+                                                               Map<String, String> fragmentParams, String expected,
+                                                               String urlPath) throws URLBuilderException {
+
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(protocol);
+        when(ServerConfiguration.getInstance().getFirstProperty(IdentityCoreConstants.HOST_NAME)).thenReturn(hostName);
+        carbonUtils.when(() -> CarbonUtils.getTransportProxyPort(mockAxisConfiguration, protocol)).thenReturn(port);
+        when(ServerConfiguration.getInstance().getFirstProperty(IdentityCoreConstants
+                .PROXY_CONTEXT_PATH)).thenReturn(proxyContextPath);
+        identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(enableTenantURLSupport);
+        identityTenantUtil.when(IdentityTenantUtil::shouldUseTenantQualifiedURLs).thenReturn(enableTenantURLSupport);
+        identityTenantUtil.when(IdentityTenantUtil::getTenantDomainFromContext).thenReturn(tenantNameFromContext);
+        lenient().when(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain())
+                .thenReturn("carbon.super");
+
+        assertEqualServiceURLs(urlPath, parameters, fragment, fragmentParams);
+    }
+
+    @Test(dataProvider = "getAbsoluteInternalURLData")
+    public void testProfileAndLegacyBuildsAreEqualForInternalURLs(String protocol, String serverHostName, int port,
+                                                                 String tenantNameFromContext,
+                                                                 boolean enableTenantURLSupport,
+                                                                 Map<String, String> parameters, String fragment,
+                                                                 Map<String, String> fragmentParams, String expected,
+                                                                 String urlPath) throws URLBuilderException {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(IdentityCoreConstants.SERVER_HOST_NAME))
+                    .thenReturn(serverHostName);
+            carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(protocol);
+            carbonUtils.when(() -> CarbonUtils.getTransportPort(mockAxisConfiguration, protocol)).thenReturn(port);
+            identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled)
+                    .thenReturn(enableTenantURLSupport);
+            identityTenantUtil.when(IdentityTenantUtil::shouldUseTenantQualifiedURLs)
+                    .thenReturn(enableTenantURLSupport);
+            identityTenantUtil.when(IdentityTenantUtil::getTenantDomainFromContext).thenReturn(tenantNameFromContext);
+            lenient().when(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain())
+                    .thenReturn("carbon.super");
+
+            assertEqualServiceURLs(urlPath, parameters, fragment, fragmentParams);
+        }
+    }
+
+    /**
+     * Build the same URL on the service URL profile and on the legacy path, which is taken by an extended builder,
+     * and assert that both builds resolve the same service URL.
+     */
+    private void assertEqualServiceURLs(String urlPath, Map<String, String> parameters, String fragment,
+                                        Map<String, String> fragmentParams) throws URLBuilderException {
+
+        ServiceURL profileServiceURL = configureBuilder(new DefaultServiceURLBuilder(), urlPath, parameters,
+                fragment, fragmentParams).build();
+        ServiceURL legacyServiceURL = configureBuilder(new DefaultServiceURLBuilder() {
+        }, urlPath, parameters, fragment, fragmentParams).build();
+
+        assertEquals(profileServiceURL.getAbsolutePublicURL(), legacyServiceURL.getAbsolutePublicURL());
+        assertEquals(profileServiceURL.getAbsoluteInternalURL(), legacyServiceURL.getAbsoluteInternalURL());
+        assertEquals(profileServiceURL.getRelativePublicURL(), legacyServiceURL.getRelativePublicURL());
+        assertEquals(profileServiceURL.getRelativeInternalURL(), legacyServiceURL.getRelativeInternalURL());
+        assertEquals(profileServiceURL.getProtocol(), legacyServiceURL.getProtocol());
+        assertEquals(profileServiceURL.getProxyHostName(), legacyServiceURL.getProxyHostName());
+        assertEquals(profileServiceURL.getPort(), legacyServiceURL.getPort());
+        assertEquals(profileServiceURL.getTransportPort(), legacyServiceURL.getTransportPort());
+        assertEquals(profileServiceURL.getPath(), legacyServiceURL.getPath());
+        assertEquals(profileServiceURL.getFragment(), legacyServiceURL.getFragment());
+        assertEquals(profileServiceURL.getTenantDomain(), legacyServiceURL.getTenantDomain());
+        assertEquals(profileServiceURL.getParameters(), legacyServiceURL.getParameters());
+    }
+
+    private ServiceURLBuilder configureBuilder(ServiceURLBuilder serviceURLBuilder, String urlPath,
+                                               Map<String, String> parameters, String fragment,
+                                               Map<String, String> fragmentParams) {
+
+        serviceURLBuilder.addPath(urlPath).setFragment(fragment);
+        if (MapUtils.isNotEmpty(parameters)) {
+            for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                serviceURLBuilder.addParameter(parameter.getKey(), parameter.getValue());
+            }
+        }
+        if (MapUtils.isNotEmpty(fragmentParams)) {
+            for (Map.Entry<String, String> fragmentParam : fragmentParams.entrySet()) {
+                serviceURLBuilder.addFragmentParameter(fragmentParam.getKey(), fragmentParam.getValue());
+            }
+        }
+        return serviceURLBuilder;
+    }
 }
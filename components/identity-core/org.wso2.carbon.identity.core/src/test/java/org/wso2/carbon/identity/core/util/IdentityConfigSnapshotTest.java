@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.base.IdentityConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link IdentityConfigSnapshot}.
+ */
+public class IdentityConfigSnapshotTest {
+
+    private static final IdentityConfigSnapshot.BooleanProperty ENABLED_BY_DEFAULT =
+            IdentityConfigSnapshot.booleanProperty("Test.EnabledByDefault", true);
+    private static final IdentityConfigSnapshot.BooleanProperty DISABLED_BY_DEFAULT =
+            IdentityConfigSnapshot.booleanProperty("Test.DisabledByDefault", false);
+
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityConfigSnapshot.reload(Collections.emptyMap());
+    }
+
+    @Test
+    public void testDefaultValues() {
+
+        IdentityConfigSnapshot.reload(Collections.emptyMap());
+
+        assertTrue(ENABLED_BY_DEFAULT.get());
+        assertFalse(DISABLED_BY_DEFAULT.get());
+        assertEquals(IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.MINUTES),
+                Long.parseLong(IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT_DEFAULT));
+        assertNull(IdentityConfigSnapshot.getInstance().getProperty("Test.EnabledByDefault"));
+    }
+
+    @Test
+    public void testConfiguredValues() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Test.EnabledByDefault", "FALSE");
+        configuration.put("Test.DisabledByDefault", "true");
+        configuration.put(IdentityConstants.ServerConfig.TEMP_DATA_CLEAN_UP_TIMEOUT, "15");
+        configuration.put(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT, "NotANumber");
+        configuration.put("Test.List", Arrays.asList("first", "second"));
+        IdentityConfigSnapshot.reload(configuration);
+
+        assertFalse(ENABLED_BY_DEFAULT.get());
+        assertTrue(DISABLED_BY_DEFAULT.get());
+        assertEquals(IdentityConfigSnapshot.TEMP_DATA_CLEAN_UP_TIMEOUT.get(TimeUnit.NANOSECONDS),
+                TimeUnit.MINUTES.toNanos(15));
+        assertEquals(IdentityConfigSnapshot.CLEAN_UP_TIMEOUT.get(TimeUnit.MINUTES),
+                Long.parseLong(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT_DEFAULT));
+        assertEquals(IdentityConfigSnapshot.getInstance().getProperty("Test.List"), "first");
+    }
+
+    @Test
+    public void testInvalidBooleanFallsBackToDefault() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Test.EnabledByDefault", "yes");
+        configuration.put("Test.DisabledByDefault", " ");
+        IdentityConfigSnapshot.reload(configuration);
+
+        assertTrue(ENABLED_BY_DEFAULT.get());
+        assertFalse(DISABLED_BY_DEFAULT.get());
+    }
+
+    @Test
+    public void testPlaceholdersAreResolvedOnReload() {
+
+        String url = "https://${carbon.host}:${carbon.management.port}/oauth2/token";
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Test.URL", url);
+        configuration.put("Test.Value", "value");
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders(url))
+                    .thenReturn("https://localhost:9443/oauth2/token");
+            IdentityConfigSnapshot snapshot = IdentityConfigSnapshot.reload(configuration);
+
+            assertEquals(snapshot.getProperty("Test.URL"), "https://localhost:9443/oauth2/token");
+            assertEquals(snapshot.getProperty("Test.Value"), "value");
+            // The placeholders are resolved only once, when the snapshot is built.
+            snapshot.getProperty("Test.URL");
+            identityUtil.verify(() -> IdentityUtil.fillURLPlaceholders(url));
+        }
+    }
+}
@@ -642,6 +642,7 @@ public class IdentityUtilTest {
         Map<String, Object> mockConfiguration = new HashMap<>();
         mockConfiguration.put(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT, value);
         setPrivateStaticField(IdentityUtil.class, "configuration", mockConfiguration);
+        IdentityConfigSnapshot.reload(mockConfiguration);
         assertEquals(IdentityUtil.getCleanUpTimeout(), expected, "Expected value mismatches returned for input: " +
                 value);
     }
@@ -680,6 +681,7 @@ public class IdentityUtilTest {
         Map<String, Object> mockConfiguration = new HashMap<>();
         mockConfiguration.put(IdentityConstants.ServerConfig.OPERATION_CLEAN_UP_TIMEOUT, value);
         setPrivateStaticField(IdentityUtil.class, "configuration", mockConfiguration);
+        IdentityConfigSnapshot.reload(mockConfiguration);
         assertEquals(IdentityUtil.getOperationCleanUpTimeout(), expected, "Expected value mismatches returned for " +
                 "input: " + value);
     }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SqlDialectRegistry}.
+ */
+public class SqlDialectRegistryTest {
+
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        SqlDialectRegistry.getInstance().clear();
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+        SqlDialectRegistry.getInstance().clear();
+    }
+
+    @DataProvider
+    public Object[][] getDatabaseMetaData() {
+
+        return new Object[][]{
+                {"MySQL", "MySQL Connector/J", Dialect.MYSQL},
+                {"MariaDB", "MariaDB Connector/J", Dialect.MARIADB},
+                {"H2", "H2 JDBC Driver", Dialect.H2},
+                {"DB2/LINUXX8664", "IBM Data Server Driver for JDBC and SQLJ", Dialect.DB2},
+                {"Microsoft SQL Server", "Microsoft JDBC Driver 12.4 for SQL Server", Dialect.MSSQL},
+                {"PostgreSQL", "PostgreSQL JDBC Driver", Dialect.POSTGRESQL},
+                {"Informix Dynamic Server", "IBM Informix JDBC Driver for IBM Informix Dynamic Server",
+                        Dialect.INFORMIX},
+                {"Oracle", "Oracle JDBC driver", Dialect.ORACLE},
+                {"SQLite", "SQLite JDBC", Dialect.UNKNOWN}
+        };
+    }
+
+    @Test(dataProvider = "getDatabaseMetaData")
+    public void testResolveDialect(String databaseProductName, String driverName, Dialect expectedDialect) {
+
+        assertEquals(Dialect.resolve(databaseProductName, driverName), expectedDialect);
+    }
+
+    @Test
+    public void testDialectIsResolvedOncePerDataSource() throws Exception {
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mockConnection("PostgreSQL", "PostgreSQL JDBC Driver");
+        DatabaseMetaData metaData = connection.getMetaData();
+        when(dataSource.getConnection()).thenReturn(connection);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSource);
+
+        SqlDialectRegistry registry = SqlDialectRegistry.getInstance();
+        assertEquals(registry.getDialect(JdbcUtils.Database.IDENTITY), Dialect.POSTGRESQL);
+        assertEquals(registry.getDialect(JdbcUtils.Database.IDENTITY), Dialect.POSTGRESQL);
+        assertEquals(registry.getDialect(connection), Dialect.POSTGRESQL);
+        assertTrue(registry.getDatabaseInfo(JdbcUtils.Database.IDENTITY).isTypeOf("PostgreSQL"));
+
+        verify(dataSource, times(1)).getConnection();
+        verify(metaData, times(1)).getDatabaseProductName();
+    }
+
+    @Test
+    public void testDialectIsResolvedFromConnectionWithoutDataSource() throws Exception {
+
+        Connection connection = mockConnection("Oracle", "Oracle JDBC driver");
+
+        assertEquals(SqlDialectRegistry.getInstance().getDialect(connection), Dialect.ORACLE);
+        assertEquals(SqlDialectRegistry.getInstance().getDatabaseProductName(connection), "Oracle");
+    }
+
+    @Test(expectedExceptions = DataAccessException.class)
+    public void testGetDialectWithoutDataSource() throws Exception {
+
+        SqlDialectRegistry.getInstance().getDialect(JdbcUtils.Database.SESSION);
+    }
+
+    @Test
+    public void testApplyLimit() {
+
+        String query = "SELECT DATA FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ?";
+        assertEquals(Dialect.MYSQL.applyLimit(query, 1), query + " LIMIT 1");
+        assertEquals(Dialect.MSSQL.applyLimit(query, 1),
+                "SELECT TOP (1) DATA FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ?");
+        assertEquals(Dialect.INFORMIX.applyLimit(query, 1),
+                "SELECT FIRST 1 DATA FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ?");
+        assertEquals(Dialect.ORACLE.applyLimit(query, 1), "SELECT * FROM (" + query + ") WHERE ROWNUM <= 1");
+        assertEquals(Dialect.DB2.applyLimit(query, 1), query + " FETCH FIRST 1 ROWS ONLY");
+    }
+
+    @Test
+    public void testBatchDeleteStatement() {
+
+        assertEquals(Dialect.MYSQL.getBatchDeleteStatement("IDN_AUTH_SESSION_STORE", Arrays.asList("SESSION_ID",
+                        "OPERATION"), "EXPIRY_TIME < ?", 100),
+                "DELETE FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? LIMIT 100");
+        assertEquals(Dialect.DB2.getBatchDeleteStatement("IDN_AUTH_SESSION_STORE", Arrays.asList("SESSION_ID",
+                        "OPERATION"), "EXPIRY_TIME < ?", 100),
+                "DELETE FROM IDN_AUTH_SESSION_STORE WHERE (SESSION_ID, OPERATION) IN (SELECT SESSION_ID, OPERATION " +
+                        "FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? FETCH FIRST 100 ROWS ONLY)");
+    }
+
+    private Connection mockConnection(String databaseProductName, String driverName) throws Exception {
+
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        when(metaData.getDriverName()).thenReturn(driverName);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        return connection;
+    }
+}
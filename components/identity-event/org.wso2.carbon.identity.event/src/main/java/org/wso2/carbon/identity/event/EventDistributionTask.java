@@ -45,7 +45,7 @@ public class EventDistributionTask implements Runnable {
     /**
      * Registered message sending modules.
      */
-    private List<AbstractEventHandler> notificationSendingModules;
+    private volatile List<AbstractEventHandler> notificationSendingModules;
     /**
      * Condition to break event distribution task
      */
@@ -63,6 +63,15 @@ public class EventDistributionTask implements Runnable {
         IdentityEventServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
     }
 
+    /**
+     * Set the registered message sending modules, when the modules are registered or unregistered.
+     *
+     * @param notificationSendingModules List of notification sending modules registered
+     */
+    public void setNotificationSendingModules(List<AbstractEventHandler> notificationSendingModules) {
+        this.notificationSendingModules = notificationSendingModules;
+    }
+
     public void addEventToQueue(Event publisherEvent) {
         this.eventQueue.add(publisherEvent);
     }
@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.bean.AsyncEventPipelineConfig;
 import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.securevault.SecretResolver;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 
@@ -62,6 +64,10 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Configuration of the partitioned asynchronous event pipeline
+     */
+    private AsyncEventPipelineConfig asyncEventPipelineConfig;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +84,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setAsyncEventPipelineConfig();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +105,55 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the asynchronous event pipeline configuration read from configurations
+     */
+    private void setAsyncEventPipelineConfig() {
+
+        boolean enabled = Boolean.parseBoolean((String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.AsyncPipelineConfig.ENABLE));
+        int partitionCount = parseIntProperty(IdentityEventConstants.AsyncPipelineConfig.PARTITIONS,
+                parseInt(threadPoolSize, IdentityEventConstants.AsyncPipelineConfig.DEFAULT_PARTITIONS));
+        int queueCapacity = parseIntProperty(IdentityEventConstants.AsyncPipelineConfig.QUEUE_CAPACITY,
+                IdentityEventConstants.AsyncPipelineConfig.DEFAULT_QUEUE_CAPACITY);
+        int batchSize = parseIntProperty(IdentityEventConstants.AsyncPipelineConfig.BATCH_SIZE,
+                IdentityEventConstants.AsyncPipelineConfig.DEFAULT_BATCH_SIZE);
+
+        AsyncEventPipelineConfig.OverflowPolicy overflowPolicy = AsyncEventPipelineConfig.OverflowPolicy.CALLER_RUNS;
+        String overflowPolicyValue = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.AsyncPipelineConfig.OVERFLOW_POLICY);
+        if (overflowPolicyValue != null) {
+            try {
+                overflowPolicy = AsyncEventPipelineConfig.OverflowPolicy.valueOf(
+                        overflowPolicyValue.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid async event pipeline overflow policy: " + overflowPolicyValue +
+                        ". Defaulting to " + overflowPolicy);
+            }
+        }
+        asyncEventPipelineConfig = new AsyncEventPipelineConfig(enabled, partitionCount, queueCapacity,
+                overflowPolicy, batchSize);
+    }
+
+    private int parseIntProperty(String propertyName, int defaultValue) {
+
+        return parseInt((String) notificationMgtConfigProperties.remove(propertyName), defaultValue);
+    }
+
+    private int parseInt(String value, int defaultValue) {
+
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid integer value: " + value + " in identity event configurations. Defaulting to " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +278,10 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public AsyncEventPipelineConfig getAsyncEventPipelineConfig() {
+        return asyncEventPipelineConfig;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
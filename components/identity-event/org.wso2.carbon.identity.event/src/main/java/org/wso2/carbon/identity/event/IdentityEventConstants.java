@@ -25,6 +25,25 @@ public class IdentityEventConstants {
 
     private IdentityEventConstants(){}
 
+    /**
+     * Configurations of the partitioned asynchronous event pipeline.
+     */
+    public static class AsyncPipelineConfig {
+
+        private AsyncPipelineConfig() {
+
+        }
+
+        public static final String ENABLE = "asyncPipeline.enable";
+        public static final String PARTITIONS = "asyncPipeline.partitions";
+        public static final String QUEUE_CAPACITY = "asyncPipeline.queueCapacity";
+        public static final String OVERFLOW_POLICY = "asyncPipeline.overflowPolicy";
+        public static final String BATCH_SIZE = "asyncPipeline.batchSize";
+        public static final int DEFAULT_PARTITIONS = 10;
+        public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+        public static final int DEFAULT_BATCH_SIZE = 50;
+    }
+
     public class PropertyConfig {
 
         private PropertyConfig(){}
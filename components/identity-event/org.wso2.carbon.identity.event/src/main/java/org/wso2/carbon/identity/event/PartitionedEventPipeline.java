@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.AsyncEventPipelineConfig;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.BatchEventHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous event pipeline with a configured number of bounded partition queues, each drained by a single worker
+ * thread. Events are assigned to partitions by the tenant and the user of the event, hence the events of a user are
+ * handled in the order they were published. When a partition queue is full, the configured overflow policy is applied
+ * instead of letting the queue grow without a limit.
+ */
+public class PartitionedEventPipeline {
+
+    private static final Log log = LogFactory.getLog(PartitionedEventPipeline.class);
+    private static final String WORKER_THREAD_NAME_PREFIX = "IdentityEventPipelineWorker-";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+    // Queued to a partition at shutdown to wake up its worker, which waits for events without a timeout.
+    private static final QueuedEvent SHUTDOWN_SIGNAL = new QueuedEvent(null, null);
+
+    private final List<BlockingQueue<QueuedEvent>> partitions;
+    private final List<Thread> workers;
+    private final AsyncEventPipelineConfig.OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private volatile boolean running;
+
+    public PartitionedEventPipeline(AsyncEventPipelineConfig config) {
+
+        int partitionCount = Math.max(config.getPartitionCount(), 1);
+        this.partitions = new ArrayList<>(partitionCount);
+        this.workers = new ArrayList<>(partitionCount);
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.batchSize = Math.max(config.getBatchSize(), 1);
+        this.running = true;
+        for (int i = 0; i < partitionCount; i++) {
+            BlockingQueue<QueuedEvent> partition = new ArrayBlockingQueue<>(Math.max(config.getQueueCapacity(), 1));
+            partitions.add(partition);
+            Thread worker = new Thread(() -> drain(partition), WORKER_THREAD_NAME_PREFIX + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Started the identity event pipeline with " + partitionCount + " partitions of capacity " +
+                    config.getQueueCapacity() + " and overflow policy " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Publish an event to be handled asynchronously by the given handler. The event is not queued if the handler is
+     * not enabled, and it is handled in the publishing thread once the pipeline has been shut down.
+     *
+     * @param event   Event.
+     * @param handler Event handler.
+     */
+    public void publish(Event event, AbstractEventHandler handler) {
+
+        if (!handler.isEnabled(new IdentityEventMessageContext(event))) {
+            if (log.isDebugEnabled()) {
+                log.debug("Event handler: " + handler.getName() + " is not enabled. Skipping the event: " +
+                        event.getEventName());
+            }
+            return;
+        }
+        if (!running) {
+            if (log.isDebugEnabled()) {
+                log.debug("Identity event pipeline is shut down. Handling the event: " + event.getEventName() +
+                        " in the publishing thread.");
+            }
+            handle(handler, event);
+            return;
+        }
+
+        QueuedEvent queuedEvent = new QueuedEvent(event, handler);
+        BlockingQueue<QueuedEvent> partition = partitions.get(getPartitionIndex(event));
+        if (partition.offer(queuedEvent)) {
+            handleIfShutDown(partition, queuedEvent);
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    partition.put(queuedEvent);
+                    handleIfShutDown(partition, queuedEvent);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while waiting to publish the event: " + event.getEventName() +
+                            " to the handler: " + handler.getName() + ". The event is dropped.");
+                }
+                break;
+            case DROP_OLDEST:
+                while (!partition.offer(queuedEvent)) {
+                    QueuedEvent droppedEvent = partition.poll();
+                    if (droppedEvent == SHUTDOWN_SIGNAL) {
+                        // The pipeline is shutting down. The signal is returned to the queue for the worker.
+                        partition.offer(SHUTDOWN_SIGNAL);
+                        handle(handler, event);
+                        return;
+                    }
+                    if (droppedEvent != null) {
+                        log.warn("Identity event queue is full. Dropped the event: " +
+                                droppedEvent.getEvent().getEventName() + " of the handler: " +
+                                droppedEvent.getHandler().getName());
+                    }
+                }
+                handleIfShutDown(partition, queuedEvent);
+                break;
+            case CALLER_RUNS:
+            default:
+                if (log.isDebugEnabled()) {
+                    log.debug("Identity event queue is full. Handling the event: " + event.getEventName() +
+                            " in the publishing thread.");
+                }
+                handle(handler, event);
+                break;
+        }
+    }
+
+    /**
+     * Get the number of events waiting in each partition.
+     *
+     * @return Queue depth of each partition.
+     */
+    public List<Integer> getPartitionDepths() {
+
+        List<Integer> depths = new ArrayList<>(partitions.size());
+        for (BlockingQueue<QueuedEvent> partition : partitions) {
+            depths.add(partition.size());
+        }
+        return depths;
+    }
+
+    /**
+     * Stop accepting events to the partition queues and wait a bounded time for the workers to handle the events
+     * which are already queued. Events which are still queued when the wait times out are dropped.
+     */
+    public void shutdown() {
+
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        for (BlockingQueue<QueuedEvent> partition : partitions) {
+            try {
+                // A worker which cannot be signalled in time is interrupted once the wait times out.
+                partition.offer(SHUTDOWN_SIGNAL, Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Thread worker : workers) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remainingMillis > 0) {
+                    worker.join(remainingMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+
+        List<QueuedEvent> droppedEvents = new ArrayList<>();
+        for (BlockingQueue<QueuedEvent> partition : partitions) {
+            partition.drainTo(droppedEvents);
+        }
+        droppedEvents.remove(SHUTDOWN_SIGNAL);
+        if (!droppedEvents.isEmpty()) {
+            log.warn("Identity event pipeline was shut down before handling all the queued events. Dropped " +
+                    droppedEvents.size() + " events.");
+        }
+    }
+
+    private int getPartitionIndex(Event event) {
+
+        Map<String, Object> eventProperties = event.getEventProperties();
+        Object tenantDomain = null;
+        Object userName = null;
+        if (eventProperties != null) {
+            tenantDomain = eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+            userName = eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME);
+        }
+        String partitionKey;
+        if (tenantDomain == null && userName == null) {
+            partitionKey = event.getEventName();
+        } else {
+            partitionKey = tenantDomain + ":" + userName;
+        }
+        return ((partitionKey != null ? partitionKey.hashCode() : 0) & Integer.MAX_VALUE) % partitions.size();
+    }
+
+    /**
+     * Handle the given event in the publishing thread if the pipeline was shut down while it was being queued, since
+     * the worker of the partition may have drained its queue for the last time before the event was added.
+     */
+    private void handleIfShutDown(BlockingQueue<QueuedEvent> partition, QueuedEvent queuedEvent) {
+
+        if (!running && partition.remove(queuedEvent)) {
+            handle(queuedEvent.getHandler(), queuedEvent.getEvent());
+        }
+    }
+
+    private void drain(BlockingQueue<QueuedEvent> partition) {
+
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        boolean signalled = false;
+        while (!signalled) {
+            try {
+                batch.add(partition.take());
+                partition.drainTo(batch, batchSize - 1);
+                signalled = batch.remove(SHUTDOWN_SIGNAL);
+                process(batch);
+            } catch (InterruptedException e) {
+                if (running) {
+                    log.error("Identity event pipeline worker was interrupted while waiting for events.", e);
+                } else {
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        // Handle the events which were queued before the pipeline was shut down.
+        while (!Thread.currentThread().isInterrupted() && partition.drainTo(batch, batchSize) > 0) {
+            try {
+                process(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<QueuedEvent> batch) {
+
+        // Events of the handlers which support batches are grouped per handler, keeping the publishing order.
+        Map<AbstractEventHandler, List<Event>> batchedEvents = new LinkedHashMap<>();
+        for (QueuedEvent queuedEvent : batch) {
+            AbstractEventHandler handler = queuedEvent.getHandler();
+            if (batchSize > 1 && handler instanceof BatchEventHandler) {
+                batchedEvents.computeIfAbsent(handler, key -> new ArrayList<>()).add(queuedEvent.getEvent());
+            } else {
+                handle(handler, queuedEvent.getEvent());
+            }
+        }
+        for (Map.Entry<AbstractEventHandler, List<Event>> entry : batchedEvents.entrySet()) {
+            handleBatch(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void handle(AbstractEventHandler handler, Event event) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+        }
+        try {
+            handler.handleEvent(event);
+        } catch (IdentityEventException | RuntimeException e) {
+            log.error("Error while invoking the event handler: " + handler.getName() + " for the event: " +
+                    event.getEventName(), e);
+        }
+    }
+
+    private void handleBatch(AbstractEventHandler handler, List<Event> events) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handler.getName() + " on a batch of " + events.size() + " events.");
+        }
+        try {
+            ((BatchEventHandler) handler).handleEvents(events);
+        } catch (IdentityEventException | RuntimeException e) {
+            log.error("Error while invoking the event handler: " + handler.getName() + " for a batch of " +
+                    events.size() + " events.", e);
+        }
+    }
+
+    /**
+     * Event waiting in a partition queue, along with the handler which should handle it.
+     */
+    private static class QueuedEvent {
+
+        private final Event event;
+        private final AbstractEventHandler handler;
+
+        private QueuedEvent(Event event, AbstractEventHandler handler) {
+
+            this.event = event;
+            this.handler = handler;
+        }
+
+        private Event getEvent() {
+
+            return event;
+        }
+
+        private AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.bean;
+
+/**
+ * Configuration of the partitioned asynchronous event pipeline, which is read from the identity-event.properties
+ * file.
+ */
+public class AsyncEventPipelineConfig {
+
+    /**
+     * Policy applied when an event is published to a full partition queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the partition queue has space.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest event in the partition queue to make space for the new event.
+         */
+        DROP_OLDEST,
+        /**
+         * Handle the event in the publishing thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final boolean enabled;
+    private final int partitionCount;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+
+    public AsyncEventPipelineConfig(boolean enabled, int partitionCount, int queueCapacity,
+                                    OverflowPolicy overflowPolicy, int batchSize) {
+
+        this.enabled = enabled;
+        this.partitionCount = partitionCount;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    public int getPartitionCount() {
+
+        return partitionCount;
+    }
+
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    /**
+     * Get the maximum number of events handed over at once to a handler which supports batches.
+     *
+     * @return Batch size.
+     */
+    public int getBatchSize() {
+
+        return batchSize;
+    }
+}
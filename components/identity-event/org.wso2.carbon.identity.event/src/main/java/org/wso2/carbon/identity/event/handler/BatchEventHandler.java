@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.List;
+
+/**
+ * Event handlers which can handle multiple asynchronously published events at once can implement this interface.
+ * When the partitioned asynchronous event pipeline is enabled, the queued events of such a handler are handed over
+ * in batches, in the order they were published.
+ */
+public interface BatchEventHandler {
+
+    /**
+     * Handle a batch of events.
+     *
+     * @param events Events, in the order they were published.
+     * @throws IdentityEventException If an error occurs while handling the events.
+     */
+    void handleEvents(List<Event> events) throws IdentityEventException;
+}
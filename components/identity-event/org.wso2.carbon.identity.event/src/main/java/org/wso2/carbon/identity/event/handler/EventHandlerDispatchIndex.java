@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable dispatch index from event name to the ordered list of event handlers which may handle the event.
+ * The subscriptions of the handlers which rely on the default subscription matching of {@link AbstractEventHandler}
+ * are resolved when the index is built, hence dispatching an event only requires a map lookup. The handlers which
+ * override the subscription matching or the association mode are added to every dispatch list, and are consulted at
+ * dispatch time as before.
+ */
+public class EventHandlerDispatchIndex {
+
+    private static final Log log = LogFactory.getLog(EventHandlerDispatchIndex.class);
+    private static final String OPERATION_ASYNC_PROPERTY = "operationAsync";
+
+    private final List<AbstractEventHandler> sourceHandlers;
+    private final Map<String, List<DispatchEntry>> dispatchEntriesByEvent;
+    private final List<DispatchEntry> dynamicDispatchEntries;
+
+    private EventHandlerDispatchIndex(List<AbstractEventHandler> sourceHandlers,
+                                      Map<String, List<DispatchEntry>> dispatchEntriesByEvent,
+                                      List<DispatchEntry> dynamicDispatchEntries) {
+
+        this.sourceHandlers = sourceHandlers;
+        this.dispatchEntriesByEvent = dispatchEntriesByEvent;
+        this.dynamicDispatchEntries = dynamicDispatchEntries;
+    }
+
+    /**
+     * Build the dispatch index for the given handlers.
+     *
+     * @param handlers Event handlers, ordered by priority.
+     * @return Dispatch index.
+     */
+    public static EventHandlerDispatchIndex build(List<AbstractEventHandler> handlers) {
+
+        List<AbstractEventHandler> handlerSnapshot = new ArrayList<>(handlers);
+        // Subscribed event names of each handler, or null if the handler overrides the subscription matching.
+        List<Set<String>> subscribedEventNames = new ArrayList<>(handlerSnapshot.size());
+        Set<String> eventNames = new LinkedHashSet<>();
+        List<DispatchEntry> dynamicDispatchEntries = new ArrayList<>();
+        for (AbstractEventHandler handler : handlerSnapshot) {
+            if (isCanHandleOverridden(handler)) {
+                subscribedEventNames.add(null);
+                dynamicDispatchEntries.add(new DispatchEntry(handler, true, null));
+            } else {
+                Set<String> handlerEventNames = getSubscribedEventNames(handler);
+                subscribedEventNames.add(handlerEventNames);
+                eventNames.addAll(handlerEventNames);
+            }
+        }
+
+        Map<String, List<DispatchEntry>> dispatchEntriesByEvent = new HashMap<>();
+        for (String eventName : eventNames) {
+            List<DispatchEntry> dispatchEntries = new ArrayList<>();
+            for (int i = 0; i < handlerSnapshot.size(); i++) {
+                AbstractEventHandler handler = handlerSnapshot.get(i);
+                Set<String> handlerEventNames = subscribedEventNames.get(i);
+                if (handlerEventNames == null) {
+                    dispatchEntries.add(new DispatchEntry(handler, true, null));
+                } else if (handlerEventNames.contains(eventName)) {
+                    dispatchEntries.add(new DispatchEntry(handler, false,
+                            resolveAssociationAsync(handler, eventName)));
+                }
+            }
+            dispatchEntriesByEvent.put(eventName, Collections.unmodifiableList(dispatchEntries));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built the event handler dispatch index for " + handlerSnapshot.size() + " handlers and " +
+                    eventNames.size() + " subscribed events.");
+        }
+        return new EventHandlerDispatchIndex(handlers, Collections.unmodifiableMap(dispatchEntriesByEvent),
+                Collections.unmodifiableList(dynamicDispatchEntries));
+    }
+
+    /**
+     * Check whether this index was built from the given handler list. The registered handler list is replaced, rather
+     * than modified, when a handler is registered or unregistered, hence a reference comparison is sufficient.
+     *
+     * @param handlers Event handlers.
+     * @return True if the index was built from the given list.
+     */
+    public boolean isBuiltFrom(List<AbstractEventHandler> handlers) {
+
+        return sourceHandlers == handlers;
+    }
+
+    /**
+     * Get the ordered dispatch entries of the given event.
+     *
+     * @param eventName Event name.
+     * @return Dispatch entries.
+     */
+    public List<DispatchEntry> getDispatchEntries(String eventName) {
+
+        List<DispatchEntry> dispatchEntries = dispatchEntriesByEvent.get(eventName);
+        return dispatchEntries != null ? dispatchEntries : dynamicDispatchEntries;
+    }
+
+    private static boolean isCanHandleOverridden(AbstractEventHandler handler) {
+
+        return isOverridden(handler, "canHandle", MessageContext.class);
+    }
+
+    private static boolean isOverridden(AbstractEventHandler handler, String methodName, Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() !=
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static Set<String> getSubscribedEventNames(AbstractEventHandler handler) {
+
+        Set<String> eventNames = new LinkedHashSet<>();
+        ModuleConfiguration configs = handler.configs;
+        if (configs == null || configs.getSubscriptions() == null) {
+            return eventNames;
+        }
+        for (Subscription subscription : configs.getSubscriptions()) {
+            eventNames.add(subscription.getSubscriptionName());
+        }
+        return eventNames;
+    }
+
+    private static Boolean resolveAssociationAsync(AbstractEventHandler handler, String eventName) {
+
+        if (isOverridden(handler, "isAssociationAsync", String.class)) {
+            return null;
+        }
+        try {
+            return handler.isAssociationAsync(eventName);
+        } catch (IdentityEventException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not resolve the association mode of the event: " + eventName + " for the handler: "
+                        + handler.getName() + ". It will be resolved at dispatch time.", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Dispatch entry of an event handler for an event.
+     */
+    public static class DispatchEntry {
+
+        private final AbstractEventHandler handler;
+        private final boolean canHandleCheckRequired;
+        private final Boolean associationAsync;
+
+        private DispatchEntry(AbstractEventHandler handler, boolean canHandleCheckRequired, Boolean associationAsync) {
+
+            this.handler = handler;
+            this.canHandleCheckRequired = canHandleCheckRequired;
+            this.associationAsync = associationAsync;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * Check whether the handler has to be asked if it can handle the event at dispatch time.
+         *
+         * @return True if the handler overrides the subscription matching.
+         */
+        public boolean isCanHandleCheckRequired() {
+
+            return canHandleCheckRequired;
+        }
+
+        /**
+         * Get whether the handler is associated asynchronously with the event.
+         *
+         * @return Association mode, or null if it has to be resolved at dispatch time.
+         */
+        public Boolean getAssociationAsync() {
+
+            return associationAsync;
+        }
+    }
+}
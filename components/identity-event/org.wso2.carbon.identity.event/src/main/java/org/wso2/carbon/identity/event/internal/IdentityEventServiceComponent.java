@@ -53,12 +53,15 @@ public class IdentityEventServiceComponent {
     private ServiceRegistration serviceRegistration = null;
 
     // list of all registered event handlers
-    public static List<AbstractEventHandler> eventHandlerList = new ArrayList<>();
+    public static volatile List<AbstractEventHandler> eventHandlerList = new ArrayList<>();
 
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()),
+                    configBuilder.getAsyncEventPipelineConfig()));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,6 +73,10 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -81,19 +88,27 @@ public class IdentityEventServiceComponent {
              cardinality = ReferenceCardinality.MULTIPLE, 
              policy = ReferencePolicy.DYNAMIC, 
              unbind = "unRegisterEventHandler")
-    protected void registerEventHandler(AbstractEventHandler eventHandler) {
+    protected synchronized void registerEventHandler(AbstractEventHandler eventHandler) {
         String handlerName = eventHandler.getName();
         try {
             eventHandler.init(IdentityEventConfigBuilder.getInstance().getModuleConfigurations(handlerName));
         } catch (IdentityEventException | IdentityRuntimeException e) {
             log.warn("Properties for " + handlerName + " is not configured. This event handler will not be activated");
         }
-        eventHandlerList.add(eventHandler);
+        // The list is replaced instead of being modified, so that the event service rebuilds its dispatch index.
+        List<AbstractEventHandler> handlers = new ArrayList<>(eventHandlerList);
+        handlers.add(eventHandler);
         MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
-        Collections.sort(eventHandlerList, messageHandlerComparator);
+        Collections.sort(handlers, messageHandlerComparator);
+        eventHandlerList = handlers;
     }
 
-    protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+    protected synchronized void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>(eventHandlerList);
+        if (handlers.remove(eventHandler)) {
+            eventHandlerList = handlers;
+        }
     }
 
     @Reference(
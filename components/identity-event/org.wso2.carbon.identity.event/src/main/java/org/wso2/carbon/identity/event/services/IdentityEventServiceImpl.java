@@ -23,9 +23,12 @@ import org.apache.commons.logging.LogFactory;
 
 import org.wso2.carbon.identity.event.EventDistributionTask;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.PartitionedEventPipeline;
+import org.wso2.carbon.identity.event.bean.AsyncEventPipelineConfig;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerDispatchIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
 import java.util.List;
@@ -34,28 +37,76 @@ public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
     private EventDistributionTask eventDistributionTask;
+    private volatile EventHandlerDispatchIndex dispatchIndex;
+    private PartitionedEventPipeline eventPipeline;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
+
+        this(handlerList, threadPoolSize, null);
+    }
+
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    AsyncEventPipelineConfig asyncEventPipelineConfig) {
+
         this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
         new Thread(eventDistributionTask).start();
+        if (asyncEventPipelineConfig != null && asyncEventPipelineConfig.isEnabled()) {
+            this.eventPipeline = new PartitionedEventPipeline(asyncEventPipelineConfig);
+        }
     }
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        EventHandlerDispatchIndex index = getDispatchIndex();
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
-
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
-                } else {
-                    handler.handleEvent(event);
-                }
+        for (EventHandlerDispatchIndex.DispatchEntry dispatchEntry : index.getDispatchEntries(event.getEventName())) {
+
+            AbstractEventHandler handler = dispatchEntry.getHandler();
+            if (dispatchEntry.isCanHandleCheckRequired() && !handler.canHandle(eventContext)) {
+                continue;
+            }
+            Boolean associationAsync = dispatchEntry.getAssociationAsync();
+            if (associationAsync == null) {
+                associationAsync = handler.isAssociationAsync(event.getEventName());
+            }
+            if (associationAsync && eventPipeline != null) {
+                eventPipeline.publish(event, handler);
+            } else if (associationAsync) {
+                eventDistributionTask.addEventToQueue(event);
+            } else {
+                handler.handleEvent(event);
             }
         }
     }
+
+    /**
+     * Stop the workers of the asynchronous event pipeline, if it is enabled.
+     */
+    public void shutdown() {
+
+        if (eventPipeline != null) {
+            eventPipeline.shutdown();
+        }
+    }
+
+    /**
+     * Get the dispatch index of the registered event handlers. The index is rebuilt when the handler list is
+     * replaced, which happens when a handler is registered or unregistered.
+     *
+     * @return Event handler dispatch index.
+     */
+    private EventHandlerDispatchIndex getDispatchIndex() {
+
+        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        EventHandlerDispatchIndex index = dispatchIndex;
+        if (index == null || !index.isBuiltFrom(eventHandlerList)) {
+            index = EventHandlerDispatchIndex.build(eventHandlerList);
+            dispatchIndex = index;
+            eventDistributionTask.setNotificationSendingModules(eventHandlerList);
+        }
+        return index;
+    }
 }
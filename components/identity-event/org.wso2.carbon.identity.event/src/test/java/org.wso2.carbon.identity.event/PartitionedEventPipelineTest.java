@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.AsyncEventPipelineConfig;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.BatchEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link PartitionedEventPipeline}.
+ */
+public class PartitionedEventPipelineTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void testEventsOfUserAreHandledInOrder() throws Exception {
+
+        int eventCount = 200;
+        RecordingBatchEventHandler handler = new RecordingBatchEventHandler("orderedHandler", eventCount);
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 4, 1000,
+                AsyncEventPipelineConfig.OverflowPolicy.BLOCK, 10));
+        try {
+            for (int i = 0; i < eventCount; i++) {
+                pipeline.publish(buildEvent("event-" + i, "user1"), handler);
+            }
+            Assert.assertTrue(handler.latch.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < eventCount; i++) {
+                Assert.assertEquals(handler.handledEvents.get(i), "event-" + i);
+            }
+            Assert.assertEquals(pipeline.getPartitionDepths(), Collections.nCopies(4, 0));
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler("callerRunsHandler");
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 1, 1,
+                AsyncEventPipelineConfig.OverflowPolicy.CALLER_RUNS, 1));
+        try {
+            pipeline.publish(buildEvent("first", "user1"), handler);
+            Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+            pipeline.publish(buildEvent("second", "user1"), handler);
+            pipeline.publish(buildEvent("third", "user1"), handler);
+            Assert.assertEquals(handler.handlingThreads.get("third"), Thread.currentThread().getName());
+        } finally {
+            handler.release.countDown();
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropOldestWhenQueueIsFull() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler("dropOldestHandler");
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 1, 1,
+                AsyncEventPipelineConfig.OverflowPolicy.DROP_OLDEST, 1));
+        try {
+            pipeline.publish(buildEvent("first", "user1"), handler);
+            Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+            pipeline.publish(buildEvent("second", "user1"), handler);
+            pipeline.publish(buildEvent("third", "user1"), handler);
+            Assert.assertEquals(pipeline.getPartitionDepths(), Collections.singletonList(1));
+            Assert.assertFalse(handler.handlingThreads.containsKey("third"));
+        } finally {
+            handler.release.countDown();
+            pipeline.shutdown();
+        }
+        Assert.assertFalse(handler.handlingThreads.containsKey("second"));
+        Assert.assertTrue(handler.handlingThreads.containsKey("third"));
+    }
+
+    @Test
+    public void testEventsOfDisabledHandlerAreNotQueued() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler("disabledHandler", false);
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 1, 1,
+                AsyncEventPipelineConfig.OverflowPolicy.CALLER_RUNS, 1));
+        try {
+            pipeline.publish(buildEvent("first", "user1"), handler);
+            pipeline.publish(buildEvent("second", "user1"), handler);
+            Assert.assertFalse(handler.started.await(1, TimeUnit.SECONDS));
+            Assert.assertTrue(handler.handlingThreads.isEmpty());
+            Assert.assertEquals(pipeline.getPartitionDepths(), Collections.singletonList(0));
+        } finally {
+            handler.release.countDown();
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testQueuedEventsAreHandledOnShutdown() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler("shutdownHandler");
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 1, 10,
+                AsyncEventPipelineConfig.OverflowPolicy.BLOCK, 1));
+        pipeline.publish(buildEvent("first", "user1"), handler);
+        Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+        pipeline.publish(buildEvent("second", "user1"), handler);
+        pipeline.publish(buildEvent("third", "user1"), handler);
+        handler.release.countDown();
+        pipeline.shutdown();
+
+        Assert.assertTrue(handler.handlingThreads.containsKey("second"));
+        Assert.assertTrue(handler.handlingThreads.containsKey("third"));
+        Assert.assertEquals(pipeline.getPartitionDepths(), Collections.singletonList(0));
+
+        pipeline.publish(buildEvent("fourth", "user1"), handler);
+        Assert.assertEquals(handler.handlingThreads.get("fourth"), Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testBlockedPublishIsHandledOnShutdown() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler("blockedPublishHandler");
+        PartitionedEventPipeline pipeline = new PartitionedEventPipeline(new AsyncEventPipelineConfig(true, 1, 1,
+                AsyncEventPipelineConfig.OverflowPolicy.BLOCK, 1));
+        pipeline.publish(buildEvent("first", "user1"), handler);
+        Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+        pipeline.publish(buildEvent("second", "user1"), handler);
+
+        Thread publisher = new Thread(() -> pipeline.publish(buildEvent("third", "user1"), handler));
+        publisher.start();
+        waitUntilWaiting(publisher);
+        Thread shutdown = new Thread(pipeline::shutdown);
+        shutdown.start();
+        waitUntilWaiting(shutdown);
+        handler.release.countDown();
+        shutdown.join(TimeUnit.SECONDS.toMillis(10));
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+
+        Assert.assertFalse(shutdown.isAlive());
+        Assert.assertFalse(publisher.isAlive());
+        Assert.assertTrue(handler.handlingThreads.containsKey("second"));
+        Assert.assertTrue(handler.handlingThreads.containsKey("third"));
+        Assert.assertEquals(pipeline.getPartitionDepths(), Collections.singletonList(0));
+    }
+
+    private void waitUntilWaiting(Thread thread) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING &&
+                System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Event buildEvent(String eventName, String userName) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, userName);
+        return new Event(eventName, eventProperties);
+    }
+
+    private static class RecordingBatchEventHandler extends AbstractEventHandler implements BatchEventHandler {
+
+        private final String name;
+        private final List<String> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch latch;
+
+        private RecordingBatchEventHandler(String name, int expectedEvents) {
+
+            this.name = name;
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            handledEvents.add(event.getEventName());
+            latch.countDown();
+        }
+
+        @Override
+        public void handleEvents(List<Event> events) throws IdentityEventException {
+
+            for (Event event : events) {
+                handleEvent(event);
+            }
+        }
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final String name;
+        private final Map<String, String> handlingThreads = Collections.synchronizedMap(new HashMap<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final boolean enabled;
+
+        private BlockingEventHandler(String name) {
+
+            this(name, true);
+        }
+
+        private BlockingEventHandler(String name, boolean enabled) {
+
+            this.name = name;
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return enabled;
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            handlingThreads.put(event.getEventName(), Thread.currentThread().getName());
+            if ("first".equals(event.getEventName())) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
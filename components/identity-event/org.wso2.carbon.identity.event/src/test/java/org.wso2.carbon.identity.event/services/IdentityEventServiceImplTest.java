@@ -19,9 +19,13 @@ package org.wso2.carbon.identity.event.services;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
@@ -30,6 +34,8 @@ import org.wso2.carbon.identity.testutil.IdentityBaseTest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.any;
@@ -40,6 +46,20 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
     @Mock
     AbstractEventHandler abstractEventHandler;
 
+    private List<AbstractEventHandler> originalEventHandlerList;
+
+    @BeforeMethod
+    public void saveEventHandlerList() {
+
+        originalEventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+    }
+
+    @AfterMethod
+    public void restoreEventHandlerList() {
+
+        IdentityEventServiceComponent.eventHandlerList = originalEventHandlerList;
+    }
+
     @Test
     public void testConstructor(){
 
@@ -68,4 +88,37 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
         Mockito.verify(abstractEventHandler).canHandle(any(MessageContext.class));
     }
+
+    @Test
+    public void testHandleEventDispatchesToSubscribedHandlers() throws IdentityEventException {
+
+        CountingEventHandler subscribedHandler = new CountingEventHandler();
+        subscribedHandler.init(new ModuleConfiguration(new Properties(), Collections.singletonList(
+                new Subscription("subscribedEvent", new Properties()))));
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(subscribedHandler);
+        IdentityEventServiceComponent.eventHandlerList = handlers;
+
+        IdentityEventService identityEventService = new IdentityEventServiceImpl(handlers, 1);
+        identityEventService.handleEvent(new Event("subscribedEvent"));
+        identityEventService.handleEvent(new Event("otherEvent"));
+        Assert.assertEquals(subscribedHandler.handledEventCount, 1);
+
+        // A replaced handler list should rebuild the dispatch index.
+        IdentityEventServiceComponent.eventHandlerList = new ArrayList<>();
+        identityEventService.handleEvent(new Event("subscribedEvent"));
+        Assert.assertEquals(subscribedHandler.handledEventCount, 1);
+    }
+
+    private static class CountingEventHandler extends AbstractEventHandler {
+
+        private int handledEventCount;
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            handledEventCount++;
+        }
+    }
 }
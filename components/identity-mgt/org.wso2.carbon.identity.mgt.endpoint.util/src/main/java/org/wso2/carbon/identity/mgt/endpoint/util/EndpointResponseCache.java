@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.endpoint.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, tenant aware cache of the responses received for the read only calls made from the authentication and
+ * recovery portals to the server, such as the branding preference, governance preference and validation
+ * configuration lookups. An entry is served without contacting the server until its timeout is elapsed. Thereafter,
+ * the entry is revalidated with its ETag, if the server sent one.
+ */
+public class EndpointResponseCache {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Map<String, CachedResponse> responses;
+    private final long timeoutNanos;
+
+    EndpointResponseCache(long timeoutSeconds, int capacity) {
+
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * Build the cache key of a request.
+     *
+     * @param tenantDomain Tenant domain the request is made for.
+     * @param method       HTTP method of the request.
+     * @param uri          URI of the request.
+     * @param body         Body of the request. Null if the request does not have a body.
+     * @return Cache key.
+     */
+    static String buildKey(String tenantDomain, String method, String uri, String body) {
+
+        StringBuilder key = new StringBuilder(tenantDomain).append(KEY_SEPARATOR).append(method).append(' ')
+                .append(uri);
+        if (body != null) {
+            key.append(KEY_SEPARATOR).append(body);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get the cached response of the given key, whether or not it is expired.
+     *
+     * @param key Cache key.
+     * @return Cached response or null if there is no response for the key.
+     */
+    CachedResponse get(String key) {
+
+        return responses.get(key);
+    }
+
+    /**
+     * Cache a response. A null body records that the server does not have the requested resource.
+     *
+     * @param key  Cache key.
+     * @param body Response body.
+     * @param eTag ETag of the response, if any.
+     */
+    void put(String key, String body, String eTag) {
+
+        responses.put(key, new CachedResponse(body, eTag, System.nanoTime() + timeoutNanos));
+    }
+
+    void remove(String key) {
+
+        responses.remove(key);
+    }
+
+    /**
+     * Remove the cached responses of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clear(String tenantDomain) {
+
+        String keyPrefix = tenantDomain + KEY_SEPARATOR;
+        synchronized (responses) {
+            responses.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        }
+    }
+
+    /**
+     * Remove all the cached responses.
+     */
+    public void clear() {
+
+        responses.clear();
+    }
+
+    int size() {
+
+        return responses.size();
+    }
+
+    /**
+     * Response cached against a request.
+     */
+    static class CachedResponse {
+
+        private final String body;
+        private final String eTag;
+        private final long expiryNanoTime;
+
+        private CachedResponse(String body, String eTag, long expiryNanoTime) {
+
+            this.body = body;
+            this.eTag = eTag;
+            this.expiryNanoTime = expiryNanoTime;
+        }
+
+        String getBody() {
+
+            return body;
+        }
+
+        String getETag() {
+
+            return eTag;
+        }
+
+        boolean isExpired() {
+
+            return System.nanoTime() - expiryNanoTime >= 0;
+        }
+    }
+}
@@ -36,6 +36,14 @@ public class IdentityManagementEndpointConstants {
         public static final String SERVICE_CONTEXT_URL = "identity.server.service.contextURL";
         public static final String APP_NAME = "app.name";
         public static final String APP_PASSWORD = "app.password";
+        public static final String RESPONSE_CACHE_TIMEOUT = "endpoint.response.cache.timeout";
+        public static final String RESPONSE_CACHE_CAPACITY = "endpoint.response.cache.capacity";
+        public static final long DEFAULT_RESPONSE_CACHE_TIMEOUT = 30;
+        public static final int DEFAULT_RESPONSE_CACHE_CAPACITY = 1000;
+        public static final String HTTP_CLIENT_MAX_CONNECTIONS = "http.client.max.connections";
+        public static final String HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = "http.client.max.connections.per.route";
+        public static final int DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS = 100;
+        public static final int DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = 50;
     }
 
     public static final class ServiceEndpoints {
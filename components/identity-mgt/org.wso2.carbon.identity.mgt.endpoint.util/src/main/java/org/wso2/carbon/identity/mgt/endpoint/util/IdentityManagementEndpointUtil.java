@@ -33,7 +33,21 @@ import org.apache.cxf.bus.spring.SpringBusFactory;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.HttpsSupport;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.owasp.encoder.Encode;
@@ -56,6 +70,7 @@ import org.wso2.carbon.identity.mgt.endpoint.util.client.model.Error;
 import org.wso2.carbon.identity.mgt.endpoint.util.client.model.RetryError;
 import org.wso2.carbon.identity.mgt.endpoint.util.client.model.User;
 import org.wso2.carbon.identity.mgt.stub.beans.VerificationBean;
+import org.wso2.carbon.utils.CustomHostNameVerifier;
 import org.wso2.carbon.utils.httpclient5.HTTPClientUtils;
 import org.wso2.securevault.SecretResolver;
 import org.wso2.securevault.SecretResolverFactory;
@@ -82,6 +97,7 @@ import java.util.ResourceBundle;
 import java.util.StringTokenizer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.net.ssl.HostnameVerifier;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -111,9 +127,11 @@ public class IdentityManagementEndpointUtil {
     private static final Log log = LogFactory.getLog(IdentityManagementEndpointUtil.class);
     private static final String CODE = "51007";
     private static final String UNEXPECTED_ERROR = "Unexpected Error.";
+    private static final long HTTP_CLIENT_MAX_IDLE_TIME = 30;
 
     private static String accessUsername = null;
     private static String accessPassword = null;
+    private static volatile CloseableHttpClient httpClient;
 
     private IdentityManagementEndpointUtil() {
 
@@ -1046,23 +1064,173 @@ public class IdentityManagementEndpointUtil {
      */
     public static String getHttpClientResponseString(HttpUriRequestBase request) throws IOException {
 
-        try (CloseableHttpClient httpClient = HTTPClientUtils.createClientWithCustomHostnameVerifier().build()) {
-            return httpClient.execute(request, response -> {
-                if (response.getCode() == HttpStatus.SC_OK) {
-                    try (InputStream inputStream = response.getEntity().getContent();
-                         InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-                         BufferedReader bufferedReader = new BufferedReader(reader)) {
-
-                        StringBuilder content = new StringBuilder();
-                        String line;
-                        while ((line = bufferedReader.readLine()) != null) {
-                            content.append(line);
-                        }
-                        return content.toString();
+        return getHttpClient().execute(request, response -> {
+            if (response.getCode() == HttpStatus.SC_OK) {
+                return readResponseBody(response);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Executes a read only HTTP client request and returns the response as a string. The response is served from the
+     * response cache while it is fresh and is revalidated with its ETag once it is expired. Only the requests whose
+     * responses do not depend on the user, such as the tenant level preference lookups, should be sent through this
+     * method.
+     *
+     * @param tenantDomain Tenant domain the request is made for.
+     * @param request      The HTTP request to execute.
+     * @return The response body as a string or null if the response status is not SC_OK.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static String getCachedHttpClientResponseString(String tenantDomain, HttpUriRequestBase request)
+            throws IOException {
+
+        EndpointResponseCache responseCache = IdentityManagementServiceUtil.getInstance().getResponseCache();
+        String cacheKey = responseCache == null ? null : buildResponseCacheKey(tenantDomain, request);
+        if (cacheKey == null) {
+            return getHttpClientResponseString(request);
+        }
+
+        EndpointResponseCache.CachedResponse cachedResponse = responseCache.get(cacheKey);
+        if (cachedResponse != null) {
+            if (!cachedResponse.isExpired()) {
+                return cachedResponse.getBody();
+            }
+            if (cachedResponse.getETag() != null) {
+                request.setHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.getETag());
+            }
+        }
+        return getHttpClient().execute(request, response -> {
+            switch (response.getCode()) {
+                case HttpStatus.SC_OK:
+                    String body = readResponseBody(response);
+                    Header eTagHeader = response.getFirstHeader(HttpHeaders.ETAG);
+                    responseCache.put(cacheKey, body, eTagHeader == null ? null : eTagHeader.getValue());
+                    return body;
+                case HttpStatus.SC_NOT_MODIFIED:
+                    if (cachedResponse != null) {
+                        responseCache.put(cacheKey, cachedResponse.getBody(), cachedResponse.getETag());
+                        return cachedResponse.getBody();
                     }
+                    return null;
+                case HttpStatus.SC_NOT_FOUND:
+                    // Remember that the resource is not available, e.g. the tenant has not configured branding.
+                    responseCache.put(cacheKey, null, null);
+                    return null;
+                default:
+                    responseCache.remove(cacheKey);
+                    return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the HTTP client shared by the clients of this web application. The connections of the client are
+     * pooled and kept alive, hence the client should not be closed by the callers.
+     *
+     * @return Shared HTTP client.
+     */
+    public static CloseableHttpClient getHttpClient() {
+
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (IdentityManagementEndpointUtil.class) {
+                client = httpClient;
+                if (client == null) {
+                    HttpClientBuilder httpClientBuilder = HTTPClientUtils.createClientWithCustomHostnameVerifier();
+                    // The client is shared across the users. Hence, the cookies must not be carried between requests.
+                    httpClientBuilder.disableCookieManagement();
+                    httpClientBuilder.evictExpiredConnections();
+                    httpClientBuilder.evictIdleConnections(TimeValue.ofSeconds(HTTP_CLIENT_MAX_IDLE_TIME));
+                    httpClientBuilder.setConnectionManager(buildConnectionManager());
+                    client = httpClientBuilder.build();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Builds the connection manager of the shared HTTP client. The connection manager replaces the one configured by
+     * {@link HTTPClientUtils}, hence the hostname verifier selected by the carbon hostname verifier system property
+     * is applied here as well.
+     *
+     * @return Pooling connection manager with the configured connection limits.
+     */
+    static PoolingHttpClientConnectionManager buildConnectionManager() {
+
+        IdentityManagementServiceUtil serviceUtil = IdentityManagementServiceUtil.getInstance();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setTlsSocketStrategy(new DefaultClientTlsStrategy(SSLContexts.createSystemDefault(),
+                        getHostnameVerifier()))
+                .setMaxConnTotal(serviceUtil.getHttpClientMaxConnections())
+                .setMaxConnPerRoute(serviceUtil.getHttpClientMaxConnectionsPerRoute())
+                .build();
+    }
+
+    private static HostnameVerifier getHostnameVerifier() {
+
+        String hostnameVerifier = System.getProperty(CarbonConstants.HOST_NAME_VERIFIER);
+        if (CarbonConstants.DEFAULT_AND_LOCALHOST.equals(hostnameVerifier)) {
+            return new CustomHostNameVerifier();
+        } else if (CarbonConstants.ALLOW_ALL.equals(hostnameVerifier)) {
+            return NoopHostnameVerifier.INSTANCE;
+        }
+        return HttpsSupport.getDefaultHostnameVerifier();
+    }
+
+    /**
+     * Closes the shared HTTP client along with its pooled connections.
+     */
+    public static void closeHttpClient() {
+
+        synchronized (IdentityManagementEndpointUtil.class) {
+            if (httpClient != null) {
+                try {
+                    httpClient.close();
+                } catch (IOException e) {
+                    log.error("Error while closing the shared HTTP client.", e);
+                }
+                httpClient = null;
+            }
+        }
+    }
+
+    private static String buildResponseCacheKey(String tenantDomain, HttpUriRequestBase request) {
+
+        try {
+            String body = null;
+            HttpEntity entity = request.getEntity();
+            if (entity != null) {
+                if (!entity.isRepeatable()) {
+                    return null;
                 }
-                return null;
-            });
+                body = EntityUtils.toString(entity, StandardCharsets.UTF_8);
+            }
+            return EndpointResponseCache.buildKey(tenantDomain, request.getMethod(), request.getUri().toString(),
+                    body);
+        } catch (URISyntaxException | IOException | ParseException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while building the response cache key. The response will not be cached.", e);
+            }
+            return null;
+        }
+    }
+
+    private static String readResponseBody(ClassicHttpResponse response) throws IOException {
+
+        try (InputStream inputStream = response.getEntity().getContent();
+             InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+             BufferedReader bufferedReader = new BufferedReader(reader)) {
+
+            StringBuilder content = new StringBuilder();
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                content.append(line);
+            }
+            return content.toString();
         }
     }
 }
@@ -61,6 +61,11 @@ public class IdentityManagementServiceUtil {
     private String contextURL;
     private String appName;
     private char[] appPassword;
+    private EndpointResponseCache responseCache;
+    private int httpClientMaxConnections =
+            IdentityManagementEndpointConstants.ServiceConfigConstants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS;
+    private int httpClientMaxConnectionsPerRoute =
+            IdentityManagementEndpointConstants.ServiceConfigConstants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE;
 
     private static final String DEFAULT_CALLBACK_HANDLER = "org.wso2.carbon.securevault.DefaultSecretCallbackHandler";
     private static final String SECRET_PROVIDER = "secretProvider";
@@ -131,6 +136,14 @@ public class IdentityManagementServiceUtil {
             // If the service context URL is not configured, use the serviceURLBuilder to build the URL.
             this.serviceContextURL = StringUtils.isBlank(serviceContextURL) ? ServiceURLBuilder.create().
                     build().getAbsoluteInternalURL() : serviceContextURL;
+            responseCache = buildResponseCache(properties);
+            httpClientMaxConnections = getPositiveIntProperty(properties,
+                    IdentityManagementEndpointConstants.ServiceConfigConstants.HTTP_CLIENT_MAX_CONNECTIONS,
+                    IdentityManagementEndpointConstants.ServiceConfigConstants.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS);
+            httpClientMaxConnectionsPerRoute = getPositiveIntProperty(properties,
+                    IdentityManagementEndpointConstants.ServiceConfigConstants.HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE,
+                    IdentityManagementEndpointConstants.ServiceConfigConstants
+                            .DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE);
 
         } catch (IOException e) {
             log.error("Failed to load service configurations.", e);
@@ -278,6 +291,83 @@ public class IdentityManagementServiceUtil {
         return appPassword;
     }
 
+    /**
+     * Returns the cache of the responses received for the read only calls made to the server.
+     *
+     * @return Response cache or null if the response caching is disabled.
+     */
+    public EndpointResponseCache getResponseCache() {
+
+        return responseCache;
+    }
+
+    /**
+     * Returns the maximum number of connections pooled by the shared HTTP client.
+     *
+     * @return Maximum number of pooled connections.
+     */
+    public int getHttpClientMaxConnections() {
+
+        return httpClientMaxConnections;
+    }
+
+    /**
+     * Returns the maximum number of connections pooled by the shared HTTP client for a single route.
+     *
+     * @return Maximum number of pooled connections per route.
+     */
+    public int getHttpClientMaxConnectionsPerRoute() {
+
+        return httpClientMaxConnectionsPerRoute;
+    }
+
+    private static int getPositiveIntProperty(Properties properties, String key, int defaultValue) {
+
+        String value = properties.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Falls back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " configured for: " + key + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
+    private static EndpointResponseCache buildResponseCache(Properties properties) {
+
+        long timeout = IdentityManagementEndpointConstants.ServiceConfigConstants.DEFAULT_RESPONSE_CACHE_TIMEOUT;
+        int capacity = IdentityManagementEndpointConstants.ServiceConfigConstants.DEFAULT_RESPONSE_CACHE_CAPACITY;
+        String timeoutProperty = properties.getProperty(
+                IdentityManagementEndpointConstants.ServiceConfigConstants.RESPONSE_CACHE_TIMEOUT);
+        String capacityProperty = properties.getProperty(
+                IdentityManagementEndpointConstants.ServiceConfigConstants.RESPONSE_CACHE_CAPACITY);
+        try {
+            if (StringUtils.isNotBlank(timeoutProperty)) {
+                timeout = Long.parseLong(timeoutProperty.trim());
+            }
+            if (StringUtils.isNotBlank(capacityProperty)) {
+                capacity = Integer.parseInt(capacityProperty.trim());
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid response cache configuration. Using the timeout: " + timeout +
+                    " seconds and capacity: " + capacity, e);
+        }
+        if (timeout <= 0 || capacity <= 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("Response caching is disabled for the read only calls made to the server.");
+            }
+            return null;
+        }
+        return new EndpointResponseCache(timeout, capacity);
+    }
+
     private String extractDomainFromName(String nameWithDomain) {
         if (nameWithDomain.indexOf(UserCoreConstants.DOMAIN_SEPARATOR) > 0) {
             String domain = nameWithDomain.substring(0, nameWithDomain.indexOf(UserCoreConstants.DOMAIN_SEPARATOR));
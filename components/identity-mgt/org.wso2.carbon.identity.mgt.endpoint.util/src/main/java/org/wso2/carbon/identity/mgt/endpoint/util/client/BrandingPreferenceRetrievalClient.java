@@ -102,7 +102,7 @@ public class BrandingPreferenceRetrievalClient {
             HttpGet request = new HttpGet(uri);
             setAuthorizationHeader(request);
 
-            String responseString = IdentityManagementEndpointUtil.getHttpClientResponseString(request);
+            String responseString = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, request);
 
             return parseJsonResponse(responseString);
         } catch (IOException e) {
@@ -167,7 +167,7 @@ public class BrandingPreferenceRetrievalClient {
             HttpGet request = new HttpGet(uri);
             setAuthorizationHeader(request);
 
-            String responseString = IdentityManagementEndpointUtil.getHttpClientResponseString(request);
+            String responseString = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, request);
 
             return parseJsonResponse(responseString);
         } catch (IOException e) {
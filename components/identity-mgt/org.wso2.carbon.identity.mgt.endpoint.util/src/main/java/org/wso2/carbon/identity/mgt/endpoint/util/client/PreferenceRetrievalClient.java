@@ -26,7 +26,6 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.json.JSONArray;
@@ -35,7 +34,6 @@ import org.json.JSONTokener;
 import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementEndpointUtil;
 import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementServiceUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
-import org.wso2.carbon.utils.httpclient5.HTTPClientUtils;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -404,7 +402,7 @@ public class PreferenceRetrievalClient {
             HttpGet get = new HttpGet(endpoint);
             setAuthorizationHeader(get);
 
-            String responseStringGet = IdentityManagementEndpointUtil.getHttpClientResponseString(get);
+            String responseStringGet = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, get);
 
             String governanceId = StringUtils.EMPTY;
 
@@ -426,7 +424,7 @@ public class PreferenceRetrievalClient {
             setAuthorizationHeader(getConnectorConfig);
 
             String responseStringGetConnectorConfig =
-                    IdentityManagementEndpointUtil.getHttpClientResponseString(getConnectorConfig);
+                    IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, getConnectorConfig);
 
             if (!StringUtils.isEmpty(responseStringGetConnectorConfig)) {
                 JSONObject jsonResponse = new JSONObject(
@@ -484,7 +482,7 @@ public class PreferenceRetrievalClient {
             post.setEntity(new StringEntity(main.toString(), ContentType.create(HTTPConstants
                     .MEDIA_TYPE_APPLICATION_JSON, StandardCharsets.UTF_8)));
 
-            String responseString = IdentityManagementEndpointUtil.getHttpClientResponseString(post);
+            String responseString = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, post);
 
             if (!StringUtils.isEmpty(responseString)) {
                 JSONArray jsonResponse = new JSONArray(new JSONTokener(responseString));
@@ -522,7 +520,7 @@ public class PreferenceRetrievalClient {
     public boolean checkMultiplePreference(String tenant, String connectorName, List<String> propertyNames)
             throws PreferenceRetrievalClientException {
 
-        try (CloseableHttpClient httpclient = HTTPClientUtils.createClientWithCustomHostnameVerifier().build()) {
+        try {
             JSONArray requestBody = new JSONArray();
             JSONObject preference = new JSONObject();
             preference.put(CONNECTOR_NAME, connectorName);
@@ -537,7 +535,7 @@ public class PreferenceRetrievalClient {
             post.setEntity(new StringEntity(requestBody.toString(), ContentType.create(HTTPConstants
                     .MEDIA_TYPE_APPLICATION_JSON, Charset.forName(StandardCharsets.UTF_8.name()))));
 
-            String responseString = IdentityManagementEndpointUtil.getHttpClientResponseString(post);
+            String responseString = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenant, post);
 
             if (!StringUtils.isEmpty(responseString)) {
                 JSONArray jsonResponse = new JSONArray(new JSONTokener(responseString));
@@ -39,7 +39,6 @@ import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementEndpointCons
 import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementEndpointUtil;
 import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementServiceUtil;
 import org.wso2.carbon.identity.mgt.endpoint.util.client.model.User;
-import org.wso2.carbon.utils.httpclient5.HTTPClientUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -234,7 +233,8 @@ public class SelfRegistrationMgtClient {
                     + ". SkipSignUpCheck flag is set to " + skipSignUpCheck);
         }
 
-        try (CloseableHttpClient httpclient = HTTPClientUtils.createClientWithCustomHostnameVerifier().build()) {
+        try {
+            CloseableHttpClient httpclient = IdentityManagementEndpointUtil.getHttpClient();
             JSONObject userObject = new JSONObject();
             userObject.put(USERNAME, user.getUsername());
 
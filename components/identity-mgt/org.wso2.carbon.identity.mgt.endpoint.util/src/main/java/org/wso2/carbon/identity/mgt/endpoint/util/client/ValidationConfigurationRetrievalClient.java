@@ -77,7 +77,8 @@ public class ValidationConfigurationRetrievalClient {
             HttpGet request = new HttpGet(getValidationMgtEndpoint(tenantDomain));
             setAuthorizationHeader(request);
 
-            String responseString = IdentityManagementEndpointUtil.getHttpClientResponseString(request);
+            String responseString =
+                    IdentityManagementEndpointUtil.getCachedHttpClientResponseString(tenantDomain, request);
 
             if (!StringUtils.isEmpty(responseString)) {
                 return new JSONArray(new JSONTokener(responseString));
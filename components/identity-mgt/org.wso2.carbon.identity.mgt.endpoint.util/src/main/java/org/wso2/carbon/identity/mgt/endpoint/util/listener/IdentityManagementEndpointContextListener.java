@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.mgt.endpoint.util.listener;
 
+import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementEndpointUtil;
 import org.wso2.carbon.identity.mgt.endpoint.util.IdentityManagementServiceUtil;
 
 import javax.servlet.ServletContextEvent;
@@ -37,5 +38,6 @@ public class IdentityManagementEndpointContextListener implements ServletContext
     @Override
     public void contextDestroyed(ServletContextEvent servletContextEvent) {
 
+        IdentityManagementEndpointUtil.closeHttpClient();
     }
 }
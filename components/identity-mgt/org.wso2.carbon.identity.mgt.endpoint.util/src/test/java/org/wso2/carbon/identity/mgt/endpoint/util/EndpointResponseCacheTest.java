@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.endpoint.util;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EndpointResponseCache}.
+ */
+public class EndpointResponseCacheTest {
+
+    private static final String TENANT_1 = "tenant1.com";
+    private static final String TENANT_2 = "tenant2.com";
+    private static final String URI = "https://localhost:9443/api/server/v1/validation-rules";
+
+    @Test
+    public void testBuildKey() {
+
+        assertNotEquals(EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null),
+                EndpointResponseCache.buildKey(TENANT_2, "GET", URI, null));
+        assertNotEquals(EndpointResponseCache.buildKey(TENANT_1, "POST", URI, "[1]"),
+                EndpointResponseCache.buildKey(TENANT_1, "POST", URI, "[2]"));
+        assertEquals(EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null),
+                EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null));
+    }
+
+    @Test
+    public void testPutAndGet() {
+
+        EndpointResponseCache responseCache = new EndpointResponseCache(60, 10);
+        String key = EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null);
+        responseCache.put(key, "[]", "\"1\"");
+
+        EndpointResponseCache.CachedResponse cachedResponse = responseCache.get(key);
+        assertNotNull(cachedResponse);
+        assertEquals(cachedResponse.getBody(), "[]");
+        assertEquals(cachedResponse.getETag(), "\"1\"");
+        assertFalse(cachedResponse.isExpired());
+    }
+
+    @Test
+    public void testExpiry() {
+
+        EndpointResponseCache responseCache = new EndpointResponseCache(0, 10);
+        String key = EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null);
+        responseCache.put(key, "[]", null);
+
+        assertTrue(responseCache.get(key).isExpired());
+    }
+
+    @Test
+    public void testCapacity() {
+
+        EndpointResponseCache responseCache = new EndpointResponseCache(60, 2);
+        String key1 = EndpointResponseCache.buildKey(TENANT_1, "GET", URI + "/1", null);
+        String key2 = EndpointResponseCache.buildKey(TENANT_1, "GET", URI + "/2", null);
+        String key3 = EndpointResponseCache.buildKey(TENANT_1, "GET", URI + "/3", null);
+        responseCache.put(key1, "1", null);
+        responseCache.put(key2, "2", null);
+        // Access the first entry so that the second one becomes the least recently used entry.
+        responseCache.get(key1);
+        responseCache.put(key3, "3", null);
+
+        assertEquals(responseCache.size(), 2);
+        assertNotNull(responseCache.get(key1));
+        assertNull(responseCache.get(key2));
+        assertNotNull(responseCache.get(key3));
+    }
+
+    @Test
+    public void testClearTenant() {
+
+        EndpointResponseCache responseCache = new EndpointResponseCache(60, 10);
+        String tenant1Key = EndpointResponseCache.buildKey(TENANT_1, "GET", URI, null);
+        String tenant2Key = EndpointResponseCache.buildKey(TENANT_2, "GET", URI, null);
+        responseCache.put(tenant1Key, "1", null);
+        responseCache.put(tenant2Key, "2", null);
+
+        responseCache.clear(TENANT_1);
+
+        assertNull(responseCache.get(tenant1Key));
+        assertNotNull(responseCache.get(tenant2Key));
+    }
+}
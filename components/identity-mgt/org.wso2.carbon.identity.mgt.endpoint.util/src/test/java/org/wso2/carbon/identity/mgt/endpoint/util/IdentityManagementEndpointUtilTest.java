@@ -21,10 +21,13 @@ package org.wso2.carbon.identity.mgt.endpoint.util;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.message.BasicHeader;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.testng.MockitoTestNGListener;
@@ -48,6 +51,8 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mockStatic;
 import static org.testng.Assert.assertEquals;
@@ -74,6 +79,9 @@ public class IdentityManagementEndpointUtilTest {
     @Mock
     ServiceURL serviceURL;
 
+    @Mock
+    IdentityManagementServiceUtil identityManagementServiceUtil;
+
     @Mock
     private ServiceURLBuilder serviceURLBuilder;
 
@@ -397,6 +405,7 @@ public class IdentityManagementEndpointUtilTest {
     @Test
     public void testGetHttpClientResponseString () throws IOException {
 
+        IdentityManagementEndpointUtil.closeHttpClient();
         try (MockedStatic<HTTPClientUtils> httpClientUtilsMockedStatic = mockStatic(HTTPClientUtils.class)) {
              httpClientUtilsMockedStatic.when(HTTPClientUtils::createClientWithCustomHostnameVerifier)
                      .thenReturn(httpClientBuilder);
@@ -419,4 +428,93 @@ public class IdentityManagementEndpointUtilTest {
         }
     }
 
+    @Test
+    public void testGetCachedHttpClientResponseString() throws IOException {
+
+        IdentityManagementEndpointUtil.closeHttpClient();
+        try (MockedStatic<HTTPClientUtils> httpClientUtilsMockedStatic = mockStatic(HTTPClientUtils.class);
+             MockedStatic<IdentityManagementServiceUtil> identityMgtServiceUtil =
+                     mockStatic(IdentityManagementServiceUtil.class)) {
+            prepareHttpClient(httpClientUtilsMockedStatic);
+            identityMgtServiceUtil.when(IdentityManagementServiceUtil::getInstance)
+                    .thenReturn(identityManagementServiceUtil);
+            when(identityManagementServiceUtil.getResponseCache()).thenReturn(new EndpointResponseCache(60, 10));
+            when(httpResponse.getCode()).thenReturn(200);
+
+            String firstResponse = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, new HttpGet(SAMPLE_URL));
+            String secondResponse = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, new HttpGet(SAMPLE_URL));
+
+            assertEquals(firstResponse, mockJsonResponse);
+            assertEquals(secondResponse, mockJsonResponse);
+            verify(httpClient, times(1)).execute(any(ClassicHttpRequest.class),
+                    any(HttpClientResponseHandler.class));
+        } finally {
+            IdentityManagementEndpointUtil.closeHttpClient();
+        }
+    }
+
+    @Test
+    public void testRevalidateExpiredCachedResponse() throws IOException {
+
+        IdentityManagementEndpointUtil.closeHttpClient();
+        try (MockedStatic<HTTPClientUtils> httpClientUtilsMockedStatic = mockStatic(HTTPClientUtils.class);
+             MockedStatic<IdentityManagementServiceUtil> identityMgtServiceUtil =
+                     mockStatic(IdentityManagementServiceUtil.class)) {
+            prepareHttpClient(httpClientUtilsMockedStatic);
+            identityMgtServiceUtil.when(IdentityManagementServiceUtil::getInstance)
+                    .thenReturn(identityManagementServiceUtil);
+            // A zero timeout expires the responses as soon as they are cached.
+            when(identityManagementServiceUtil.getResponseCache()).thenReturn(new EndpointResponseCache(0, 10));
+            when(httpResponse.getCode()).thenReturn(200, 304);
+            when(httpResponse.getFirstHeader(HttpHeaders.ETAG))
+                    .thenReturn(new BasicHeader(HttpHeaders.ETAG, "\"1\""));
+
+            IdentityManagementEndpointUtil.getCachedHttpClientResponseString(
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, new HttpGet(SAMPLE_URL));
+            HttpGet revalidationRequest = new HttpGet(SAMPLE_URL);
+            String response = IdentityManagementEndpointUtil.getCachedHttpClientResponseString(
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, revalidationRequest);
+
+            assertEquals(response, mockJsonResponse);
+            assertEquals(revalidationRequest.getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue(), "\"1\"");
+            verify(httpClient, times(2)).execute(any(ClassicHttpRequest.class),
+                    any(HttpClientResponseHandler.class));
+        } finally {
+            IdentityManagementEndpointUtil.closeHttpClient();
+        }
+    }
+
+    @Test
+    public void testBuildConnectionManagerWithConfiguredLimits() throws IOException {
+
+        try (MockedStatic<IdentityManagementServiceUtil> identityMgtServiceUtil =
+                     mockStatic(IdentityManagementServiceUtil.class)) {
+            identityMgtServiceUtil.when(IdentityManagementServiceUtil::getInstance)
+                    .thenReturn(identityManagementServiceUtil);
+            when(identityManagementServiceUtil.getHttpClientMaxConnections()).thenReturn(40);
+            when(identityManagementServiceUtil.getHttpClientMaxConnectionsPerRoute()).thenReturn(20);
+
+            try (PoolingHttpClientConnectionManager connectionManager =
+                         IdentityManagementEndpointUtil.buildConnectionManager()) {
+                assertEquals(connectionManager.getMaxTotal(), 40);
+                assertEquals(connectionManager.getDefaultMaxPerRoute(), 20);
+            }
+        }
+    }
+
+    private void prepareHttpClient(MockedStatic<HTTPClientUtils> httpClientUtilsMockedStatic) throws IOException {
+
+        httpClientUtilsMockedStatic.when(HTTPClientUtils::createClientWithCustomHostnameVerifier)
+                .thenReturn(httpClientBuilder);
+        when(httpClientBuilder.build()).thenReturn(httpClient);
+        when(httpClient.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+                .thenAnswer(invocation -> {
+                    HttpClientResponseHandler<?> handler = invocation.getArgument(1);
+                    return handler.handleResponse(httpResponse);
+                });
+        when(httpResponse.getEntity()).thenReturn(httpEntity);
+        when(httpEntity.getContent()).thenReturn(new ByteArrayInputStream(mockJsonResponse.getBytes()));
+    }
 }
@@ -361,7 +361,7 @@ public class PreferenceRetrievalClientTest {
             String firstResponse = "[]";
             String secondResponse = "{\"connectors\":[]}";
             identityManagementEndpointUtilMockedStatic.when(() ->
-                    IdentityManagementEndpointUtil.getHttpClientResponseString(any()))
+                    IdentityManagementEndpointUtil.getCachedHttpClientResponseString(any(), any()))
                 .thenReturn(firstResponse, secondResponse);
 
             preferenceRetrievalClient.getPropertyValue(tenantDomain, USER_ONBOARDING_GOVERNANCE, LITE_USER_CONNECTOR,
@@ -75,6 +75,7 @@ public class RetrievalClientBaseTest {
     @BeforeMethod
     public void setup() throws IOException {
         setupConfiguration();
+        IdentityManagementEndpointUtil.closeHttpClient();
         when(httpClientBuilder.build()).thenReturn(httpClient);
         when(httpClient.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
                 .thenAnswer(invocation -> {
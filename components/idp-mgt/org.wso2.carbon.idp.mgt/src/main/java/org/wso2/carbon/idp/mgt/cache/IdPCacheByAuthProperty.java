@@ -20,7 +20,11 @@ package org.wso2.carbon.idp.mgt.cache;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByAuthProperty extends BaseCache<IdPAuthPropertyCacheKey, IdPCacheEntry> {
+/**
+ * Index of IDP resource IDs against the federated authenticator property. The identity provider itself is held in
+ * {@link IdPCacheByResourceId}.
+ */
+public class IdPCacheByAuthProperty extends BaseCache<IdPAuthPropertyCacheKey, String> {
 
     private static final String CACHE_NAME = "IdPCacheByAuthProperty";
 
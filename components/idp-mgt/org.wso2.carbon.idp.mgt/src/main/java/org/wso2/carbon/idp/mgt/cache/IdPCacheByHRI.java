@@ -21,7 +21,11 @@ package org.wso2.carbon.idp.mgt.cache;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByHRI extends BaseCache<IdPHomeRealmIdCacheKey, IdPCacheEntry> {
+/**
+ * Index of IDP resource IDs against the home realm ID. The identity provider itself is held in
+ * {@link IdPCacheByResourceId}.
+ */
+public class IdPCacheByHRI extends BaseCache<IdPHomeRealmIdCacheKey, String> {
 
     private static final String CACHE_NAME = "IdPCacheByHRI";
 
@@ -21,7 +21,11 @@ package org.wso2.carbon.idp.mgt.cache;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByName extends BaseCache<IdPNameCacheKey, IdPCacheEntry> {
+/**
+ * Index of IDP resource IDs against the IDP name. The identity provider itself is held in
+ * {@link IdPCacheByResourceId}.
+ */
+public class IdPCacheByName extends BaseCache<IdPNameCacheKey, String> {
 
     private static final String CACHE_NAME = "IdPCacheByName";
 
@@ -22,7 +22,8 @@ import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
 /**
- * IDP Cache against IDP resource ID.
+ * IDP Cache against IDP resource ID. This is the only cache holding the identity provider, while the other IDP caches
+ * index the resource ID of it.
  */
 public class IdPCacheByResourceId extends BaseCache<IdPResourceIdCacheKey, IdPCacheEntry> {
 
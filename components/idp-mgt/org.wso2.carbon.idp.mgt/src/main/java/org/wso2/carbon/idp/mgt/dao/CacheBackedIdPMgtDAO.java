@@ -27,7 +27,10 @@ import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorC
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.cache.CacheKey;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
@@ -220,13 +223,13 @@ public class CacheBackedIdPMgtDAO {
             IdentityProviderManagementException {
 
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idPName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromResourceIdCache(
+                idPCacheByName.getValueFromCache(cacheKey, tenantDomain), tenantDomain);
 
-        if (entry != null) {
+        if (cachedIdentityProvider != null && idPName.equals(cachedIdentityProvider.getIdentityProviderName())) {
             log.debug("Cache entry found for Identity Provider " + idPName);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            IdPManagementUtil.removeRandomPasswords(identityProvider, false);
-            return identityProvider;
+            IdPManagementUtil.removeRandomPasswords(cachedIdentityProvider, false);
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider " + idPName
                     + ". Fetching entry from DB");
@@ -237,12 +240,7 @@ public class CacheBackedIdPMgtDAO {
 
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider " + idPName + ". Updating cache");
-            idPCacheByName.addToCache(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPCache(identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider " + idPName + " not found in cache or DB");
         }
@@ -269,13 +267,7 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Entry fetched from DB for Identity Provider " + identityProvider.getIdentityProviderName()
                         + ". Updating cache");
             }
-            IdPNameCacheKey cacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPCache(identityProvider, tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("No IDP found with ID: %d either in cache or DB", id));
@@ -404,13 +396,13 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromResourceIdCache(
+                idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain), tenantDomain);
 
-        if (entry != null) {
+        if (hasAuthenticatorProperty(cachedIdentityProvider, property, value, null)) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            return identityProvider;
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Fetching entry from DB");
@@ -422,15 +414,8 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
-
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName()
-            );
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPCache(identityProvider, tenantDomain);
+            addToIndexCache(idPCacheByAuthProperty, cacheKey, identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
                     + value + " not found in cache or DB");
@@ -454,13 +439,13 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromResourceIdCache(
+                idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain), tenantDomain);
 
-        if (entry != null) {
+        if (hasAuthenticatorProperty(cachedIdentityProvider, property, value, authenticator)) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            return identityProvider;
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Fetching entry from DB");
@@ -472,14 +457,8 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
-
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPCache(identityProvider, tenantDomain);
+            addToIndexCache(idPCacheByAuthProperty, cacheKey, identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
                     + value + " not found in cache or DB");
@@ -499,10 +478,11 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-        if (entry != null) {
+        IdentityProvider cachedIdentityProvider = getIdPFromResourceIdCache(
+                idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain), tenantDomain);
+        if (cachedIdentityProvider != null && realmId.equals(cachedIdentityProvider.getHomeRealmId())) {
             log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
-            return entry.getIdentityProvider();
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with Home Realm ID " + realmId
                     + ". Fetching entry from DB");
@@ -513,9 +493,8 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                     + ". Updating cache");
-            idPCacheByHRI.addToCache(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPCache(identityProvider, tenantDomain);
+            addToIndexCache(idPCacheByHRI, cacheKey, identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider with Home Realm ID " + realmId
                     + " not found in cache or DB");
@@ -537,14 +516,15 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-        if (entry != null) {
+        IdentityProvider cachedIdentityProvider = getIdPFromResourceIdCache(
+                idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain), tenantDomain);
+        if (cachedIdentityProvider != null && realmId.equals(cachedIdentityProvider.getHomeRealmId())) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
             }
             // Check whether the idp in the cache is enabled.
-            if (entry.getIdentityProvider().isEnable()) {
-                return entry.getIdentityProvider();
+            if (cachedIdentityProvider.isEnable()) {
+                return cachedIdentityProvider;
             }
             if (log.isDebugEnabled()) {
                 log.debug("Identity Provider with Home Realm ID " + realmId + " available in the cache is disabled. " +
@@ -564,9 +544,8 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                         + ". Updating cache.");
             }
-            idPCacheByHRI.addToCache(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPCache(identityProvider, tenantDomain);
+            addToIndexCache(idPCacheByHRI, cacheKey, identityProvider, tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Entry for Identity Provider with Home Realm ID " + realmId
@@ -735,7 +714,8 @@ public class CacheBackedIdPMgtDAO {
     }
 
     /**
-     * Add new cache entries for IDP against cache keys: name, home-realm-id and resource-id.
+     * Add a new cache entry for IDP against its resource-id, and index the resource-id against the name and the
+     * home-realm-id of the IDP.
      *
      * @param identityProvider  Identity Provider information.
      * @param tenantDomain      Tenant domain of IDP.
@@ -743,19 +723,25 @@ public class CacheBackedIdPMgtDAO {
     public void addIdPCache(IdentityProvider identityProvider, String tenantDomain) {
 
         if (identityProvider != null) {
+            if (StringUtils.isBlank(identityProvider.getResourceId())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Identity Provider: '" + identityProvider.getIdentityProviderName() +
+                            "' does not have a resource ID. Hence it is not cached.");
+                }
+                return;
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Adding new entry for Identity Provider: '" + identityProvider.getIdentityProviderName() +
                         "' to cache.");
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(idPHomeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
             IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(identityProvider.getResourceId());
             idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addToIndexCache(idPCacheByName, new IdPNameCacheKey(identityProvider.getIdentityProviderName()),
+                    identityProvider, tenantDomain);
+            if (identityProvider.getHomeRealmId() != null) {
+                addToIndexCache(idPCacheByHRI, new IdPHomeRealmIdCacheKey(identityProvider.getHomeRealmId()),
+                        identityProvider, tenantDomain);
+            }
         }
     }
 
@@ -782,18 +768,7 @@ public class CacheBackedIdPMgtDAO {
                         " from cache.");
             }
 
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(idPName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
-            }
-            if (StringUtils.isNotBlank(resourceId)) {
-                IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(resourceId);
-                idPCacheByResourceId.clearCacheEntry(idPResourceIdCacheKey, tenantDomain);
-            }
+            clearIdPCacheEntry(identityProvider, tenantDomain);
 
             String idPIssuerName = getIDPIssuerName(identityProvider);
             if (StringUtils.isNotBlank(idPIssuerName)) {
@@ -845,13 +820,7 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
-            }
+            clearIdPCacheEntry(identityProvider, tenantDomain);
         }
 
         idPManagementFacade.deleteTenantRole(tenantId, role, tenantDomain);
@@ -882,14 +851,7 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(
-                    identityProvider.getIdentityProviderName());
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
-            }
+            clearIdPCacheEntry(identityProvider, tenantDomain);
         }
 
         idPManagementFacade.renameTenantRole(newRoleName, oldRoleName, tenantId, tenantDomain);
@@ -918,13 +880,7 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
-            }
+            clearIdPCacheEntry(identityProvider, tenantDomain);
         }
 
         idPManagementFacade.deleteTenantRole(tenantId, claimURI, tenantDomain);
@@ -954,13 +910,7 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
-            }
+            clearIdPCacheEntry(identityProvider, tenantDomain);
         }
 
         idPManagementFacade.renameTenantRole(newClaimURI, oldClaimURI, tenantId, tenantDomain);
@@ -1091,6 +1041,74 @@ public class CacheBackedIdPMgtDAO {
         return idPName;
     }
 
+    /**
+     * Get the IDP cached against the given resource ID. The index caches hold only the resource ID of an IDP, which
+     * is resolved through this method.
+     *
+     * @param resourceId   Resource ID of the IDP, which may be null.
+     * @param tenantDomain Tenant domain of the IDP.
+     * @return Cached IDP or null if the IDP is not cached.
+     */
+    private IdentityProvider getIdPFromResourceIdCache(String resourceId, String tenantDomain) {
+
+        if (StringUtils.isBlank(resourceId)) {
+            return null;
+        }
+        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(new IdPResourceIdCacheKey(resourceId),
+                tenantDomain);
+        return entry != null ? entry.getIdentityProvider() : null;
+    }
+
+    private <K extends CacheKey> void addToIndexCache(BaseCache<K, String> indexCache, K cacheKey,
+                                                      IdentityProvider identityProvider, String tenantDomain) {
+
+        if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+            indexCache.addToCache(cacheKey, identityProvider.getResourceId(), tenantDomain);
+        }
+    }
+
+    /**
+     * Remove the cached IDP and the name and home-realm-id index entries of it. The authenticator property index
+     * entries are not removed since their keys are not known, but they are verified against the cached IDP on read.
+     *
+     * @param identityProvider Identity Provider information.
+     * @param tenantDomain     Tenant domain of IDP.
+     */
+    private void clearIdPCacheEntry(IdentityProvider identityProvider, String tenantDomain) {
+
+        if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+            idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(identityProvider.getResourceId()),
+                    tenantDomain);
+        }
+        idPCacheByName.clearCacheEntry(new IdPNameCacheKey(identityProvider.getIdentityProviderName()),
+                tenantDomain);
+        if (identityProvider.getHomeRealmId() != null) {
+            idPCacheByHRI.clearCacheEntry(new IdPHomeRealmIdCacheKey(identityProvider.getHomeRealmId()),
+                    tenantDomain);
+        }
+    }
+
+    private boolean hasAuthenticatorProperty(IdentityProvider identityProvider, String property, String value,
+                                             String authenticatorName) {
+
+        if (identityProvider == null || ArrayUtils.isEmpty(identityProvider.getFederatedAuthenticatorConfigs())) {
+            return false;
+        }
+        for (FederatedAuthenticatorConfig authenticatorConfig : identityProvider.getFederatedAuthenticatorConfigs()) {
+            if (authenticatorConfig == null || ArrayUtils.isEmpty(authenticatorConfig.getProperties()) ||
+                    (authenticatorName != null && !authenticatorName.equals(authenticatorConfig.getName()))) {
+                continue;
+            }
+            for (Property authenticatorProperty : authenticatorConfig.getProperties()) {
+                if (authenticatorProperty != null && StringUtils.equals(property, authenticatorProperty.getName())
+                        && StringUtils.equals(value, authenticatorProperty.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private String getIDPIssuerName(IdentityProvider identityProvider) {
 
         IdentityProviderProperty[] identityProviderProperties = identityProvider.getIdpProperties();
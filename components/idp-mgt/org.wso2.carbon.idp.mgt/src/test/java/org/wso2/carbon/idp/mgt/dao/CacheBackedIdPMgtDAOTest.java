@@ -1096,8 +1096,9 @@ public class CacheBackedIdPMgtDAOTest {
                 // Retrieving IDP from cache using realmID as cache key.
                 IdPCacheByHRI idPCacheByHRI = IdPCacheByHRI.getInstance();
                 IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-                IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-                idpFromCache = entry.getIdentityProvider();
+                String resourceId = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
+                idpFromCache = IdPCacheByResourceId.getInstance().getValueFromCache(
+                        new IdPResourceIdCacheKey(resourceId), tenantDomain).getIdentityProvider();
             }
             if (isExist) {
                 assertEquals(idpFromCache.getIdentityProviderName(), idpName,
@@ -1137,8 +1138,9 @@ public class CacheBackedIdPMgtDAOTest {
                 // Retrieving IDP from cache using realmID as cache key.
                 IdPCacheByHRI idPCacheByHRI = IdPCacheByHRI.getInstance();
                 IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-                IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-                idpFromCache = entry.getIdentityProvider();
+                String resourceId = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
+                idpFromCache = IdPCacheByResourceId.getInstance().getValueFromCache(
+                        new IdPResourceIdCacheKey(resourceId), tenantDomain).getIdentityProvider();
             }
             if (isExist && isEnabled) {
                 assertEquals(idpFromCache.getIdentityProviderName(), idpName,
@@ -1761,6 +1763,32 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test
+    public void testIndexCachesResolveToResourceIdCache() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            // Retrieving IDP from DB and adding to cache.
+            IdentityProvider idpResult = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1",
+                    SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+            IdPNameCacheKey cacheKey = new IdPNameCacheKey("testIdP1");
+            // The name cache should hold only the resource ID of the IDP.
+            String resourceId = IdPCacheByName.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
+            assertEquals(resourceId, idpResult.getResourceId(), "Name cache does not hold the resource ID!");
+            assertEquals(idpFromCacheByResourceId(resourceId).getIdentityProviderName(), "testIdP1",
+                    "Cannot find idP in resource ID cache!");
+
+            cacheBackedIdPMgtDAO.clearIdpCache("testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+            assertNull(idpFromCacheByResourceId(resourceId), "'clearIdpCache' method failed!");
+            assertNull(IdPCacheByName.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN),
+                    "'clearIdpCache' method failed!");
+        }
+    }
+
     @DataProvider
     public Object[][] deleteTenantRoleData() {
 
@@ -2181,9 +2209,9 @@ public class CacheBackedIdPMgtDAOTest {
 
         IdPCacheByName idPCacheByName = IdPCacheByName.getInstance();
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idpName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
-        if (entry != null) {
-            return entry.getIdentityProvider();
+        String resourceId = idPCacheByName.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
+        if (resourceId != null) {
+            return idpFromCacheByResourceId(resourceId);
         } else {
             return null;
         }
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_EMAIL_JAVA_REGEX_PATTERN;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.ENABLE_VALIDATOR;
@@ -39,6 +40,8 @@ import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Erro
  */
 public class EmailFormatValidator extends AbstractRulesValidator {
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(DEFAULT_EMAIL_JAVA_REGEX_PATTERN);
+
     private final List<String> allowedFields = new ArrayList<String>() {{
         add(USERNAME);
     }};
@@ -62,7 +65,6 @@ public class EmailFormatValidator extends AbstractRulesValidator {
         String value = context.getValue();
         String field = context.getField();
         Map<String, String> attributesMap = context.getProperties();
-        String emailRegEx = DEFAULT_EMAIL_JAVA_REGEX_PATTERN;
 
         // Check whether value satisfies the email format criteria.
         if (attributesMap.containsKey(ENABLE_VALIDATOR)) {
@@ -70,10 +72,11 @@ public class EmailFormatValidator extends AbstractRulesValidator {
                 throw new InputValidationMgtClientException(ERROR_INPUT_VALUE_NULL.getCode(),
                         ERROR_INPUT_VALUE_NULL.getMessage(), ERROR_INPUT_VALUE_NULL.getDescription());
             }
-            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) && !value.matches(emailRegEx)) {
+            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) && !EMAIL_PATTERN.matcher(value).matches()) {
                 throw new InputValidationMgtClientException(ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getCode(),
                         ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getMessage(),
-                        String.format(ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getDescription(), field, emailRegEx));
+                        String.format(ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getDescription(), field,
+                                DEFAULT_EMAIL_JAVA_REGEX_PATTERN));
             }
         }
 
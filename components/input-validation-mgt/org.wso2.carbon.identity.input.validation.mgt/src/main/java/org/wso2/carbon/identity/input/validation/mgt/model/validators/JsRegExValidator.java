@@ -22,11 +22,11 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
 import org.wso2.carbon.identity.input.validation.mgt.model.Property;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
+import org.wso2.carbon.identity.input.validation.mgt.utils.RegexPatternCache;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
@@ -58,13 +58,11 @@ public class JsRegExValidator extends AbstractRegExValidator {
         String javaRegex = StringUtils.EMPTY;
 
         if (attributesMap.containsKey(JS_REGEX)) {
-            String jsRegex = attributesMap.get(JS_REGEX);
-            // Convert to Java regex.
-            javaRegex = jsRegex.replaceAll("//", "/");
-
-            Pattern pattern = Pattern.compile(javaRegex);
-            Matcher matcher = pattern.matcher(value);
-            valid = matcher.matches();
+            javaRegex = toJavaRegex(attributesMap.get(JS_REGEX));
+            // The pattern is compiled when the configuration is updated. Hence, it is usually served from the cache.
+            RegexPatternCache patternCache = RegexPatternCache.getInstance();
+            Pattern pattern = patternCache.getPattern(context.getTenantDomain(), javaRegex);
+            valid = patternCache.matches(pattern, value);
         }
         if (!valid) {
             throw new InputValidationMgtClientException(ERROR_CODE_REGEX_MISMATCH.getCode(),
@@ -74,6 +72,32 @@ public class JsRegExValidator extends AbstractRegExValidator {
         return true;
     }
 
+    @Override
+    public boolean validateProps(ValidationContext context) throws InputValidationMgtClientException {
+
+        super.validateProps(context);
+        String jsRegex = context.getProperties().get(JS_REGEX);
+        if (jsRegex != null) {
+            // Reject the patterns which cannot be compiled or exceed the allowed length before they are stored.
+            RegexPatternCache patternCache = RegexPatternCache.getInstance();
+            String javaRegex = toJavaRegex(jsRegex);
+            patternCache.validateRegexLength(javaRegex);
+            patternCache.getPattern(context.getTenantDomain(), javaRegex);
+        }
+        return true;
+    }
+
+    /**
+     * Convert a JavaScript regex to a Java regex.
+     *
+     * @param jsRegex JavaScript regex.
+     * @return Java regex.
+     */
+    public static String toJavaRegex(String jsRegex) {
+
+        return StringUtils.replace(jsRegex, "//", "/");
+    }
+
     @Override
     public List<Property> getConfigurationProperties() {
 
@@ -55,7 +55,7 @@ public class SpecialCharacterValidator extends AbstractRulesValidator {
         Map<String, String> attributesMap = context.getProperties();
 
         for (int i = 0; i < value.length(); i++) {
-            if (value.substring(i, i + 1).matches("[^A-Za-z0-9]")) {
+            if (isSpecialCharacter(value.charAt(i))) {
                 countSpecial++;
             }
 
@@ -78,4 +78,15 @@ public class SpecialCharacterValidator extends AbstractRulesValidator {
         }
         return true;
     }
+
+    /**
+     * Check whether a character is not an ASCII letter or digit, which is the [^A-Za-z0-9] character class.
+     *
+     * @param c Character.
+     * @return True if the character is a special character.
+     */
+    private boolean isSpecialCharacter(char c) {
+
+        return !((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'));
+    }
 }
@@ -40,8 +40,10 @@ import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfigurati
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidatorConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.validators.AbstractRegExValidator;
+import org.wso2.carbon.identity.input.validation.mgt.model.validators.JsRegExValidator;
 import org.wso2.carbon.identity.input.validation.mgt.model.validators.LengthValidator;
 import org.wso2.carbon.identity.input.validation.mgt.utils.Constants;
+import org.wso2.carbon.identity.input.validation.mgt.utils.RegexPatternCache;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
 
@@ -53,6 +55,7 @@ import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCE_DOES_NOT_EXISTS;
 import static org.wso2.carbon.identity.input.validation.mgt.internal.InputValidationDataHolder.getFieldValidationConfigurationHandlers;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.MAX_LENGTH;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.MIN_LENGTH;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.PASSWORD;
@@ -262,6 +265,7 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
             // Update the existing resource.
             updatedResource = updateResource(newResource, tenantDomain);
         }
+        precompilePatterns(configuration, tenantDomain);
 
         // Execute post actions of validation configuration update.
         FieldValidationConfigurationHandler handler = InputValidationDataHolder
@@ -274,6 +278,36 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
         return buildValidationConfigFromResource(updatedResource);
     }
 
+    /**
+     * Method to compile the regex patterns of an updated validation configuration, so that the validations of the
+     * tenant use the compiled patterns instead of compiling them on each validation.
+     *
+     * @param configuration Updated validation configuration.
+     * @param tenantDomain  Tenant domain name.
+     */
+    private void precompilePatterns(ValidationConfiguration configuration, String tenantDomain) {
+
+        RegexPatternCache patternCache = RegexPatternCache.getInstance();
+        // Discard the patterns of the previous configurations of the tenant.
+        patternCache.clear(tenantDomain);
+        if (configuration.getRegEx() == null) {
+            return;
+        }
+        for (RulesConfiguration rule : configuration.getRegEx()) {
+            String jsRegex = rule.getProperties() != null ? rule.getProperties().get(JS_REGEX) : null;
+            if (jsRegex == null) {
+                continue;
+            }
+            try {
+                patternCache.getPattern(tenantDomain, JsRegExValidator.toJavaRegex(jsRegex));
+            } catch (InputValidationMgtClientException e) {
+                LOG.warn(String.format("Unable to compile the regex of the %s validator for the %s field in the " +
+                        "tenant: %s. %s", rule.getValidatorName(), configuration.getField(), tenantDomain,
+                        e.getDescription()));
+            }
+        }
+    }
+
     /**
      * Method to get resource.
      *
@@ -99,6 +99,14 @@ public class Constants {
         public static final String INPUT_VALIDATION_DEFAULT_VALIDATOR = "InputValidation.DefaultUserNameValidator";
 
         public static final String ALPHA_NUMERIC = "alphaNumeric";
+
+        // Keys for the compiled regex pattern cache.
+        public static final String REGEX_PATTERN_CACHE_MAX_SIZE = "InputValidation.RegexPatternCache.MaxSize";
+        public static final String REGEX_MAX_LENGTH = "InputValidation.Regex.MaxLength";
+        public static final String REGEX_MATCH_TIMEOUT = "InputValidation.Regex.MatchTimeout";
+        public static final int DEFAULT_REGEX_PATTERN_CACHE_MAX_SIZE = 1000;
+        public static final int DEFAULT_REGEX_MAX_LENGTH = 1024;
+        public static final int DEFAULT_REGEX_MATCH_TIMEOUT = 500;
     }
 
     /**
@@ -192,6 +200,9 @@ public class Constants {
         ERROR_INVALID_VALIDATORS_COMBINATION("60027",
                 "INVALID VALIDATOR COMBINATION",
                 "Invalid validators combination is provided for field %s."),
+        ERROR_REGEX_MAX_LENGTH_EXCEEDED("60028",
+                "REGEX_MAX_LENGTH_EXCEEDED",
+                "The regex pattern exceeds the maximum allowed length of %d characters."),
 
         // Server Errors.
         ERROR_GETTING_EXISTING_CONFIGURATIONS("65001",
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.input.validation.mgt.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_REGEX_MATCH_TIMEOUT;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_REGEX_MAX_LENGTH;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_REGEX_PATTERN_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.REGEX_MATCH_TIMEOUT;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.REGEX_MAX_LENGTH;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.REGEX_PATTERN_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_JAVA_REGEX_INVALID;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_REGEX_MAX_LENGTH_EXCEEDED;
+
+/**
+ * Bounded cache of the compiled regex patterns of the input validation configurations.
+ * The patterns are keyed by the tenant domain, the regex and the compile flags, so that the patterns of a tenant can
+ * be compiled when the configuration of the tenant is updated and discarded without affecting the other tenants.
+ * The length of a tenant defined regex and the time spent on matching a value are limited, so that a pattern with
+ * catastrophic backtracking cannot hold a worker thread.
+ */
+public class RegexPatternCache {
+
+    private static final Log LOG = LogFactory.getLog(RegexPatternCache.class);
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+    private static final RegexPatternCache INSTANCE = new RegexPatternCache(
+            readIntProperty(REGEX_PATTERN_CACHE_MAX_SIZE, DEFAULT_REGEX_PATTERN_CACHE_MAX_SIZE),
+            readIntProperty(REGEX_MAX_LENGTH, DEFAULT_REGEX_MAX_LENGTH),
+            readIntProperty(REGEX_MATCH_TIMEOUT, DEFAULT_REGEX_MATCH_TIMEOUT));
+
+    private final Map<PatternKey, Pattern> patterns;
+    private final int maxRegexLength;
+    private final long matchTimeoutNanos;
+
+    RegexPatternCache(int maxSize, int maxRegexLength, long matchTimeoutMillis) {
+
+        this.patterns = Collections.synchronizedMap(new LinkedHashMap<PatternKey, Pattern>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+        this.maxRegexLength = maxRegexLength;
+        this.matchTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(matchTimeoutMillis);
+    }
+
+    public static RegexPatternCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the compiled pattern of a regex of a tenant, compiling it if it is not cached.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param regex        Java regex.
+     * @param flags        Compile flags of the pattern.
+     * @return Compiled pattern.
+     * @throws InputValidationMgtClientException If the regex is invalid.
+     */
+    public Pattern getPattern(String tenantDomain, String regex, int flags) throws InputValidationMgtClientException {
+
+        PatternKey key = new PatternKey(tenantDomain, regex, flags);
+        Pattern pattern = patterns.get(key);
+        if (pattern != null) {
+            return pattern;
+        }
+        try {
+            pattern = Pattern.compile(regex, flags);
+        } catch (PatternSyntaxException e) {
+            throw new InputValidationMgtClientException(ERROR_JAVA_REGEX_INVALID.getCode(),
+                    ERROR_JAVA_REGEX_INVALID.getMessage(),
+                    String.format(ERROR_JAVA_REGEX_INVALID.getDescription(), regex));
+        }
+        patterns.put(key, pattern);
+        return pattern;
+    }
+
+    /**
+     * Get the compiled pattern of a regex of a tenant, compiling it if it is not cached.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param regex        Java regex.
+     * @return Compiled pattern.
+     * @throws InputValidationMgtClientException If the regex is invalid.
+     */
+    public Pattern getPattern(String tenantDomain, String regex) throws InputValidationMgtClientException {
+
+        return getPattern(tenantDomain, regex, 0);
+    }
+
+    /**
+     * Validate the length of a regex which is being created or updated. The length is not validated when a value is
+     * validated against a stored regex, so that the regexes stored before the limit was introduced keep working.
+     *
+     * @param regex Java regex.
+     * @throws InputValidationMgtClientException If the regex is longer than the allowed length.
+     */
+    public void validateRegexLength(String regex) throws InputValidationMgtClientException {
+
+        if (regex.length() > maxRegexLength) {
+            throw new InputValidationMgtClientException(ERROR_REGEX_MAX_LENGTH_EXCEEDED.getCode(),
+                    ERROR_REGEX_MAX_LENGTH_EXCEEDED.getMessage(),
+                    String.format(ERROR_REGEX_MAX_LENGTH_EXCEEDED.getDescription(), maxRegexLength));
+        }
+    }
+
+    /**
+     * Check whether the entire value matches the pattern. Matching is abandoned once the match timeout elapses, and
+     * the value is then considered as not matching.
+     *
+     * @param pattern Compiled pattern.
+     * @param value   Value to be matched.
+     * @return True if the value matches the pattern within the match timeout.
+     */
+    public boolean matches(Pattern pattern, String value) {
+
+        try {
+            return pattern.matcher(new DeadlineCharSequence(value, System.nanoTime() + matchTimeoutNanos)).matches();
+        } catch (MatchTimeoutException e) {
+            LOG.warn("Matching a value against the regex: " + pattern.pattern() + " exceeded the timeout of " +
+                    TimeUnit.NANOSECONDS.toMillis(matchTimeoutNanos) + " ms. Hence, the value is considered invalid.");
+            return false;
+        }
+    }
+
+    /**
+     * Remove the cached patterns of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clear(String tenantDomain) {
+
+        synchronized (patterns) {
+            patterns.keySet().removeIf(key -> Objects.equals(key.tenantDomain, tenantDomain));
+        }
+    }
+
+    int size() {
+
+        return patterns.size();
+    }
+
+    private static int readIntProperty(String name, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(name);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the value of " + name + ". Defaulting to " + defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Cache key of a compiled pattern.
+     */
+    private static final class PatternKey {
+
+        private final String tenantDomain;
+        private final String regex;
+        private final int flags;
+
+        PatternKey(String tenantDomain, String regex, int flags) {
+
+            this.tenantDomain = tenantDomain;
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey that = (PatternKey) o;
+            return flags == that.flags && Objects.equals(tenantDomain, that.tenantDomain) && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, regex, flags);
+        }
+    }
+
+    /**
+     * Character sequence which fails the matching once its deadline passes. The regex engine reads the input only
+     * through {@link #charAt(int)}, which makes it the place to stop a backtracking match.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+
+        private final CharSequence value;
+        private final long deadline;
+        private int reads;
+
+        DeadlineCharSequence(CharSequence value, long deadline) {
+
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int length() {
+
+            return value.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if (++reads % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                throw new MatchTimeoutException();
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+
+            return new DeadlineCharSequence(value.subSequence(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+
+            return value.toString();
+        }
+    }
+
+    /**
+     * Thrown when matching a value exceeds the match timeout.
+     */
+    private static final class MatchTimeoutException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        MatchTimeoutException() {
+
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.input.validation.mgt.test.utils;
+
+import org.apache.commons.lang.StringUtils;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
+import org.wso2.carbon.identity.input.validation.mgt.model.validators.JsRegExValidator;
+import org.wso2.carbon.identity.input.validation.mgt.utils.RegexPatternCache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.PASSWORD;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_CODE_REGEX_MISMATCH;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_JAVA_REGEX_INVALID;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_REGEX_MAX_LENGTH_EXCEEDED;
+
+/**
+ * Testing the RegexPatternCache class.
+ */
+public class RegexPatternCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "wso2.com";
+    private static final String REGEX = "^((?=.*\\d)(?=.*[a-z])(?=.*[A-Z])).{8,30}$";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private RegexPatternCache patternCache;
+
+    @BeforeMethod
+    public void setup() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        patternCache = RegexPatternCache.getInstance();
+        patternCache.clear(TENANT_DOMAIN);
+        patternCache.clear(OTHER_TENANT_DOMAIN);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+    }
+
+    @Test
+    public void testGetPatternIsCachedPerTenant() throws InputValidationMgtClientException {
+
+        Pattern pattern = patternCache.getPattern(TENANT_DOMAIN, REGEX);
+        Pattern otherTenantPattern = patternCache.getPattern(OTHER_TENANT_DOMAIN, REGEX);
+
+        assertSame(patternCache.getPattern(TENANT_DOMAIN, REGEX), pattern);
+        assertNotSame(otherTenantPattern, pattern);
+        assertNotSame(patternCache.getPattern(TENANT_DOMAIN, REGEX, Pattern.CASE_INSENSITIVE), pattern);
+
+        patternCache.clear(TENANT_DOMAIN);
+        assertNotSame(patternCache.getPattern(TENANT_DOMAIN, REGEX), pattern);
+        assertSame(patternCache.getPattern(OTHER_TENANT_DOMAIN, REGEX), otherTenantPattern);
+    }
+
+    @Test
+    public void testGetPatternWithInvalidRegex() {
+
+        try {
+            patternCache.getPattern(TENANT_DOMAIN, "[a-z");
+            fail("Expected an exception for an invalid regex.");
+        } catch (InputValidationMgtClientException e) {
+            assertEquals(e.getErrorCode(), ERROR_JAVA_REGEX_INVALID.getCode());
+        }
+    }
+
+    @Test
+    public void testTooLongRegexIsRejectedOnlyOnUpdate() throws InputValidationMgtClientException {
+
+        String longRegex = StringUtils.repeat("a", 2000);
+        JsRegExValidator validator = new JsRegExValidator();
+        Map<String, String> properties = new HashMap<>();
+        properties.put(JS_REGEX, longRegex);
+        ValidationContext context = new ValidationContext();
+        context.setField(PASSWORD);
+        context.setTenantDomain(TENANT_DOMAIN);
+        context.setProperties(properties);
+        try {
+            validator.validateProps(context);
+            fail("Expected an exception for a regex exceeding the maximum length.");
+        } catch (InputValidationMgtClientException e) {
+            assertEquals(e.getErrorCode(), ERROR_REGEX_MAX_LENGTH_EXCEEDED.getCode());
+        }
+
+        // A regex stored before the length limit was introduced is still used for the validations.
+        context.setValue(longRegex);
+        assertTrue(validator.validate(context));
+    }
+
+    @Test
+    public void testMatchesStopsCatastrophicBacktracking() throws InputValidationMgtClientException {
+
+        // The back reference prevents the regex engine from memoizing the nested repetition.
+        Pattern pattern = patternCache.getPattern(TENANT_DOMAIN, "^(a+)+\\1$");
+
+        assertTrue(patternCache.matches(pattern, "aaaaaaaa"));
+        assertFalse(patternCache.matches(pattern, StringUtils.repeat("a", 64) + "!"));
+    }
+
+    @Test
+    public void testJsRegExValidator() throws InputValidationMgtClientException {
+
+        JsRegExValidator validator = new JsRegExValidator();
+        Map<String, String> properties = new HashMap<>();
+        properties.put(JS_REGEX, REGEX);
+        ValidationContext context = new ValidationContext();
+        context.setField(PASSWORD);
+        context.setTenantDomain(TENANT_DOMAIN);
+        context.setProperties(properties);
+
+        assertTrue(validator.validateProps(context));
+        context.setValue("Password123");
+        assertTrue(validator.validate(context));
+        context.setValue("password");
+        try {
+            validator.validate(context);
+            fail("Expected an exception for a value which does not match the regex.");
+        } catch (InputValidationMgtClientException e) {
+            assertEquals(e.getErrorCode(), ERROR_CODE_REGEX_MISMATCH.getCode());
+        }
+    }
+}
@@ -50,6 +50,14 @@ public class IdentityProvisioningConstants {
     public static final String USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS = "OutboundProvisioning.useUserTenantDomainInSaasApps";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED = "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
     public static final String FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE = "OutboundProvisioning.FailOnBlockingOutboundProvisionFailure";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE = "OutboundProvisioning.Executor.PoolSize";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY =
+            "OutboundProvisioning.Executor.QueueCapacity";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR =
+            "OutboundProvisioning.Executor.MaxConcurrencyPerConnector";
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE = 20;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY = 1000;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR = 5;
 
     public static class SQLQueries {
 
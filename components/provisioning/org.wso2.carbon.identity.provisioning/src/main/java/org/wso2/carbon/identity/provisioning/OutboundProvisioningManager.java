@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -70,7 +69,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -128,7 +126,9 @@ public class OutboundProvisioningManager {
     }
 
     /**
-     * TODO: Need to cache the output from this method.
+     * Get the runtime provisioning configurations of the given service provider. The resolved configurations are
+     * cached per service provider and tenant in the {@link ServiceProviderProvisioningConnectorCache}, which is cleared
+     * on service provider and identity provider updates.
      *
      * @return
      * @throws UserStoreException
@@ -388,19 +388,12 @@ public class OutboundProvisioningManager {
             }
 
             // get all the provisioning connectors associated with local service provider for
-            // out-bound provisioning.
-            // TODO: stop loading connectors all the time.
+            // out-bound provisioning. these are served from the cache after the first call.
             Map<String, RuntimeProvisioningConfig> connectors =
                     getOutboundProvisioningConnectors(serviceProvider, spTenantDomainName);
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
-
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
 
@@ -412,6 +405,8 @@ public class OutboundProvisioningManager {
                 AbstractOutboundProvisioningConnector connector = connectorEntry.getValue();
                 String connectorType = connectorEntry.getKey();
                 String idPName = entry.getKey();
+                String connectorKey =
+                        ProvisioningExecutor.buildConnectorKey(spTenantDomainName, idPName, connectorType);
 
                 IdentityProvider provisioningIdp =
                         IdentityProviderManager.getInstance().getIdPByName(idPName, spTenantDomainName);
@@ -455,7 +450,6 @@ public class OutboundProvisioningManager {
                     idpClaimMappings = provisioningIdp.getClaimConfig().getClaimMappings();
                 }
 
-                // TODO: this should happen asynchronously in a different thread.
                 // create a new provisioning entity object for each provisioning identity
                 // provider.
 
@@ -514,6 +508,8 @@ public class OutboundProvisioningManager {
                     }
                     Map<ClaimMapping, List<String>> mappedUserClaims;
                     ProvisionedIdentifier provisionedUserIdentifier;
+                    // the member updates of a provisioning role are dispatched to the connector as a single batch.
+                    List<Callable<Boolean>> userProvisioningTasks = new ArrayList<>();
 
                     for (String user : newUsersList) {
                         ProvisioningEntity inboundProvisioningEntity =
@@ -538,9 +534,7 @@ public class OutboundProvisioningManager {
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
-                        boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
-
+                        userProvisioningTasks.add(proThread);
                     }
 
                     for (String user : deletedUsersList) {
@@ -563,11 +557,13 @@ public class OutboundProvisioningManager {
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
-                            boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            userProvisioningTasks.add(proThread);
                         }
                     }
 
+                    executeOutboundProvisioning(provisioningEntity, connectorKey, connectorType, idPName,
+                            userProvisioningTasks, entry.getValue().isBlocking());
+
                 } else {
                     // see whether the given provisioning entity satisfies the conditions to be
                     // provisioned.
@@ -606,16 +602,13 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, connectorKey, connectorType, idPName,
+                                    proThread, isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -654,7 +647,30 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
+    /**
+     * Execute a set of provisioning tasks of a connector. Non-blocking tasks are handed over to the shared
+     * {@link ProvisioningExecutor} as a single batch, while the blocking tasks are run one after the other in the
+     * calling thread.
+     */
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String connectorKey,
+                                             String connectorType, String idPName,
+                                             List<Callable<Boolean>> proThreads, boolean isBlocking)
+            throws IdentityProvisioningException {
+
+        if (proThreads.isEmpty()) {
+            return;
+        }
+        if (!isBlocking && !needToWaitForUserProvisioning(provisioningEntity)) {
+            ProvisioningExecutor.getInstance().submitBatch(connectorKey, proThreads);
+            return;
+        }
+        for (Callable<Boolean> proThread : proThreads) {
+            executeOutboundProvisioning(provisioningEntity, connectorKey, connectorType, idPName, proThread,
+                    isBlocking);
+        }
+    }
+
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String connectorKey,
                                              String connectorType,
                                              String idPName, Callable<Boolean> proThread, boolean isBlocking)
             throws IdentityProvisioningException {
@@ -667,18 +683,16 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity,
+                        ProvisioningExecutor.getInstance().getExecutor(), e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            ProvisioningExecutor.getInstance().submit(connectorKey, proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -688,7 +702,8 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity,
+                        ProvisioningExecutor.getInstance().getExecutor(), e);
             }
         }
     }
@@ -1076,7 +1091,7 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
+     * @param executors          Shared provisioning executor, which must not be shut down.
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.ThreadLocalAwareThreadPoolExecutor;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY;
+
+/**
+ * Long-lived, bounded executor for the non-blocking outbound provisioning operations.
+ * Provisioning tasks are submitted in batches, where a batch holds the tasks of a single connector. The batches wait in
+ * a backlog of their connector and are dispatched to the pool only when a permit of the connector is free, so that a
+ * slow connector can not use more than the configured number of threads of the pool and the pool threads never wait
+ * for a permit. The backlog of a connector is bounded by the queue capacity of the pool. When the backlog of the
+ * connector or the queue of the pool is full, the batch is run on the submitting thread instead of being dropped.
+ */
+public class ProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(ProvisioningExecutor.class);
+    private static final ProvisioningExecutor instance = new ProvisioningExecutor();
+
+    // Set while a batch is handed over to the pool, to detect a batch run on the dispatching thread.
+    private static final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Map<String, ConnectorLane> connectorLanes = new ConcurrentHashMap<>();
+    private volatile ThreadPoolExecutor executor;
+    private volatile int maxConcurrencyPerConnector;
+    private volatile int connectorBacklogCapacity;
+
+    private ProvisioningExecutor() {
+
+    }
+
+    public static ProvisioningExecutor getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Build the key which identifies the provisioning connector of an identity provider.
+     *
+     * @param tenantDomain  Tenant domain of the provisioning identity provider.
+     * @param idPName       Name of the provisioning identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @return Connector key.
+     */
+    public static String buildConnectorKey(String tenantDomain, String idPName, String connectorType) {
+
+        return tenantDomain + ":" + idPName + ":" + connectorType;
+    }
+
+    /**
+     * Submit the provisioning tasks of a connector to be run asynchronously as a single batch.
+     *
+     * @param connectorKey Key of the connector, built with {@link #buildConnectorKey(String, String, String)}.
+     * @param tasks        Provisioning tasks of the connector.
+     */
+    public void submitBatch(String connectorKey, List<Callable<Boolean>> tasks) {
+
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ThreadPoolExecutor current = getExecutor();
+        ConnectorLane lane = getConnectorLane(connectorKey);
+        if (lane == null) {
+            try {
+                current.execute(() -> runTasks(connectorKey, tasks));
+            } catch (RejectedExecutionException e) {
+                log.warn("Outbound provisioning executor is shut down. Dropped " + tasks.size() +
+                        " provisioning tasks of the connector: " + connectorKey);
+            }
+            return;
+        }
+        if (!lane.backlog.offer(tasks)) {
+            // The backlog of the connector is full, hence the batch is run on the submitting thread in the same way
+            // as a batch rejected by the saturated pool.
+            if (log.isDebugEnabled()) {
+                log.debug("Provisioning backlog of the connector: " + connectorKey + " is full. Running " +
+                        tasks.size() + " provisioning tasks on the calling thread.");
+            }
+            runTasks(connectorKey, tasks);
+            return;
+        }
+        dispatch(lane);
+    }
+
+    /**
+     * Submit a single provisioning task of a connector to be run asynchronously.
+     *
+     * @param connectorKey Key of the connector.
+     * @param task         Provisioning task.
+     */
+    public void submit(String connectorKey, Callable<Boolean> task) {
+
+        submitBatch(connectorKey, Collections.singletonList(task));
+    }
+
+    /**
+     * Get the underlying executor service. The executor is shared across all the provisioning requests and hence must
+     * not be shut down by the callers.
+     *
+     * @return Shared provisioning executor.
+     */
+    public ThreadPoolExecutor getExecutor() {
+
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    current = createExecutor();
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Shut down the shared executor, letting the already queued provisioning tasks to complete.
+     */
+    public synchronized void shutdown() {
+
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        connectorLanes.clear();
+    }
+
+    /**
+     * Dispatch the batches of the connector to the pool as long as the connector has free permits. Every change that
+     * may allow a batch to run, i.e. adding a batch to the backlog or releasing a permit, is followed by a dispatch, so
+     * that a batch can not be left in the backlog while a permit is free.
+     *
+     * @param lane Lane of the connector.
+     */
+    private void dispatch(ConnectorLane lane) {
+
+        while (!lane.backlog.isEmpty() && lane.permits.tryAcquire()) {
+            List<Callable<Boolean>> batch = lane.backlog.poll();
+            if (batch == null) {
+                lane.permits.release();
+                continue;
+            }
+            ThreadPoolExecutor current = executor;
+            if (current == null) {
+                lane.permits.release();
+                return;
+            }
+            dispatching.set(Boolean.TRUE);
+            try {
+                current.execute(new LaneTask(lane, batch));
+            } catch (RejectedExecutionException e) {
+                dropLane(lane, batch);
+                return;
+            } finally {
+                dispatching.set(Boolean.FALSE);
+            }
+        }
+    }
+
+    /**
+     * Drop the batch and the backlog of the connector once the pool is shut down, and release the permit held for the
+     * batch.
+     *
+     * @param lane  Lane of the connector.
+     * @param batch Batch rejected by the pool.
+     */
+    private void dropLane(ConnectorLane lane, List<Callable<Boolean>> batch) {
+
+        lane.permits.release();
+        int droppedTasks = batch.size();
+        List<Callable<Boolean>> next;
+        while ((next = lane.backlog.poll()) != null) {
+            droppedTasks += next.size();
+        }
+        log.warn("Outbound provisioning executor is shut down. Dropped " + droppedTasks +
+                " provisioning tasks of the connector: " + lane.connectorKey);
+    }
+
+    /**
+     * Run the batch holding a permit of the connector, and continue with the backlog of the connector while it has
+     * batches. The permit is released and the remaining batches are dispatched once the backlog is empty.
+     *
+     * @param lane  Lane of the connector.
+     * @param batch Batch to run.
+     */
+    private void runLane(ConnectorLane lane, List<Callable<Boolean>> batch) {
+
+        try {
+            List<Callable<Boolean>> next = batch;
+            while (next != null) {
+                runTasks(lane.connectorKey, next);
+                next = lane.backlog.poll();
+            }
+        } finally {
+            lane.permits.release();
+        }
+        dispatch(lane);
+    }
+
+    private void runTasks(String connectorKey, List<Callable<Boolean>> tasks) {
+
+        for (Callable<Boolean> task : tasks) {
+            try {
+                if (!task.call()) {
+                    log.error("Outbound provisioning failed for the connector: " + connectorKey);
+                }
+            } catch (Exception e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while running the provisioning task of the connector: " + connectorKey, e);
+                }
+            }
+        }
+    }
+
+    private ConnectorLane getConnectorLane(String connectorKey) {
+
+        if (maxConcurrencyPerConnector <= 0) {
+            return null;
+        }
+        return connectorLanes.computeIfAbsent(connectorKey,
+                key -> new ConnectorLane(key, maxConcurrencyPerConnector, connectorBacklogCapacity));
+    }
+
+    private ThreadPoolExecutor createExecutor() {
+
+        int poolSize = readPositiveInt(OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE,
+                DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE);
+        int queueCapacity = readPositiveInt(OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY,
+                DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY);
+        connectorBacklogCapacity = queueCapacity;
+        maxConcurrencyPerConnector = readInt(OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR,
+                DEFAULT_OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating the outbound provisioning executor with pool size: " + poolSize +
+                    ", queue capacity: " + queueCapacity + " and max concurrency per connector: " +
+                    maxConcurrencyPerConnector);
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor threadPoolExecutor = new ThreadLocalAwareThreadPoolExecutor(poolSize, poolSize, 60L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "OutboundProvisioningExecutor-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, pool) -> {
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("Outbound provisioning executor is shut down.");
+                    }
+                    if (log.isDebugEnabled()) {
+                        log.debug("Outbound provisioning executor queue is full. Running the provisioning tasks " +
+                                "on the calling thread.");
+                    }
+                    runnable.run();
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    private static int readPositiveInt(String property, int defaultValue) {
+
+        int value = readInt(property, defaultValue);
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static int readInt(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + property + ". Defaulting to " +
+                        defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Backlog and permits of a single connector.
+     */
+    private static class ConnectorLane {
+
+        private final String connectorKey;
+        private final Semaphore permits;
+        private final BlockingQueue<List<Callable<Boolean>>> backlog;
+
+        private ConnectorLane(String connectorKey, int maxConcurrency, int backlogCapacity) {
+
+            this.connectorKey = connectorKey;
+            this.permits = new Semaphore(maxConcurrency);
+            this.backlog = new LinkedBlockingQueue<>(backlogCapacity);
+        }
+    }
+
+    /**
+     * Pool task running a batch of a connector, which holds a permit of the connector.
+     */
+    private class LaneTask implements Runnable {
+
+        private final ConnectorLane lane;
+        private final List<Callable<Boolean>> batch;
+
+        private LaneTask(ConnectorLane lane, List<Callable<Boolean>> batch) {
+
+            this.lane = lane;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+
+            if (!dispatching.get()) {
+                runLane(lane, batch);
+                return;
+            }
+            // The pool is saturated and the batch is run on the dispatching thread. Only this batch is run, since the
+            // dispatching loop continues with the backlog once the permit is released.
+            try {
+                runTasks(lane.connectorKey, batch);
+            } finally {
+                lane.permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY;
+
+/**
+ * Unit tests for {@link ProvisioningExecutor}.
+ */
+public class ProvisioningExecutorTest {
+
+    private static final String CONNECTOR_KEY =
+            ProvisioningExecutor.buildConnectorKey("carbon.super", "testIdp", "testConnector");
+
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE)).thenReturn("4");
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR))
+                .thenReturn("1");
+        ProvisioningExecutor.getInstance().shutdown();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        ProvisioningExecutor.getInstance().shutdown();
+        identityUtil.close();
+    }
+
+    @Test
+    public void testSubmitBatchRunsAllTasks() throws Exception {
+
+        int taskCount = 10;
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(() -> {
+                latch.countDown();
+                return true;
+            });
+        }
+        ProvisioningExecutor.getInstance().submitBatch(CONNECTOR_KEY, tasks);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerConnector() throws Exception {
+
+        int batchCount = 8;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            ProvisioningExecutor.getInstance().submit(CONNECTOR_KEY, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                latch.countDown();
+                return true;
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(maxRunning.get(), 1);
+    }
+
+    @Test
+    public void testSlowConnectorDoesNotBlockOtherConnectors() throws Exception {
+
+        String otherConnectorKey =
+                ProvisioningExecutor.buildConnectorKey("carbon.super", "otherIdp", "otherConnector");
+        CountDownLatch slowConnectorRelease = new CountDownLatch(1);
+        CountDownLatch slowConnectorDone = new CountDownLatch(8);
+        // More batches than the pool threads are submitted to the slow connector.
+        for (int i = 0; i < 8; i++) {
+            ProvisioningExecutor.getInstance().submit(CONNECTOR_KEY, () -> {
+                slowConnectorRelease.await();
+                slowConnectorDone.countDown();
+                return true;
+            });
+        }
+        CountDownLatch otherConnectorDone = new CountDownLatch(1);
+
+        try {
+            ProvisioningExecutor.getInstance().submit(otherConnectorKey, () -> {
+                otherConnectorDone.countDown();
+                return true;
+            });
+
+            assertTrue(otherConnectorDone.await(10, TimeUnit.SECONDS));
+            assertEquals(slowConnectorDone.getCount(), 8);
+        } finally {
+            slowConnectorRelease.countDown();
+        }
+        assertTrue(slowConnectorDone.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFullConnectorBacklogRunsOnSubmittingThread() throws Exception {
+
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY))
+                .thenReturn("2");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        ProvisioningExecutor.getInstance().submit(CONNECTOR_KEY, () -> {
+            started.countDown();
+            release.await();
+            done.countDown();
+            return true;
+        });
+
+        try {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // The connector holds its only permit, hence these batches fill the backlog of the connector.
+            for (int i = 0; i < 2; i++) {
+                ProvisioningExecutor.getInstance().submit(CONNECTOR_KEY, () -> {
+                    done.countDown();
+                    return true;
+                });
+            }
+            AtomicReference<Thread> runningThread = new AtomicReference<>();
+            ProvisioningExecutor.getInstance().submit(CONNECTOR_KEY, () -> {
+                runningThread.set(Thread.currentThread());
+                return true;
+            });
+
+            assertEquals(runningThread.get(), Thread.currentThread());
+        } finally {
+            release.countDown();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailedTaskDoesNotStopTheBatch() throws Exception {
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            throw new IdentityProvisioningException("Provisioning failed.");
+        });
+        tasks.add(() -> {
+            latch.countDown();
+            return true;
+        });
+
+        ProvisioningExecutor.getInstance().submitBatch(CONNECTOR_KEY, tasks);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -34,6 +34,8 @@ import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.identity.role.mgt.core.GroupBasicInfo;
 import org.wso2.carbon.identity.role.mgt.core.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.mgt.core.IdentityRoleManagementException;
@@ -78,7 +80,6 @@ import java.util.UUID;
 
 import javax.xml.namespace.QName;
 
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.DB2;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.INVALID_LIMIT;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.INVALID_OFFSET;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.INVALID_REQUEST;
@@ -87,13 +88,6 @@ import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.ROLE_AL
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.ROLE_NOT_FOUND;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.SORTING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.H2;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.INFORMIX;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MARIADB;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MICROSOFT;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MY_SQL;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.ORACLE;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.POSTGRE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.RoleTableColumns.USER_NOT_FOUND_ERROR_MESSAGE;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.ADD_GROUP_TO_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.ADD_GROUP_TO_ROLE_SQL_MSSQL;
@@ -175,12 +169,12 @@ public class RoleDAOImpl implements RoleDAO {
                         statement.executeUpdate();
                     }
 
-                    String databaseProductName = connection.getMetaData().getDatabaseProductName();
+                    Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
                     // Add users to the created role.
                     if (CollectionUtils.isNotEmpty(userList)) {
                         List<String> userNamesList = getUserNamesByIDs(userList, tenantDomain);
                         String addUsersSQL = ADD_USER_TO_ROLE_SQL;
-                        if (MICROSOFT.equals(databaseProductName)) {
+                        if (dialect == Dialect.MSSQL) {
                             addUsersSQL = ADD_USER_TO_ROLE_SQL_MSSQL;
                         }
                         processBatchUpdateForUsers(roleName, userNamesList, tenantId, primaryDomainName, connection,
@@ -196,7 +190,7 @@ public class RoleDAOImpl implements RoleDAO {
                         Map<String, String> groupIdsToNames = getGroupNamesByIDs(groupList, tenantDomain);
                         List<String> groupNamesList = new ArrayList<>(groupIdsToNames.values());
                         String addGroupsSQL = ADD_GROUP_TO_ROLE_SQL;
-                        if (MICROSOFT.equals(databaseProductName)) {
+                        if (dialect == Dialect.MSSQL) {
                             addGroupsSQL = ADD_GROUP_TO_ROLE_SQL_MSSQL;
                         }
                         processBatchUpdateForGroups(roleName, groupNamesList, tenantId, primaryDomainName, connection,
@@ -329,9 +323,9 @@ public class RoleDAOImpl implements RoleDAO {
         List<RoleBasicInfo> roles;
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesRetrievalQuery(databaseProductName), RoleTableColumns.UM_ID)) {
+                    getDBTypeSpecificRolesRetrievalQuery(dialect), RoleTableColumns.UM_ID)) {
                 statement.setInt(RoleTableColumns.UM_TENANT_ID, tenantId);
                 roles = processListRolesQuery(limit, offset, statement, tenantDomain);
             }
@@ -357,9 +351,9 @@ public class RoleDAOImpl implements RoleDAO {
         List<RoleBasicInfo> roles;
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesRetrievalQueryByRoleName(databaseProductName), RoleTableColumns.UM_ID)) {
+                    getDBTypeSpecificRolesRetrievalQueryByRoleName(dialect), RoleTableColumns.UM_ID)) {
                 statement.setInt(RoleTableColumns.UM_TENANT_ID, tenantId);
                 statement.setString(RoleTableColumns.UM_ROLE_NAME, filterResolvedForSQL);
                 roles = processListRolesQuery(limit, offset, statement, tenantDomain);
@@ -446,76 +440,79 @@ public class RoleDAOImpl implements RoleDAO {
         return sqlfilter;
     }
 
-    private String getDBTypeSpecificRolesRetrievalQueryByRoleName(String databaseProductName)
+    private String getDBTypeSpecificRolesRetrievalQueryByRoleName(Dialect dialect)
             throws IdentityRoleManagementException {
 
-        if (MY_SQL.equals(databaseProductName)
-                || MARIADB.equals(databaseProductName)
-                || H2.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_MYSQL;
-        } else if (ORACLE.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_ORACLE;
-        } else if (MICROSOFT.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_MSSQL;
-        } else if (POSTGRE_SQL.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_DB2;
-        } else if (INFORMIX.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_INFORMIX;
-        }
-
-        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while listing roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_MYSQL;
+            case ORACLE:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_ORACLE;
+            case MSSQL:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_MSSQL;
+            case POSTGRESQL:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_POSTGRESQL;
+            case DB2:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_DB2;
+            case INFORMIX:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_WITH_UUID_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while listing roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
+        }
     }
 
-    private String getDBTypeSpecificRolesRetrievalQuery(String databaseProductName)
+    private String getDBTypeSpecificRolesRetrievalQuery(Dialect dialect)
             throws IdentityRoleManagementException {
 
-        if (MY_SQL.equals(databaseProductName)
-                || MARIADB.equals(databaseProductName)
-                || H2.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_MYSQL;
-        } else if (ORACLE.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_ORACLE;
-        } else if (MICROSOFT.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_MSSQL;
-        } else if (POSTGRE_SQL.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_DB2;
-        } else if (INFORMIX.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_WITH_UUID_INFORMIX;
-        }
-
-        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while listing roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return GET_ROLES_BY_TENANT_WITH_UUID_MYSQL;
+            case ORACLE:
+                return GET_ROLES_BY_TENANT_WITH_UUID_ORACLE;
+            case MSSQL:
+                return GET_ROLES_BY_TENANT_WITH_UUID_MSSQL;
+            case POSTGRESQL:
+                return GET_ROLES_BY_TENANT_WITH_UUID_POSTGRESQL;
+            case DB2:
+                return GET_ROLES_BY_TENANT_WITH_UUID_DB2;
+            case INFORMIX:
+                return GET_ROLES_BY_TENANT_WITH_UUID_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while listing roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
+        }
     }
 
-    private String getDBTypeSpecificRolesCountQuery(String databaseProductName)
+    private String getDBTypeSpecificRolesCountQuery(Dialect dialect)
             throws IdentityRoleManagementException {
 
-        if (MY_SQL.equals(databaseProductName)
-                || MARIADB.equals(databaseProductName)
-                || H2.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_MYSQL;
-        } else if (ORACLE.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_ORACLE;
-        } else if (MICROSOFT.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_MSSQL;
-        } else if (POSTGRE_SQL.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
-            return COUNT_ROLES_BY_TENANT_DB2;
-        } else if (INFORMIX.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_INFORMIX;
-        }
-
-        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while counting roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return COUNT_ROLES_BY_TENANT_MYSQL;
+            case ORACLE:
+                return COUNT_ROLES_BY_TENANT_ORACLE;
+            case MSSQL:
+                return COUNT_ROLES_BY_TENANT_MSSQL;
+            case POSTGRESQL:
+                return COUNT_ROLES_BY_TENANT_POSTGRESQL;
+            case DB2:
+                return COUNT_ROLES_BY_TENANT_DB2;
+            case INFORMIX:
+                return COUNT_ROLES_BY_TENANT_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while counting roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
+        }
     }
 
     /**
@@ -620,8 +617,8 @@ public class RoleDAOImpl implements RoleDAO {
             try {
                 // Add new users to the role.
                 String addUsersSQL = ADD_USER_TO_ROLE_SQL;
-                String databaseProductName = connection.getMetaData().getDatabaseProductName();
-                if (MICROSOFT.equals(databaseProductName)) {
+                Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
+                if (dialect == Dialect.MSSQL) {
                     addUsersSQL = ADD_USER_TO_ROLE_SQL_MSSQL;
                 }
                 processBatchUpdateForUsers(roleName, newUserNamesList, tenantId, primaryDomainName, connection,
@@ -755,8 +752,8 @@ public class RoleDAOImpl implements RoleDAO {
             try {
                 // Add new groups to the role.
                 String addGroupsSQL = ADD_GROUP_TO_ROLE_SQL;
-                String databaseProductName = connection.getMetaData().getDatabaseProductName();
-                if (MICROSOFT.equals(databaseProductName)) {
+                Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
+                if (dialect == Dialect.MSSQL) {
                     addGroupsSQL = ADD_GROUP_TO_ROLE_SQL_MSSQL;
                 }
                 processBatchUpdateForGroups(roleName, newGroupNamesList, tenantId, primaryDomainName, connection,
@@ -1604,9 +1601,9 @@ public class RoleDAOImpl implements RoleDAO {
 
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesCountQuery(databaseProductName))) {
+                    getDBTypeSpecificRolesCountQuery(dialect))) {
                 statement.setInt(RoleTableColumns.UM_TENANT_ID, tenantId);
                 try (ResultSet resultSet = statement.executeQuery()) {
                     if (resultSet.next()) {
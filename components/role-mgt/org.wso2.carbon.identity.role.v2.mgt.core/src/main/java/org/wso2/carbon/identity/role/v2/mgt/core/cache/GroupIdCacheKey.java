@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the role ID list of a group.
+ */
+public class GroupIdCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 6520881793406752231L;
+
+    private final String groupId;
+
+    public GroupIdCacheKey(String groupId) {
+
+        this.groupId = groupId;
+    }
+
+    public String getGroupId() {
+
+        return groupId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof GroupIdCacheKey)) {
+            return false;
+        }
+        return groupId.equals(((GroupIdCacheKey) o).getGroupId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return groupId.hashCode();
+    }
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.ROLE_NOT_FOUND;
+
+/**
+ * Cached DAO layer for the role management. Caches the basic information and the permissions of roles, and the IDs of
+ * the roles assigned to users and groups, which are read on every token issuance and authorization check.
+ * The entries are invalidated by the write operations of this DAO, and by the user operation event listener when users
+ * and groups are changed through the user store manager.
+ */
+public class CacheBackedRoleDAO implements RoleDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedRoleDAO.class);
+
+    private final RoleDAO roleDAO;
+    private final RoleBasicInfoCache roleBasicInfoCache;
+    private final RolePermissionCache rolePermissionCache;
+    private final UserRoleIdCache userRoleIdCache;
+    private final GroupRoleIdCache groupRoleIdCache;
+
+    public CacheBackedRoleDAO(RoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+        roleBasicInfoCache = RoleBasicInfoCache.getInstance();
+        rolePermissionCache = RolePermissionCache.getInstance();
+        userRoleIdCache = UserRoleIdCache.getInstance();
+        groupRoleIdCache = GroupRoleIdCache.getInstance();
+    }
+
+    @Override
+    public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
+                                 List<Permission> permissions, String audience, String audienceId,
+                                 String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleBasicInfo roleBasicInfo = roleDAO.addRole(roleName, userList, groupList, permissions, audience,
+                audienceId, tenantDomain);
+        clearUserRoleIdCache(userList, tenantDomain);
+        clearGroupRoleIdCache(groupList, tenantDomain);
+        return roleBasicInfo;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder,
+                                        String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder, String tenantDomain,
+                               List<String> requiredAttributes) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset,
+                                        String sortBy, String sortOrder, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset, String sortBy,
+                               String sortOrder, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public Role getRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public Role getRole(String roleId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId);
+    }
+
+    @Override
+    public List<Permission> getPermissionListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getPermissionListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Set<String> permissions = new LinkedHashSet<>();
+        for (String roleId : roleIds) {
+            RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+            RolePermissionCacheEntry entry = rolePermissionCache.getValueFromCache(cacheKey, tenantDomain);
+            if (entry == null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cache entry not found for the permissions of role: " + roleId + ". Fetching from DB.");
+                }
+                entry = new RolePermissionCacheEntry(
+                        roleDAO.getPermissionListOfRoles(Collections.singletonList(roleId), tenantDomain));
+                rolePermissionCache.addToCache(cacheKey, entry, tenantDomain);
+            }
+            permissions.addAll(entry.getPermissionNames());
+        }
+        return new ArrayList<>(permissions);
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        // Shared roles inherit the permissions of the main role.
+        rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        for (RoleDTO sharedRole : getSharedHybridRolesOrEmpty(roleId, tenantDomain)) {
+            rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(sharedRole.getId()), sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public List<IdpGroup> getIdpGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getIdpGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateIdpGroupListOfRole(String roleId, List<IdpGroup> newGroupList, List<IdpGroup> deletedGroupList,
+                                         String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateIdpGroupListOfRole(roleId, newGroupList, deletedGroupList, tenantDomain);
+    }
+
+    @Override
+    public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        // The shared roles are deleted along with the main role. Hence, they are resolved before the deletion.
+        List<RoleDTO> sharedRoles = getSharedHybridRolesOrEmpty(roleId, tenantDomain);
+        roleDAO.deleteRole(roleId, tenantDomain);
+        clearRoleCaches(roleId, tenantDomain);
+        // The users and the groups of the deleted role are not known at this point.
+        userRoleIdCache.clear(tenantDomain);
+        groupRoleIdCache.clear(tenantDomain);
+        for (RoleDTO sharedRole : sharedRoles) {
+            clearRoleCaches(sharedRole.getId(), sharedRole.getTenantId());
+            userRoleIdCache.clear(sharedRole.getTenantId());
+            groupRoleIdCache.clear(sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public void updateRoleName(String roleId, String newRoleName, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.updateRoleName(roleId, newRoleName, tenantDomain);
+        // The names of the shared roles are updated along with the main role.
+        roleBasicInfoCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        for (RoleDTO sharedRole : getSharedHybridRolesOrEmpty(roleId, tenantDomain)) {
+            roleBasicInfoCache.clearCacheEntry(new RoleIdCacheKey(sharedRole.getId()), sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getUserListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateGroupListOfRole(String roleId, List<String> newGroupIDList, List<String> deletedGroupIDList,
+                                      String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateGroupListOfRole(roleId, newGroupIDList, deletedGroupIDList, tenantDomain);
+        clearGroupRoleIdCache(newGroupIDList, tenantDomain);
+        clearGroupRoleIdCache(deletedGroupIDList, tenantDomain);
+    }
+
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
+                                     String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateUserListOfRole(roleId, newUserIDList, deletedUserIDList, tenantDomain);
+        clearUserRoleIdCache(newUserIDList, tenantDomain);
+        clearUserRoleIdCache(deletedUserIDList, tenantDomain);
+    }
+
+    @Override
+    public String getRoleNameByID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return getRoleBasicInfoCacheEntry(roleId, tenantDomain).getName();
+    }
+
+    @Override
+    public String getRoleIdByName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdByName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        if (roleBasicInfoCache.getValueFromCache(new RoleIdCacheKey(roleId), tenantDomain) != null) {
+            return true;
+        }
+        return roleDAO.isExistingRoleID(roleId, tenantDomain);
+    }
+
+    @Override
+    public RoleBasicInfo getRoleBasicInfoById(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return getRoleBasicInfoCacheEntry(roleId, tenantDomain).getRoleBasicInfo();
+    }
+
+    @Override
+    public Set<String> getSystemRoles() {
+
+        return roleDAO.getSystemRoles();
+    }
+
+    @Override
+    public int getRolesCount(String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(tenantDomain);
+    }
+
+    @Override
+    public int getRolesCount(List<ExpressionNode> expressionNodes, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(expressionNodes, tenantDomain);
+    }
+
+    @Override
+    public Role getRoleWithoutUsers(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleWithoutUsers(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(String mainRoleUUID, String sharedRoleUUID,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.addMainRoleToSharedRoleRelationship(mainRoleUUID, sharedRoleUUID, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        // The shared role inherits the permissions of the main role from now on.
+        rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(sharedRoleUUID), sharedRoleTenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        try {
+            return getRoleBasicInfoList(getRoleIdListOfUser(userId, tenantDomain), tenantDomain);
+        } catch (IdentityRoleManagementClientException e) {
+            if (!ROLE_NOT_FOUND.getCode().equals(e.getErrorCode())) {
+                throw e;
+            }
+            // A cached role assignment refers to a role which is deleted without going through this DAO.
+            userRoleIdCache.clearCacheEntry(new UserIdCacheKey(userId), tenantDomain);
+            return roleDAO.getRoleListOfUser(userId, tenantDomain);
+        }
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        try {
+            return getRoleBasicInfoList(getRoleIdListOfGroups(groupIds, tenantDomain), tenantDomain);
+        } catch (IdentityRoleManagementClientException e) {
+            if (!ROLE_NOT_FOUND.getCode().equals(e.getErrorCode())) {
+                throw e;
+            }
+            clearGroupRoleIdCache(groupIds, tenantDomain);
+            return roleDAO.getRoleListOfGroups(groupIds, tenantDomain);
+        }
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        UserIdCacheKey cacheKey = new UserIdCacheKey(userId);
+        RoleIdListCacheEntry entry = userRoleIdCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache entry not found for the roles of user: " + userId + ". Fetching from DB.");
+            }
+            entry = new RoleIdListCacheEntry(roleDAO.getRoleIdListOfUser(userId, tenantDomain));
+            userRoleIdCache.addToCache(cacheKey, entry, tenantDomain);
+        }
+        return new ArrayList<>(entry.getRoleIds());
+    }
+
+    @Override
+    public List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(groupIds)) {
+            return new ArrayList<>();
+        }
+        Set<String> roleIds = new LinkedHashSet<>();
+        for (String groupId : groupIds) {
+            GroupIdCacheKey cacheKey = new GroupIdCacheKey(groupId);
+            RoleIdListCacheEntry entry = groupRoleIdCache.getValueFromCache(cacheKey, tenantDomain);
+            if (entry == null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cache entry not found for the roles of group: " + groupId + ". Fetching from DB.");
+                }
+                entry = new RoleIdListCacheEntry(
+                        roleDAO.getRoleIdListOfGroups(Collections.singletonList(groupId), tenantDomain));
+                groupRoleIdCache.addToCache(cacheKey, entry, tenantDomain);
+            }
+            roleIds.addAll(entry.getRoleIds());
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public void deleteRolesByApplication(String applicationId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.deleteRolesByApplication(applicationId, tenantDomain);
+        roleBasicInfoCache.clear(tenantDomain);
+        rolePermissionCache.clear(tenantDomain);
+        userRoleIdCache.clear(tenantDomain);
+        groupRoleIdCache.clear(tenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getMainRoleToSharedRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getMainRoleToSharedRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getSharedRoleToMainRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedRoleToMainRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public List<String> getAssociatedApplicationIdsByRoleId(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getAssociatedApplicationIdsByRoleId(roleId, tenantDomain);
+    }
+
+    @Override
+    public int getRoleAudienceRefId(String audience, String audienceId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleAudienceRefId(audience, audienceId);
+    }
+
+    @Override
+    public List<RoleDTO> getSharedHybridRoles(String roleId, int tenantId) throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedHybridRoles(roleId, tenantId);
+    }
+
+    @Override
+    public boolean isSharedRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isSharedRole(roleId, tenantDomain);
+    }
+
+    private RoleBasicInfoCacheEntry getRoleBasicInfoCacheEntry(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+        RoleBasicInfoCacheEntry entry = roleBasicInfoCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            return entry;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache entry not found for role: " + roleId + ". Fetching from DB.");
+        }
+        entry = new RoleBasicInfoCacheEntry(roleDAO.getRoleBasicInfoById(roleId, tenantDomain));
+        roleBasicInfoCache.addToCache(cacheKey, entry, tenantDomain);
+        return entry;
+    }
+
+    private List<RoleBasicInfo> getRoleBasicInfoList(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<RoleBasicInfo> roles = new ArrayList<>(roleIds.size());
+        for (String roleId : roleIds) {
+            roles.add(getRoleBasicInfoById(roleId, tenantDomain));
+        }
+        return roles;
+    }
+
+    private List<RoleDTO> getSharedHybridRolesOrEmpty(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<RoleDTO> sharedRoles = roleDAO.getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        return sharedRoles == null ? Collections.emptyList() : sharedRoles;
+    }
+
+    private void clearRoleCaches(String roleId, String tenantDomain) {
+
+        RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+        roleBasicInfoCache.clearCacheEntry(cacheKey, tenantDomain);
+        rolePermissionCache.clearCacheEntry(cacheKey, tenantDomain);
+    }
+
+    private void clearRoleCaches(String roleId, int tenantId) {
+
+        RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+        roleBasicInfoCache.clearCacheEntry(cacheKey, tenantId);
+        rolePermissionCache.clearCacheEntry(cacheKey, tenantId);
+    }
+
+    private void clearUserRoleIdCache(List<String> userIds, String tenantDomain) {
+
+        if (CollectionUtils.isEmpty(userIds)) {
+            return;
+        }
+        for (String userId : userIds) {
+            userRoleIdCache.clearCacheEntry(new UserIdCacheKey(userId), tenantDomain);
+        }
+    }
+
+    private void clearGroupRoleIdCache(List<String> groupIds, String tenantDomain) {
+
+        if (CollectionUtils.isEmpty(groupIds)) {
+            return;
+        }
+        for (String groupId : groupIds) {
+            groupRoleIdCache.clearCacheEntry(new GroupIdCacheKey(groupId), tenantDomain);
+        }
+    }
+}
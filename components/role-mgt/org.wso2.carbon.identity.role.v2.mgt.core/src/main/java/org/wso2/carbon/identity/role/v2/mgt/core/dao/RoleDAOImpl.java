@@ -38,6 +38,8 @@ import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
@@ -96,7 +98,6 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.APPLICATION;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.CONSOLE_ORG_SCOPE_PREFIX;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.CONSOLE_SCOPE_PREFIX;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.DB2;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.INVALID_LIMIT;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.INVALID_OFFSET;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.INVALID_REQUEST;
@@ -106,17 +107,10 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.ROLE
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.ROLE_NOT_FOUND;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.SORTING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.H2;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.INFORMIX;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.INTERNAL_DOMAIN;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.INTERNAL_ORG_SCOPE_PREFIX;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.INTERNAL_SCOPE_PREFIX;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.MARIADB;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.MICROSOFT;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.MY_SQL;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.ORACLE;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.ORGANIZATION;
-import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.POSTGRE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.RoleTableColumns.ROLE_NAME;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.RoleTableColumns.USER_NOT_FOUND_ERROR_MESSAGE;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.SYSTEM;
@@ -252,11 +246,11 @@ public class RoleDAOImpl implements RoleDAO {
                         statement.executeUpdate();
                     }
 
-                    String databaseProductName = connection.getMetaData().getDatabaseProductName();
+                    Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
                     // Add users to the created role.
                     if (CollectionUtils.isNotEmpty(userList)) {
                         String addUsersSQL = ADD_USER_TO_ROLE_SQL;
-                        if (MICROSOFT.equals(databaseProductName)) {
+                        if (dialect == Dialect.MSSQL) {
                             addUsersSQL = ADD_USER_TO_ROLE_SQL_MSSQL;
                         }
                         processBatchUpdateForUsers(roleName, audienceRefId, userNamesList, tenantId,
@@ -271,7 +265,7 @@ public class RoleDAOImpl implements RoleDAO {
                     if (CollectionUtils.isNotEmpty(groupList)) {
                         List<String> groupNamesList = new ArrayList<>(groupIdsToNames.values());
                         String addGroupsSQL = ADD_GROUP_TO_ROLE_SQL;
-                        if (MICROSOFT.equals(databaseProductName)) {
+                        if (dialect == Dialect.MSSQL) {
                             addGroupsSQL = ADD_GROUP_TO_ROLE_SQL_MSSQL;
                         }
                         processBatchUpdateForGroups(roleName, audienceRefId, groupNamesList, tenantId,
@@ -319,9 +313,9 @@ public class RoleDAOImpl implements RoleDAO {
         List<RoleBasicInfo> roles;
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesRetrievalQuery(databaseProductName), RoleConstants.RoleTableColumns.UM_ID)) {
+                    getDBTypeSpecificRolesRetrievalQuery(dialect), RoleConstants.RoleTableColumns.UM_ID)) {
                 statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
                 roles = processListRolesQuery(limit, offset, statement, tenantDomain);
             }
@@ -402,9 +396,9 @@ public class RoleDAOImpl implements RoleDAO {
         List<RoleBasicInfo> roles;
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesRetrievalQueryByFilter(databaseProductName,
+                    getDBTypeSpecificRolesRetrievalQueryByFilter(dialect,
                             filterQueryBuilder.getFilterQuery()),
                     RoleConstants.RoleTableColumns.UM_ID)) {
                 statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
@@ -953,9 +947,9 @@ public class RoleDAOImpl implements RoleDAO {
 
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    getDBTypeSpecificRolesCountQuery(databaseProductName))) {
+                    getDBTypeSpecificRolesCountQuery(dialect))) {
                 statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID,
                         tenantId);
                 try (ResultSet resultSet = statement.executeQuery()) {
@@ -2541,125 +2535,131 @@ public class RoleDAOImpl implements RoleDAO {
     /**
      * Get type specific role retrieval query.
      *
-     * @param databaseProductName DB type.
+     * @param dialect SQL dialect.
      * @return sql query.
      * @throws IdentityRoleManagementException IdentityRoleManagementException.
      */
-    private String getDBTypeSpecificRolesRetrievalQuery(String databaseProductName)
+    private String getDBTypeSpecificRolesRetrievalQuery(Dialect dialect)
             throws IdentityRoleManagementException {
 
-        if (MY_SQL.equals(databaseProductName)
-                || MARIADB.equals(databaseProductName)
-                || H2.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_MYSQL;
-        } else if (ORACLE.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_ORACLE;
-        } else if (MICROSOFT.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_MSSQL;
-        } else if (POSTGRE_SQL.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
-            return GET_ROLES_BY_TENANT_DB2;
-        } else if (INFORMIX.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_INFORMIX;
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return GET_ROLES_BY_TENANT_MYSQL;
+            case ORACLE:
+                return GET_ROLES_BY_TENANT_ORACLE;
+            case MSSQL:
+                return GET_ROLES_BY_TENANT_MSSQL;
+            case POSTGRESQL:
+                return GET_ROLES_BY_TENANT_POSTGRESQL;
+            case DB2:
+                return GET_ROLES_BY_TENANT_DB2;
+            case INFORMIX:
+                return GET_ROLES_BY_TENANT_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while listing roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
         }
-
-        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while listing roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
     }
 
     /**
      * Get type specific role retrieval query with filter.
      *
-     * @param databaseProductName DB type.
+     * @param dialect             SQL dialect.
      * @param filterQuery         Filter query.
      * @return sql query.
      * @throws IdentityRoleManagementException IdentityRoleManagementException.
      */
-    private String getDBTypeSpecificRolesRetrievalQueryByFilter(String databaseProductName, String filterQuery)
+    private String getDBTypeSpecificRolesRetrievalQueryByFilter(Dialect dialect, String filterQuery)
             throws IdentityRoleManagementException {
 
-        if (RoleConstants.MY_SQL.equals(databaseProductName)
-                || RoleConstants.MARIADB.equals(databaseProductName)
-                || RoleConstants.H2.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_MYSQL + filterQuery + GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_MYSQL;
-        } else if (RoleConstants.ORACLE.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_ORACLE + filterQuery +
-                    GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_ORACLE;
-        } else if (RoleConstants.MICROSOFT.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_MSSQL + filterQuery + GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_MSSQL;
-        } else if (RoleConstants.POSTGRE_SQL.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_POSTGRESQL + filterQuery +
-                    GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(RoleConstants.DB2)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_DB2 + filterQuery + GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_DB2;
-        } else if (RoleConstants.INFORMIX.equals(databaseProductName)) {
-            return GET_ROLES_BY_TENANT_AND_ROLE_NAME_INFORMIX + filterQuery +
-                    GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_INFORMIX;
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_MYSQL + filterQuery +
+                        GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_MYSQL;
+            case ORACLE:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_ORACLE + filterQuery +
+                        GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_ORACLE;
+            case MSSQL:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_MSSQL + filterQuery +
+                        GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_MSSQL;
+            case POSTGRESQL:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_POSTGRESQL + filterQuery +
+                        GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_POSTGRESQL;
+            case DB2:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_DB2 + filterQuery + GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_DB2;
+            case INFORMIX:
+                return GET_ROLES_BY_TENANT_AND_ROLE_NAME_INFORMIX + filterQuery +
+                        GET_ROLES_BY_TENANT_AND_ROLE_NAME_TAIL_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while listing roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
         }
-
-        throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while listing roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
     }
 
     /**
      * Get type specific role count query.
      *
-     * @param databaseProductName DB type.
+     * @param dialect SQL dialect.
      * @return sql query.
      * @throws IdentityRoleManagementException IdentityRoleManagementException.
      */
-    private String getDBTypeSpecificRolesCountQuery(String databaseProductName) throws IdentityRoleManagementException {
-
-        if (RoleConstants.MY_SQL.equals(databaseProductName)
-                || RoleConstants.MARIADB.equals(databaseProductName)
-                || RoleConstants.H2.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_MYSQL;
-        } else if (RoleConstants.ORACLE.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_ORACLE;
-        } else if (RoleConstants.MICROSOFT.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_MSSQL;
-        } else if (RoleConstants.POSTGRE_SQL.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_POSTGRESQL;
-        } else if (databaseProductName != null && databaseProductName.contains(RoleConstants.DB2)) {
-            return COUNT_ROLES_BY_TENANT_DB2;
-        } else if (RoleConstants.INFORMIX.equals(databaseProductName)) {
-            return COUNT_ROLES_BY_TENANT_INFORMIX;
+    private String getDBTypeSpecificRolesCountQuery(Dialect dialect) throws IdentityRoleManagementException {
+
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+                return COUNT_ROLES_BY_TENANT_MYSQL;
+            case ORACLE:
+                return COUNT_ROLES_BY_TENANT_ORACLE;
+            case MSSQL:
+                return COUNT_ROLES_BY_TENANT_MSSQL;
+            case POSTGRESQL:
+                return COUNT_ROLES_BY_TENANT_POSTGRESQL;
+            case DB2:
+                return COUNT_ROLES_BY_TENANT_DB2;
+            case INFORMIX:
+                return COUNT_ROLES_BY_TENANT_INFORMIX;
+            default:
+                throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while counting roles from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
         }
-
-        throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while counting roles from DB. Database driver for " + databaseProductName
-                        + "could not be identified or not supported.");
     }
 
     /**
      * Retrieves the type-specific SQL query for fetching a user list by role.
      *
-     * @param databaseProductName DB type.
+     * @param dialect SQL dialect.
      * @return SQL query.
      * @throws IdentityRoleManagementException If the database type is unsupported.
      */
-    private String getDBTypeSpecificUserListByRoleQuery(String databaseProductName)
+    private String getDBTypeSpecificUserListByRoleQuery(Dialect dialect)
             throws IdentityRoleManagementException {
 
-        if (MY_SQL.equals(databaseProductName)
-                || MARIADB.equals(databaseProductName)
-                || POSTGRE_SQL.equals(databaseProductName)
-                || H2.equals(databaseProductName)) {
-            return GET_LIMITED_USER_LIST_OF_ROLE_SQL;
-        } else if (databaseProductName != null && databaseProductName.contains(RoleConstants.DB2)) {
-            return GET_LIMITED_USER_LIST_OF_ROLE_DB2;
-        } else if (ORACLE.equals(databaseProductName)) {
-            return GET_LIMITED_USER_LIST_OF_ROLE_ORACLE;
-        } else if (MICROSOFT.equals(databaseProductName)) {
-            return GET_LIMITED_USER_LIST_OF_ROLE_MSSQL;
+        switch (dialect) {
+            case MYSQL:
+            case MARIADB:
+            case H2:
+            case POSTGRESQL:
+                return GET_LIMITED_USER_LIST_OF_ROLE_SQL;
+            case DB2:
+                return GET_LIMITED_USER_LIST_OF_ROLE_DB2;
+            case ORACLE:
+                return GET_LIMITED_USER_LIST_OF_ROLE_ORACLE;
+            case MSSQL:
+                return GET_LIMITED_USER_LIST_OF_ROLE_MSSQL;
+            default:
+                throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                        "Error while listing users by role from DB. Database dialect " + dialect
+                                + " could not be identified or not supported.");
         }
-
-        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
-                "Error while listing users by role from DB. Database driver for " + databaseProductName
-                        + " could not be identified or not supported.");
     }
 
     /**
@@ -2727,6 +2727,24 @@ public class RoleDAOImpl implements RoleDAO {
     @Override
     public String getRoleNameByID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
 
+        String roleName = getRoleNameByIDIfExists(roleId, tenantDomain);
+        if (roleName == null) {
+            String errorMessage = "A role doesn't exist with id: " + roleId + " in the tenantDomain: " + tenantDomain;
+            throw new IdentityRoleManagementClientException(ROLE_NOT_FOUND.getCode(), errorMessage);
+        }
+        return roleName;
+    }
+
+    /**
+     * Get the role name of the given role ID.
+     *
+     * @param roleId       Role ID.
+     * @param tenantDomain Tenant domain.
+     * @return Role name without the internal domain or null if the role does not exist.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private String getRoleNameByIDIfExists(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         String roleName = null;
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
@@ -2755,8 +2773,7 @@ public class RoleDAOImpl implements RoleDAO {
                     errorMessage, e);
         }
         if (roleName == null) {
-            String errorMessage = "A role doesn't exist with id: " + roleId + " in the tenantDomain: " + tenantDomain;
-            throw new IdentityRoleManagementClientException(ROLE_NOT_FOUND.getCode(), errorMessage);
+            return null;
         }
         return removeInternalDomain(roleName);
     }
@@ -2911,8 +2928,8 @@ public class RoleDAOImpl implements RoleDAO {
         List<String> disabledDomainName = getDisabledDomainNames();
         int audienceRefId = getAudienceRefByID(roleId, tenantDomain);
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            String databaseProductName = connection.getMetaData().getDatabaseProductName();
-            String query = getDBTypeSpecificUserListByRoleQuery(databaseProductName);
+            Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
+            String query = getDBTypeSpecificUserListByRoleQuery(dialect);
 
             try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
                 statement.setString(RoleConstants.RoleTableColumns.UM_ROLE_NAME, roleName);
@@ -2965,11 +2982,12 @@ public class RoleDAOImpl implements RoleDAO {
                                       List<String> deletedGroupIDList, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        if (!isExistingRoleID(roleId, tenantDomain)) {
+        // Resolve the role name and check the existence of the role with a single query.
+        String roleName = getRoleNameByIDIfExists(roleId, tenantDomain);
+        if (roleName == null) {
             throw new IdentityRoleManagementClientException(ROLE_NOT_FOUND.getCode(),
                     "Role id: " + roleId + " does not exist in the system.");
         }
-        String roleName = getRoleNameByID(roleId, tenantDomain);
         // Validate the group removal operation based on the default system roles.
         validateGroupRemovalFromRole(deletedGroupIDList, roleName, tenantDomain);
         if (CollectionUtils.isEmpty(newGroupIDList) && CollectionUtils.isEmpty(deletedGroupIDList)) {
@@ -2993,8 +3011,8 @@ public class RoleDAOImpl implements RoleDAO {
             try {
                 // Add new groups to the role.
                 String addGroupsSQL = ADD_GROUP_TO_ROLE_SQL;
-                String databaseProductName = connection.getMetaData().getDatabaseProductName();
-                if (RoleConstants.MICROSOFT.equals(databaseProductName)) {
+                Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
+                if (dialect == Dialect.MSSQL) {
                     addGroupsSQL = SQLQueries.ADD_GROUP_TO_ROLE_SQL_MSSQL;
                 }
                 processBatchUpdateForGroups(roleName, audienceRefId, newGroupNamesList, tenantId, primaryDomainName,
@@ -3147,11 +3165,12 @@ public class RoleDAOImpl implements RoleDAO {
     public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
                                      String tenantDomain) throws IdentityRoleManagementException {
 
-        if (!isExistingRoleID(roleId, tenantDomain)) {
+        // Resolve the role name and check the existence of the role with a single query.
+        String roleName = getRoleNameByIDIfExists(roleId, tenantDomain);
+        if (roleName == null) {
             throw new IdentityRoleManagementClientException(RoleConstants.Error.ROLE_NOT_FOUND.getCode(),
                     "Role id: " + roleId + " does not exist in the system.");
         }
-        String roleName = getRoleNameByID(roleId, tenantDomain);
         if (CollectionUtils.isEmpty(newUserIDList) && CollectionUtils.isEmpty(deletedUserIDList)) {
             LOG.debug("User lists are empty.");
             return;
@@ -3172,8 +3191,8 @@ public class RoleDAOImpl implements RoleDAO {
             try {
                 // Add new users to the role.
                 String addUsersSQL = SQLQueries.ADD_USER_TO_ROLE_SQL;
-                String databaseProductName = connection.getMetaData().getDatabaseProductName();
-                if (RoleConstants.MICROSOFT.equals(databaseProductName)) {
+                Dialect dialect = SqlDialectRegistry.getInstance().getUserDBDialect(connection);
+                if (dialect == Dialect.MSSQL) {
                     addUsersSQL = SQLQueries.ADD_USER_TO_ROLE_SQL_MSSQL;
                 }
                 processBatchUpdateForUsers(roleName, audienceRefId, newUserNamesList, tenantId, primaryDomainName,
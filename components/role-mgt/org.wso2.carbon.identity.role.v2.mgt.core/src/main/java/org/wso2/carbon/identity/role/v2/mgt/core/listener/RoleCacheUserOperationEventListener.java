@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleIdCache;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+/**
+ * User operation event listener which invalidates the cached role data, when users and groups are changed through
+ * the user store manager instead of the role management service. E.g. JIT provisioning.
+ * The role assignments of a group are resolved through the group, hence a change to a group, i.e. a deletion, a
+ * rename or a membership change, invalidates all the cached role data of the tenant.
+ */
+public class RoleCacheUserOperationEventListener extends AbstractIdentityUserOperationEventListener {
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 99;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleListOfUserWithID(String userID, String[] deletedRoles, String[] newRoles,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearRoleCaches(userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfRoleWithID(String roleName, String[] deletedUserIDs, String[] newUserIDs,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearRoleCaches(userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        UserRoleIdCache.getInstance().clearCacheEntry(new UserIdCacheKey(userID), userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearRoleCaches(userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleName(String roleName, String newRoleName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearRoleCaches(userStoreManager.getTenantId());
+        return true;
+    }
+
+    private void clearRoleCaches(int tenantId) {
+
+        UserRoleIdCache.getInstance().clear(tenantId);
+        GroupRoleIdCache.getInstance().clear(tenantId);
+        RolePermissionCache.getInstance().clear(tenantId);
+        RoleBasicInfoCache.getInstance().clear(tenantId);
+    }
+}
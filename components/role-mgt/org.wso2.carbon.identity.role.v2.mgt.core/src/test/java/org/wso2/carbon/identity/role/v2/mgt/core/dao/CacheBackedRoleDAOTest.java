@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link CacheBackedRoleDAO}.
+ */
+public class CacheBackedRoleDAOTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+    private static final String ROLE_ID = "role-id-1";
+    private static final String USER_ID = "user-id-1";
+
+    private RoleDAO roleDAO;
+    private RoleBasicInfoCache roleBasicInfoCache;
+    private RolePermissionCache rolePermissionCache;
+    private UserRoleIdCache userRoleIdCache;
+    private GroupRoleIdCache groupRoleIdCache;
+    private CacheBackedRoleDAO cacheBackedRoleDAO;
+
+    private MockedStatic<RoleBasicInfoCache> roleBasicInfoCacheStatic;
+    private MockedStatic<RolePermissionCache> rolePermissionCacheStatic;
+    private MockedStatic<UserRoleIdCache> userRoleIdCacheStatic;
+    private MockedStatic<GroupRoleIdCache> groupRoleIdCacheStatic;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        roleDAO = mock(RoleDAO.class);
+        roleBasicInfoCache = mock(RoleBasicInfoCache.class);
+        rolePermissionCache = mock(RolePermissionCache.class);
+        userRoleIdCache = mock(UserRoleIdCache.class);
+        groupRoleIdCache = mock(GroupRoleIdCache.class);
+
+        roleBasicInfoCacheStatic = mockStatic(RoleBasicInfoCache.class);
+        roleBasicInfoCacheStatic.when(RoleBasicInfoCache::getInstance).thenReturn(roleBasicInfoCache);
+        rolePermissionCacheStatic = mockStatic(RolePermissionCache.class);
+        rolePermissionCacheStatic.when(RolePermissionCache::getInstance).thenReturn(rolePermissionCache);
+        userRoleIdCacheStatic = mockStatic(UserRoleIdCache.class);
+        userRoleIdCacheStatic.when(UserRoleIdCache::getInstance).thenReturn(userRoleIdCache);
+        groupRoleIdCacheStatic = mockStatic(GroupRoleIdCache.class);
+        groupRoleIdCacheStatic.when(GroupRoleIdCache::getInstance).thenReturn(groupRoleIdCache);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+
+        cacheBackedRoleDAO = new CacheBackedRoleDAO(roleDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        roleBasicInfoCacheStatic.close();
+        rolePermissionCacheStatic.close();
+        userRoleIdCacheStatic.close();
+        groupRoleIdCacheStatic.close();
+        identityTenantUtil.close();
+    }
+
+    @Test
+    public void testGetRoleBasicInfoFromCache() throws Exception {
+
+        RoleBasicInfo roleBasicInfo = new RoleBasicInfo(ROLE_ID, "role1");
+        roleBasicInfo.setAudience("organization");
+        when(roleBasicInfoCache.getValueFromCache(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN))
+                .thenReturn(new RoleBasicInfoCacheEntry(roleBasicInfo));
+
+        RoleBasicInfo cachedRoleBasicInfo = cacheBackedRoleDAO.getRoleBasicInfoById(ROLE_ID, TENANT_DOMAIN);
+        assertEquals(cachedRoleBasicInfo.getName(), "role1");
+        assertEquals(cachedRoleBasicInfo.getAudience(), "organization");
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID(ROLE_ID, TENANT_DOMAIN), "role1");
+        verify(roleDAO, never()).getRoleBasicInfoById(anyString(), anyString());
+        verify(roleDAO, never()).getRoleNameByID(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetRoleBasicInfoOnCacheMiss() throws Exception {
+
+        when(roleDAO.getRoleBasicInfoById(ROLE_ID, TENANT_DOMAIN)).thenReturn(new RoleBasicInfo(ROLE_ID, "role1"));
+
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID(ROLE_ID, TENANT_DOMAIN), "role1");
+        verify(roleBasicInfoCache).addToCache(eq(new RoleIdCacheKey(ROLE_ID)), any(RoleBasicInfoCacheEntry.class),
+                eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetPermissionListOfRoles() throws Exception {
+
+        when(rolePermissionCache.getValueFromCache(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN))
+                .thenReturn(new RolePermissionCacheEntry(Arrays.asList("scope1", "scope2")));
+        when(roleDAO.getPermissionListOfRoles(Collections.singletonList("role-id-2"), TENANT_DOMAIN))
+                .thenReturn(Arrays.asList("scope2", "scope3"));
+
+        List<String> permissions = cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList(ROLE_ID, "role-id-2"),
+                TENANT_DOMAIN);
+        assertEquals(permissions, Arrays.asList("scope1", "scope2", "scope3"));
+        verify(roleDAO, never()).getPermissionListOfRoles(Collections.singletonList(ROLE_ID), TENANT_DOMAIN);
+        verify(rolePermissionCache).addToCache(eq(new RoleIdCacheKey("role-id-2")),
+                any(RolePermissionCacheEntry.class), eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetRoleListOfUserFromCache() throws Exception {
+
+        when(userRoleIdCache.getValueFromCache(new UserIdCacheKey(USER_ID), TENANT_DOMAIN))
+                .thenReturn(new RoleIdListCacheEntry(Collections.singletonList(ROLE_ID)));
+        when(roleBasicInfoCache.getValueFromCache(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN))
+                .thenReturn(new RoleBasicInfoCacheEntry(new RoleBasicInfo(ROLE_ID, "role1")));
+
+        List<RoleBasicInfo> roles = cacheBackedRoleDAO.getRoleListOfUser(USER_ID, TENANT_DOMAIN);
+        assertEquals(roles.size(), 1);
+        assertEquals(roles.get(0).getId(), ROLE_ID);
+        verify(roleDAO, never()).getRoleListOfUser(anyString(), anyString());
+        verify(roleDAO, never()).getRoleIdListOfUser(anyString(), anyString());
+    }
+
+    @Test
+    public void testUpdateUserListOfRoleClearsUserEntries() throws Exception {
+
+        cacheBackedRoleDAO.updateUserListOfRole(ROLE_ID, Collections.singletonList(USER_ID),
+                Collections.singletonList("user-id-2"), TENANT_DOMAIN);
+
+        verify(userRoleIdCache).clearCacheEntry(new UserIdCacheKey(USER_ID), TENANT_DOMAIN);
+        verify(userRoleIdCache).clearCacheEntry(new UserIdCacheKey("user-id-2"), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdateGroupListOfRoleClearsGroupEntries() throws Exception {
+
+        cacheBackedRoleDAO.updateGroupListOfRole(ROLE_ID, Collections.singletonList("group-id-1"),
+                Collections.emptyList(), TENANT_DOMAIN);
+
+        verify(groupRoleIdCache).clearCacheEntry(new GroupIdCacheKey("group-id-1"), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdatePermissionListOfRoleClearsSharedRoles() throws Exception {
+
+        when(roleDAO.getSharedHybridRoles(ROLE_ID, TENANT_ID))
+                .thenReturn(Collections.singletonList(new RoleDTO("role1", "shared-role-id", 1, 5)));
+
+        cacheBackedRoleDAO.updatePermissionListOfRole(ROLE_ID, Collections.singletonList(new Permission("scope1")),
+                Collections.emptyList(), TENANT_DOMAIN);
+
+        verify(rolePermissionCache).clearCacheEntry(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN);
+        verify(rolePermissionCache).clearCacheEntry(new RoleIdCacheKey("shared-role-id"), 5);
+    }
+
+    @Test
+    public void testDeleteRoleClearsCaches() throws Exception {
+
+        cacheBackedRoleDAO.deleteRole(ROLE_ID, TENANT_DOMAIN);
+
+        verify(roleDAO).deleteRole(ROLE_ID, TENANT_DOMAIN);
+        verify(roleBasicInfoCache).clearCacheEntry(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN);
+        verify(rolePermissionCache).clearCacheEntry(new RoleIdCacheKey(ROLE_ID), TENANT_DOMAIN);
+        verify(userRoleIdCache).clear(TENANT_DOMAIN);
+        verify(groupRoleIdCache).clear(TENANT_DOMAIN);
+    }
+}
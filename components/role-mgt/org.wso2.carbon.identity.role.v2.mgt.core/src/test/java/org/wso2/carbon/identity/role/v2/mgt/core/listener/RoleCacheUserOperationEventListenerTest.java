@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.dao.CacheBackedRoleDAO;
+import org.wso2.carbon.identity.role.v2.mgt.core.dao.RoleDAO;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link RoleCacheUserOperationEventListener}.
+ */
+public class RoleCacheUserOperationEventListenerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+    private static final String USER_ID = "user-id-1";
+    private static final String GROUP_NAME = "group1";
+
+    private RoleDAO roleDAO;
+    private RoleBasicInfoCache roleBasicInfoCache;
+    private GroupRoleIdCache groupRoleIdCache;
+    private UserStoreManager userStoreManager;
+    private CacheBackedRoleDAO cacheBackedRoleDAO;
+    private RoleCacheUserOperationEventListener listener;
+    private final Map<UserIdCacheKey, RoleIdListCacheEntry> userRoleIdEntries = new HashMap<>();
+    private final Map<RoleIdCacheKey, RolePermissionCacheEntry> rolePermissionEntries = new HashMap<>();
+
+    private MockedStatic<RoleBasicInfoCache> roleBasicInfoCacheStatic;
+    private MockedStatic<RolePermissionCache> rolePermissionCacheStatic;
+    private MockedStatic<UserRoleIdCache> userRoleIdCacheStatic;
+    private MockedStatic<GroupRoleIdCache> groupRoleIdCacheStatic;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        roleDAO = mock(RoleDAO.class);
+        roleBasicInfoCache = mock(RoleBasicInfoCache.class);
+        groupRoleIdCache = mock(GroupRoleIdCache.class);
+        userRoleIdEntries.clear();
+        rolePermissionEntries.clear();
+
+        // The user role ID and the role permission caches keep their entries, until they are cleared for the tenant.
+        UserRoleIdCache userRoleIdCache = mock(UserRoleIdCache.class);
+        when(userRoleIdCache.getValueFromCache(any(UserIdCacheKey.class), eq(TENANT_DOMAIN)))
+                .thenAnswer(invocation -> userRoleIdEntries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> userRoleIdEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(userRoleIdCache).addToCache(any(UserIdCacheKey.class), any(RoleIdListCacheEntry.class),
+                        eq(TENANT_DOMAIN));
+        doAnswer(invocation -> {
+            userRoleIdEntries.clear();
+            return null;
+        }).when(userRoleIdCache).clear(TENANT_ID);
+        RolePermissionCache rolePermissionCache = mock(RolePermissionCache.class);
+        when(rolePermissionCache.getValueFromCache(any(RoleIdCacheKey.class), eq(TENANT_DOMAIN)))
+                .thenAnswer(invocation -> rolePermissionEntries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> rolePermissionEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(rolePermissionCache).addToCache(any(RoleIdCacheKey.class), any(RolePermissionCacheEntry.class),
+                        eq(TENANT_DOMAIN));
+        doAnswer(invocation -> {
+            rolePermissionEntries.clear();
+            return null;
+        }).when(rolePermissionCache).clear(TENANT_ID);
+
+        roleBasicInfoCacheStatic = mockStatic(RoleBasicInfoCache.class);
+        roleBasicInfoCacheStatic.when(RoleBasicInfoCache::getInstance).thenReturn(roleBasicInfoCache);
+        rolePermissionCacheStatic = mockStatic(RolePermissionCache.class);
+        rolePermissionCacheStatic.when(RolePermissionCache::getInstance).thenReturn(rolePermissionCache);
+        userRoleIdCacheStatic = mockStatic(UserRoleIdCache.class);
+        userRoleIdCacheStatic.when(UserRoleIdCache::getInstance).thenReturn(userRoleIdCache);
+        groupRoleIdCacheStatic = mockStatic(GroupRoleIdCache.class);
+        groupRoleIdCacheStatic.when(GroupRoleIdCache::getInstance).thenReturn(groupRoleIdCache);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+
+        userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+        cacheBackedRoleDAO = new CacheBackedRoleDAO(roleDAO);
+        listener = new RoleCacheUserOperationEventListener();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        roleBasicInfoCacheStatic.close();
+        rolePermissionCacheStatic.close();
+        userRoleIdCacheStatic.close();
+        groupRoleIdCacheStatic.close();
+        identityTenantUtil.close();
+    }
+
+    @Test
+    public void testDeleteGroupRefreshesRoleIdsAndPermissionsOfUser() throws Exception {
+
+        when(roleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN)).thenReturn(Collections.singletonList("role-id-1"));
+        when(roleDAO.getPermissionListOfRoles(Collections.singletonList("role-id-1"), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope1"));
+        assertEquals(getPermissionsOfUser(), Collections.singletonList("scope1"));
+
+        // The role assignments of the user change along with the deletion of the group.
+        when(roleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN)).thenReturn(Collections.singletonList("role-id-2"));
+        when(roleDAO.getPermissionListOfRoles(Collections.singletonList("role-id-1"), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope2"));
+        when(roleDAO.getPermissionListOfRoles(Collections.singletonList("role-id-2"), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope3"));
+        assertEquals(getPermissionsOfUser(), Collections.singletonList("scope1"));
+
+        listener.doPostDeleteRole(GROUP_NAME, userStoreManager);
+
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN),
+                Collections.singletonList("role-id-2"));
+        assertEquals(getPermissionsOfUser(), Collections.singletonList("scope3"));
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList("role-id-1"),
+                TENANT_DOMAIN), Collections.singletonList("scope2"));
+        verify(groupRoleIdCache).clear(TENANT_ID);
+        verify(roleBasicInfoCache).clear(TENANT_ID);
+    }
+
+    @Test
+    public void testGroupRenameAndMembershipChangeClearRoleCaches() throws Exception {
+
+        when(roleDAO.getRoleIdListOfUser(anyString(), anyString())).thenReturn(Collections.singletonList("role-id-1"));
+        cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+
+        listener.doPostUpdateRoleName(GROUP_NAME, "group2", userStoreManager);
+        assertEquals(userRoleIdEntries.size(), 0);
+
+        cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+        listener.doPostUpdateUserListOfRoleWithID(GROUP_NAME, new String[0], new String[]{"user-id-2"},
+                userStoreManager);
+        assertEquals(userRoleIdEntries.size(), 0);
+
+        cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+        listener.doPostUpdateRoleListOfUserWithID(USER_ID, new String[]{GROUP_NAME}, new String[0],
+                userStoreManager);
+        assertEquals(userRoleIdEntries.size(), 0);
+    }
+
+    private List<String> getPermissionsOfUser() throws Exception {
+
+        return cacheBackedRoleDAO.getPermissionListOfRoles(
+                cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN), TENANT_DOMAIN);
+    }
+}
@@ -30,8 +30,10 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.rule.evaluation.api.provider.RuleEvaluationDataProvider;
 import org.wso2.carbon.identity.rule.evaluation.api.service.RuleEvaluationService;
+import org.wso2.carbon.identity.rule.evaluation.internal.listener.CompiledRuleInvalidationListener;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationDataManager;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationServiceImpl;
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
 import org.wso2.carbon.identity.rule.management.api.service.RuleManagementService;
 import org.wso2.carbon.identity.rule.metadata.api.service.RuleMetadataService;
 
@@ -52,6 +54,7 @@ public class RuleEvaluationServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.registerService(RuleEvaluationService.class, new RuleEvaluationServiceImpl(), null);
+            bundleCtx.registerService(RuleManagementListener.class, new CompiledRuleInvalidationListener(), null);
             LOG.debug("Rule evaluation bundle is activated.");
         } catch (Throwable e) {
             LOG.error("Error while initializing rule evaluation service component.", e);
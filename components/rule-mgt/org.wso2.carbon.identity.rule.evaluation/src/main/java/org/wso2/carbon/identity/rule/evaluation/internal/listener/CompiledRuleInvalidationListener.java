@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRuleCache;
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
+
+/**
+ * Rule management listener which removes the compiled rules of an updated or deleted rule.
+ */
+public class CompiledRuleInvalidationListener implements RuleManagementListener {
+
+    private static final Log LOG = LogFactory.getLog(CompiledRuleInvalidationListener.class);
+
+    @Override
+    public void onPostUpdateRule(String ruleId, String tenantDomain) {
+
+        invalidate(ruleId, tenantDomain);
+    }
+
+    @Override
+    public void onPostDeleteRule(String ruleId, String tenantDomain) {
+
+        invalidate(ruleId, tenantDomain);
+    }
+
+    private void invalidate(String ruleId, String tenantDomain) {
+
+        CompiledRuleCache.getInstance().invalidate(ruleId, tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Compiled rules are cleared for rule id: " + ruleId + " in tenant: " + tenantDomain);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.model.Field;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+import org.wso2.carbon.identity.rule.management.api.model.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiled rule.
+ * This class holds an immutable evaluation plan of a rule, where the operators are resolved, the expression values
+ * are parsed to typed literals and the fields required for the evaluation are precomputed.
+ */
+public class CompiledRule {
+
+    private static final char VERSION_SEPARATOR = '\u0000';
+
+    private final Rule rule;
+    private final String version;
+    private final List<Field> fields;
+    private final List<List<CompiledExpression>> andCombinedExpressions;
+
+    private CompiledRule(Rule rule, String version, List<Field> fields,
+                         List<List<CompiledExpression>> andCombinedExpressions) {
+
+        this.rule = rule;
+        this.version = version;
+        this.fields = fields;
+        this.andCombinedExpressions = andCombinedExpressions;
+    }
+
+    /**
+     * Compile the given rule.
+     *
+     * @param rule             Rule to compile.
+     * @param fields           Fields used in the rule.
+     * @param operatorRegistry Operator registry to resolve the operators.
+     * @return Compiled rule.
+     */
+    public static CompiledRule compile(Rule rule, List<Field> fields, OperatorRegistry operatorRegistry) {
+
+        ORCombinedRule orRule = (ORCombinedRule) rule;
+        List<List<CompiledExpression>> andCombinedExpressions = new ArrayList<>(orRule.getRules().size());
+        for (ANDCombinedRule andRule : orRule.getRules()) {
+            List<CompiledExpression> compiledExpressions = new ArrayList<>(andRule.getExpressions().size());
+            for (Expression expression : andRule.getExpressions()) {
+                compiledExpressions.add(new CompiledExpression(expression,
+                        operatorRegistry.getOperator(expression.getOperator())));
+            }
+            andCombinedExpressions.add(Collections.unmodifiableList(compiledExpressions));
+        }
+        List<Field> compiledFields =
+                fields == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(fields));
+        return new CompiledRule(rule, getVersion(orRule), compiledFields,
+                Collections.unmodifiableList(andCombinedExpressions));
+    }
+
+    /**
+     * Get the rule this plan was compiled from.
+     *
+     * @return Source rule.
+     */
+    public Rule getRule() {
+
+        return rule;
+    }
+
+    /**
+     * Get the version of the rule this plan was compiled from. The version is derived from the content of the rule,
+     * hence it changes when the rule is updated.
+     *
+     * @return Rule version.
+     */
+    public String getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Check whether this plan was compiled from the given rule. The rule instance is compared first, since the rule
+     * management service returns the same instance until the rule is updated or invalidated. Otherwise, the content
+     * of the rules is compared.
+     *
+     * @param rule Rule to check.
+     * @return True if this plan is compiled from a rule with the same ID and content as the given rule.
+     */
+    public boolean isCompiledFrom(Rule rule) {
+
+        if (this.rule == rule) {
+            return true;
+        }
+        return rule instanceof ORCombinedRule && Objects.equals(this.rule.getId(), rule.getId()) &&
+                version.equals(getVersion((ORCombinedRule) rule));
+    }
+
+    public List<Field> getFields() {
+
+        return fields;
+    }
+
+    /**
+     * Get the expressions of the rule, grouped by the AND combined rules which are OR combined.
+     *
+     * @return AND combined expression groups.
+     */
+    public List<List<CompiledExpression>> getAndCombinedExpressions() {
+
+        return andCombinedExpressions;
+    }
+
+    private static String getVersion(ORCombinedRule orRule) {
+
+        StringBuilder version = new StringBuilder();
+        for (ANDCombinedRule andRule : orRule.getRules()) {
+            for (Expression expression : andRule.getExpressions()) {
+                version.append(expression.getField()).append(VERSION_SEPARATOR)
+                        .append(expression.getOperator()).append(VERSION_SEPARATOR);
+                Value value = getExpressionValue(expression);
+                version.append(value.getType()).append(VERSION_SEPARATOR).append(value.getFieldValue())
+                        .append(VERSION_SEPARATOR);
+            }
+            // Marks the end of an AND combined rule.
+            version.append(VERSION_SEPARATOR);
+        }
+        return version.toString();
+    }
+
+    private static Value getExpressionValue(Expression expression) {
+
+        if (expression.getValue() == null) {
+            throw new IllegalArgumentException("Value is not provided for the expression of the field: " +
+                    expression.getField());
+        }
+        return expression.getValue();
+    }
+
+    /**
+     * Compiled expression.
+     * Holds the resolved operator and the expression value parsed to each of the supported value types.
+     */
+    public static class CompiledExpression {
+
+        private final String field;
+        private final Operator operator;
+        private final String value;
+        private final Boolean booleanValue;
+        private final Double numberValue;
+
+        private CompiledExpression(Expression expression, Operator operator) {
+
+            this.field = expression.getField();
+            this.operator = operator;
+            this.value = getExpressionValue(expression).getFieldValue();
+            this.booleanValue = Boolean.parseBoolean(value);
+            this.numberValue = parseNumber(value);
+        }
+
+        public String getField() {
+
+            return field;
+        }
+
+        public Operator getOperator() {
+
+            return operator;
+        }
+
+        public String getValue() {
+
+            return value;
+        }
+
+        public Boolean getBooleanValue() {
+
+            return booleanValue;
+        }
+
+        /**
+         * Get the expression value as a number.
+         *
+         * @return Number value.
+         * @throws NumberFormatException If the expression value is not a number.
+         */
+        public Double getNumberValue() {
+
+            if (numberValue == null) {
+                // Parse again to surface the same error as an uncompiled evaluation.
+                return Double.parseDouble(value);
+            }
+            return numberValue;
+        }
+
+        private static Double parseNumber(String value) {
+
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of compiled rules.
+ * Entries are keyed by tenant domain, flow type and rule ID, and hold the version of the rule they were compiled from.
+ * A cached entry is only returned for a rule with the same version, hence an updated rule is compiled again and
+ * replaces the entry of its previous version. Entries are removed when a rule is updated or deleted.
+ */
+public class CompiledRuleCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final CompiledRuleCache INSTANCE = new CompiledRuleCache(DEFAULT_MAX_SIZE);
+
+    private final Map<String, CompiledRule> compiledRules;
+
+    CompiledRuleCache(int maxSize) {
+
+        this.compiledRules = Collections.synchronizedMap(new LinkedHashMap<String, CompiledRule>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledRule> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public static CompiledRuleCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the compiled rule for the given rule.
+     *
+     * @param rule         Rule returned by the rule management service.
+     * @param flowType     Flow type.
+     * @param tenantDomain Tenant domain.
+     * @return Compiled rule if it was compiled from the same version of the given rule, null otherwise.
+     */
+    public CompiledRule get(Rule rule, FlowType flowType, String tenantDomain) {
+
+        return get(rule, buildKey(rule.getId(), flowType, tenantDomain));
+    }
+
+    /**
+     * Get the compiled rule for the given rule, which is compiled without resolving the fields of a flow.
+     *
+     * @param rule Rule.
+     * @return Compiled rule if it was compiled from the same version of the given rule, null otherwise.
+     */
+    public CompiledRule get(Rule rule) {
+
+        return get(rule, rule.getId());
+    }
+
+    public void put(CompiledRule compiledRule, FlowType flowType, String tenantDomain) {
+
+        compiledRules.put(buildKey(compiledRule.getRule().getId(), flowType, tenantDomain), compiledRule);
+    }
+
+    public void put(CompiledRule compiledRule) {
+
+        compiledRules.put(compiledRule.getRule().getId(), compiledRule);
+    }
+
+    /**
+     * Remove the compiled rules of the given rule.
+     *
+     * @param ruleId       Rule ID.
+     * @param tenantDomain Tenant domain of the rule.
+     */
+    public void invalidate(String ruleId, String tenantDomain) {
+
+        for (FlowType flowType : FlowType.values()) {
+            compiledRules.remove(buildKey(ruleId, flowType, tenantDomain));
+        }
+        compiledRules.remove(ruleId);
+    }
+
+    public void clear() {
+
+        compiledRules.clear();
+    }
+
+    int size() {
+
+        return compiledRules.size();
+    }
+
+    private CompiledRule get(Rule rule, String key) {
+
+        if (rule.getId() == null) {
+            return null;
+        }
+        CompiledRule compiledRule = compiledRules.get(key);
+        if (compiledRule != null && compiledRule.isCompiledFrom(rule)) {
+            return compiledRule;
+        }
+        return null;
+    }
+
+    private String buildKey(String ruleId, FlowType flowType, String tenantDomain) {
+
+        return tenantDomain + ":" + flowType.name() + ":" + ruleId;
+    }
+}
@@ -59,21 +59,40 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
         LOG.debug("Starting to evaluate rule: " + rule.getId() + ".");
 
-        FieldExtractor fieldExtractor =
-                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowContext.getFlowType(), tenantDomain));
-        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+        OperatorRegistry operatorRegistry = RuleEvaluationComponentServiceHolder.getInstance().getOperatorRegistry();
+        CompiledRule compiledRule = getCompiledRule(rule, flowContext.getFlowType(), tenantDomain, operatorRegistry);
 
         Map<String, FieldValue> evaluationData =
-                getEvaluationData(ruleId, flowContext, tenantDomain, fieldsInRule);
+                getEvaluationData(ruleId, flowContext, tenantDomain, compiledRule.getFields());
 
-        RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
-                .getOperatorRegistry());
-        boolean evaluationStatus = ruleEvaluator.evaluate(rule, evaluationData);
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(operatorRegistry);
+        boolean evaluationStatus = ruleEvaluator.evaluate(compiledRule, evaluationData);
         LOG.debug("Evaluated rule: " + rule.getId() + " to: " + evaluationStatus + ".");
 
         return new RuleEvaluationResult(ruleId, evaluationStatus);
     }
 
+    private CompiledRule getCompiledRule(Rule rule, FlowType flowType, String tenantDomain,
+                                         OperatorRegistry operatorRegistry) throws RuleEvaluationException {
+
+        CompiledRuleCache compiledRuleCache = CompiledRuleCache.getInstance();
+        CompiledRule compiledRule = compiledRuleCache.get(rule, flowType, tenantDomain);
+        if (compiledRule != null) {
+            return compiledRule;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Compiled rule not found in cache for rule: " + rule.getId() + ". Compiling the rule.");
+        }
+        FieldExtractor fieldExtractor =
+                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowType, tenantDomain));
+        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+
+        compiledRule = CompiledRule.compile(rule, fieldsInRule, operatorRegistry);
+        compiledRuleCache.put(compiledRule, flowType, tenantDomain);
+        return compiledRule;
+    }
+
     private Map<String, FieldValue> getEvaluationData(String ruleId, FlowContext flowContext,
                                                       String tenantDomain, List<Field> fieldsInRule)
             throws RuleEvaluationException {
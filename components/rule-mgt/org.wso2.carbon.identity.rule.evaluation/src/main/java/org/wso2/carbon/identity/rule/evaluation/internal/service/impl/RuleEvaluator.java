@@ -23,9 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
-import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
-import org.wso2.carbon.identity.rule.management.api.model.Expression;
-import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRule.CompiledExpression;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 
 import java.util.List;
@@ -66,25 +64,41 @@ public class RuleEvaluator {
      */
     public boolean evaluate(Rule rule, Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
 
-        ORCombinedRule orRule = (ORCombinedRule) rule;
-        return evaluateORCombinedRule(orRule, evaluationData);
+        CompiledRuleCache compiledRuleCache = CompiledRuleCache.getInstance();
+        CompiledRule compiledRule = compiledRuleCache.get(rule);
+        if (compiledRule == null) {
+            compiledRule = CompiledRule.compile(rule, null, operatorRegistry);
+            if (rule.getId() != null) {
+                compiledRuleCache.put(compiledRule);
+            }
+        }
+        return evaluate(compiledRule, evaluationData);
     }
 
-    private boolean evaluateORCombinedRule(ORCombinedRule orRule, Map<String, FieldValue> evaluationData)
+    /**
+     * Evaluate a given compiled rule.
+     *
+     * @param compiledRule   Compiled rule to evaluate.
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(CompiledRule compiledRule, Map<String, FieldValue> evaluationData)
             throws RuleEvaluationException {
 
-        for (ANDCombinedRule andRule : orRule.getRules()) {
-            if (evaluateANDCombinedRule(andRule, evaluationData)) {
+        for (List<CompiledExpression> andCombinedExpressions : compiledRule.getAndCombinedExpressions()) {
+            if (evaluateANDCombinedExpressions(andCombinedExpressions, evaluationData)) {
                 return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
             }
         }
         return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
     }
 
-    private boolean evaluateANDCombinedRule(ANDCombinedRule andRule, Map<String, FieldValue> evaluationData)
+    private boolean evaluateANDCombinedExpressions(List<CompiledExpression> expressions,
+                                                   Map<String, FieldValue> evaluationData)
             throws RuleEvaluationException {
 
-        for (Expression expression : andRule.getExpressions()) {
+        for (CompiledExpression expression : expressions) {
             if (!evaluateExpression(expression, evaluationData)) {
                 return false; // If any expression fails, the ANDCombinedRule fails
             }
@@ -92,7 +106,7 @@ public class RuleEvaluator {
         return true; // All expressions passed, the ANDCombinedRule passes
     }
 
-    private boolean evaluateExpression(Expression expression, Map<String, FieldValue> evaluationData)
+    private boolean evaluateExpression(CompiledExpression expression, Map<String, FieldValue> evaluationData)
             throws RuleEvaluationException {
 
         FieldValue fieldValue = evaluationData.get(expression.getField());
@@ -100,20 +114,19 @@ public class RuleEvaluator {
             throw new RuleEvaluationException("Field value not found for the field: " + expression.getField());
         }
 
-        Operator operator = operatorRegistry.getOperator(expression.getOperator());
+        Operator operator = expression.getOperator();
 
         // Evaluate based on the value type of the field
         if (fieldValue.getValueType().equals(STRING)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
+            return operator.apply(fieldValue.getValue(), expression.getValue());
         } else if (fieldValue.getValueType().equals(BOOLEAN)) {
-            return operator.apply(fieldValue.getValue(),
-                    Boolean.parseBoolean(expression.getValue().getFieldValue()));
+            return operator.apply(fieldValue.getValue(), expression.getBooleanValue());
         } else if (fieldValue.getValueType().equals(NUMBER)) {
-            return operator.apply(fieldValue.getValue(), Double.parseDouble(expression.getValue().getFieldValue()));
+            return operator.apply(fieldValue.getValue(), expression.getNumberValue());
         } else if (fieldValue.getValueType().equals(REFERENCE)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
+            return operator.apply(fieldValue.getValue(), expression.getValue());
         } else if (fieldValue.getValueType().equals(LIST)) {
-            return applyOperatorForList(operator, fieldValue.getValue(), expression.getValue().getFieldValue());
+            return applyOperatorForList(operator, fieldValue.getValue(), expression.getValue());
         }
 
         throw new IllegalStateException("Unsupported value type: " + fieldValue.getValueType());
@@ -30,8 +30,10 @@ import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.util.RuleBuilder;
@@ -149,6 +151,19 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Value is not provided for the expression of the field: application")
+    public void testEvaluateExpressionWithoutValue() throws Exception {
+
+        Expression expression = mock(Expression.class);
+        when(expression.getField()).thenReturn("application");
+        when(expression.getOperator()).thenReturn("equals");
+        Rule rule = new ORCombinedRule.Builder()
+                .addRule(new ANDCombinedRule.Builder().addExpression(expression).build()).build();
+
+        ruleEvaluator.evaluate(rule, Collections.emptyMap());
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
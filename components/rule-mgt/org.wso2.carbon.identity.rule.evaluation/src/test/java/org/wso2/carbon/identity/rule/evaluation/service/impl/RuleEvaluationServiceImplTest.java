@@ -31,10 +31,12 @@ import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.api.provider.RuleEvaluationDataProvider;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
+import org.wso2.carbon.identity.rule.evaluation.internal.listener.CompiledRuleInvalidationListener;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationDataManager;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationServiceImpl;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.service.RuleManagementService;
@@ -63,6 +65,8 @@ import java.util.Objects;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -140,6 +144,43 @@ public class RuleEvaluationServiceImplTest {
         assertTrue(result.isRuleSatisfied());
     }
 
+    @Test
+    public void testEvaluateRuleUsesCompiledRule() throws Exception {
+
+        String tenantDomain = "tenant1";
+        Rule rule = createRule(tenantDomain);
+        String ruleId = rule.getId();
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+
+        when(ruleManagementService.getRuleByRuleId(ruleId, tenantDomain)).thenReturn(rule);
+
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(1)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+
+        // A rule with the same content, loaded again as a new instance, should use the same compiled rule.
+        Rule reloadedRule = new ORCombinedRule.Builder((ORCombinedRule) rule).build();
+        when(ruleManagementService.getRuleByRuleId(ruleId, tenantDomain)).thenReturn(reloadedRule);
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(1)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+
+        // An updated rule should be compiled again.
+        Rule updatedRule = new ORCombinedRule.Builder((ORCombinedRule) createRule(tenantDomain, "password"))
+                .setId(ruleId).build();
+        when(ruleManagementService.getRuleByRuleId(ruleId, tenantDomain)).thenReturn(updatedRule);
+        assertFalse(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(2)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+
+        // A rule update notified by the rule management service should remove the compiled rule.
+        new CompiledRuleInvalidationListener().onPostUpdateRule(ruleId, tenantDomain);
+        assertFalse(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(3)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+    }
+
     @Test
     public void testEvaluateInactiveRule() throws Exception {
 
@@ -229,6 +270,11 @@ public class RuleEvaluationServiceImplTest {
 
     private Rule createRule(String tenantDomain) throws Exception {
 
+        return createRule(tenantDomain, "authorization_code");
+    }
+
+    private Rule createRule(String tenantDomain, String grantType) throws Exception {
+
         RuleBuilder ruleBuilder =
                 RuleBuilder.create(org.wso2.carbon.identity.rule.management.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN,
                         tenantDomain);
@@ -238,7 +284,7 @@ public class RuleEvaluationServiceImplTest {
         ruleBuilder.addAndExpression(expression1);
 
         Expression expression2 = new Expression.Builder().field("grantType").operator("equals")
-                .value(new Value(Value.Type.STRING, "authorization_code")).build();
+                .value(new Value(Value.Type.STRING, grantType)).build();
         ruleBuilder.addAndExpression(expression2);
 
         return ruleBuilder.build();
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.management.api.listener;
+
+/**
+ * Listener for the rule management operations.
+ * Implementations registered as OSGi services are notified after a rule is changed, so that the state derived from
+ * the rule, such as a compiled evaluation plan, can be discarded.
+ */
+public interface RuleManagementListener {
+
+    /**
+     * Invoked after a rule is updated or deactivated.
+     *
+     * @param ruleId       Rule ID.
+     * @param tenantDomain Tenant domain.
+     */
+    default void onPostUpdateRule(String ruleId, String tenantDomain) {
+
+    }
+
+    /**
+     * Invoked after a rule is deleted.
+     *
+     * @param ruleId       Rule ID.
+     * @param tenantDomain Tenant domain.
+     */
+    default void onPostDeleteRule(String ruleId, String tenantDomain) {
+
+    }
+}
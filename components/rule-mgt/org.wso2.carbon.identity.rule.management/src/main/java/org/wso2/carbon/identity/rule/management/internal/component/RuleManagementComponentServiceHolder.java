@@ -18,8 +18,12 @@
 
 package org.wso2.carbon.identity.rule.management.internal.component;
 
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
 import org.wso2.carbon.identity.rule.metadata.api.service.RuleMetadataService;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Rule Management Component Service Holder.
  */
@@ -28,6 +32,7 @@ public class RuleManagementComponentServiceHolder {
     private static final RuleManagementComponentServiceHolder INSTANCE = new RuleManagementComponentServiceHolder();
 
     private RuleMetadataService ruleMetadataService;
+    private final List<RuleManagementListener> ruleManagementListeners = new CopyOnWriteArrayList<>();
 
     private RuleManagementComponentServiceHolder() {
 
@@ -47,4 +52,19 @@ public class RuleManagementComponentServiceHolder {
 
         this.ruleMetadataService = ruleMetadataService;
     }
+
+    public List<RuleManagementListener> getRuleManagementListeners() {
+
+        return ruleManagementListeners;
+    }
+
+    public void addRuleManagementListener(RuleManagementListener ruleManagementListener) {
+
+        ruleManagementListeners.add(ruleManagementListener);
+    }
+
+    public void removeRuleManagementListener(RuleManagementListener ruleManagementListener) {
+
+        ruleManagementListeners.remove(ruleManagementListener);
+    }
 }
@@ -28,6 +28,7 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
 import org.wso2.carbon.identity.rule.management.api.service.RuleManagementService;
 import org.wso2.carbon.identity.rule.management.internal.service.impl.RuleManagementServiceImpl;
 import org.wso2.carbon.identity.rule.metadata.api.service.RuleMetadataService;
@@ -93,4 +94,23 @@ public class RuleManagementServiceComponent {
 
         RuleManagementComponentServiceHolder.getInstance().setRuleMetadataService(null);
     }
+
+    @Reference(
+            name = "rule.management.listener",
+            service = RuleManagementListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetRuleManagementListener"
+    )
+    protected void setRuleManagementListener(RuleManagementListener ruleManagementListener) {
+
+        LOG.debug("Registering a RuleManagementListener in the rule management service component.");
+        RuleManagementComponentServiceHolder.getInstance().addRuleManagementListener(ruleManagementListener);
+    }
+
+    protected void unsetRuleManagementListener(RuleManagementListener ruleManagementListener) {
+
+        LOG.debug("Unregistering a RuleManagementListener in the rule management service component.");
+        RuleManagementComponentServiceHolder.getInstance().removeRuleManagementListener(ruleManagementListener);
+    }
 }
@@ -21,12 +21,16 @@ package org.wso2.carbon.identity.rule.management.internal.service.impl;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementClientException;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.service.RuleManagementService;
+import org.wso2.carbon.identity.rule.management.internal.component.RuleManagementComponentServiceHolder;
 import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.CacheBackedRuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.RuleManagementDAOImpl;
 
+import java.util.List;
+
 /**
  * Implementation of Rule Management Service.
  */
@@ -75,6 +79,9 @@ public class RuleManagementServiceImpl implements RuleManagementService {
         validateIfRuleExists(rule.getId(), tenantDomain);
 
         ruleManagementDAO.updateRule(rule, IdentityTenantUtil.getTenantId(tenantDomain));
+        for (RuleManagementListener listener : getRuleManagementListeners()) {
+            listener.onPostUpdateRule(rule.getId(), tenantDomain);
+        }
         return ruleManagementDAO.getRuleByRuleId(rule.getId(), IdentityTenantUtil.getTenantId(tenantDomain));
     }
 
@@ -90,6 +97,9 @@ public class RuleManagementServiceImpl implements RuleManagementService {
 
         if (isRuleExists(ruleId, tenantDomain)) {
             ruleManagementDAO.deleteRule(ruleId, IdentityTenantUtil.getTenantId(tenantDomain));
+            for (RuleManagementListener listener : getRuleManagementListeners()) {
+                listener.onPostDeleteRule(ruleId, tenantDomain);
+            }
         }
     }
 
@@ -121,9 +131,17 @@ public class RuleManagementServiceImpl implements RuleManagementService {
         validateIfRuleExists(ruleId, tenantDomain);
 
         ruleManagementDAO.deactivateRule(ruleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        for (RuleManagementListener listener : getRuleManagementListeners()) {
+            listener.onPostUpdateRule(ruleId, tenantDomain);
+        }
         return ruleManagementDAO.getRuleByRuleId(ruleId, IdentityTenantUtil.getTenantId(tenantDomain));
     }
 
+    private List<RuleManagementListener> getRuleManagementListeners() {
+
+        return RuleManagementComponentServiceHolder.getInstance().getRuleManagementListeners();
+    }
+
     private void validateIfRuleExists(String ruleId, String tenantDomain) throws RuleManagementException {
 
         if (!isRuleExists(ruleId, tenantDomain)) {
@@ -29,7 +29,9 @@ import org.wso2.carbon.identity.core.internal.IdentityCoreServiceDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementClientException;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
+import org.wso2.carbon.identity.rule.management.api.listener.RuleManagementListener;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
+import org.wso2.carbon.identity.rule.management.internal.component.RuleManagementComponentServiceHolder;
 import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.service.impl.RuleManagementServiceImpl;
 
@@ -120,6 +122,27 @@ public class RuleManagementServiceImplTest {
         verify(ruleManagementDAO).deleteRule(RULE_ID, TENANT_ID);
     }
 
+    @Test
+    public void testRuleManagementListenersAreNotified() throws RuleManagementException {
+
+        Rule rule = mock(Rule.class);
+        when(rule.getId()).thenReturn(RULE_ID);
+        when(ruleManagementDAO.getRuleByRuleId(RULE_ID, TENANT_ID)).thenReturn(rule);
+
+        RuleManagementListener listener = mock(RuleManagementListener.class);
+        RuleManagementComponentServiceHolder.getInstance().addRuleManagementListener(listener);
+        try {
+            ruleManagementService.updateRule(rule, TENANT_DOMAIN);
+            ruleManagementService.deactivateRule(RULE_ID, TENANT_DOMAIN);
+            ruleManagementService.deleteRule(RULE_ID, TENANT_DOMAIN);
+
+            verify(listener, times(2)).onPostUpdateRule(RULE_ID, TENANT_DOMAIN);
+            verify(listener).onPostDeleteRule(RULE_ID, TENANT_DOMAIN);
+        } finally {
+            RuleManagementComponentServiceHolder.getInstance().removeRuleManagementListener(listener);
+        }
+    }
+
     @Test
     public void testGetRuleByRuleId() throws RuleManagementException {
 
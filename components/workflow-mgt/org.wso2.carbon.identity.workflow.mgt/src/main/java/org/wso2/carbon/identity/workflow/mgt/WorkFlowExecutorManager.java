@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.workflow.mgt;
 
 import org.apache.axiom.om.OMElement;
-import org.apache.axiom.om.xpath.AXIOMXPath;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -29,7 +28,7 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.workflow.mgt.bean.Parameter;
 import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
-import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndex.IndexedAssociation;
 import org.wso2.carbon.identity.workflow.mgt.dao.RequestEntityRelationshipDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
@@ -87,21 +86,20 @@ public class WorkFlowExecutorManager {
         if (StringUtils.isBlank(workFlowRequest.getUuid())) {
             workFlowRequest.setUuid(UUID.randomUUID().toString());
         }
-        OMElement xmlRequest = WorkflowRequestBuilder.buildXMLRequest(workFlowRequest);
-        WorkflowRequestAssociationDAO requestAssociationDAO = new WorkflowRequestAssociationDAO();
-        WorkflowDAO workflowDAO = new WorkflowDAO();
-        List<WorkflowAssociation> associations =
-                requestAssociationDAO.getWorkflowAssociationsForRequest(workFlowRequest.getEventType(), workFlowRequest
-                        .getTenantId());
+        List<IndexedAssociation> associations = workflowRequestAssociationDAO
+                .getWorkflowAssociationIndex(workFlowRequest.getTenantId())
+                .getAssociations(workFlowRequest.getEventType());
         if (CollectionUtils.isEmpty(associations)) {
             return new WorkflowExecutorResult(ExecutorResultState.NO_ASSOCIATION);
         }
+        // The XML request is built only when there is an association to evaluate.
+        OMElement xmlRequest = WorkflowRequestBuilder.buildXMLRequest(workFlowRequest);
+        WorkflowDAO workflowDAO = new WorkflowDAO();
         boolean workflowEngaged = false;
         boolean requestSaved = false;
-        for (WorkflowAssociation association : associations) {
+        for (IndexedAssociation association : associations) {
             try {
-                AXIOMXPath axiomxPath = new AXIOMXPath(association.getAssociationCondition());
-                if (axiomxPath.booleanValueOf(xmlRequest)) {
+                if (association.getConditionXPath().booleanValueOf(xmlRequest)) {
                     workflowEngaged = true;
                     if (!requestSaved) {
                         WorkflowRequestDAO requestDAO = new WorkflowRequestDAO();
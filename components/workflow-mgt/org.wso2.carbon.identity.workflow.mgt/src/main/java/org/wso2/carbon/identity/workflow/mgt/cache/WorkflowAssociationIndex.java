@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.apache.axiom.om.xpath.AXIOMXPath;
+import org.jaxen.JaxenException;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enabled workflow associations of a tenant, indexed by the event they are engaged with. The association conditions
+ * are compiled once per node and reused for every request of the event.
+ */
+public class WorkflowAssociationIndex implements Serializable {
+
+    private static final long serialVersionUID = 2389574012845719345L;
+
+    private final Map<String, List<IndexedAssociation>> associationsByEvent;
+
+    public WorkflowAssociationIndex(List<WorkflowAssociation> associations) {
+
+        Map<String, List<IndexedAssociation>> associationsByEvent = new HashMap<>();
+        for (WorkflowAssociation association : associations) {
+            associationsByEvent.computeIfAbsent(association.getEventId(), eventId -> new ArrayList<>())
+                    .add(new IndexedAssociation(association));
+        }
+        associationsByEvent.replaceAll((eventId, eventAssociations) -> Collections.unmodifiableList(eventAssociations));
+        this.associationsByEvent = Collections.unmodifiableMap(associationsByEvent);
+    }
+
+    /**
+     * Get the associations engaged with an event.
+     *
+     * @param eventId Event ID.
+     * @return Associations of the event, or an empty list if there are none.
+     */
+    public List<IndexedAssociation> getAssociations(String eventId) {
+
+        return associationsByEvent.getOrDefault(eventId, Collections.emptyList());
+    }
+
+    /**
+     * Check whether an event is engaged with at least one association.
+     *
+     * @param eventId Event ID.
+     * @return True if the event has an association.
+     */
+    public boolean hasAssociations(String eventId) {
+
+        return associationsByEvent.containsKey(eventId);
+    }
+
+    /**
+     * Workflow association along with its compiled condition.
+     */
+    public static class IndexedAssociation implements Serializable {
+
+        private static final long serialVersionUID = -6172039485720193842L;
+
+        private final int associationId;
+        private final String associationName;
+        private final String eventId;
+        private final String associationCondition;
+        private final String workflowId;
+        private transient volatile AXIOMXPath conditionXPath;
+
+        private IndexedAssociation(WorkflowAssociation association) {
+
+            this.associationId = association.getAssociationId();
+            this.associationName = association.getAssociationName();
+            this.eventId = association.getEventId();
+            this.associationCondition = association.getAssociationCondition();
+            this.workflowId = association.getWorkflowId();
+        }
+
+        public int getAssociationId() {
+
+            return associationId;
+        }
+
+        public String getAssociationName() {
+
+            return associationName;
+        }
+
+        public String getEventId() {
+
+            return eventId;
+        }
+
+        public String getAssociationCondition() {
+
+            return associationCondition;
+        }
+
+        public String getWorkflowId() {
+
+            return workflowId;
+        }
+
+        /**
+         * Get the compiled XPath of the association condition. The condition is compiled on first use, since the
+         * compiled form is not carried over when the index is serialized.
+         *
+         * @return Compiled association condition.
+         * @throws JaxenException If the condition is not a valid XPath expression.
+         */
+        public AXIOMXPath getConditionXPath() throws JaxenException {
+
+            AXIOMXPath xPath = conditionXPath;
+            if (xPath == null) {
+                xPath = new AXIOMXPath(associationCondition);
+                conditionXPath = xPath;
+            }
+            return xPath;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache implementation for the workflow association index of a tenant.
+ */
+public class WorkflowAssociationIndexCache extends BaseCache<Integer, WorkflowAssociationIndex> {
+
+    private static final WorkflowAssociationIndexCache instance = new WorkflowAssociationIndexCache();
+    private static final String CACHE_NAME = "WorkflowAssociationIndexCache";
+
+    private WorkflowAssociationIndexCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static WorkflowAssociationIndexCache getInstance() {
+
+        return instance;
+    }
+}
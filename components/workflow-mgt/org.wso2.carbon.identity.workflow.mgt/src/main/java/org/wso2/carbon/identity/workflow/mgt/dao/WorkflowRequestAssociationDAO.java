@@ -23,6 +23,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequestAssociation;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndex;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndexCache;
 import org.wso2.carbon.identity.workflow.mgt.exception.InternalWorkflowException;
 import org.wso2.carbon.identity.workflow.mgt.util.SQLConstants;
 import org.wso2.carbon.identity.workflow.mgt.util.WFConstant;
@@ -295,4 +297,65 @@ public class WorkflowRequestAssociationDAO {
         }
         return associations;
     }
+
+    /**
+     * Get the index of the enabled workflow associations of a tenant. The index is served from the cache and is
+     * loaded from the database on a cache miss.
+     *
+     * @param tenantId Tenant ID.
+     * @return Workflow association index of the tenant.
+     * @throws InternalWorkflowException If an error occurred while loading the associations.
+     */
+    public WorkflowAssociationIndex getWorkflowAssociationIndex(int tenantId) throws InternalWorkflowException {
+
+        WorkflowAssociationIndexCache associationIndexCache = WorkflowAssociationIndexCache.getInstance();
+        WorkflowAssociationIndex associationIndex = associationIndexCache.getValueFromCache(tenantId, tenantId);
+        if (associationIndex == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Workflow association index cache miss for tenant: " + tenantId);
+            }
+            associationIndex = new WorkflowAssociationIndex(getEnabledWorkflowAssociations(tenantId));
+            associationIndexCache.addToCache(tenantId, associationIndex, tenantId);
+        }
+        return associationIndex;
+    }
+
+    /**
+     * Clear the cached workflow association index of a tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clearWorkflowAssociationIndex(int tenantId) {
+
+        WorkflowAssociationIndexCache.getInstance().clearCacheEntry(tenantId, tenantId);
+    }
+
+    private List<WorkflowAssociation> getEnabledWorkflowAssociations(int tenantId) throws InternalWorkflowException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        PreparedStatement prepStmt = null;
+        ResultSet rs = null;
+        List<WorkflowAssociation> associations = new ArrayList<>();
+        String query = SQLConstants.GET_ENABLED_ASSOCIATIONS_OF_TENANT_QUERY;
+        try {
+            prepStmt = connection.prepareStatement(query);
+            prepStmt.setInt(1, tenantId);
+            rs = prepStmt.executeQuery();
+            while (rs.next()) {
+                WorkflowAssociation association = new WorkflowAssociation();
+                association.setWorkflowId(rs.getString(SQLConstants.WORKFLOW_ID_COLUMN));
+                association.setAssociationCondition(rs.getString(SQLConstants.CONDITION_COLUMN));
+                association.setEventId(rs.getString(SQLConstants.EVENT_ID_COLUMN));
+                association.setAssociationId(rs.getInt(SQLConstants.ID_COLUMN));
+                association.setAssociationName(rs.getString(SQLConstants.ASSOCIATION_NAME_COLUMN));
+                association.setIsEnabled(true);
+                associations.add(association);
+            }
+        } catch (SQLException e) {
+            throw new InternalWorkflowException("Error when executing the sql query:" + query, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, rs, prepStmt);
+        }
+        return associations;
+    }
 }
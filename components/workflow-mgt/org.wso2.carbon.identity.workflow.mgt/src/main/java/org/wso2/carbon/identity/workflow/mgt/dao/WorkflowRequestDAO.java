@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.workflow.mgt.dao;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry;
+import org.wso2.carbon.identity.core.util.SqlDialectRegistry.Dialect;
 import org.wso2.carbon.identity.workflow.mgt.dto.WorkflowRequest;
 import org.wso2.carbon.identity.workflow.mgt.exception.InternalWorkflowException;
 import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
@@ -296,10 +298,8 @@ public class WorkflowRequestDAO {
         ResultSet resultSet = null;
         try {
 
-            String driverName = connection.getMetaData().getDriverName();
-            if (driverName.contains("MySQL")
-                    || driverName.contains("MariaDB")
-                    || driverName.contains("H2")) {
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
+            if (dialect.isMySQLCompatible()) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_UPDATED_TIME_MYSQL;
@@ -313,7 +313,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_CREATED_TIME_AND_STATUS_MYSQL;
                     }
                 }
-            } else if (connection.getMetaData().getDatabaseProductName().contains("DB2")) {
+            } else if (dialect == Dialect.DB2) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_UPDATED_TIME_DB2SQl;
@@ -327,8 +327,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_CREATED_TIME_AND_STATUS_DB2SQL;
                     }
                 }
-            } else if (driverName.contains("Microsoft") || driverName.contains("microsoft") ||
-                    driverName.contains("MS SQL")) {
+            } else if (dialect == Dialect.MSSQL) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_UPDATED_TIME_MSSQL;
@@ -342,7 +341,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_CREATED_TIME_AND_STATUS_MSSQL;
                     }
                 }
-            } else if (driverName.contains("PostgreSQL")) {
+            } else if (dialect == Dialect.POSTGRESQL) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_UPDATED_TIME_POSTGRESQL;
@@ -356,7 +355,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_OF_USER_FILTER_FROM_CREATED_TIME_AND_STATUS_POSTGRESQL;
                     }
                 }
-            } else if (driverName.contains("Informix")) {
+            } else if (dialect == Dialect.INFORMIX) {
                 // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server".
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
@@ -436,10 +435,8 @@ public class WorkflowRequestDAO {
         ResultSet resultSet = null;
 
         try {
-            String driverName = connection.getMetaData().getDriverName();
-            if (driverName.contains("MySQL")
-                    || driverName.contains("MariaDB")
-                    || driverName.contains("H2")) {
+            Dialect dialect = SqlDialectRegistry.getInstance().getDialect(connection);
+            if (dialect.isMySQLCompatible()) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_UPDATED_TIME_MYSQL;
@@ -453,7 +450,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_CREATED_TIME_AND_STATUS_MYSQL;
                     }
                 }
-            } else if (connection.getMetaData().getDatabaseProductName().contains("DB2")) {
+            } else if (dialect == Dialect.DB2) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_UPDATED_TIME_DB2SQL;
@@ -467,8 +464,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_CREATED_TIME_AND_STATUS_DB2SQL;
                     }
                 }
-            } else if (driverName.contains("Microsoft") || driverName.contains("microsoft") ||
-                    driverName.contains("MS SQL")) {
+            } else if (dialect == Dialect.MSSQL) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_UPDATED_TIME_MSSQL;
@@ -482,7 +478,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_CREATED_TIME_AND_STATUS_MSSQL;
                     }
                 }
-            } else if (driverName.contains("PostgreSQL")) {
+            } else if (dialect == Dialect.POSTGRESQL) {
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_UPDATED_TIME_POSTGRESQL;
@@ -496,7 +492,7 @@ public class WorkflowRequestDAO {
                         query = SQLConstants.GET_REQUESTS_FILTER_FROM_CREATED_TIME_AND_STATUS_POSTGRESQL;
                     }
                 }
-            } else if (driverName.contains("Informix")) {
+            } else if (dialect == Dialect.INFORMIX) {
                 // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
                 if (UPDATED_AT_FILTER.equals(timeCategory)) {
                     if (status.equals(ALL_TASKS_FILTER) || status.isEmpty()) {
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.workflow.mgt.WorkflowManagementService;
 import org.wso2.carbon.identity.workflow.mgt.WorkflowManagementServiceImpl;
 import org.wso2.carbon.identity.workflow.mgt.extension.WorkflowRequestHandler;
+import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowAssociationIndexCacheListener;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowAuditLogger;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowExecutorAuditLogger;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowExecutorManagerListener;
@@ -66,6 +67,8 @@ public class WorkflowMgtServiceComponent {
             context.getBundleContext()
                     .registerService(WorkflowExecutorManagerListener.class.getName(), new WorkflowExecutorAuditLogger(),
                             null);
+            context.getBundleContext().registerService(WorkflowListener.class.getName(),
+                    new WorkflowAssociationIndexCacheListener(), null);
             context.getBundleContext()
                     .registerService(TenantMgtListener.class.getName(), new WorkflowTenantMgtListener(), null);
 
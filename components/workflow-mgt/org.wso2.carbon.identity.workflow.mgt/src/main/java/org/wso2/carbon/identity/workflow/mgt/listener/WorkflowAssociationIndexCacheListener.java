@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.listener;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
+import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+/**
+ * Clears the cached workflow association index of a tenant when the associations of the tenant are changed.
+ */
+public class WorkflowAssociationIndexCacheListener extends AbstractWorkflowListener {
+
+    private final WorkflowRequestAssociationDAO workflowRequestAssociationDAO = new WorkflowRequestAssociationDAO();
+
+    @Override
+    public void doPostAddAssociation(String associationName, String workflowId, String eventId, String condition)
+            throws WorkflowException {
+
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void doPostRemoveAssociation(int associationId) throws WorkflowException {
+
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void doPostChangeAssociationState(String associationId, boolean isEnable) throws WorkflowException {
+
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void doPostUpdateAssociation(String associationId, String associationName, String workflowId,
+                                        String eventId, String condition, boolean isEnable) {
+
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void doPostDeleteWorkflow(Workflow workflow) throws WorkflowException {
+
+        // Associations of the workflow are removed along with it.
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void doPostDeleteWorkflows(int tenantId) throws WorkflowException {
+
+        workflowRequestAssociationDAO.clearWorkflowAssociationIndex(tenantId);
+    }
+
+    private void clearAssociationIndex() {
+
+        workflowRequestAssociationDAO.clearWorkflowAssociationIndex(
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndex;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndexCache;
+import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link WorkflowAssociationIndexCacheListener}.
+ */
+public class WorkflowAssociationIndexCacheListenerTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String ASSOCIATION_ID = "1";
+    private static final String ASSOCIATION_NAME = "association";
+    private static final String WORKFLOW_ID = "workflow";
+    private static final String EVENT_ID = "ADD_USER";
+    private static final String CONDITION = "boolean(1)";
+
+    private MockedStatic<WorkflowAssociationIndexCache> associationIndexCacheStatic;
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContextStatic;
+    private WorkflowAssociationIndexCache associationIndexCache;
+    private WorkflowAssociationIndexCacheListener listener;
+
+    @BeforeMethod
+    public void setUp() {
+
+        associationIndexCache = mock(WorkflowAssociationIndexCache.class);
+        associationIndexCacheStatic = mockStatic(WorkflowAssociationIndexCache.class);
+        associationIndexCacheStatic.when(WorkflowAssociationIndexCache::getInstance).thenReturn(associationIndexCache);
+
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        when(carbonContext.getTenantId()).thenReturn(TENANT_ID);
+        privilegedCarbonContextStatic = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContextStatic.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(carbonContext);
+
+        listener = new WorkflowAssociationIndexCacheListener();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        associationIndexCacheStatic.close();
+        privilegedCarbonContextStatic.close();
+    }
+
+    @DataProvider(name = "associationChangeDataProvider")
+    public Object[][] associationChangeDataProvider() {
+
+        return new Object[][]{
+                {(AssociationChange) () -> listener.doPostAddAssociation(ASSOCIATION_NAME, WORKFLOW_ID, EVENT_ID,
+                        CONDITION)},
+                {(AssociationChange) () -> listener.doPostUpdateAssociation(ASSOCIATION_ID, ASSOCIATION_NAME,
+                        WORKFLOW_ID, EVENT_ID, CONDITION, true)},
+                {(AssociationChange) () -> listener.doPostChangeAssociationState(ASSOCIATION_ID, false)},
+                {(AssociationChange) () -> listener.doPostRemoveAssociation(Integer.parseInt(ASSOCIATION_ID))},
+                {(AssociationChange) () -> listener.doPostDeleteWorkflow(new Workflow())},
+                {(AssociationChange) () -> listener.doPostDeleteWorkflows(TENANT_ID)}
+        };
+    }
+
+    @Test(dataProvider = "associationChangeDataProvider")
+    public void testAssociationIndexIsClearedOnAssociationChange(AssociationChange associationChange)
+            throws WorkflowException {
+
+        associationChange.apply();
+
+        verify(associationIndexCache).clearCacheEntry(TENANT_ID, TENANT_ID);
+    }
+
+    @Test
+    public void testAssociationIndexIsServedFromCache() throws Exception {
+
+        WorkflowAssociation association = new WorkflowAssociation();
+        association.setAssociationName(ASSOCIATION_NAME);
+        association.setWorkflowId(WORKFLOW_ID);
+        association.setEventId(EVENT_ID);
+        association.setAssociationCondition(CONDITION);
+        WorkflowAssociationIndex associationIndex =
+                new WorkflowAssociationIndex(Collections.singletonList(association));
+        when(associationIndexCache.getValueFromCache(TENANT_ID, TENANT_ID)).thenReturn(associationIndex);
+
+        WorkflowAssociationIndex cachedIndex =
+                new WorkflowRequestAssociationDAO().getWorkflowAssociationIndex(TENANT_ID);
+
+        assertSame(cachedIndex, associationIndex);
+        assertTrue(cachedIndex.hasAssociations(EVENT_ID));
+        assertSame(cachedIndex.getAssociations(EVENT_ID).get(0).getConditionXPath(),
+                cachedIndex.getAssociations(EVENT_ID).get(0).getConditionXPath());
+    }
+
+    /**
+     * Change of the workflow associations which is notified to the listener.
+     */
+    @FunctionalInterface
+    private interface AssociationChange {
+
+        void apply() throws WorkflowException;
+    }
+}